@@ -0,0 +1,353 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.Converters;
+import com.fatboyindustrial.gsonjavatime.InstantColumn;
+import com.fatboyindustrial.gsonjavatime.InstantEncoding;
+import com.fatboyindustrial.gsonjavatime.PackedFormat;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for large payloads: an array of POJOs carrying every supported type, and a list of instants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkBenchmark
+{
+  /** The type of a list of instants. */
+  private static final Type INSTANT_LIST_TYPE = new TypeToken<List<Instant>>(){}.getType();
+
+  /** Zones to pick from. */
+  private static final ZoneId[] ZONES =
+      { ZoneOffset.UTC, ZoneId.of("Australia/Brisbane"), ZoneId.of("Europe/Paris"), ZoneId.of("America/New_York") };
+
+  /** The number of elements in each payload. */
+  @Param({ "1000" })
+  public int size;
+
+  /** Gson with the tree-based converters. */
+  private Gson tree;
+
+  /** Gson with the streaming type adapters. */
+  private Gson streaming;
+
+  /** Gson with the streaming type adapters and the collection adapters. */
+  private Gson collections;
+
+  /** Gson with the packed instant series adapters. */
+  private Gson packed;
+
+  /** The packed JSON form of {@link #instants}. */
+  private String packedJson;
+
+  /** Gson with the instant column adapter. */
+  private Gson column;
+
+  /** The events. */
+  private Event[] events;
+
+  /** The JSON form of {@link #events}. */
+  private String eventsJson;
+
+  /** The instants. */
+  private List<Instant> instants;
+
+  /** The JSON form of {@link #instants}. */
+  private String instantsJson;
+
+  /** The string forms of {@link #instants}. */
+  private String[] instantTexts;
+
+  /**
+   * Builds the payloads.
+   */
+  @Setup
+  public void setup()
+  {
+    this.tree = Converters.registerAll(new GsonBuilder()).create();
+    this.streaming = Converters.registerAllStreaming(new GsonBuilder()).create();
+    this.collections = Converters.registerCollections(Converters.registerFactory(new GsonBuilder())).create();
+    this.column = Converters.registerInstantColumn(new GsonBuilder()).create();
+    this.packed = Converters.registerPackedInstants(new GsonBuilder(), InstantEncoding.EPOCH_MILLIS, PackedFormat.BASE64)
+                            .create();
+
+    final Random random = new Random(1969);
+    Instant instant = Instant.parse("2023-11-14T12:13:20Z");
+
+    this.events = new Event[this.size];
+    this.instants = new ArrayList<>(this.size);
+    this.instantTexts = new String[this.size];
+
+    for (int i = 0; i < this.size; i++)
+    {
+      instant = instant.plusMillis(random.nextInt(60_000));
+      this.events[i] = new Event(instant, ZONES[random.nextInt(ZONES.length)], random);
+      this.instants.add(instant);
+      this.instantTexts[i] = DateTimeFormatter.ISO_INSTANT.format(instant);
+    }
+
+    this.eventsJson = this.tree.toJson(this.events);
+    this.instantsJson = this.tree.toJson(this.instants, INSTANT_LIST_TYPE);
+    this.packedJson = this.packed.toJson(this.instants, INSTANT_LIST_TYPE);
+  }
+
+  /**
+   * Serialises the events with the tree-based converters.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseEventsTree()
+  {
+    return this.tree.toJson(this.events);
+  }
+
+  /**
+   * Serialises the events with the streaming type adapters.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseEventsStreaming()
+  {
+    return this.streaming.toJson(this.events);
+  }
+
+  /**
+   * Deserialises the events with the tree-based converters.
+   * @return The events.
+   */
+  @Benchmark
+  public Event[] deserialiseEventsTree()
+  {
+    return this.tree.fromJson(this.eventsJson, Event[].class);
+  }
+
+  /**
+   * Deserialises the events with the streaming type adapters.
+   * @return The events.
+   */
+  @Benchmark
+  public Event[] deserialiseEventsStreaming()
+  {
+    return this.streaming.fromJson(this.eventsJson, Event[].class);
+  }
+
+  /**
+   * Serialises the instants with the tree-based converters.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseInstantsTree()
+  {
+    return this.tree.toJson(this.instants, INSTANT_LIST_TYPE);
+  }
+
+  /**
+   * Serialises the instants with the streaming type adapters.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseInstantsStreaming()
+  {
+    return this.streaming.toJson(this.instants, INSTANT_LIST_TYPE);
+  }
+
+  /**
+   * Deserialises the instants with the tree-based converters.
+   * @return The instants.
+   */
+  @Benchmark
+  public List<Instant> deserialiseInstantsTree()
+  {
+    return this.tree.fromJson(this.instantsJson, INSTANT_LIST_TYPE);
+  }
+
+  /**
+   * Deserialises the instants with the streaming type adapters.
+   * @return The instants.
+   */
+  @Benchmark
+  public List<Instant> deserialiseInstantsStreaming()
+  {
+    return this.streaming.fromJson(this.instantsJson, INSTANT_LIST_TYPE);
+  }
+
+  /**
+   * Serialises the instants with the collection adapter.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseInstantsCollection()
+  {
+    return this.collections.toJson(this.instants, INSTANT_LIST_TYPE);
+  }
+
+  /**
+   * Deserialises the instants with the collection adapter.
+   * @return The instants.
+   */
+  @Benchmark
+  public List<Instant> deserialiseInstantsCollection()
+  {
+    return this.collections.fromJson(this.instantsJson, INSTANT_LIST_TYPE);
+  }
+
+  /**
+   * Deserialises the instants into an {@code InstantColumn}.
+   * @return The column.
+   */
+  @Benchmark
+  public InstantColumn deserialiseInstantsColumn()
+  {
+    return this.column.fromJson(this.instantsJson, InstantColumn.class);
+  }
+
+  /**
+   * Serialises the instants with the packed series adapter.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseInstantsPacked()
+  {
+    return this.packed.toJson(this.instants, INSTANT_LIST_TYPE);
+  }
+
+  /**
+   * Deserialises the instants with the packed series adapter.
+   * @return The instants.
+   */
+  @Benchmark
+  public List<Instant> deserialiseInstantsPacked()
+  {
+    return this.packed.fromJson(this.packedJson, INSTANT_LIST_TYPE);
+  }
+
+  /**
+   * Formats the instants with the raw JDK call, as a baseline.
+   * @return The string forms.
+   */
+  @Benchmark
+  public String[] formatInstantsRaw()
+  {
+    final String[] texts = new String[this.instants.size()];
+    for (int i = 0; i < texts.length; i++)
+    {
+      texts[i] = DateTimeFormatter.ISO_INSTANT.format(this.instants.get(i));
+    }
+
+    return texts;
+  }
+
+  /**
+   * Parses the instants with the raw JDK call, as a baseline.
+   * @return The instants.
+   */
+  @Benchmark
+  public Instant[] parseInstantsRaw()
+  {
+    final Instant[] parsed = new Instant[this.instantTexts.length];
+    for (int i = 0; i < parsed.length; i++)
+    {
+      parsed[i] = DateTimeFormatter.ISO_INSTANT.parse(this.instantTexts[i], Instant::from);
+    }
+
+    return parsed;
+  }
+
+  /**
+   * An event carrying one field of each supported type.
+   */
+  public static class Event
+  {
+    private LocalDate ld;
+    private LocalDateTime ldt;
+    private LocalTime lt;
+    private OffsetDateTime odt;
+    private OffsetTime ot;
+    private ZonedDateTime zdt;
+    private Instant i;
+    private ZoneId zi;
+    private Duration d;
+
+    /**
+     * Constructs an event for deserialisation.
+     */
+    public Event()
+    {
+    }
+
+    /**
+     * Constructs a populated event.
+     * @param instant The instant at which the event occurred.
+     * @param zone The zone in which the event occurred.
+     * @param random The source of randomness for the duration.
+     */
+    public Event(Instant instant, ZoneId zone, Random random)
+    {
+      this.zdt = instant.atZone(zone);
+      this.odt = this.zdt.toOffsetDateTime();
+      this.ot = this.odt.toOffsetTime();
+      this.ldt = this.zdt.toLocalDateTime();
+      this.ld = this.ldt.toLocalDate();
+      this.lt = this.ldt.toLocalTime();
+      this.i = instant;
+      this.zi = zone;
+      this.d = Duration.ofMillis(random.nextInt(3_600_000));
+    }
+  }
+}
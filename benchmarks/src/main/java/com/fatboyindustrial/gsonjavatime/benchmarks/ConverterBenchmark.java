@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.ConverterMetrics;
+import com.fatboyindustrial.gsonjavatime.Converters;
+import com.fatboyindustrial.gsonjavatime.JavaTimeTypeAdapterFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single value serialise/deserialise benchmarks for every supported type, comparing each Gson registration
+ * path against the raw JDK calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConverterBenchmark
+{
+  /** The type under test. */
+  @Param
+  public Fixture fixture;
+
+  /** Gson with the tree-based converters. */
+  private Gson tree;
+
+  /** Gson with the streaming type adapters. */
+  private Gson streaming;
+
+  /** Gson with the single type adapter factory. */
+  private Gson factory;
+
+  /** Gson with the single type adapter factory recording metrics. */
+  private Gson instrumented;
+
+  /** The JSON form of the value. */
+  private String json;
+
+  /**
+   * Builds the Gson instances.
+   */
+  @Setup
+  public void setup()
+  {
+    this.tree = Converters.registerAll(new GsonBuilder()).create();
+    this.streaming = Converters.registerAllStreaming(new GsonBuilder()).create();
+    this.factory = Converters.registerFactory(new GsonBuilder()).create();
+    this.instrumented = new GsonBuilder()
+        .registerTypeAdapterFactory(new JavaTimeTypeAdapterFactory().withMetrics(new ConverterMetrics()))
+        .create();
+    this.json = this.tree.toJson(this.fixture.value, this.fixture.type);
+  }
+
+  /**
+   * Serialises with the tree-based converters.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseTree()
+  {
+    return this.tree.toJson(this.fixture.value, this.fixture.type);
+  }
+
+  /**
+   * Serialises with the streaming type adapters.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseStreaming()
+  {
+    return this.streaming.toJson(this.fixture.value, this.fixture.type);
+  }
+
+  /**
+   * Serialises with the single type adapter factory.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseFactory()
+  {
+    return this.factory.toJson(this.fixture.value, this.fixture.type);
+  }
+
+  /**
+   * Formats with the raw JDK call, as a baseline.
+   * @return The string form.
+   */
+  @Benchmark
+  public String formatRaw()
+  {
+    return this.fixture.format(this.fixture.value);
+  }
+
+  /**
+   * Deserialises with the tree-based converters.
+   * @return The value.
+   */
+  @Benchmark
+  public Object deserialiseTree()
+  {
+    return this.tree.fromJson(this.json, this.fixture.type);
+  }
+
+  /**
+   * Deserialises with the streaming type adapters.
+   * @return The value.
+   */
+  @Benchmark
+  public Object deserialiseStreaming()
+  {
+    return this.streaming.fromJson(this.json, this.fixture.type);
+  }
+
+  /**
+   * Serialises with the single type adapter factory recording metrics.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseInstrumented()
+  {
+    return this.instrumented.toJson(this.fixture.value, this.fixture.type);
+  }
+
+  /**
+   * Deserialises with the single type adapter factory.
+   * @return The value.
+   */
+  @Benchmark
+  public Object deserialiseFactory()
+  {
+    return this.factory.fromJson(this.json, this.fixture.type);
+  }
+
+  /**
+   * Parses with the raw JDK call, as a baseline.
+   * @return The value.
+   */
+  @Benchmark
+  public Object parseRaw()
+  {
+    return this.fixture.parse(this.fixture.text);
+  }
+
+  /**
+   * Deserialises with the single type adapter factory recording metrics.
+   * @return The value.
+   */
+  @Benchmark
+  public Object deserialiseInstrumented()
+  {
+    return this.instrumented.fromJson(this.json, this.fixture.type);
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.InstantConverter;
+import com.fatboyindustrial.gsonjavatime.JavaTimeTypeAdapterFactory;
+import com.fatboyindustrial.gsonjavatime.LocalDateTimeConverter;
+import com.fatboyindustrial.gsonjavatime.OffsetDateTimeConverter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialises a sorted history of instants, local date-times and offset date-times, about a minute apart
+ * so that the date changes every day's worth of values, with and without the date prefix cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatePrefixBenchmark
+{
+  /** The number of values. */
+  @Param({ "1000" })
+  public int size;
+
+  /** Whether the converters cache the date prefix. */
+  @Param({ "false", "true" })
+  public boolean cache;
+
+  /** Gson with the converters under test. */
+  private Gson gson;
+
+  /** The instants, as JSON. */
+  private String instants;
+
+  /** The local date-times, as JSON. */
+  private String localDateTimes;
+
+  /** The offset date-times, as JSON. */
+  private String offsetDateTimes;
+
+  /**
+   * Builds the Gson instance and the payloads.
+   */
+  @Setup
+  public void setup()
+  {
+    final InstantConverter instant = new InstantConverter();
+    final LocalDateTimeConverter localDateTime = new LocalDateTimeConverter();
+    final OffsetDateTimeConverter offsetDateTime = new OffsetDateTimeConverter();
+    this.gson = new GsonBuilder()
+        .registerTypeAdapterFactory(new JavaTimeTypeAdapterFactory()
+            .withInstant(this.cache ? instant.withDatePrefixCache() : instant)
+            .withLocalDateTime(this.cache ? localDateTime.withDatePrefixCache() : localDateTime)
+            .withOffsetDateTime(this.cache ? offsetDateTime.withDatePrefixCache() : offsetDateTime))
+        .create();
+
+    final Random random = new Random(1969);
+    final Instant[] instants = new Instant[this.size];
+    final LocalDateTime[] localDateTimes = new LocalDateTime[this.size];
+    final OffsetDateTime[] offsetDateTimes = new OffsetDateTime[this.size];
+    Instant next = Instant.parse("2023-11-14T12:13:20Z");
+    for (int i = 0; i < this.size; i++)
+    {
+      next = next.plusMillis(random.nextInt(120_000));
+      instants[i] = next;
+      offsetDateTimes[i] = next.atOffset(ZoneOffset.ofHours(10));
+      localDateTimes[i] = offsetDateTimes[i].toLocalDateTime();
+    }
+
+    this.instants = this.gson.toJson(instants);
+    this.localDateTimes = this.gson.toJson(localDateTimes);
+    this.offsetDateTimes = this.gson.toJson(offsetDateTimes);
+  }
+
+  /**
+   * Deserialises the instants.
+   * @return The instants.
+   */
+  @Benchmark
+  public Instant[] deserialiseInstants()
+  {
+    return this.gson.fromJson(this.instants, Instant[].class);
+  }
+
+  /**
+   * Deserialises the local date-times.
+   * @return The date-times.
+   */
+  @Benchmark
+  public LocalDateTime[] deserialiseLocalDateTimes()
+  {
+    return this.gson.fromJson(this.localDateTimes, LocalDateTime[].class);
+  }
+
+  /**
+   * Deserialises the offset date-times.
+   * @return The date-times.
+   */
+  @Benchmark
+  public OffsetDateTime[] deserialiseOffsetDateTimes()
+  {
+    return this.gson.fromJson(this.offsetDateTimes, OffsetDateTime[].class);
+  }
+}
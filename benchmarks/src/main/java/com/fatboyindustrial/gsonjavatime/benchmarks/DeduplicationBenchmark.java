@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.InstantConverter;
+import com.fatboyindustrial.gsonjavatime.InstantEncoding;
+import com.fatboyindustrial.gsonjavatime.JavaTimeTypeAdapterFactory;
+import com.fatboyindustrial.gsonjavatime.OffsetDateTimeConverter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialises records whose timestamps repeat in runs, with and without last-value deduplication.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeduplicationBenchmark
+{
+  /** The number of records. */
+  @Param({ "1000" })
+  public int size;
+
+  /** The number of consecutive records sharing each timestamp. */
+  @Param({ "1", "8" })
+  public int runLength;
+
+  /** Gson without deduplication. */
+  private Gson plain;
+
+  /** Gson with deduplication. */
+  private Gson deduplicating;
+
+  /** The JSON form of the records. */
+  private String json;
+
+  /**
+   * Builds the Gson instances and the payload.
+   */
+  @Setup
+  public void setup()
+  {
+    final JavaTimeTypeAdapterFactory factory = new JavaTimeTypeAdapterFactory();
+    this.plain = new GsonBuilder().registerTypeAdapterFactory(factory).create();
+    this.deduplicating = new GsonBuilder()
+        .registerTypeAdapterFactory(factory.withInstant(new InstantConverter(InstantEncoding.ISO_8601, true))
+                                           .withOffsetDateTime(new OffsetDateTimeConverter(true)))
+        .create();
+
+    final Record[] records = new Record[this.size];
+    Instant instant = Instant.parse("2023-11-14T12:13:20.123Z");
+    for (int i = 0; i < records.length; i++)
+    {
+      if (i % this.runLength == 0)
+      {
+        instant = instant.plusMillis(250);
+      }
+
+      records[i] = new Record(instant, i);
+    }
+
+    this.json = this.plain.toJson(records);
+  }
+
+  /**
+   * Deserialises without deduplication.
+   * @return The records.
+   */
+  @Benchmark
+  public Record[] plain()
+  {
+    return this.plain.fromJson(this.json, Record[].class);
+  }
+
+  /**
+   * Deserialises with deduplication.
+   * @return The records.
+   */
+  @Benchmark
+  public Record[] deduplicating()
+  {
+    return this.deduplicating.fromJson(this.json, Record[].class);
+  }
+
+  /**
+   * A record carrying its timestamp in two forms.
+   */
+  public static class Record
+  {
+    private Instant received;
+    private OffsetDateTime recorded;
+    private int value;
+
+    /**
+     * Constructs a record for deserialisation.
+     */
+    public Record()
+    {
+    }
+
+    /**
+     * Constructs a populated record.
+     * @param instant The timestamp.
+     * @param value The value.
+     */
+    public Record(Instant instant, int value)
+    {
+      this.received = instant;
+      this.recorded = instant.atOffset(ZoneOffset.ofHours(10));
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.DurationTypeAdapter;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DurationTypeAdapter} against an adapter built on {@link Duration#parse(CharSequence)} and
+ * {@link Duration#toString()}.  Both go through the same {@code TypeAdapter} calls, so the difference is the
+ * cost of the conversion itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DurationBenchmark
+{
+  /** The duration under test, in its ISO 8601 form. */
+  @Param({ "PT0.25S", "PT1M40S", "PT26H3M4.123S" })
+  public String text;
+
+  /** The library's adapter. */
+  private final DurationTypeAdapter adapter = new DurationTypeAdapter();
+
+  /** The adapter using the JDK's parser and formatter. */
+  private final TypeAdapter<Duration> jdk = new JdkDurationTypeAdapter();
+
+  /** The duration under test, as JSON. */
+  private String json;
+
+  /** The parsed form of {@link #text}. */
+  private Duration duration;
+
+  /**
+   * Parses the duration under test.
+   */
+  @Setup
+  public void setup()
+  {
+    this.json = '"' + this.text + '"';
+    this.duration = Duration.parse(this.text);
+  }
+
+  /**
+   * Parses with the JDK's regular expression based parser.
+   * @return The duration.
+   * @throws IOException If reading fails.
+   */
+  @Benchmark
+  public Duration parseJdk() throws IOException
+  {
+    return this.jdk.fromJson(this.json);
+  }
+
+  /**
+   * Parses with the library's adapter.
+   * @return The duration.
+   * @throws IOException If reading fails.
+   */
+  @Benchmark
+  public Duration parseFast() throws IOException
+  {
+    return this.adapter.fromJson(this.json);
+  }
+
+  /**
+   * Formats with {@link Duration#toString()}.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String formatJdk()
+  {
+    return this.jdk.toJson(this.duration);
+  }
+
+  /**
+   * Formats with the library's adapter.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String formatFast()
+  {
+    return this.adapter.toJson(this.duration);
+  }
+
+  /**
+   * The baseline adapter, converting with the JDK's own methods.
+   */
+  private static final class JdkDurationTypeAdapter extends TypeAdapter<Duration>
+  {
+    @Override
+    public void write(JsonWriter out, Duration value) throws IOException
+    {
+      out.value(value.toString());
+    }
+
+    @Override
+    public Duration read(JsonReader in) throws IOException
+    {
+      return Duration.parse(in.nextString());
+    }
+  }
+}
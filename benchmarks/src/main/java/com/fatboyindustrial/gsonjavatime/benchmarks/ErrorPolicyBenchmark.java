@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.InstantConverter;
+import com.fatboyindustrial.gsonjavatime.ParseErrorPolicy;
+import com.fatboyindustrial.gsonjavatime.ParseErrorReport;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialises arrays of instants of which a proportion are malformed, comparing a deserialiser that catches
+ * the parse exception with the non-throwing error policies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPolicyBenchmark
+{
+  /** The number of values. */
+  @Param({ "1000" })
+  public int size;
+
+  /** The percentage of values that are malformed. */
+  @Param({ "0", "50" })
+  public int malformedPercent;
+
+  /** Gson with a deserialiser that catches the exception and returns null. */
+  private Gson catching;
+
+  /** Gson with the collecting error policy. */
+  private Gson collecting;
+
+  /** The converter used for bulk validation. */
+  private InstantConverter converter;
+
+  /** The values as strings. */
+  private String[] texts;
+
+  /** The JSON array of values. */
+  private String json;
+
+  /**
+   * Builds the Gson instances and the payload.
+   */
+  @Setup
+  public void setup()
+  {
+    final InstantConverter throwing = new InstantConverter();
+    this.catching = new GsonBuilder()
+        .registerTypeAdapter(Instant.class, (JsonDeserializer<Instant>) (json, type, context) ->
+        {
+          try
+          {
+            return throwing.deserialize(json, type, context);
+          }
+          catch (DateTimeException e)
+          {
+            return null;
+          }
+        })
+        .create();
+    this.collecting = new GsonBuilder()
+        .registerTypeAdapter(Instant.class,
+                             new InstantConverter().withErrorPolicy(ParseErrorPolicy.collecting(new ParseErrorReport())))
+        .create();
+    this.converter = new InstantConverter();
+
+    this.texts = new String[this.size];
+    final StringBuilder builder = new StringBuilder("[");
+    Instant instant = Instant.parse("2023-11-14T12:13:20.123Z");
+    for (int i = 0; i < this.size; i++)
+    {
+      instant = instant.plusMillis(250);
+      final boolean malformed = i % 100 < this.malformedPercent;
+      this.texts[i] = malformed ? (i % 2 == 0 ? "N/A" : "2023-11-14 12:13") : instant.toString();
+      builder.append(i == 0 ? "\"" : ",\"").append(this.texts[i]).append('"');
+    }
+
+    this.json = builder.append(']').toString();
+  }
+
+  /**
+   * Deserialises, catching an exception for each malformed value.
+   * @return The instants.
+   */
+  @Benchmark
+  public Instant[] catching()
+  {
+    return this.catching.fromJson(this.json, Instant[].class);
+  }
+
+  /**
+   * Deserialises under the collecting error policy.
+   * @return The instants.
+   */
+  @Benchmark
+  public Instant[] collecting()
+  {
+    return this.collecting.fromJson(this.json, Instant[].class);
+  }
+
+  /**
+   * Validates the strings in bulk.
+   * @return The valid entries.
+   */
+  @Benchmark
+  public BitSet validate()
+  {
+    return this.converter.validate(this.texts);
+  }
+}
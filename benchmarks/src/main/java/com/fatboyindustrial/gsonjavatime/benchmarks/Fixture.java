@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+/**
+ * A representative value of each supported type, along with the raw JDK calls that produce and consume its
+ * JSON string form.
+ */
+public enum Fixture
+{
+  LOCAL_DATE(LocalDate.class, "2023-11-14",
+             v -> DateTimeFormatter.ISO_LOCAL_DATE.format((LocalDate) v),
+             s -> DateTimeFormatter.ISO_LOCAL_DATE.parse(s, LocalDate::from)),
+  LOCAL_DATE_TIME(LocalDateTime.class, "2023-11-14T22:13:20.123",
+                  v -> DateTimeFormatter.ISO_LOCAL_DATE_TIME.format((LocalDateTime) v),
+                  s -> DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse(s, LocalDateTime::from)),
+  LOCAL_TIME(LocalTime.class, "22:13:20.123",
+             v -> DateTimeFormatter.ISO_LOCAL_TIME.format((LocalTime) v),
+             s -> DateTimeFormatter.ISO_LOCAL_TIME.parse(s, LocalTime::from)),
+  OFFSET_DATE_TIME(OffsetDateTime.class, "2023-11-14T22:13:20.123+10:00",
+                   v -> DateTimeFormatter.ISO_OFFSET_DATE_TIME.format((OffsetDateTime) v),
+                   s -> DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(s, OffsetDateTime::from)),
+  OFFSET_TIME(OffsetTime.class, "22:13:20.123+10:00",
+              v -> DateTimeFormatter.ISO_OFFSET_TIME.format((OffsetTime) v),
+              s -> DateTimeFormatter.ISO_OFFSET_TIME.parse(s, OffsetTime::from)),
+  ZONED_DATE_TIME(ZonedDateTime.class, "2023-11-14T22:13:20.123+10:00[Australia/Brisbane]",
+                  v -> DateTimeFormatter.ISO_DATE_TIME.format((ZonedDateTime) v),
+                  s -> DateTimeFormatter.ISO_DATE_TIME.parse(s, ZonedDateTime::from)),
+  INSTANT(Instant.class, "2023-11-14T12:13:20.123Z",
+          v -> DateTimeFormatter.ISO_INSTANT.format((Instant) v),
+          s -> DateTimeFormatter.ISO_INSTANT.parse(s, Instant::from)),
+  ZONE_ID(ZoneId.class, "Australia/Brisbane",
+          v -> ((ZoneId) v).getId(),
+          ZoneId::of),
+  DURATION(Duration.class, "PT1H2M3.456S",
+           Object::toString,
+           Duration::parse);
+
+  /** The declared type. */
+  public final Class<?> type;
+
+  /** The canonical string form. */
+  public final String text;
+
+  /** The value. */
+  public final Object value;
+
+  /** The raw JDK call that formats a value. */
+  private final Function<Object, String> format;
+
+  /** The raw JDK call that parses a value. */
+  private final Function<String, Object> parse;
+
+  /**
+   * Constructs a new fixture.
+   * @param type The declared type.
+   * @param text The canonical string form.
+   * @param format The raw JDK call that formats a value.
+   * @param parse The raw JDK call that parses a value.
+   */
+  Fixture(Class<?> type, String text, Function<Object, String> format, Function<String, Object> parse)
+  {
+    this.type = type;
+    this.text = text;
+    this.format = format;
+    this.parse = parse;
+    this.value = parse.apply(text);
+  }
+
+  /**
+   * Formats a value using the raw JDK call.
+   * @param value The value.
+   * @return The string form.
+   */
+  public String format(Object value)
+  {
+    return this.format.apply(value);
+  }
+
+  /**
+   * Parses a value using the raw JDK call.
+   * @param text The string form.
+   * @return The value.
+   */
+  public Object parse(String text)
+  {
+    return this.parse.apply(text);
+  }
+}
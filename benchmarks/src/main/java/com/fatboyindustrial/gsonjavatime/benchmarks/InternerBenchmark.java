@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.JavaTimeTypeAdapterFactory;
+import com.fatboyindustrial.gsonjavatime.TemporalInterner;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialises date-times drawn from a small set of distinct values, as a cache of records filled from JSON
+ * would, with and without a shared interner.  Runs on four threads to show contention on the stripes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class InternerBenchmark
+{
+  /** The number of values. */
+  @Param({ "1000" })
+  public int size;
+
+  /** The number of distinct values. */
+  @Param({ "100" })
+  public int distinct;
+
+  /** Whether values are interned. */
+  @Param({ "false", "true" })
+  public boolean intern;
+
+  /** Gson with the factory under test. */
+  private Gson gson;
+
+  /** The local date-times, as JSON. */
+  private String localDateTimes;
+
+  /** The offset date-times, as JSON. */
+  private String offsetDateTimes;
+
+  /**
+   * Builds the Gson instance and the payloads.
+   */
+  @Setup
+  public void setup()
+  {
+    final JavaTimeTypeAdapterFactory factory = new JavaTimeTypeAdapterFactory();
+    this.gson = new GsonBuilder()
+        .registerTypeAdapterFactory(this.intern ? factory.withInterner(new TemporalInterner()) : factory)
+        .create();
+
+    final Random random = new Random(1969);
+    final LocalDateTime[] localDateTimes = new LocalDateTime[this.size];
+    final OffsetDateTime[] offsetDateTimes = new OffsetDateTime[this.size];
+    for (int i = 0; i < this.size; i++)
+    {
+      localDateTimes[i] = LocalDateTime.of(2023, 11, 14, 0, 0).plusHours(random.nextInt(this.distinct));
+      offsetDateTimes[i] = localDateTimes[i].atOffset(ZoneOffset.ofHours(10));
+    }
+
+    this.localDateTimes = this.gson.toJson(localDateTimes);
+    this.offsetDateTimes = this.gson.toJson(offsetDateTimes);
+  }
+
+  /**
+   * Deserialises the local date-times.
+   * @return The date-times.
+   */
+  @Benchmark
+  public LocalDateTime[] deserialiseLocalDateTimes()
+  {
+    return this.gson.fromJson(this.localDateTimes, LocalDateTime[].class);
+  }
+
+  /**
+   * Deserialises the offset date-times.
+   * @return The date-times.
+   */
+  @Benchmark
+  public OffsetDateTime[] deserialiseOffsetDateTimes()
+  {
+    return this.gson.fromJson(this.offsetDateTimes, OffsetDateTime[].class);
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.InstantConverter;
+import com.fatboyindustrial.gsonjavatime.InstantTypeAdapter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialises arrays of timestamps in mixed shapes, comparing lenient parsing with the usual chain of
+ * formatters tried in turn until one doesn't throw.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LenientBenchmark
+{
+  /** The formatters tried in turn by the fallback chain. */
+  private static final DateTimeFormatter[] CHAIN =
+      { DateTimeFormatter.ISO_INSTANT, DateTimeFormatter.ISO_OFFSET_DATE_TIME, DateTimeFormatter.ISO_ZONED_DATE_TIME,
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME, DateTimeFormatter.ISO_LOCAL_DATE };
+
+  /** The number of timestamps. */
+  @Param({ "1000" })
+  public int size;
+
+  /** The mix of shapes: {@code canonical} is all UTC instants, {@code mixed} cycles through five shapes. */
+  @Param({ "canonical", "mixed" })
+  public String mix;
+
+  /** Gson with the strict converter. */
+  private Gson strict;
+
+  /** Gson with the lenient converter. */
+  private Gson lenient;
+
+  /** Gson with a deserialiser that tries each formatter and catches the failures. */
+  private Gson chain;
+
+  /** The JSON array of timestamps. */
+  private String json;
+
+  /**
+   * Builds the Gson instances and the payload.
+   */
+  @Setup
+  public void setup()
+  {
+    this.strict = new GsonBuilder().registerTypeAdapter(Instant.class, new InstantTypeAdapter(new InstantConverter()))
+                                   .create();
+    this.lenient = new GsonBuilder()
+        .registerTypeAdapter(Instant.class, new InstantTypeAdapter(new InstantConverter().withLenientParsing()))
+        .create();
+    this.chain = new GsonBuilder()
+        .registerTypeAdapter(Instant.class, (JsonDeserializer<Instant>) (json, type, context) -> chain(json.getAsString()))
+        .create();
+
+    final StringBuilder builder = new StringBuilder("[");
+    Instant instant = Instant.parse("2023-11-14T12:13:20.123Z");
+    for (int i = 0; i < this.size; i++)
+    {
+      instant = instant.plusMillis(250);
+      builder.append(i == 0 ? "\"" : ",\"").append(format(instant, this.mix.equals("mixed") ? i % 5 : 0)).append('"');
+    }
+
+    this.json = builder.append(']').toString();
+  }
+
+  /**
+   * Deserialises with the strict converter; only meaningful for the canonical mix.
+   * @return The instants.
+   */
+  @Benchmark
+  public Instant[] strict()
+  {
+    return this.mix.equals("canonical") ? this.strict.fromJson(this.json, Instant[].class) : null;
+  }
+
+  /**
+   * Deserialises with the lenient converter.
+   * @return The instants.
+   */
+  @Benchmark
+  public Instant[] lenient()
+  {
+    return this.lenient.fromJson(this.json, Instant[].class);
+  }
+
+  /**
+   * Deserialises with the formatter chain.
+   * @return The instants.
+   */
+  @Benchmark
+  public Instant[] chain()
+  {
+    return this.chain.fromJson(this.json, Instant[].class);
+  }
+
+  /**
+   * Formats an instant in one of five shapes.
+   * @param instant The instant.
+   * @param shape The shape, from 0 to 4.
+   * @return The text.
+   */
+  private static String format(Instant instant, int shape)
+  {
+    switch (shape)
+    {
+      case 0:
+        return instant.toString();
+      case 1:
+        return instant.atOffset(ZoneOffset.ofHours(10)).toString();
+      case 2:
+        return instant.atZone(ZoneOffset.UTC).withZoneSameInstant(ZoneId.of("Europe/Paris")).toString();
+      case 3:
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC).toString();
+      default:
+        return LocalDate.of(2023, 11, 14).toString();
+    }
+  }
+
+  /**
+   * Parses text by trying each formatter in turn, as hand-written fallback code typically does.
+   * @param text The text.
+   * @return The instant.
+   */
+  private static Instant chain(String text)
+  {
+    for (int i = 0; i < CHAIN.length; i++)
+    {
+      try
+      {
+        switch (i)
+        {
+          case 0:
+            return CHAIN[i].parse(text, Instant::from);
+          case 1:
+            return CHAIN[i].parse(text, OffsetDateTime::from).toInstant();
+          case 2:
+            return CHAIN[i].parse(text, ZonedDateTime::from).toInstant();
+          case 3:
+            return CHAIN[i].parse(text, LocalDateTime::from).toInstant(ZoneOffset.UTC);
+          default:
+            return CHAIN[i].parse(text, LocalDate::from).atStartOfDay().toInstant(ZoneOffset.UTC);
+        }
+      }
+      catch (DateTimeParseException e)
+      {
+        // try the next formatter
+      }
+    }
+
+    throw new DateTimeParseException("Text '" + text + "' could not be parsed", text, 0);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.JavaTimeTypeAdapterFactory;
+import com.fatboyindustrial.gsonjavatime.LocalDateConverter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialises and deserialises business dates between 1970 and 2100, with and without the lookup table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalDateTableBenchmark
+{
+  /** The number of values. */
+  @Param({ "1000" })
+  public int size;
+
+  /** Whether the converter uses the lookup table. */
+  @Param({ "false", "true" })
+  public boolean table;
+
+  /** Gson with the converter under test. */
+  private Gson gson;
+
+  /** The dates. */
+  private LocalDate[] dates;
+
+  /** The dates, as JSON. */
+  private String json;
+
+  /**
+   * Builds the Gson instance and the payload.
+   */
+  @Setup
+  public void setup()
+  {
+    final LocalDateConverter converter = new LocalDateConverter();
+    this.gson = new GsonBuilder()
+        .registerTypeAdapterFactory(new JavaTimeTypeAdapterFactory()
+            .withLocalDate(this.table ? converter.withLookupTable(1970, 2100) : converter))
+        .create();
+
+    final Random random = new Random(1969);
+    this.dates = new LocalDate[this.size];
+    for (int i = 0; i < this.size; i++)
+    {
+      this.dates[i] = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(20 * 365));
+    }
+
+    this.json = this.gson.toJson(this.dates);
+  }
+
+  /**
+   * Serialises the dates.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialise()
+  {
+    return this.gson.toJson(this.dates);
+  }
+
+  /**
+   * Deserialises the dates.
+   * @return The dates.
+   */
+  @Benchmark
+  public LocalDate[] deserialise()
+  {
+    return this.gson.fromJson(this.json, LocalDate[].class);
+  }
+}
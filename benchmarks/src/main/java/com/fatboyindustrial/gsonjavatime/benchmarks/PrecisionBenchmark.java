@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.InstantConverter;
+import com.fatboyindustrial.gsonjavatime.JavaTimeTypeAdapterFactory;
+import com.fatboyindustrial.gsonjavatime.TimePrecision;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialises and deserialises arrays of nanosecond instants at full precision, truncated to microseconds,
+ * and truncated to microseconds with a fixed-width fraction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrecisionBenchmark
+{
+  /** The number of values. */
+  @Param({ "1000" })
+  public int size;
+
+  /** The converter options: {@code NANOS}, {@code MICROS} or {@code MICROS_FIXED}. */
+  @Param({ "NANOS", "MICROS", "MICROS_FIXED" })
+  public String mode;
+
+  /** Gson with the converter under test. */
+  private Gson gson;
+
+  /** The values. */
+  private Instant[] instants;
+
+  /** The values as written by the converter under test. */
+  private String json;
+
+  /**
+   * Builds the Gson instance and the payload.
+   */
+  @Setup
+  public void setup()
+  {
+    InstantConverter converter = new InstantConverter();
+    if (!this.mode.equals("NANOS"))
+    {
+      converter = converter.withPrecision(TimePrecision.MICROS);
+    }
+
+    if (this.mode.endsWith("_FIXED"))
+    {
+      converter = converter.withFixedWidthFraction();
+    }
+
+    this.gson = new GsonBuilder().registerTypeAdapterFactory(new JavaTimeTypeAdapterFactory().withInstant(converter))
+                                 .create();
+
+    final Random random = new Random(1969);
+    this.instants = new Instant[this.size];
+    for (int i = 0; i < this.size; i++)
+    {
+      this.instants[i] = Instant.ofEpochSecond(1_700_000_000L + random.nextInt(86_400), random.nextInt(1_000_000_000));
+    }
+
+    this.json = this.gson.toJson(this.instants);
+  }
+
+  /**
+   * Serialises the instants.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialise()
+  {
+    return this.gson.toJson(this.instants);
+  }
+
+  /**
+   * Deserialises the instants written by the same converter.
+   * @return The instants.
+   */
+  @Benchmark
+  public Instant[] deserialise()
+  {
+    return this.gson.fromJson(this.json, Instant[].class);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.Converters;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a {@code Gson} instance and resolving an adapter for every supported type, which is the
+ * cost paid by each short-lived instance before its first request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistrationBenchmark
+{
+  /**
+   * Registers the tree-based converters, then resolves every adapter.
+   * @param blackhole Consumes the adapters.
+   */
+  @Benchmark
+  public void tree(Blackhole blackhole)
+  {
+    resolve(Converters.registerAll(new GsonBuilder()).create(), blackhole);
+  }
+
+  /**
+   * Registers the streaming type adapters, then resolves every adapter.
+   * @param blackhole Consumes the adapters.
+   */
+  @Benchmark
+  public void streaming(Blackhole blackhole)
+  {
+    resolve(Converters.registerAllStreaming(new GsonBuilder()).create(), blackhole);
+  }
+
+  /**
+   * Registers the single type adapter factory, then resolves every adapter.
+   * @param blackhole Consumes the adapters.
+   */
+  @Benchmark
+  public void factory(Blackhole blackhole)
+  {
+    resolve(Converters.registerFactory(new GsonBuilder()).create(), blackhole);
+  }
+
+  /**
+   * Resolves the adapter for every fixture type.
+   * @param gson The Gson instance.
+   * @param blackhole Consumes the adapters.
+   */
+  private static void resolve(Gson gson, Blackhole blackhole)
+  {
+    for (Fixture fixture : Fixture.values())
+    {
+      final TypeAdapter<?> adapter = gson.getAdapter(fixture.type);
+      blackhole.consume(adapter);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.JavaTimeTypeAdapterFactory;
+import com.fatboyindustrial.gsonjavatime.LocalTimeConverter;
+import com.fatboyindustrial.gsonjavatime.OffsetTimeConverter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialises and deserialises opening hours on whole quarter hours at a few offsets, with and without the
+ * time-of-day memo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeOfDayBenchmark
+{
+  /** The number of values. */
+  @Param({ "1000" })
+  public int size;
+
+  /** Whether the converters use the time-of-day memo. */
+  @Param({ "false", "true" })
+  public boolean memo;
+
+  /** Gson with the converters under test. */
+  private Gson gson;
+
+  /** The local times. */
+  private LocalTime[] localTimes;
+
+  /** The offset times. */
+  private OffsetTime[] offsetTimes;
+
+  /** The local times, as JSON. */
+  private String localJson;
+
+  /** The offset times, as JSON. */
+  private String offsetJson;
+
+  /**
+   * Builds the Gson instance and the payloads.
+   */
+  @Setup
+  public void setup()
+  {
+    final LocalTimeConverter localTime = new LocalTimeConverter();
+    final OffsetTimeConverter offsetTime = new OffsetTimeConverter();
+    this.gson = new GsonBuilder()
+        .registerTypeAdapterFactory(new JavaTimeTypeAdapterFactory()
+            .withLocalTime(this.memo ? localTime.withTimeOfDayMemo() : localTime)
+            .withOffsetTime(this.memo ? offsetTime.withTimeOfDayMemo() : offsetTime))
+        .create();
+
+    final ZoneOffset[] offsets = { ZoneOffset.ofHours(10), ZoneOffset.ofHours(8), ZoneOffset.ofHoursMinutes(9, 30) };
+    final Random random = new Random(1969);
+    this.localTimes = new LocalTime[this.size];
+    this.offsetTimes = new OffsetTime[this.size];
+    for (int i = 0; i < this.size; i++)
+    {
+      this.localTimes[i] = LocalTime.ofSecondOfDay(random.nextInt(96) * 900);
+      this.offsetTimes[i] = this.localTimes[i].atOffset(offsets[random.nextInt(offsets.length)]);
+    }
+
+    this.localJson = this.gson.toJson(this.localTimes);
+    this.offsetJson = this.gson.toJson(this.offsetTimes);
+  }
+
+  /**
+   * Serialises the local times.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseLocalTimes()
+  {
+    return this.gson.toJson(this.localTimes);
+  }
+
+  /**
+   * Deserialises the local times.
+   * @return The times.
+   */
+  @Benchmark
+  public LocalTime[] deserialiseLocalTimes()
+  {
+    return this.gson.fromJson(this.localJson, LocalTime[].class);
+  }
+
+  /**
+   * Serialises the offset times.
+   * @return The JSON.
+   */
+  @Benchmark
+  public String serialiseOffsetTimes()
+  {
+    return this.gson.toJson(this.offsetTimes);
+  }
+
+  /**
+   * Deserialises the offset times.
+   * @return The times.
+   */
+  @Benchmark
+  public OffsetTime[] deserialiseOffsetTimes()
+  {
+    return this.gson.fromJson(this.offsetJson, OffsetTime[].class);
+  }
+}
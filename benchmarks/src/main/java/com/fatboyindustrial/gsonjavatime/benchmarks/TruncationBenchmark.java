@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime.benchmarks;
+
+import com.fatboyindustrial.gsonjavatime.InstantConverter;
+import com.fatboyindustrial.gsonjavatime.JavaTimeTypeAdapterFactory;
+import com.fatboyindustrial.gsonjavatime.LocalDateTimeConverter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialises a stream of instants and local date-times a few seconds apart and buckets them by minute,
+ * either by truncating each value after it has been read in full or by truncating on read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TruncationBenchmark
+{
+  /** The number of values. */
+  @Param({ "1000" })
+  public int size;
+
+  /** Whether the converters truncate on read, rather than the caller afterwards. */
+  @Param({ "false", "true" })
+  public boolean truncateOnRead;
+
+  /** Gson with the converters under test. */
+  private Gson gson;
+
+  /** The instants, as JSON. */
+  private String instants;
+
+  /** The local date-times, as JSON. */
+  private String localDateTimes;
+
+  /**
+   * Builds the Gson instance and the payloads.
+   */
+  @Setup
+  public void setup()
+  {
+    final InstantConverter instant = new InstantConverter();
+    final LocalDateTimeConverter localDateTime = new LocalDateTimeConverter();
+    this.gson = new GsonBuilder()
+        .registerTypeAdapterFactory(new JavaTimeTypeAdapterFactory()
+            .withInstant(this.truncateOnRead ? instant.withReadTruncation(ChronoUnit.MINUTES) : instant)
+            .withLocalDateTime(this.truncateOnRead ? localDateTime.withReadTruncation(ChronoUnit.MINUTES)
+                                                   : localDateTime))
+        .create();
+
+    final Random random = new Random(1969);
+    final Instant[] instants = new Instant[this.size];
+    final LocalDateTime[] localDateTimes = new LocalDateTime[this.size];
+    Instant next = Instant.parse("2023-11-14T12:13:20Z");
+    for (int i = 0; i < this.size; i++)
+    {
+      next = next.plusNanos(random.nextInt(6_000_000) * 1000L);
+      instants[i] = next;
+      localDateTimes[i] = LocalDateTime.ofInstant(next, ZoneOffset.ofHours(10));
+    }
+
+    this.instants = new Gson().toJson(toStrings(instants));
+    this.localDateTimes = new Gson().toJson(toStrings(localDateTimes));
+  }
+
+  /**
+   * Deserialises the instants and buckets them by minute.
+   * @return The buckets.
+   */
+  @Benchmark
+  public Instant[] deserialiseInstants()
+  {
+    final Instant[] values = this.gson.fromJson(this.instants, Instant[].class);
+    if (!this.truncateOnRead)
+    {
+      for (int i = 0; i < values.length; i++)
+      {
+        values[i] = values[i].truncatedTo(ChronoUnit.MINUTES);
+      }
+    }
+
+    return values;
+  }
+
+  /**
+   * Deserialises the local date-times and buckets them by minute.
+   * @return The buckets.
+   */
+  @Benchmark
+  public LocalDateTime[] deserialiseLocalDateTimes()
+  {
+    final LocalDateTime[] values = this.gson.fromJson(this.localDateTimes, LocalDateTime[].class);
+    if (!this.truncateOnRead)
+    {
+      for (int i = 0; i < values.length; i++)
+      {
+        values[i] = values[i].truncatedTo(ChronoUnit.MINUTES);
+      }
+    }
+
+    return values;
+  }
+
+  /**
+   * Renders values with {@code toString}, as a producer emitting microsecond timestamps would.
+   * @param values The values.
+   * @return The strings.
+   */
+  private static String[] toStrings(Object[] values)
+  {
+    final String[] texts = new String[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      texts[i] = values[i].toString();
+    }
+
+    return texts;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * The skeleton shared by the streaming type adapters for single Java Time values.  JSON null is read and
+ * written here, and each conversion is reported to {@link ConversionEvents}; subclasses only convert non-null
+ * values.
+ * @param <T> The converted type.
+ */
+abstract class AbstractJavaTimeAdapter<T> extends TypeAdapter<T>
+{
+  /** The simple name of the converted type, for events. */
+  private final String typeName;
+
+  /**
+   * Constructs a new {@code AbstractJavaTimeAdapter}.
+   * @param typeName The simple name of the converted type, for events.
+   */
+  AbstractJavaTimeAdapter(String typeName)
+  {
+    this.typeName = typeName;
+  }
+
+  /**
+   * Writes one JSON value for {@code value}.
+   * @param out The JSON writer.
+   * @param value The Java object to write; may be null.
+   * @throws IOException If writing fails.
+   */
+  @Override
+  public final void write(JsonWriter out, T value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    final Object event = ConversionEvents.begin();
+    try
+    {
+      writeValue(out, value);
+    }
+    catch (RuntimeException e)
+    {
+      ConversionEvents.failed(this.typeName, "write", value, e);
+      throw e;
+    }
+
+    ConversionEvents.end(event, this.typeName, "write");
+  }
+
+  /**
+   * Reads one JSON value and converts it.
+   * @param in The JSON reader.
+   * @return The converted Java object; may be null.
+   * @throws IOException If reading fails.
+   */
+  @Override
+  public final T read(JsonReader in) throws IOException
+  {
+    if (in.peek() == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    final Object event = ConversionEvents.begin();
+    final JsonReader reader = ConversionEvents.reader(in);
+    final T value;
+    try
+    {
+      value = readValue(reader);
+    }
+    catch (RuntimeException e)
+    {
+      ConversionEvents.readFailed(this.typeName, reader, e);
+      throw e;
+    }
+    finally
+    {
+      ConversionEvents.release(reader);
+    }
+
+    ConversionEvents.end(event, this.typeName, "read");
+    return value;
+  }
+
+  /**
+   * Writes a non-null value.
+   * @param out The JSON writer.
+   * @param value The value.
+   * @throws IOException If writing fails.
+   */
+  abstract void writeValue(JsonWriter out, T value) throws IOException;
+
+  /**
+   * Reads a non-null value.
+   * @param in The JSON reader, positioned at a value that isn't JSON null.
+   * @return The converted value; may be null.
+   * @throws IOException If reading fails.
+   */
+  abstract T readValue(JsonReader in) throws IOException;
+}
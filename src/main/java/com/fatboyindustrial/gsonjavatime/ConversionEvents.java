@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Hooks for Java Flight Recorder events around each conversion made by the streaming type adapters, called
+ * from {@link AbstractJavaTimeAdapter}. <p>
+ *
+ * This is the Java 8 implementation, which does nothing and compiles away.  On Java 11 and later the
+ * multi-release jar supplies an implementation from {@code META-INF/versions/11} that emits a
+ * {@code com.fatboyindustrial.gsonjavatime.FailedConversion} event for each conversion that throws, and a
+ * sampled {@code com.fatboyindustrial.gsonjavatime.SlowConversion} event for conversions slower than the
+ * recording's threshold.  Neither costs more than a check when no recording is running.
+ */
+final class ConversionEvents
+{
+  /**
+   * Not instantiable.
+   */
+  private ConversionEvents()
+  {
+  }
+
+  /**
+   * Marks the start of a conversion.
+   * @return A token to pass to {@link #end(Object, String, String)}, or null if slow conversions aren't
+   * being recorded.
+   */
+  static Object begin()
+  {
+    return null;
+  }
+
+  /**
+   * Marks the end of a successful conversion.
+   * @param token The token from {@link #begin()}.
+   * @param type The simple name of the converted type.
+   * @param direction The direction, {@code read} or {@code write}.
+   */
+  static void end(Object token, String type, String direction)
+  {
+  }
+
+  /**
+   * Records a conversion that threw.
+   * @param type The simple name of the converted type.
+   * @param direction The direction, {@code read} or {@code write}.
+   * @param value The value being written, or null when reading.
+   * @param cause The exception.
+   */
+  static void failed(String type, String direction, Object value, RuntimeException cause)
+  {
+  }
+
+  /**
+   * Returns the reader a conversion should read from, which notes the text read when failures are being
+   * recorded.  Pass it to {@link #release(JsonReader)} once the value has been read.
+   * @param in The reader.
+   * @return The reader to read from; here, always {@code in}.
+   */
+  static JsonReader reader(JsonReader in)
+  {
+    return in;
+  }
+
+  /**
+   * Records a read that threw.
+   * @param type The simple name of the converted type.
+   * @param reader The reader from {@link #reader(JsonReader)}.
+   * @param cause The exception.
+   */
+  static void readFailed(String type, JsonReader reader, RuntimeException cause)
+  {
+  }
+
+  /**
+   * Finishes with a reader from {@link #reader(JsonReader)}.
+   * @param reader The reader.
+   */
+  static void release(JsonReader reader)
+  {
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Call, character, failure and latency counters for the converters, with a histogram of the input shapes
+ * read. <p>
+ *
+ * Metrics are collected by the adapters of a {@link JavaTimeTypeAdapterFactory#withMetrics(ConverterMetrics)}
+ * factory; factories without metrics run the adapters directly and pay nothing.  Every counter is a
+ * {@link LongAdder}, so recording is lock-free and cheap under contention.  One instance may be shared by
+ * several factories, and can be published over JMX with {@link #registerMBean(String)}.
+ */
+public final class ConverterMetrics implements ConverterMetricsMXBean
+{
+  /** The JMX domain used by {@link #registerMBean(String)}. */
+  private static final String JMX_DOMAIN = "com.fatboyindustrial.gsonjavatime";
+
+  /** The counters for each operation, keyed by type and direction. */
+  private final ConcurrentMap<String, Operation> operations = new ConcurrentSkipListMap<>();
+
+  /** The shape counts for each type, indexed by shape ordinal. */
+  private final ConcurrentMap<String, LongAdder[]> shapes = new ConcurrentSkipListMap<>();
+
+  /**
+   * Registers these metrics with the platform MBean server.
+   * @param name The value of the {@code name} key in the object name, identifying these metrics.
+   * @return The object name, of the form {@code com.fatboyindustrial.gsonjavatime:type=ConverterMetrics,name=...}.
+   * @throws JMException If the name is invalid or already registered.
+   */
+  public ObjectName registerMBean(String name) throws JMException
+  {
+    final ObjectName objectName =
+        new ObjectName(JMX_DOMAIN + ":type=ConverterMetrics,name=" + ObjectName.quote(name));
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+
+    return objectName;
+  }
+
+  /**
+   * Returns the number of values converted by each operation, including failures.
+   * @return The counts, keyed by operation.
+   */
+  @Override
+  public Map<String, Long> getCalls()
+  {
+    return collect(operation -> operation.calls.sum());
+  }
+
+  /**
+   * Returns the number of conversions by each operation that threw an exception.
+   * @return The counts, keyed by operation.
+   */
+  @Override
+  public Map<String, Long> getFailures()
+  {
+    return collect(operation -> operation.failures.sum());
+  }
+
+  /**
+   * Returns the number of JSON characters read or written by each operation.
+   * @return The counts, keyed by operation.
+   */
+  @Override
+  public Map<String, Long> getCharacters()
+  {
+    return collect(operation -> operation.characters.sum());
+  }
+
+  /**
+   * Returns the mean latency of each operation.
+   * @return The latencies in nanoseconds, keyed by operation.
+   */
+  @Override
+  public Map<String, Long> getMeanLatencyNanos()
+  {
+    return collect(operation -> operation.latency.meanNanos());
+  }
+
+  /**
+   * Returns an upper bound for the median latency of each operation.
+   * @return The latencies in nanoseconds, keyed by operation.
+   */
+  @Override
+  public Map<String, Long> getP50LatencyNanos()
+  {
+    return collect(operation -> operation.latency.percentileNanos(0.5));
+  }
+
+  /**
+   * Returns an upper bound for the 99th percentile latency of each operation.
+   * @return The latencies in nanoseconds, keyed by operation.
+   */
+  @Override
+  public Map<String, Long> getP99LatencyNanos()
+  {
+    return collect(operation -> operation.latency.percentileNanos(0.99));
+  }
+
+  /**
+   * Returns the number of values read in each shape, keyed by type and shape.
+   * @return The non-zero counts.
+   */
+  @Override
+  public Map<String, Long> getShapeCounts()
+  {
+    final Map<String, Long> counts = new TreeMap<>();
+    for (Map.Entry<String, LongAdder[]> entry : this.shapes.entrySet())
+    {
+      for (TimestampShape shape : TimestampShape.values())
+      {
+        final long count = entry.getValue()[shape.ordinal()].sum();
+        if (count > 0)
+        {
+          counts.put(entry.getKey() + "." + shape, count);
+        }
+      }
+    }
+
+    return counts;
+  }
+
+  /**
+   * Discards everything recorded so far.
+   */
+  @Override
+  public void reset()
+  {
+    for (Operation operation : this.operations.values())
+    {
+      operation.calls.reset();
+      operation.failures.reset();
+      operation.characters.reset();
+      operation.latency.reset();
+    }
+
+    for (LongAdder[] counts : this.shapes.values())
+    {
+      for (LongAdder count : counts)
+      {
+        count.reset();
+      }
+    }
+  }
+
+  /**
+   * Returns a summary of the metrics.
+   * @return The summary.
+   */
+  @Override
+  public String toString()
+  {
+    return "ConverterMetrics{calls=" + getCalls() + ", failures=" + getFailures() + "}";
+  }
+
+  /**
+   * Returns the counters for an operation, creating them if need be.
+   * @param type The simple name of the converted type.
+   * @param direction The direction, {@code read} or {@code write}.
+   * @return The counters.
+   */
+  Operation operation(String type, String direction)
+  {
+    return this.operations.computeIfAbsent(type + "." + direction, key -> new Operation());
+  }
+
+  /**
+   * Returns the shape counts for a type, creating them if need be.
+   * @param type The simple name of the converted type.
+   * @return The counts, indexed by shape ordinal.
+   */
+  LongAdder[] shapes(String type)
+  {
+    return this.shapes.computeIfAbsent(type, key ->
+    {
+      final LongAdder[] counts = new LongAdder[TimestampShape.values().length];
+      for (int i = 0; i < counts.length; i++)
+      {
+        counts[i] = new LongAdder();
+      }
+
+      return counts;
+    });
+  }
+
+  /**
+   * Reads one value from each operation.
+   * @param value The value to read.
+   * @return The values, keyed by operation.
+   */
+  private Map<String, Long> collect(ToLongFunction<Operation> value)
+  {
+    final Map<String, Long> values = new TreeMap<>();
+    for (Map.Entry<String, Operation> entry : this.operations.entrySet())
+    {
+      values.put(entry.getKey(), value.applyAsLong(entry.getValue()));
+    }
+
+    return values;
+  }
+
+  /**
+   * The counters for one type and direction.
+   */
+  static final class Operation
+  {
+    /** The number of values converted, including failures. */
+    private final LongAdder calls = new LongAdder();
+
+    /** The number of conversions that threw. */
+    private final LongAdder failures = new LongAdder();
+
+    /** The number of JSON characters converted. */
+    private final LongAdder characters = new LongAdder();
+
+    /** The latency of each conversion. */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Records a successful conversion.
+     * @param length The number of JSON characters converted.
+     * @param nanos The latency in nanoseconds.
+     */
+    void succeeded(int length, long nanos)
+    {
+      this.calls.increment();
+      this.characters.add(length);
+      this.latency.record(nanos);
+    }
+
+    /**
+     * Records a conversion that threw.
+     * @param nanos The latency in nanoseconds.
+     */
+    void failed(long nanos)
+    {
+      this.calls.increment();
+      this.failures.increment();
+      this.latency.record(nanos);
+    }
+  }
+}
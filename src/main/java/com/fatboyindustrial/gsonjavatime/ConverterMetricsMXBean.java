@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.util.Map;
+
+/**
+ * The JMX view of {@link ConverterMetrics}.  Operations are keyed by type and direction, such as
+ * {@code Instant.read} or {@code LocalDateTime.write}, and input shapes by type and shape, such as
+ * {@code Instant.UTC_DATE_TIME}.
+ */
+public interface ConverterMetricsMXBean
+{
+  /**
+   * Returns the number of values converted by each operation, including failures.
+   * @return The counts.
+   */
+  Map<String, Long> getCalls();
+
+  /**
+   * Returns the number of conversions by each operation that threw an exception.
+   * @return The counts.
+   */
+  Map<String, Long> getFailures();
+
+  /**
+   * Returns the number of JSON characters read or written by each operation, excluding quotes.
+   * @return The counts.
+   */
+  Map<String, Long> getCharacters();
+
+  /**
+   * Returns the mean latency of each operation.
+   * @return The latencies in nanoseconds.
+   */
+  Map<String, Long> getMeanLatencyNanos();
+
+  /**
+   * Returns an upper bound for the median latency of each operation, within a factor of two.
+   * @return The latencies in nanoseconds.
+   */
+  Map<String, Long> getP50LatencyNanos();
+
+  /**
+   * Returns an upper bound for the 99th percentile latency of each operation, within a factor of two.
+   * @return The latencies in nanoseconds.
+   */
+  Map<String, Long> getP99LatencyNanos();
+
+  /**
+   * Returns the number of values read in each {@link TimestampShape}, by type.
+   * @return The counts.
+   */
+  Map<String, Long> getShapeCounts();
+
+  /**
+   * Discards everything recorded so far.  Values recorded while the reset runs may be partly kept.
+   */
+  void reset();
+}
@@ -36,6 +36,7 @@ import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 /**
  * The {@code Converters} class contains static methods for registering Java Time converters.
@@ -70,6 +71,16 @@ public class Converters
   /** The specific genericized type for {@code Duration}. */
   public static final Type DURATION_TYPE = new TypeToken<Duration>(){}.getType();
 
+  /** The specific genericized type for {@code List<Instant>}. */
+  public static final Type INSTANT_LIST_TYPE = new TypeToken<List<Instant>>(){}.getType();
+
+  /** The default factory, shared by every builder it's registered with as it's immutable. */
+  private static final JavaTimeTypeAdapterFactory FACTORY = new JavaTimeTypeAdapterFactory();
+
+  /** The default collection factory, shared in the same way. */
+  private static final JavaTimeCollectionTypeAdapterFactory COLLECTION_FACTORY =
+      new JavaTimeCollectionTypeAdapterFactory();
+
   /**
    * Registers all the Java Time converters.
    * @param builder The GSON builder to register the converters with.
@@ -92,6 +103,63 @@ public class Converters
     return builder;
   }
 
+  /**
+   * Registers streaming type adapters for all the Java Time types.  The JSON produced and accepted is
+   * identical to {@link #registerAll(GsonBuilder)}, but values are read from and written to the token
+   * stream directly rather than via an intermediate {@code JsonElement} tree.
+   * @param builder The GSON builder to register the type adapters with.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerAllStreaming(GsonBuilder builder)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+
+    builder.registerTypeAdapter(LOCAL_DATE_TYPE, new LocalDateTypeAdapter());
+    builder.registerTypeAdapter(LOCAL_DATE_TIME_TYPE, new LocalDateTimeTypeAdapter());
+    builder.registerTypeAdapter(LOCAL_TIME_TYPE, new LocalTimeTypeAdapter());
+    builder.registerTypeAdapter(OFFSET_DATE_TIME_TYPE, new OffsetDateTimeTypeAdapter());
+    builder.registerTypeAdapter(OFFSET_TIME_TYPE, new OffsetTimeTypeAdapter());
+    builder.registerTypeAdapter(ZONED_DATE_TIME_TYPE, new ZonedDateTimeTypeAdapter());
+    builder.registerTypeAdapter(INSTANT_TYPE, new InstantTypeAdapter());
+    builder.registerTypeHierarchyAdapter(ZoneId.class, new ZoneIdTypeAdapter());
+    builder.registerTypeAdapter(DURATION_TYPE, new DurationTypeAdapter());
+
+    return builder;
+  }
+
+  /**
+   * Registers a {@link JavaTimeTypeAdapterFactory} covering all the Java Time types, including the
+   * subtypes of {@code ZoneId}.  The JSON produced and accepted is identical to {@link #registerAll(GsonBuilder)},
+   * but a single factory resolves every type, which keeps {@code Gson} creation and adapter lookup cheap.
+   * @param builder The GSON builder to register the factory with.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerFactory(GsonBuilder builder)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+
+    builder.registerTypeAdapterFactory(FACTORY);
+
+    return builder;
+  }
+
+  /**
+   * Registers a {@link JavaTimeCollectionTypeAdapterFactory}, which converts arrays and collections of the Java
+   * Time types, such as {@code Instant[]} or {@code List<LocalDate>}, in a single loop over the streaming
+   * adapters.  The JSON produced and accepted is unchanged.  The elements are converted by the adapters the
+   * builder has for their type, so register those too, for instance with {@link #registerFactory(GsonBuilder)}.
+   * @param builder The GSON builder to register the factory with.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerCollections(GsonBuilder builder)
+  {
+    if (builder == null) { throw new NullPointerException("builder cannot be null"); }
+
+    builder.registerTypeAdapterFactory(COLLECTION_FACTORY);
+
+    return builder;
+  }
+
   /**
    * Registers the {@link LocalDateConverter} converter.
    * @param builder The GSON builder to register the converter with.
@@ -104,6 +172,19 @@ public class Converters
     return builder;
   }
 
+  /**
+   * Registers the {@link LocalDateConverter} converter, writing the given encoding.
+   * @param builder The GSON builder to register the converter with.
+   * @param encoding The encoding to write.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerLocalDate(GsonBuilder builder, LocalDateEncoding encoding)
+  {
+    builder.registerTypeAdapter(LOCAL_DATE_TYPE, new LocalDateConverter(encoding));
+
+    return builder;
+  }
+
   /**
    * Registers the {@link LocalDateTimeConverter} converter.
    * @param builder The GSON builder to register the converter with.
@@ -116,6 +197,19 @@ public class Converters
     return builder;
   }
 
+  /**
+   * Registers the {@link LocalDateTimeConverter} converter, writing the given encoding.
+   * @param builder The GSON builder to register the converter with.
+   * @param encoding The encoding to write.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerLocalDateTime(GsonBuilder builder, LocalDateTimeEncoding encoding)
+  {
+    builder.registerTypeAdapter(LOCAL_DATE_TIME_TYPE, new LocalDateTimeConverter(encoding));
+
+    return builder;
+  }
+
   /**
    * Registers the {@link LocalTimeConverter} converter.
    * @param builder The GSON builder to register the converter with.
@@ -128,6 +222,19 @@ public class Converters
     return builder;
   }
 
+  /**
+   * Registers the {@link LocalTimeConverter} converter, writing the given encoding.
+   * @param builder The GSON builder to register the converter with.
+   * @param encoding The encoding to write.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerLocalTime(GsonBuilder builder, LocalTimeEncoding encoding)
+  {
+    builder.registerTypeAdapter(LOCAL_TIME_TYPE, new LocalTimeConverter(encoding));
+
+    return builder;
+  }
+
   /**
    * Registers the {@link OffsetDateTimeConverter} converter.
    * @param builder The GSON builder to register the converter with.
@@ -176,17 +283,74 @@ public class Converters
     return builder;
   }
 
-    /**
-     * Registers the {@link ZoneIdConverter} converter.
-     * @param builder The GSON builder to register the converter with.
-     * @return A reference to {@code builder}.
-     */
-   public static GsonBuilder registerZoneId(GsonBuilder builder)
-   {
-     builder.registerTypeAdapter(ZONE_ID_TYPE, new ZoneIdConverter());
+  /**
+   * Registers the {@link InstantConverter} converter, writing the given encoding.
+   * @param builder The GSON builder to register the converter with.
+   * @param encoding The encoding to write.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerInstant(GsonBuilder builder, InstantEncoding encoding)
+  {
+    builder.registerTypeAdapter(INSTANT_TYPE, new InstantConverter(encoding));
+
+    return builder;
+  }
+
+  /**
+   * Registers the packed series adapters for {@code Instant[]} and {@code List<Instant>}, which write
+   * delta-of-delta coded epoch values rather than an ISO 8601 string per element.  The list adapter applies
+   * to values declared exactly as {@code List<Instant>}.
+   * @param builder The GSON builder to register the adapters with.
+   * @param unit The epoch unit: {@link InstantEncoding#EPOCH_MILLIS}, {@link InstantEncoding#EPOCH_MICROS} or
+   * {@link InstantEncoding#EPOCH_NANOS}.
+   * @param format The format to write.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerPackedInstants(GsonBuilder builder, InstantEncoding unit, PackedFormat format)
+  {
+    builder.registerTypeAdapter(Instant[].class, new PackedInstantArrayTypeAdapter(unit, format));
+    builder.registerTypeAdapter(INSTANT_LIST_TYPE, new PackedInstantListTypeAdapter(unit, format));
+
+    return builder;
+  }
+
+  /**
+   * Registers the {@link InstantColumnTypeAdapter} type adapter, writing ISO 8601 strings.
+   * @param builder The GSON builder to register the type adapter with.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerInstantColumn(GsonBuilder builder)
+  {
+    builder.registerTypeAdapter(InstantColumn.class, new InstantColumnTypeAdapter());
+
+    return builder;
+  }
+
+  /**
+   * Registers the {@link InstantColumnTypeAdapter} type adapter, writing the given encoding.
+   * @param builder The GSON builder to register the type adapter with.
+   * @param encoding The encoding of each element.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerInstantColumn(GsonBuilder builder, InstantEncoding encoding)
+  {
+    builder.registerTypeAdapter(InstantColumn.class, new InstantColumnTypeAdapter(encoding));
 
-     return builder;
-   }
+    return builder;
+  }
+
+  /**
+   * Registers the {@link ZoneIdConverter} converter.  The converter is registered for the whole
+   * {@code ZoneId} hierarchy, as runtime instances are always a {@code ZoneOffset} or a {@code ZoneRegion}.
+   * @param builder The GSON builder to register the converter with.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerZoneId(GsonBuilder builder)
+  {
+    builder.registerTypeHierarchyAdapter(ZoneId.class, new ZoneIdConverter());
+
+    return builder;
+  }
 
   /**
    * Registers the {@link DurationConverter} converter.
@@ -199,4 +363,17 @@ public class Converters
 
     return builder;
   }
+
+  /**
+   * Registers the {@link DurationConverter} converter, writing the given encoding.
+   * @param builder The GSON builder to register the converter with.
+   * @param encoding The encoding to write.
+   * @return A reference to {@code builder}.
+   */
+  public static GsonBuilder registerDuration(GsonBuilder builder, DurationEncoding encoding)
+  {
+    builder.registerTypeAdapter(DURATION_TYPE, new DurationConverter(encoding));
+
+    return builder;
+  }
 }
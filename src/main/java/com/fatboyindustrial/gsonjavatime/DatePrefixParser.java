@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Decodes canonical ISO 8601 instants, local date-times and offset date-times like {@link Iso8601Parser},
+ * reusing the date, and for offset date-times the offset, of the value last parsed. <p>
+ *
+ * Sorted streams of timestamps, such as replayed event history, mostly share their date with their
+ * predecessor.  The date characters of each value are compared with those last decoded; on a match the
+ * cached epoch day and {@link LocalDate} are reused and only the time is decoded.  The offset of an offset
+ * date-time is likewise compared as text and its {@link ZoneOffset} reused.  The date, its decoded forms and
+ * the offset are kept as one immutable entry published through a volatile field, as {@link LastValueCache}
+ * does, so the parser is safe to share between threads.  Anything outside the canonical layout is left to
+ * the caller, which falls back to {@link Iso8601Parser}.
+ */
+final class DatePrefixParser
+{
+  /** Seconds per day. */
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  /** Nanoseconds per second. */
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /** The most recent entry, or null if nothing has been parsed yet. */
+  private volatile Prefix last;
+
+  /**
+   * Decodes an instant in the canonical {@code yyyy-MM-ddTHH:mm:ss[.n]Z} layout.
+   * @param text The text.
+   * @return The instant, or null if the text isn't canonical.
+   */
+  Instant parseInstant(String text)
+  {
+    final int timeEnd = Iso8601Parser.instantTimeEnd(text);
+    if (timeEnd < 0)
+    {
+      return null;
+    }
+
+    final long nanoOfDay = Iso8601Parser.nanoOfDay(text, Iso8601Parser.DATE_LENGTH + 1, timeEnd);
+    final Prefix prefix = nanoOfDay >= 0 ? date(text) : null;
+    if (prefix == null)
+    {
+      return null;
+    }
+
+    final long epochSecond = prefix.epochDay * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+    return Instant.ofEpochSecond(epochSecond, nanoOfDay % NANOS_PER_SECOND);
+  }
+
+  /**
+   * Decodes a local date-time in the canonical {@code yyyy-MM-ddTHH:mm[:ss[.n]]} layout.
+   * @param text The text.
+   * @return The date-time, or null if the text isn't canonical.
+   */
+  LocalDateTime parseLocalDateTime(String text)
+  {
+    final int timeEnd = Iso8601Parser.dateTimeEnd(text);
+    if (timeEnd != text.length())
+    {
+      return null;
+    }
+
+    final long nanoOfDay = Iso8601Parser.nanoOfDay(text, Iso8601Parser.DATE_LENGTH + 1, timeEnd);
+    final Prefix prefix = nanoOfDay >= 0 ? date(text) : null;
+    return prefix != null ? LocalDateTime.of(prefix.date, LocalTime.ofNanoOfDay(nanoOfDay)) : null;
+  }
+
+  /**
+   * Decodes an offset date-time in the canonical {@code yyyy-MM-ddTHH:mm[:ss[.n]]offset} layout.
+   * @param text The text.
+   * @return The date-time, or null if the text isn't canonical.
+   */
+  OffsetDateTime parseOffsetDateTime(String text)
+  {
+    final int timeEnd = Iso8601Parser.dateTimeEnd(text);
+    if (timeEnd <= 0)
+    {
+      return null;
+    }
+
+    final long nanoOfDay = Iso8601Parser.nanoOfDay(text, Iso8601Parser.DATE_LENGTH + 1, timeEnd);
+    if (nanoOfDay < 0)
+    {
+      return null;
+    }
+
+    Prefix prefix = this.last;
+    if (prefix == null || !prefix.matchesDate(text) || !prefix.matchesOffset(text, timeEnd))
+    {
+      final int seconds = Iso8601Parser.offsetSeconds(text, timeEnd, text.length());
+      final Prefix date = seconds != Iso8601Parser.NOT_CANONICAL ? date(text) : null;
+      if (date == null)
+      {
+        return null;
+      }
+
+      prefix = new Prefix(date, text.substring(timeEnd), ZoneOffset.ofTotalSeconds(seconds));
+      this.last = prefix;
+    }
+
+    return OffsetDateTime.of(prefix.date, LocalTime.ofNanoOfDay(nanoOfDay), prefix.offset);
+  }
+
+  /**
+   * Returns the entry for the date at the start of the text, reusing the last entry if its date matches.
+   * @param text The text, which must hold at least a whole date.
+   * @return The entry, or null if the date isn't valid.
+   */
+  private Prefix date(String text)
+  {
+    final Prefix prefix = this.last;
+    if (prefix != null && prefix.matchesDate(text))
+    {
+      return prefix;
+    }
+
+    final int date = Iso8601Parser.date(text, 0);
+    if (date == Iso8601Parser.NOT_CANONICAL)
+    {
+      return null;
+    }
+
+    final Prefix decoded = new Prefix(text.substring(0, Iso8601Parser.DATE_LENGTH), date / 10000, date / 100 % 100,
+                                      date % 100);
+    this.last = decoded;
+    return decoded;
+  }
+
+  /**
+   * An immutable decoded date, with the offset last seen on it.
+   */
+  private static final class Prefix
+  {
+    /** The {@code yyyy-MM-dd} text. */
+    private final String text;
+
+    /** The date. */
+    private final LocalDate date;
+
+    /** The epoch day of the date. */
+    private final long epochDay;
+
+    /** The offset text, or null if no offset has been seen on this date. */
+    private final String offsetText;
+
+    /** The offset, or null if no offset has been seen on this date. */
+    private final ZoneOffset offset;
+
+    /**
+     * Constructs a new {@code Prefix} for a date.
+     * @param text The {@code yyyy-MM-dd} text.
+     * @param year The year, from 0 to 9999.
+     * @param month The month.
+     * @param day The day of month, valid for the month.
+     */
+    private Prefix(String text, int year, int month, int day)
+    {
+      this.text = text;
+      this.date = LocalDate.of(year, month, day);
+      this.epochDay = Iso8601Parser.epochDay(year, month, day);
+      this.offsetText = null;
+      this.offset = null;
+    }
+
+    /**
+     * Constructs a new {@code Prefix} for a date at an offset.
+     * @param date The date's entry.
+     * @param offsetText The offset text.
+     * @param offset The offset.
+     */
+    private Prefix(Prefix date, String offsetText, ZoneOffset offset)
+    {
+      this.text = date.text;
+      this.date = date.date;
+      this.epochDay = date.epochDay;
+      this.offsetText = offsetText;
+      this.offset = offset;
+    }
+
+    /**
+     * Checks whether text starts with this date.
+     * @param text The text, which must hold at least a whole date.
+     * @return True if the date characters match.
+     */
+    private boolean matchesDate(String text)
+    {
+      return text.regionMatches(0, this.text, 0, Iso8601Parser.DATE_LENGTH);
+    }
+
+    /**
+     * Checks whether text ends with this offset.
+     * @param text The text.
+     * @param pos The position of the offset.
+     * @return True if the rest of the text is this offset.
+     */
+    private boolean matchesOffset(String text, int pos)
+    {
+      return this.offsetText != null && text.length() - pos == this.offsetText.length()
+             && text.startsWith(this.offsetText, pos);
+    }
+  }
+}
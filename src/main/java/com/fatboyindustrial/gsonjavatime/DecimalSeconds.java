@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.math.BigDecimal;
+
+/**
+ * A number of seconds with up to nine fractional digits, held as its exact decimal text. <p>
+ *
+ * GSON writes a {@link Number} using its {@code toString()}, so wrapping the text lets a value be written
+ * exactly as formatted, without the scientific notation {@link BigDecimal} would use for small values.
+ */
+final class DecimalSeconds extends Number
+{
+  private static final long serialVersionUID = 1L;
+
+  /** Nanoseconds per second. */
+  private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+  /** The magnitude of whole seconds that no longer fits in a long. */
+  private static final BigDecimal MAX_SECONDS = BigDecimal.valueOf(Long.MAX_VALUE);
+
+  /** Powers of ten used to scale fractions of a second to nanoseconds, indexed by digit count. */
+  private static final int[] FRACTION_SCALE =
+      { 1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1 };
+
+  /** The decimal text. */
+  private final String text;
+
+  /**
+   * Constructs a new {@code DecimalSeconds}.
+   * @param text The decimal text.
+   */
+  private DecimalSeconds(String text)
+  {
+    this.text = text;
+  }
+
+  /**
+   * Creates the decimal form of a number of seconds.
+   * @param seconds The whole seconds, which may be negative.
+   * @param nano The nanosecond adjustment, from 0 to 999,999,999.
+   * @return The decimal form, without trailing fractional zeros.
+   */
+  static DecimalSeconds of(long seconds, int nano)
+  {
+    if (nano == 0)
+    {
+      return new DecimalSeconds(Long.toString(seconds));
+    }
+
+    final StringBuilder builder = new StringBuilder(32);
+    int fraction = nano;
+    if (seconds < 0)
+    {
+      builder.append('-');
+      builder.append(-(seconds + 1));
+      fraction = NANOS_PER_SECOND - nano;
+    }
+    else
+    {
+      builder.append(seconds);
+    }
+
+    int digits = 9;
+    while (fraction % 10 == 0)
+    {
+      fraction /= 10;
+      digits--;
+    }
+
+    builder.append('.');
+    final String fractionText = Integer.toString(fraction);
+    for (int i = fractionText.length(); i < digits; i++)
+    {
+      builder.append('0');
+    }
+
+    return new DecimalSeconds(builder.append(fractionText).toString());
+  }
+
+  /**
+   * Extracts the whole seconds from decimal text, truncating towards zero.
+   * @param text The decimal text.
+   * @return The whole seconds.
+   * @throws NumberFormatException If the text isn't a number.
+   * @throws ArithmeticException If the whole seconds don't fit in a long.
+   */
+  static long seconds(String text)
+  {
+    final int point = simplePoint(text);
+    if (point < 0)
+    {
+      final BigDecimal value = new BigDecimal(text);
+      if (value.abs().compareTo(MAX_SECONDS) >= 0)
+      {
+        throw new ArithmeticException("seconds out of range: " + text);
+      }
+
+      return value.longValue();
+    }
+
+    return point == text.length() ? Long.parseLong(text) : Long.parseLong(text.substring(0, point));
+  }
+
+  /**
+   * Extracts the fractional nanoseconds from decimal text, with the same sign as the text.
+   * @param text The decimal text.
+   * @return The nanoseconds, from -999,999,999 to 999,999,999.
+   * @throws NumberFormatException If the text isn't a number.
+   */
+  static int nanos(String text)
+  {
+    final int point = simplePoint(text);
+    if (point < 0)
+    {
+      final BigDecimal value = new BigDecimal(text);
+      return value.subtract(new BigDecimal(value.toBigInteger())).movePointRight(9).intValue();
+    }
+
+    int nano = 0;
+    for (int i = point + 1; i < text.length(); i++)
+    {
+      nano = nano * 10 + (text.charAt(i) - '0');
+    }
+
+    if (point + 1 < text.length())
+    {
+      nano *= FRACTION_SCALE[text.length() - point - 1];
+    }
+
+    return text.charAt(0) == '-' ? -nano : nano;
+  }
+
+  /**
+   * Finds the decimal point in a plain {@code [-]digits[.digits]} number with at most nine fractional digits.
+   * @param text The decimal text.
+   * @return The position of the decimal point (or the length of the text if there's none), or -1 if the
+   * text isn't in the plain layout.
+   */
+  private static int simplePoint(String text)
+  {
+    final int point = text.indexOf('.');
+    if (point < 0)
+    {
+      return text.indexOf('e') < 0 && text.indexOf('E') < 0 ? text.length() : -1;
+    }
+
+    final int fractionDigits = text.length() - point - 1;
+    if (fractionDigits < 1 || fractionDigits > 9)
+    {
+      return -1;
+    }
+
+    for (int i = point + 1; i < text.length(); i++)
+    {
+      final char c = text.charAt(i);
+      if (c < '0' || c > '9')
+      {
+        return -1;
+      }
+    }
+
+    return point;
+  }
+
+  @Override
+  public int intValue()
+  {
+    return (int) longValue();
+  }
+
+  @Override
+  public long longValue()
+  {
+    return seconds(this.text);
+  }
+
+  @Override
+  public float floatValue()
+  {
+    return Float.parseFloat(this.text);
+  }
+
+  @Override
+  public double doubleValue()
+  {
+    return Double.parseDouble(this.text);
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.text;
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Delta-of-delta coding of {@code long} series, as described by {@link PackedFormat}. <p>
+ *
+ * Differences are taken with wrapping arithmetic, so every series round trips exactly, even one that
+ * spans the whole range of {@code long}.
+ */
+final class DeltaOfDelta
+{
+  /** The most bytes a variable-length {@code long} can take. */
+  private static final int MAX_VARINT_LENGTH = 10;
+
+  /**
+   * Prevents construction.
+   */
+  private DeltaOfDelta()
+  {
+  }
+
+  /**
+   * Writes a series in the given format.
+   * @param out The JSON writer.
+   * @param values The series.
+   * @param length The number of values in the series.
+   * @param format The format to write.
+   * @throws IOException If writing fails.
+   */
+  static void write(JsonWriter out, long[] values, int length, PackedFormat format) throws IOException
+  {
+    if (format == PackedFormat.BASE64)
+    {
+      out.value(encode(values, length));
+      return;
+    }
+
+    out.beginArray();
+    long previous = 0;
+    long delta = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final long nextDelta = values[i] - previous;
+      out.value(nextDelta - delta);
+      previous = values[i];
+      delta = i == 0 ? 0 : nextDelta;
+    }
+
+    out.endArray();
+  }
+
+  /**
+   * Reads a series in either format.
+   * @param in The JSON reader, positioned at a non-null value.
+   * @return The series.
+   * @throws IOException If reading fails.
+   */
+  static long[] read(JsonReader in) throws IOException
+  {
+    if (in.peek() == JsonToken.STRING)
+    {
+      return decode(in.nextString());
+    }
+
+    in.beginArray();
+    return readNumbers(in);
+  }
+
+  /**
+   * Reads the numbers of an array whose opening bracket has already been consumed, up to and including
+   * the closing bracket.
+   * @param in The JSON reader.
+   * @return The series.
+   * @throws IOException If reading fails.
+   */
+  static long[] readNumbers(JsonReader in) throws IOException
+  {
+    long[] values = new long[16];
+    int length = 0;
+    long previous = 0;
+    long delta = 0;
+    while (in.hasNext())
+    {
+      if (length == values.length)
+      {
+        values = Arrays.copyOf(values, length * 2);
+      }
+
+      final long nextDelta = in.nextLong() + delta;
+      previous += nextDelta;
+      values[length] = previous;
+      delta = length == 0 ? 0 : nextDelta;
+      length++;
+    }
+
+    in.endArray();
+    return Arrays.copyOf(values, length);
+  }
+
+  /**
+   * Encodes a series as base64 variable-length integers.
+   * @param values The series.
+   * @param length The number of values in the series.
+   * @return The base64 text.
+   */
+  static String encode(long[] values, int length)
+  {
+    final byte[] bytes = new byte[length * MAX_VARINT_LENGTH];
+    int pos = 0;
+    long previous = 0;
+    long delta = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final long nextDelta = values[i] - previous;
+      pos = putVarint(bytes, pos, nextDelta - delta);
+      previous = values[i];
+      delta = i == 0 ? 0 : nextDelta;
+    }
+
+    return Base64.getEncoder().encodeToString(Arrays.copyOf(bytes, pos));
+  }
+
+  /**
+   * Decodes a series from base64 variable-length integers.
+   * @param text The base64 text.
+   * @return The series.
+   * @throws JsonSyntaxException If the text isn't valid.
+   */
+  static long[] decode(String text)
+  {
+    final byte[] bytes;
+    try
+    {
+      bytes = Base64.getDecoder().decode(text);
+    }
+    catch (IllegalArgumentException e)
+    {
+      throw new JsonSyntaxException("Invalid packed series: " + text, e);
+    }
+
+    // every value takes at least one byte
+    final long[] values = new long[bytes.length];
+    int length = 0;
+    int pos = 0;
+    long previous = 0;
+    long delta = 0;
+    while (pos < bytes.length)
+    {
+      long zigzag = 0;
+      int shift = 0;
+      byte b;
+      do
+      {
+        if (pos == bytes.length || shift == MAX_VARINT_LENGTH * 7)
+        {
+          throw new JsonSyntaxException("Invalid packed series: " + text);
+        }
+
+        b = bytes[pos++];
+        zigzag |= (long) (b & 0x7f) << shift;
+        shift += 7;
+      }
+      while (b < 0);
+
+      final long nextDelta = ((zigzag >>> 1) ^ -(zigzag & 1)) + delta;
+      previous += nextDelta;
+      values[length] = previous;
+      delta = length == 0 ? 0 : nextDelta;
+      length++;
+    }
+
+    return length == values.length ? values : Arrays.copyOf(values, length);
+  }
+
+  /**
+   * Writes a zigzag-encoded variable-length integer.
+   * @param bytes The buffer.
+   * @param pos The position to write at.
+   * @param value The value.
+   * @return The position after the last byte written.
+   */
+  private static int putVarint(byte[] bytes, int pos, long value)
+  {
+    long zigzag = (value << 1) ^ (value >> 63);
+    while ((zigzag & ~0x7fL) != 0)
+    {
+      bytes[pos++] = (byte) (zigzag | 0x80);
+      zigzag >>>= 7;
+    }
+
+    bytes[pos++] = (byte) zigzag;
+    return pos;
+  }
+}
@@ -30,7 +30,11 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.Duration;
 
@@ -39,6 +43,37 @@ import java.time.Duration;
  */
 public class DurationConverter implements JsonSerializer<Duration>, JsonDeserializer<Duration>
 {
+  /** Milliseconds per second. */
+  private static final long MILLIS_PER_SECOND = 1_000L;
+
+  /** Nanoseconds per millisecond. */
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+
+  /** Nanoseconds per second. */
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /** The encoding to write. */
+  private final DurationEncoding encoding;
+
+  /**
+   * Constructs a new {@code DurationConverter} that writes ISO 8601 strings.
+   */
+  public DurationConverter()
+  {
+    this(DurationEncoding.ISO_8601);
+  }
+
+  /**
+   * Constructs a new {@code DurationConverter}.
+   * @param encoding The encoding to write.  ISO 8601 strings are always accepted when reading, and JSON
+   * numbers are read according to this encoding.
+   */
+  public DurationConverter(DurationEncoding encoding)
+  {
+    if (encoding == null) { throw new NullPointerException("encoding cannot be null"); }
+
+    this.encoding = encoding;
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -62,7 +97,15 @@ public class DurationConverter implements JsonSerializer<Duration>, JsonDeserial
       return null;
     }
 
-    return new JsonPrimitive(src.toString());
+    switch (this.encoding)
+    {
+      case ISO_8601:
+        return new JsonPrimitive(Iso8601Formatter.formatDuration(src));
+      case SECONDS:
+        return new JsonPrimitive(DecimalSeconds.of(src.getSeconds(), src.getNano()));
+      default:
+        return new JsonPrimitive(toNumber(src));
+    }
   }
 
   /**
@@ -94,12 +137,108 @@ public class DurationConverter implements JsonSerializer<Duration>, JsonDeserial
       return null;
     }
 
-    final String zoneIdentifier = json.getAsString();
-    if (zoneIdentifier == null || zoneIdentifier.isEmpty())
+    if (this.encoding != DurationEncoding.ISO_8601 && json.isJsonPrimitive() && json.getAsJsonPrimitive().isNumber())
+    {
+      return fromNumber(json.getAsString());
+    }
+
+    final String text = json.getAsString();
+    if (text == null || text.isEmpty())
     {
       return null;
     }
 
-    return Duration.parse(json.getAsString());
+    return Iso8601Parser.parseDuration(text);
+  }
+
+  /**
+   * Writes {@code src} to the given streaming writer.
+   * @param out The JSON writer.
+   * @param src The non-null object to write.
+   * @throws IOException If writing fails.
+   */
+  void write(JsonWriter out, Duration src) throws IOException
+  {
+    switch (this.encoding)
+    {
+      case ISO_8601:
+        out.value(Iso8601Formatter.formatDuration(src));
+        break;
+      case SECONDS:
+        out.value(DecimalSeconds.of(src.getSeconds(), src.getNano()));
+        break;
+      default:
+        out.value(toNumber(src));
+        break;
+    }
+  }
+
+  /**
+   * Reads the next value from the given streaming reader.
+   * @param in The JSON reader, positioned at a non-null value.
+   * @return The converted object, or {@code null} if the value is an empty string.
+   * @throws IOException If reading fails.
+   */
+  Duration read(JsonReader in) throws IOException
+  {
+    if (this.encoding != DurationEncoding.ISO_8601 && in.peek() == JsonToken.NUMBER)
+    {
+      return this.encoding == DurationEncoding.SECONDS ? fromNumber(in.nextString()) : fromNumber(in.nextLong());
+    }
+
+    final String text = in.nextString();
+    if (text.isEmpty())
+    {
+      return null;
+    }
+
+    return Iso8601Parser.parseDuration(text);
+  }
+
+  /**
+   * Converts a duration to a whole number of units, for the integral encodings.
+   * @param src The duration.
+   * @return The number of milliseconds or nanoseconds.
+   * @throws ArithmeticException If the result doesn't fit in a long.
+   */
+  private long toNumber(Duration src)
+  {
+    // Duration.toMillis rounds negative durations differently on Java 8 and Java 9+, so truncate explicitly
+    long seconds = src.getSeconds();
+    long nanos = src.getNano();
+    if (seconds < 0 && nanos > 0)
+    {
+      seconds++;
+      nanos -= NANOS_PER_SECOND;
+    }
+
+    return this.encoding == DurationEncoding.MILLIS
+        ? Math.addExact(Math.multiplyExact(seconds, MILLIS_PER_SECOND), nanos / NANOS_PER_MILLI)
+        : Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), nanos);
+  }
+
+  /**
+   * Converts a whole number of units to a duration, for the integral encodings.
+   * @param value The number of milliseconds or nanoseconds.
+   * @return The duration.
+   */
+  private Duration fromNumber(long value)
+  {
+    return this.encoding == DurationEncoding.MILLIS ? Duration.ofMillis(value) : Duration.ofNanos(value);
+  }
+
+  /**
+   * Converts the text of a JSON number to a duration.
+   * @param text The number, in the units of the configured encoding.
+   * @return The duration.
+   */
+  private Duration fromNumber(String text)
+  {
+    if (this.encoding == DurationEncoding.SECONDS)
+    {
+      return Duration.ofSeconds(DecimalSeconds.seconds(text), DecimalSeconds.nanos(text));
+    }
+
+    return fromNumber(Long.parseLong(text));
   }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+/**
+ * The JSON encodings supported by {@link DurationConverter}.  Whatever the encoding, an ISO 8601 string is
+ * always accepted when reading; JSON numbers are read in the configured unit.
+ */
+public enum DurationEncoding
+{
+  /** An ISO 8601 string, as produced by {@link java.time.Duration#toString()}. */
+  ISO_8601,
+
+  /** A JSON number of milliseconds.  Sub-millisecond precision is truncated towards zero. */
+  MILLIS,
+
+  /** A JSON number of nanoseconds.  Only durations up to about 292 years can be written. */
+  NANOS,
+
+  /** A JSON decimal number of seconds, with up to nine fractional digits. */
+  SECONDS
+}
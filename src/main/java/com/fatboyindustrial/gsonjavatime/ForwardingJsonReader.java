@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+/**
+ * A {@link JsonReader} that forwards every call to another, for subclasses that note what passes through.
+ * Instances are meant to be reused: the reader forwarded to is set before each value and cleared after it.
+ */
+abstract class ForwardingJsonReader extends JsonReader
+{
+  /** The reader underlying this one, which is never read. */
+  private static final Reader UNUSED = new StringReader("");
+
+  /** The reader forwarded to, or null if this one is free. */
+  JsonReader in;
+
+  /**
+   * Constructs a new {@code ForwardingJsonReader}.
+   */
+  ForwardingJsonReader()
+  {
+    super(UNUSED);
+  }
+
+  @Override
+  public JsonToken peek() throws IOException
+  {
+    return this.in.peek();
+  }
+
+  @Override
+  public String nextString() throws IOException
+  {
+    return this.in.nextString();
+  }
+
+  @Override
+  public long nextLong() throws IOException
+  {
+    return this.in.nextLong();
+  }
+
+  @Override
+  public int nextInt() throws IOException
+  {
+    return this.in.nextInt();
+  }
+
+  @Override
+  public double nextDouble() throws IOException
+  {
+    return this.in.nextDouble();
+  }
+
+  @Override
+  public boolean nextBoolean() throws IOException
+  {
+    return this.in.nextBoolean();
+  }
+
+  @Override
+  public void nextNull() throws IOException
+  {
+    this.in.nextNull();
+  }
+
+  @Override
+  public String nextName() throws IOException
+  {
+    return this.in.nextName();
+  }
+
+  @Override
+  public boolean hasNext() throws IOException
+  {
+    return this.in.hasNext();
+  }
+
+  @Override
+  public void beginArray() throws IOException
+  {
+    this.in.beginArray();
+  }
+
+  @Override
+  public void endArray() throws IOException
+  {
+    this.in.endArray();
+  }
+
+  @Override
+  public void beginObject() throws IOException
+  {
+    this.in.beginObject();
+  }
+
+  @Override
+  public void endObject() throws IOException
+  {
+    this.in.endObject();
+  }
+
+  @Override
+  public void skipValue() throws IOException
+  {
+    this.in.skipValue();
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    this.in.close();
+  }
+
+  @Override
+  public String getPath()
+  {
+    return this.in.getPath();
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.in.toString();
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A growable column of instants held as nanoseconds since the epoch in a single {@code long[]}. <p>
+ *
+ * Each element costs eight bytes rather than an {@code Instant} object and a list slot, which matters when
+ * holding millions of timestamps.  Only instants between the years 1677 and 2262 can be held.
+ * {@code Instant} objects are created on demand by {@link #get(int)} and the {@link #asList()} view. <p>
+ *
+ * Use {@link InstantColumnTypeAdapter} to read and write columns without creating {@code Instant} objects.
+ * This class isn't thread safe.
+ */
+public final class InstantColumn
+{
+  /** Nanoseconds per second. */
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /** The capacity of a column created without one. */
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /** The elements, as nanoseconds since the epoch; only the first {@link #size} are in use. */
+  private long[] epochNanos;
+
+  /** The number of elements. */
+  private int size;
+
+  /**
+   * Constructs a new, empty {@code InstantColumn}.
+   */
+  public InstantColumn()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs a new, empty {@code InstantColumn}.
+   * @param initialCapacity The number of elements to allocate space for.
+   * @throws IllegalArgumentException If {@code initialCapacity} is negative.
+   */
+  public InstantColumn(int initialCapacity)
+  {
+    if (initialCapacity < 0) { throw new IllegalArgumentException("initialCapacity cannot be negative"); }
+
+    this.epochNanos = new long[initialCapacity];
+  }
+
+  /**
+   * Returns the number of elements.
+   * @return The number of elements.
+   */
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * Returns whether the column is empty.
+   * @return {@code true} if the column has no elements.
+   */
+  public boolean isEmpty()
+  {
+    return this.size == 0;
+  }
+
+  /**
+   * Appends an instant.
+   * @param instant The instant.
+   * @throws ArithmeticException If the instant is outside the range of the column.
+   */
+  public void add(Instant instant)
+  {
+    if (instant == null) { throw new NullPointerException("instant cannot be null"); }
+
+    addEpochNanos(InstantConverter.toEpochNanos(instant.getEpochSecond(), instant.getNano()));
+  }
+
+  /**
+   * Appends an instant given as nanoseconds since the epoch.
+   * @param epochNanos The number of nanoseconds since the epoch.
+   */
+  public void addEpochNanos(long epochNanos)
+  {
+    if (this.size == this.epochNanos.length)
+    {
+      this.epochNanos = Arrays.copyOf(this.epochNanos, Math.max(DEFAULT_CAPACITY, this.size + (this.size >> 1)));
+    }
+
+    this.epochNanos[this.size++] = epochNanos;
+  }
+
+  /**
+   * Returns an element as an instant.
+   * @param index The index of the element.
+   * @return The instant.
+   * @throws IndexOutOfBoundsException If {@code index} is out of range.
+   */
+  public Instant get(int index)
+  {
+    final long nanos = getEpochNanos(index);
+    return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND));
+  }
+
+  /**
+   * Returns an element as nanoseconds since the epoch.
+   * @param index The index of the element.
+   * @return The number of nanoseconds since the epoch.
+   * @throws IndexOutOfBoundsException If {@code index} is out of range.
+   */
+  public long getEpochNanos(int index)
+  {
+    if (index < 0 || index >= this.size)
+    {
+      throw new IndexOutOfBoundsException("index " + index + " out of range for size " + this.size);
+    }
+
+    return this.epochNanos[index];
+  }
+
+  /**
+   * Removes all the elements, keeping the allocated space.
+   */
+  public void clear()
+  {
+    this.size = 0;
+  }
+
+  /**
+   * Releases any allocated space beyond the current size.
+   */
+  public void trimToSize()
+  {
+    if (this.epochNanos.length > this.size)
+    {
+      this.epochNanos = Arrays.copyOf(this.epochNanos, this.size);
+    }
+  }
+
+  /**
+   * Returns a copy of the elements as nanoseconds since the epoch.
+   * @return The elements.
+   */
+  public long[] toEpochNanosArray()
+  {
+    return Arrays.copyOf(this.epochNanos, this.size);
+  }
+
+  /**
+   * Returns a read-only list view of the column.  The view reflects later changes to the column, and creates
+   * an {@code Instant} for each element as it's accessed.
+   * @return The view.
+   */
+  public List<Instant> asList()
+  {
+    return new ListView();
+  }
+
+  @Override
+  public boolean equals(Object o)
+  {
+    if (this == o)
+    {
+      return true;
+    }
+
+    if (!(o instanceof InstantColumn))
+    {
+      return false;
+    }
+
+    final InstantColumn that = (InstantColumn) o;
+    if (this.size != that.size)
+    {
+      return false;
+    }
+
+    for (int i = 0; i < this.size; i++)
+    {
+      if (this.epochNanos[i] != that.epochNanos[i])
+      {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    int hash = 1;
+    for (int i = 0; i < this.size; i++)
+    {
+      hash = 31 * hash + Long.hashCode(this.epochNanos[i]);
+    }
+
+    return hash;
+  }
+
+  @Override
+  public String toString()
+  {
+    return asList().toString();
+  }
+
+  /**
+   * The read-only list view returned by {@link #asList()}.
+   */
+  private final class ListView extends AbstractList<Instant> implements RandomAccess
+  {
+    @Override
+    public Instant get(int index)
+    {
+      return InstantColumn.this.get(index);
+    }
+
+    @Override
+    public int size()
+    {
+      return InstantColumn.this.size;
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Streaming GSON type adapter for converting {@link InstantColumn} objects. <p>
+ *
+ * A column is a JSON array with one element per instant, written in the configured {@link InstantEncoding},
+ * so it has the same form as a {@code List<Instant>}.  When reading, ISO 8601 strings and (for the numeric
+ * encodings) numbers are converted straight into the column without creating {@code Instant} objects.
+ */
+public class InstantColumnTypeAdapter extends TypeAdapter<InstantColumn>
+{
+  /** Nanoseconds per microsecond. */
+  private static final long NANOS_PER_MICRO = 1_000L;
+
+  /** Nanoseconds per millisecond. */
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+
+  /** Nanoseconds per second. */
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /** The encoding of each element. */
+  private final InstantEncoding encoding;
+
+  /** Converts the elements that can't be written straight from their epoch nanoseconds. */
+  private final InstantConverter converter;
+
+  /**
+   * Constructs a new {@code InstantColumnTypeAdapter} that writes ISO 8601 strings.
+   */
+  public InstantColumnTypeAdapter()
+  {
+    this(InstantEncoding.ISO_8601);
+  }
+
+  /**
+   * Constructs a new {@code InstantColumnTypeAdapter}.
+   * @param encoding The encoding of each element.  ISO 8601 strings are always accepted when reading, and JSON
+   * numbers are read according to this encoding.
+   */
+  public InstantColumnTypeAdapter(InstantEncoding encoding)
+  {
+    if (encoding == null) { throw new NullPointerException("encoding cannot be null"); }
+
+    this.encoding = encoding;
+    this.converter = new InstantConverter(encoding);
+  }
+
+  /**
+   * Writes one JSON value for {@code value}.
+   * @param out The JSON writer.
+   * @param value The Java object to write; may be null.
+   * @throws IOException If writing fails.
+   */
+  @Override
+  public void write(JsonWriter out, InstantColumn value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    out.beginArray();
+    for (int i = 0; i < value.size(); i++)
+    {
+      final long nanos = value.getEpochNanos(i);
+      switch (this.encoding)
+      {
+        case EPOCH_MILLIS:
+          out.value(Math.floorDiv(nanos, NANOS_PER_MILLI));
+          break;
+        case EPOCH_MICROS:
+          out.value(Math.floorDiv(nanos, NANOS_PER_MICRO));
+          break;
+        case EPOCH_NANOS:
+          out.value(nanos);
+          break;
+        default:
+          this.converter.write(out, value.get(i));
+          break;
+      }
+    }
+
+    out.endArray();
+  }
+
+  /**
+   * Reads one JSON value and converts it to an {@code InstantColumn}.
+   * @param in The JSON reader.
+   * @return The converted Java object; may be null.
+   * @throws IOException If reading fails.
+   */
+  @Override
+  public InstantColumn read(JsonReader in) throws IOException
+  {
+    if (in.peek() == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    final InstantColumn column = new InstantColumn();
+    in.beginArray();
+    while (in.hasNext())
+    {
+      final JsonToken token = in.peek();
+      if (token == JsonToken.NULL)
+      {
+        throw new JsonSyntaxException("InstantColumn cannot contain null at " + in.getPath());
+      }
+
+      if (token == JsonToken.NUMBER && this.encoding != InstantEncoding.ISO_8601)
+      {
+        column.addEpochNanos(readNumber(in));
+      }
+      else
+      {
+        column.addEpochNanos(Iso8601Parser.parseInstantEpochNanos(in.nextString()));
+      }
+    }
+
+    in.endArray();
+    return column;
+  }
+
+  /**
+   * Reads a number in the configured encoding as nanoseconds since the epoch.
+   * @param in The JSON reader, positioned at a number.
+   * @return The number of nanoseconds since the epoch.
+   * @throws IOException If reading fails.
+   * @throws ArithmeticException If the instant is outside the range of a column.
+   */
+  private long readNumber(JsonReader in) throws IOException
+  {
+    switch (this.encoding)
+    {
+      case EPOCH_MILLIS:
+        return Math.multiplyExact(in.nextLong(), NANOS_PER_MILLI);
+      case EPOCH_MICROS:
+        return Math.multiplyExact(in.nextLong(), NANOS_PER_MICRO);
+      case EPOCH_NANOS:
+        return in.nextLong();
+      default:
+        final String text = in.nextString();
+        return Math.addExact(Math.multiplyExact(DecimalSeconds.seconds(text), NANOS_PER_SECOND),
+                             DecimalSeconds.nanos(text));
+    }
+  }
+}
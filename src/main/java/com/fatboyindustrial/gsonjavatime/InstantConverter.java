@@ -30,18 +30,239 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * GSON serialiser/deserialiser for converting {@link Instant} objects.
  */
 public class InstantConverter implements JsonSerializer<Instant>, JsonDeserializer<Instant>
 {
-  /** Formatter. */
-  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_INSTANT;
+  /** Microseconds per second. */
+  private static final long MICROS_PER_SECOND = 1_000_000L;
+
+  /** Nanoseconds per second. */
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /** The options this converter was built from, which copies start from. */
+  private final Options options;
+
+  /** The encoding to write. */
+  private final InstantEncoding encoding;
+
+  /** The last value parsed from text, or null if deduplication is off. */
+  private final LastValueCache<Instant> lastValue;
+
+  /** The parser for other timestamp shapes, or null if lenient parsing is off. */
+  private final LenientParser lenient;
+
+  /** What to do with text that can't be parsed. */
+  private final ParseErrorPolicy<Instant> errorPolicy;
+
+  /** The precision to write. */
+  private final TimePrecision precision;
+
+  /** Whether ISO 8601 strings are written with a fixed number of fractional digits. */
+  private final boolean fixedWidth;
+
+  /** The formatter reusing the prefix of the last minute written, or null if prefix caching is off. */
+  private final MinutePrefixFormatter minutePrefix;
+
+  /** The parser reusing the date of the last string read, or null if date prefix caching is off. */
+  private final DatePrefixParser datePrefix;
+
+  /** The parser truncating values read to a unit, or null if truncation on read is off. */
+  private final TruncatingParser truncation;
+
+  /**
+   * Constructs a new {@code InstantConverter} that writes ISO 8601 strings.
+   */
+  public InstantConverter()
+  {
+    this(InstantEncoding.ISO_8601);
+  }
+
+  /**
+   * Constructs a new {@code InstantConverter}.
+   * @param encoding The encoding to write.  ISO 8601 strings are always accepted when reading, and JSON
+   * numbers are read according to this encoding.
+   */
+  public InstantConverter(InstantEncoding encoding)
+  {
+    this(encoding, false);
+  }
+
+  /**
+   * Constructs a new {@code InstantConverter}.
+   * @param encoding The encoding to write.  ISO 8601 strings are always accepted when reading, and JSON
+   * numbers are read according to this encoding.
+   * @param deduplicate Whether to remember the last ISO 8601 string read, so that a run of identical strings
+   * is parsed once and yields the same {@code Instant} instance.
+   */
+  public InstantConverter(InstantEncoding encoding, boolean deduplicate)
+  {
+    this(new Options(encoding, deduplicate));
+  }
+
+  /**
+   * Constructs a new {@code InstantConverter}.
+   * @param options The options, which are owned by the converter from now on.
+   */
+  private InstantConverter(Options options)
+  {
+    if (options.encoding == null) { throw new NullPointerException("encoding cannot be null"); }
+    if (options.errorPolicy == null) { throw new NullPointerException("errorPolicy cannot be null"); }
+    if (options.precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    this.options = options;
+    this.encoding = options.encoding;
+    this.lastValue = options.deduplicate ? new LastValueCache<>() : null;
+    this.lenient = options.lenient ? new LenientParser() : null;
+    this.errorPolicy = options.errorPolicy;
+    this.precision = options.precision;
+    this.fixedWidth = options.fixedWidth;
+    this.minutePrefix = options.cacheMinutePrefix ? new MinutePrefixFormatter() : null;
+    this.datePrefix = options.cacheDatePrefix ? new DatePrefixParser() : null;
+    this.truncation = options.truncation != null ? new TruncatingParser(options.truncation) : null;
+  }
+
+  /**
+   * Returns a copy of this converter that reads any of the {@link TimestampShape}s, such as
+   * {@code 2023-11-14 22:13:20+10} or {@code 1700000000}, as well as ISO 8601 instants.  Each string is
+   * classified once and decoded by the matching parser, so mixed input costs no exceptions, and the
+   * parser learns to probe the most common shape first.  Writing is unaffected.
+   * @return The lenient converter.
+   */
+  public InstantConverter withLenientParsing()
+  {
+    return copy(options -> options.lenient = true);
+  }
+
+  /**
+   * Returns a copy of this converter that handles unparseable strings according to the given policy.  Under
+   * a non-throwing policy strings are validated without exceptions being raised internally.
+   * @param errorPolicy What to do with a string that can't be parsed.
+   * @return The converter.
+   */
+  public InstantConverter withErrorPolicy(ParseErrorPolicy<Instant> errorPolicy)
+  {
+    return copy(options -> options.errorPolicy = errorPolicy);
+  }
+
+  /**
+   * Returns a copy of this converter that truncates instants to the given precision when writing, in every
+   * encoding.  Reading is unaffected.
+   * @param precision The precision to write.
+   * @return The converter.
+   */
+  public InstantConverter withPrecision(TimePrecision precision)
+  {
+    return copy(options -> options.precision = precision);
+  }
+
+  /**
+   * Returns a copy of this converter that writes ISO 8601 strings with exactly as many fractional digits as
+   * its precision has (none at {@link TimePrecision#SECONDS}), rather than the zero, three, six or nine that
+   * {@link java.time.format.DateTimeFormatter#ISO_INSTANT} chooses per value.  Every string then has the
+   * same length and sorts in time order, and strings of that length are read by a fixed-position parser.
+   * @return The converter.
+   */
+  public InstantConverter withFixedWidthFraction()
+  {
+    return copy(options -> options.fixedWidth = true);
+  }
+
+  /**
+   * Returns a copy of this converter that keeps the rendered {@code yyyy-MM-dd'T'HH:mm:} prefix of the last
+   * minute written, so that an instant in the same minute as its predecessor only has its seconds and
+   * fraction rendered.  This suits streams of nearby timestamps, such as event logs; the output is unchanged.
+   * @return The converter.
+   */
+  public InstantConverter withMinutePrefixCache()
+  {
+    return copy(options -> options.cacheMinutePrefix = true);
+  }
+
+  /**
+   * Returns a copy of this converter that keeps the decoded date of the last ISO 8601 string read, so that an
+   * instant on the same date as its predecessor only has its time decoded.  This suits sorted streams of
+   * timestamps, such as replayed event history; the values read are unchanged.
+   * @return The converter.
+   */
+  public InstantConverter withDatePrefixCache()
+  {
+    return copy(options -> options.cacheDatePrefix = true);
+  }
+
+  /**
+   * Returns a copy of this converter that truncates every value read to the given unit, as if by
+   * {@link Instant#truncatedTo(java.time.temporal.TemporalUnit)}.  Canonical ISO 8601 strings have only the
+   * fields the unit keeps decoded, and values in the same bucket, such as the same minute, are read as one
+   * shared instance from a small ring of recent buckets.  This suits rollups that bucket timestamps as they
+   * are ingested.  Writing is unaffected.
+   * @param unit The unit: {@code SECONDS}, {@code MINUTES}, {@code HOURS} or {@code DAYS}.
+   * @return The converter.
+   * @throws IllegalArgumentException If the unit isn't supported.
+   */
+  public InstantConverter withReadTruncation(ChronoUnit unit)
+  {
+    if (unit == null) { throw new NullPointerException("unit cannot be null"); }
+
+    return copy(options -> options.truncation = unit);
+  }
+
+  /**
+   * Returns a new converter built from a copy of this converter's options with one change applied.  Each
+   * converter builds its own caches, so copies never share mutable state.
+   * @param change Applies the change to the copied options.
+   * @return The converter.
+   */
+  private InstantConverter copy(Consumer<Options> change)
+  {
+    final Options options = this.options.copy();
+    change.accept(options);
+    return new InstantConverter(options);
+  }
+
+  /**
+   * Checks which of the given strings this converter can read, without throwing and without consulting the
+   * error policy.
+   * @param texts The strings; null elements are invalid.
+   * @return A bit set with bit {@code i} set if {@code texts[i]} is valid.
+   */
+  public BitSet validate(String... texts)
+  {
+    final BitSet valid = new BitSet(texts.length);
+    for (int i = 0; i < texts.length; i++)
+    {
+      if (texts[i] != null && tryDecode(texts[i]) != null)
+      {
+        valid.set(i);
+      }
+    }
+
+    return valid;
+  }
+
+  /**
+   * Returns the number of strings read in each {@link TimestampShape} since this converter was created.
+   * @return The counts, or an empty map if lenient parsing is off.
+   */
+  public Map<TimestampShape, Long> shapeCounts()
+  {
+    return this.lenient == null ? Collections.emptyMap() : this.lenient.statistics();
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -60,7 +281,15 @@ public class InstantConverter implements JsonSerializer<Instant>, JsonDeserializ
   @Override
   public JsonElement serialize(Instant src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(FORMATTER.format(src));
+    switch (this.encoding)
+    {
+      case ISO_8601:
+        return new JsonPrimitive(format(src));
+      case EPOCH_SECONDS:
+        return new JsonPrimitive(DecimalSeconds.of(src.getEpochSecond(), this.precision.truncate(src.getNano())));
+      default:
+        return new JsonPrimitive(toEpochNumber(truncate(src)));
+    }
   }
 
   /**
@@ -81,6 +310,326 @@ public class InstantConverter implements JsonSerializer<Instant>, JsonDeserializ
   @Override
   public Instant deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException
   {
-    return FORMATTER.parse(json.getAsString(), Instant::from);
+    if (this.encoding != InstantEncoding.ISO_8601 && json.isJsonPrimitive() && json.getAsJsonPrimitive().isNumber())
+    {
+      return parseEpochNumber(json.getAsString());
+    }
+
+    return parse(json.getAsString());
+  }
+
+  /**
+   * Writes {@code src} to the given streaming writer.
+   * @param out The JSON writer.
+   * @param src The non-null object to write.
+   * @throws IOException If writing fails.
+   */
+  void write(JsonWriter out, Instant src) throws IOException
+  {
+    switch (this.encoding)
+    {
+      case ISO_8601:
+        out.value(format(src));
+        break;
+      case EPOCH_SECONDS:
+        out.value(DecimalSeconds.of(src.getEpochSecond(), this.precision.truncate(src.getNano())));
+        break;
+      default:
+        out.value(toEpochNumber(truncate(src)));
+        break;
+    }
+  }
+
+  /**
+   * Reads the next value from the given streaming reader.
+   * @param in The JSON reader, positioned at a non-null value.
+   * @return The converted object.
+   * @throws IOException If reading fails.
+   */
+  Instant read(JsonReader in) throws IOException
+  {
+    if (this.encoding != InstantEncoding.ISO_8601 && in.peek() == JsonToken.NUMBER)
+    {
+      if (this.errorPolicy.isThrowing() && this.encoding != InstantEncoding.EPOCH_SECONDS)
+      {
+        return truncateRead(fromEpochNumber(in.nextLong()));
+      }
+
+      return parseEpochNumber(in.nextString());
+    }
+
+    return parse(in.nextString());
+  }
+
+  /**
+   * Formats an instant as an ISO 8601 string.
+   * @param src The instant.
+   * @return The string.
+   */
+  private String format(Instant src)
+  {
+    return this.minutePrefix != null ? this.minutePrefix.formatInstant(src, this.precision, this.fixedWidth)
+                                     : Iso8601Formatter.formatInstant(src, this.precision, this.fixedWidth);
+  }
+
+  /**
+   * Parses a string, reusing the last result if the string is unchanged.
+   * @param text The string.
+   * @return The instant.
+   */
+  private Instant parse(String text)
+  {
+    if (this.lastValue == null)
+    {
+      return decode(text);
+    }
+
+    final Instant cached = this.lastValue.get(text);
+    return cached != null ? cached : this.lastValue.put(text, decode(text));
+  }
+
+  /**
+   * Decodes a string with the lenient parser if it is on, or as an ISO 8601 instant otherwise.  Strings in
+   * the fixed-width layout being written are decoded directly, as are canonical strings when the date prefix
+   * is cached or values are truncated on read.
+   * @param text The string.
+   * @return The instant.
+   */
+  private Instant decode(String text)
+  {
+    if (this.truncation != null)
+    {
+      final Instant instant = this.truncation.parseInstant(text);
+      if (instant != null)
+      {
+        return instant;
+      }
+    }
+
+    if (this.fixedWidth)
+    {
+      final Instant instant = Iso8601Parser.fixedWidthInstant(text, this.precision.fractionDigits());
+      if (instant != null)
+      {
+        return truncateRead(instant);
+      }
+    }
+
+    if (this.datePrefix != null)
+    {
+      final Instant instant = this.datePrefix.parseInstant(text);
+      if (instant != null)
+      {
+        return truncateRead(instant);
+      }
+    }
+
+    if (this.errorPolicy.isThrowing())
+    {
+      return truncateRead(this.lenient != null ? this.lenient.parseInstant(text) : Iso8601Parser.parseInstant(text));
+    }
+
+    final Instant instant = tryDecode(text);
+    return instant != null ? truncateRead(instant) : this.errorPolicy.onError(text);
+  }
+
+  /**
+   * Truncates a value read to the unit configured by {@link #withReadTruncation(ChronoUnit)}.
+   * @param instant The instant.
+   * @return The truncated instant, or {@code instant} itself if truncation on read is off.
+   */
+  private Instant truncateRead(Instant instant)
+  {
+    return this.truncation != null ? this.truncation.truncate(instant) : instant;
+  }
+
+  /**
+   * Decodes a string without throwing.
+   * @param text The string.
+   * @return The instant, or null if the string isn't valid.
+   */
+  private Instant tryDecode(String text)
+  {
+    return this.lenient != null ? this.lenient.tryParseInstant(text) : Iso8601Parser.tryParseInstant(text);
+  }
+
+  /**
+   * Truncates an instant to the precision to write.
+   * @param src The instant.
+   * @return The truncated instant, which is {@code src} itself at nanosecond precision.
+   */
+  private Instant truncate(Instant src)
+  {
+    return this.precision == TimePrecision.NANOS ? src : src.truncatedTo(this.precision.unit());
+  }
+
+  /**
+   * Converts an instant to a whole number of epoch units, for the integral encodings.
+   * @param src The instant.
+   * @return The number of milliseconds, microseconds or nanoseconds since the epoch.
+   * @throws ArithmeticException If the result doesn't fit in a long.
+   */
+  long toEpochNumber(Instant src)
+  {
+    switch (this.encoding)
+    {
+      case EPOCH_MILLIS:
+        return src.toEpochMilli();
+      case EPOCH_MICROS:
+        return toEpochUnits(src.getEpochSecond(), src.getNano(), MICROS_PER_SECOND);
+      default:
+        return toEpochNanos(src.getEpochSecond(), src.getNano());
+    }
+  }
+
+  /**
+   * Converts an epoch second and nanosecond adjustment to a whole number of nanoseconds since the epoch.
+   * @param epochSecond The seconds since the epoch.
+   * @param nano The nanosecond adjustment, from 0 to 999,999,999.
+   * @return The number of nanoseconds since the epoch.
+   * @throws ArithmeticException If the result doesn't fit in a long.
+   */
+  static long toEpochNanos(long epochSecond, long nano)
+  {
+    return toEpochUnits(epochSecond, nano, NANOS_PER_SECOND);
+  }
+
+  /**
+   * Converts an epoch second and nanosecond adjustment to a whole number of units since the epoch, rounding
+   * towards negative infinity.
+   * @param epochSecond The seconds since the epoch.
+   * @param nano The nanosecond adjustment, from 0 to 999,999,999.
+   * @param unitsPerSecond The number of units in a second, which must divide a billion.
+   * @return The number of units since the epoch.
+   * @throws ArithmeticException If the result doesn't fit in a long.
+   */
+  private static long toEpochUnits(long epochSecond, long nano, long unitsPerSecond)
+  {
+    final long nanosPerUnit = NANOS_PER_SECOND / unitsPerSecond;
+    if (epochSecond < 0 && nano > 0)
+    {
+      // step the seconds towards zero first, so values just above Long.MIN_VALUE units don't overflow
+      return Math.addExact(Math.multiplyExact(epochSecond + 1, unitsPerSecond),
+                           Math.floorDiv(nano - NANOS_PER_SECOND, nanosPerUnit));
+    }
+
+    return Math.addExact(Math.multiplyExact(epochSecond, unitsPerSecond), nano / nanosPerUnit);
+  }
+
+  /**
+   * Converts a whole number of epoch units to an instant, for the integral encodings.
+   * @param value The number of milliseconds, microseconds or nanoseconds since the epoch.
+   * @return The instant.
+   */
+  Instant fromEpochNumber(long value)
+  {
+    switch (this.encoding)
+    {
+      case EPOCH_MILLIS:
+        return Instant.ofEpochMilli(value);
+      case EPOCH_MICROS:
+        return Instant.ofEpochSecond(Math.floorDiv(value, MICROS_PER_SECOND), Math.floorMod(value, MICROS_PER_SECOND) * 1000);
+      default:
+        return Instant.ofEpochSecond(Math.floorDiv(value, NANOS_PER_SECOND), Math.floorMod(value, NANOS_PER_SECOND));
+    }
+  }
+
+  /**
+   * Converts the text of a JSON number to an instant according to the error policy.  A number outside the
+   * range of {@code Instant}, or not a whole number in an integral encoding, is unparseable.
+   * @param text The number, in the units of the configured encoding.
+   * @return The instant.
+   */
+  private Instant parseEpochNumber(String text)
+  {
+    if (this.errorPolicy.isThrowing())
+    {
+      return truncateRead(fromEpochNumber(text));
+    }
+
+    try
+    {
+      return truncateRead(fromEpochNumber(text));
+    }
+    catch (DateTimeException | ArithmeticException | NumberFormatException e)
+    {
+      return this.errorPolicy.onError(text);
+    }
+  }
+
+  /**
+   * Converts the text of a JSON number to an instant.
+   * @param text The number, in the units of the configured encoding.
+   * @return The instant.
+   */
+  private Instant fromEpochNumber(String text)
+  {
+    if (this.encoding == InstantEncoding.EPOCH_SECONDS)
+    {
+      return Instant.ofEpochSecond(DecimalSeconds.seconds(text), DecimalSeconds.nanos(text));
+    }
+
+    return fromEpochNumber(Long.parseLong(text));
+  }
+
+  /**
+   * The options a converter is built from.  An instance is only changed while a copy is being configured,
+   * before the converter built from it exists.
+   */
+  private static final class Options implements Cloneable
+  {
+    /** The encoding to write. */
+    private InstantEncoding encoding;
+
+    /** Whether to remember the last string read. */
+    private boolean deduplicate;
+
+    /** Whether to accept every {@link TimestampShape}. */
+    private boolean lenient;
+
+    /** What to do with text that can't be parsed. */
+    private ParseErrorPolicy<Instant> errorPolicy = ParseErrorPolicy.throwing();
+
+    /** The precision to write. */
+    private TimePrecision precision = TimePrecision.NANOS;
+
+    /** Whether to write a fixed number of fractional digits. */
+    private boolean fixedWidth;
+
+    /** Whether to reuse the rendered prefix of the last minute written. */
+    private boolean cacheMinutePrefix;
+
+    /** Whether to reuse the decoded date of the last string read. */
+    private boolean cacheDatePrefix;
+
+    /** The unit to truncate values read to, or null to keep them exact. */
+    private ChronoUnit truncation;
+
+    /**
+     * Constructs the default options.
+     * @param encoding The encoding to write.
+     * @param deduplicate Whether to remember the last string read.
+     */
+    private Options(InstantEncoding encoding, boolean deduplicate)
+    {
+      this.encoding = encoding;
+      this.deduplicate = deduplicate;
+    }
+
+    /**
+     * Copies these options.
+     * @return The copy.
+     */
+    private Options copy()
+    {
+      try
+      {
+        return (Options) super.clone();
+      }
+      catch (CloneNotSupportedException e)
+      {
+        throw new AssertionError(e);
+      }
+    }
   }
 }
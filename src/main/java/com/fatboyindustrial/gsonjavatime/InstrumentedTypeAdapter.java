@@ -0,0 +1,368 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A type adapter that records {@link ConverterMetrics} around a streaming adapter. <p>
+ *
+ * The streaming adapter does the conversion exactly as it would uninstrumented, so the JSON, the code path
+ * and its {@code ConversionEvents} are unchanged; this adapter only times it and counts its failures.  To
+ * record the length and shape of each value without reading it twice, the streaming adapter is handed a
+ * {@link JsonReader} or {@link JsonWriter} that forwards every call to the real one and notes the string or
+ * number that passes through.  One forwarding reader and writer is kept per thread, so nothing is
+ * allocated per value.
+ * @param <T> The converted type.
+ */
+final class InstrumentedTypeAdapter<T> extends TypeAdapter<T>
+{
+  /** The forwarding reader for each thread. */
+  private static final ThreadLocal<RecordingReader> READERS = ThreadLocal.withInitial(RecordingReader::new);
+
+  /** The forwarding writer for each thread. */
+  private static final ThreadLocal<RecordingWriter> WRITERS = ThreadLocal.withInitial(RecordingWriter::new);
+
+  /** The streaming adapter. */
+  private final TypeAdapter<T> delegate;
+
+  /** The counters for reads. */
+  private final ConverterMetrics.Operation reads;
+
+  /** The counters for writes. */
+  private final ConverterMetrics.Operation writes;
+
+  /** The shape counts for reads, indexed by shape ordinal. */
+  private final LongAdder[] shapes;
+
+  /**
+   * Constructs a new {@code InstrumentedTypeAdapter}.
+   * @param type The converted type.
+   * @param delegate The streaming adapter.
+   * @param metrics The metrics to record.
+   */
+  InstrumentedTypeAdapter(Class<T> type, TypeAdapter<T> delegate, ConverterMetrics metrics)
+  {
+    this.delegate = delegate;
+    this.reads = metrics.operation(type.getSimpleName(), "read");
+    this.writes = metrics.operation(type.getSimpleName(), "write");
+    this.shapes = metrics.shapes(type.getSimpleName());
+  }
+
+  /**
+   * Writes one JSON value for {@code value}.
+   * @param out The JSON writer.
+   * @param value The Java object to write; may be null.
+   * @throws IOException If writing fails.
+   */
+  @Override
+  public void write(JsonWriter out, T value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    final RecordingWriter recorder = WRITERS.get();
+    final RecordingWriter writer = recorder.out == null ? recorder : new RecordingWriter();
+    final long start = System.nanoTime();
+    try
+    {
+      this.delegate.write(writer.wrap(out), value);
+      this.writes.succeeded(writer.length, System.nanoTime() - start);
+    }
+    catch (IOException | RuntimeException e)
+    {
+      this.writes.failed(System.nanoTime() - start);
+      throw e;
+    }
+    finally
+    {
+      writer.out = null;
+    }
+  }
+
+  /**
+   * Reads one JSON value and converts it.
+   * @param in The JSON reader.
+   * @return The converted Java object; may be null.
+   * @throws IOException If reading fails.
+   */
+  @Override
+  public T read(JsonReader in) throws IOException
+  {
+    if (in.peek() == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    final RecordingReader recorder = READERS.get();
+    final RecordingReader reader = recorder.in == null ? recorder : new RecordingReader();
+    final long start = System.nanoTime();
+    try
+    {
+      final T value = this.delegate.read(reader.wrap(in));
+      this.reads.succeeded(reader.length, System.nanoTime() - start);
+
+      return value;
+    }
+    catch (IOException | RuntimeException e)
+    {
+      this.reads.failed(System.nanoTime() - start);
+      throw e;
+    }
+    finally
+    {
+      if (reader.shape != null)
+      {
+        this.shapes[reader.shape.ordinal()].increment();
+      }
+
+      reader.in = null;
+    }
+  }
+
+  /**
+   * Returns the number of characters in the decimal form of a long.
+   * @param value The value.
+   * @return The number of characters, including any sign.
+   */
+  private static int length(long value)
+  {
+    int length = value < 0 ? 2 : 1;
+    for (long rest = value / 10; rest != 0; rest /= 10)
+    {
+      length++;
+    }
+
+    return length;
+  }
+
+  /**
+   * A reader that forwards to another and notes the length and shape of the string or number read.
+   */
+  private static final class RecordingReader extends ForwardingJsonReader
+  {
+    /** The length of the value read. */
+    private int length;
+
+    /** The shape of the value read, or null if no string or number has been read. */
+    private TimestampShape shape;
+
+    /**
+     * Starts forwarding to a reader.
+     * @param in The reader.
+     * @return This reader.
+     */
+    private RecordingReader wrap(JsonReader in)
+    {
+      this.in = in;
+      this.length = 0;
+      this.shape = null;
+      return this;
+    }
+
+    @Override
+    public String nextString() throws IOException
+    {
+      final String text = this.in.nextString();
+      this.length = text.length();
+      this.shape = LenientParser.shapeOf(text);
+      return text;
+    }
+
+    @Override
+    public long nextLong() throws IOException
+    {
+      final long value = this.in.nextLong();
+      this.length = length(value);
+      this.shape = TimestampShape.EPOCH_NUMBER;
+      return value;
+    }
+
+    @Override
+    public int nextInt() throws IOException
+    {
+      final int value = this.in.nextInt();
+      this.length = length(value);
+      this.shape = TimestampShape.EPOCH_NUMBER;
+      return value;
+    }
+  }
+
+  /**
+   * A writer that forwards to another and notes the length of the string or number written.
+   */
+  private static final class RecordingWriter extends JsonWriter
+  {
+    /** The writer forwarded to, or null if this one is free. */
+    private JsonWriter out;
+
+    /** The length of the value written. */
+    private int length;
+
+    /**
+     * Constructs a new {@code RecordingWriter}.
+     */
+    private RecordingWriter()
+    {
+      super(new StringWriter(0));
+    }
+
+    /**
+     * Starts forwarding to a writer.
+     * @param out The writer.
+     * @return This writer.
+     */
+    private RecordingWriter wrap(JsonWriter out)
+    {
+      this.out = out;
+      this.length = 0;
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException
+    {
+      this.out.value(value);
+      this.length = value != null ? value.length() : 0;
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException
+    {
+      this.out.value(value);
+      this.length = length(value);
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException
+    {
+      this.out.value(value);
+      this.length = value != null ? value.toString().length() : 0;
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException
+    {
+      this.out.value(value);
+      this.length = Double.toString(value).length();
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException
+    {
+      this.out.value(value);
+      return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException
+    {
+      this.out.value(value);
+      return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException
+    {
+      this.out.jsonValue(value);
+      this.length = value != null ? value.length() : 0;
+      return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException
+    {
+      this.out.nullValue();
+      return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException
+    {
+      this.out.name(name);
+      return this;
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException
+    {
+      this.out.beginArray();
+      return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException
+    {
+      this.out.endArray();
+      return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException
+    {
+      this.out.beginObject();
+      return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException
+    {
+      this.out.endObject();
+      return this;
+    }
+
+    @Override
+    public boolean isLenient()
+    {
+      return this.out.isLenient();
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+      this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+      this.out.close();
+    }
+  }
+}
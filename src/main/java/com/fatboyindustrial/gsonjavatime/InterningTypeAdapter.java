@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A type adapter that replaces each value read with its canonical instance from a {@link TemporalInterner}.
+ * Writing is delegated unchanged.
+ * @param <T> The converted type.
+ */
+final class InterningTypeAdapter<T> extends TypeAdapter<T>
+{
+  /** The adapter that performs the conversion. */
+  private final TypeAdapter<T> delegate;
+
+  /** The interner. */
+  private final TemporalInterner interner;
+
+  /**
+   * Constructs a new {@code InterningTypeAdapter}.
+   * @param delegate The adapter that performs the conversion.
+   * @param interner The interner.
+   */
+  InterningTypeAdapter(TypeAdapter<T> delegate, TemporalInterner interner)
+  {
+    this.delegate = delegate;
+    this.interner = interner;
+  }
+
+  /**
+   * Writes one JSON value for {@code value}.
+   * @param out The JSON writer.
+   * @param value The Java object to write; may be null.
+   * @throws IOException If writing fails.
+   */
+  @Override
+  public void write(JsonWriter out, T value) throws IOException
+  {
+    this.delegate.write(out, value);
+  }
+
+  /**
+   * Reads one JSON value and returns its canonical instance.
+   * @param in The JSON reader.
+   * @return The converted Java object; may be null.
+   * @throws IOException If reading fails.
+   */
+  @Override
+  public T read(JsonReader in) throws IOException
+  {
+    return this.interner.intern(this.delegate.read(in));
+  }
+}
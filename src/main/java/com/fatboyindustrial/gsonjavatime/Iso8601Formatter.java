@@ -0,0 +1,740 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+
+/**
+ * Direct formatter for the ISO 8601 layouts produced by the {@code DateTimeFormatter.ISO_*} constants and by
+ * {@link Duration#toString()}. <p>
+ *
+ * Digits are copied from two-digit lookup tables into a char buffer, which is then turned into a single
+ * string.  Each call uses its own buffer, sized to the longest possible output: the buffer never escapes
+ * the call, so no state is shared between threads (virtual or otherwise) and there is no per-thread cache
+ * to grow.  Years outside {@code 0000} to {@code 9999}, which need a sign, are handed to the equivalent
+ * {@link DateTimeFormatter}. <p>
+ *
+ * Fractions of a second can also be truncated to a {@link TimePrecision} and written with a fixed number of
+ * digits, so that every value has the same length and the strings sort in time order.
+ */
+final class Iso8601Formatter
+{
+  /** Maximum length of {@code yyyy-MM-dd}. */
+  static final int MAX_DATE_LENGTH = 10;
+
+  /** Maximum length of {@code HH:mm:ss.fffffffff}. */
+  static final int MAX_TIME_LENGTH = 18;
+
+  /** Maximum length of {@code +HH:MM:SS}. */
+  static final int MAX_OFFSET_LENGTH = 9;
+
+  /** Maximum length of a date-time with an offset. */
+  static final int MAX_OFFSET_DATE_TIME_LENGTH = MAX_DATE_LENGTH + 1 + MAX_TIME_LENGTH + MAX_OFFSET_LENGTH;
+
+  /** The tens digit of each number from 0 to 99. */
+  private static final char[] DIGIT_TENS = new char[100];
+
+  /** The ones digit of each number from 0 to 99. */
+  private static final char[] DIGIT_ONES = new char[100];
+
+  /** Seconds per day. */
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  /** Epoch second of 0000-01-01T00:00:00Z. */
+  private static final long MIN_FOUR_DIGIT_EPOCH_SECOND = -62_167_219_200L;
+
+  /** Epoch second of 9999-12-31T23:59:59Z. */
+  private static final long MAX_FOUR_DIGIT_EPOCH_SECOND = 253_402_300_799L;
+
+  /** The number of days from year zero to 1970-01-01. */
+  private static final long DAYS_0000_TO_1970 = 719_528L;
+
+  /** The number of days in a 400 year cycle. */
+  private static final int DAYS_PER_CYCLE = 146_097;
+
+  /** Instant formatters with a fixed number of fractional digits, indexed by {@link TimePrecision#ordinal()}. */
+  private static final DateTimeFormatter[] FIXED_WIDTH_INSTANT = new DateTimeFormatter[TimePrecision.values().length];
+
+  static
+  {
+    for (int i = 0; i < 100; i++)
+    {
+      DIGIT_TENS[i] = (char) ('0' + i / 10);
+      DIGIT_ONES[i] = (char) ('0' + i % 10);
+    }
+
+    for (TimePrecision precision : TimePrecision.values())
+    {
+      FIXED_WIDTH_INSTANT[precision.ordinal()] =
+          new DateTimeFormatterBuilder().appendInstant(precision.fractionDigits()).toFormatter();
+    }
+  }
+
+  /**
+   * Not instantiable.
+   */
+  private Iso8601Formatter()
+  {
+  }
+
+  /**
+   * Formats a date in the {@link DateTimeFormatter#ISO_LOCAL_DATE} layout.
+   * @param value The date to format.
+   * @return The formatted text.
+   */
+  static String formatLocalDate(LocalDate value)
+  {
+    if (!isFourDigitYear(value.getYear()))
+    {
+      return DateTimeFormatter.ISO_LOCAL_DATE.format(value);
+    }
+
+    final char[] buf = new char[MAX_DATE_LENGTH];
+    appendDate(buf, 0, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+    return new String(buf);
+  }
+
+  /**
+   * Formats a time in the {@link DateTimeFormatter#ISO_LOCAL_TIME} layout.
+   * @param value The time to format.
+   * @return The formatted text.
+   */
+  static String formatLocalTime(LocalTime value)
+  {
+    return formatLocalTime(value, TimePrecision.NANOS, false);
+  }
+
+  /**
+   * Formats a time in the {@link DateTimeFormatter#ISO_LOCAL_TIME} layout, truncated to the given precision.
+   * @param value The time to format.
+   * @param precision The precision of the fraction.
+   * @param fixedWidth Whether to write exactly {@link TimePrecision#fractionDigits()} fractional digits,
+   * rather than dropping trailing zeros.
+   * @return The formatted text.
+   */
+  static String formatLocalTime(LocalTime value, TimePrecision precision, boolean fixedWidth)
+  {
+    final char[] buf = new char[MAX_TIME_LENGTH];
+    final int end = appendTime(buf, 0, value, precision, fixedWidth);
+    return new String(buf, 0, end);
+  }
+
+  /**
+   * Formats a date-time in the {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} layout.
+   * @param value The date-time to format.
+   * @return The formatted text.
+   */
+  static String formatLocalDateTime(LocalDateTime value)
+  {
+    return formatLocalDateTime(value, TimePrecision.NANOS, false);
+  }
+
+  /**
+   * Formats a date-time in the {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} layout, truncated to the given
+   * precision.
+   * @param value The date-time to format.
+   * @param precision The precision of the fraction.
+   * @param fixedWidth Whether to write exactly {@link TimePrecision#fractionDigits()} fractional digits.
+   * @return The formatted text.
+   */
+  static String formatLocalDateTime(LocalDateTime value, TimePrecision precision, boolean fixedWidth)
+  {
+    if (!isFourDigitYear(value.getYear()))
+    {
+      return DateTimeFormatter.ISO_LOCAL_DATE.format(value) + 'T'
+             + formatLocalTime(value.toLocalTime(), precision, fixedWidth);
+    }
+
+    final char[] buf = new char[MAX_DATE_LENGTH + 1 + MAX_TIME_LENGTH];
+    final int end = appendDateTime(buf, 0, value, precision, fixedWidth);
+    return new String(buf, 0, end);
+  }
+
+  /**
+   * Formats a time in the {@link DateTimeFormatter#ISO_OFFSET_TIME} layout.
+   * @param value The time to format.
+   * @return The formatted text.
+   */
+  static String formatOffsetTime(OffsetTime value)
+  {
+    final char[] buf = new char[MAX_TIME_LENGTH + MAX_OFFSET_LENGTH];
+    int end = appendTime(buf, 0, value.toLocalTime());
+    end = appendOffset(buf, end, value.getOffset());
+    return new String(buf, 0, end);
+  }
+
+  /**
+   * Formats a date-time in the {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} layout.
+   * @param value The date-time to format.
+   * @return The formatted text.
+   */
+  static String formatOffsetDateTime(OffsetDateTime value)
+  {
+    return formatOffsetDateTime(value, TimePrecision.NANOS, false);
+  }
+
+  /**
+   * Formats a date-time in the {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} layout, truncated to the given
+   * precision.
+   * @param value The date-time to format.
+   * @param precision The precision of the fraction.
+   * @param fixedWidth Whether to write exactly {@link TimePrecision#fractionDigits()} fractional digits.
+   * @return The formatted text.
+   */
+  static String formatOffsetDateTime(OffsetDateTime value, TimePrecision precision, boolean fixedWidth)
+  {
+    if (!isFourDigitYear(value.getYear()))
+    {
+      return formatLocalDateTime(value.toLocalDateTime(), precision, fixedWidth) + value.getOffset().getId();
+    }
+
+    final char[] buf = new char[MAX_OFFSET_DATE_TIME_LENGTH];
+    int end = appendDateTime(buf, 0, value.toLocalDateTime(), precision, fixedWidth);
+    end = appendOffset(buf, end, value.getOffset());
+    return new String(buf, 0, end);
+  }
+
+  /**
+   * Formats a date-time in the {@link DateTimeFormatter#ISO_DATE_TIME} layout: the offset, followed by the
+   * zone in square brackets unless the zone is itself an offset.
+   * @param value The date-time to format.
+   * @return The formatted text.
+   */
+  static String formatZonedDateTime(ZonedDateTime value)
+  {
+    if (!isFourDigitYear(value.getYear()))
+    {
+      return DateTimeFormatter.ISO_DATE_TIME.format(value);
+    }
+
+    final ZoneId zone = value.getZone();
+    final String region = zone instanceof ZoneOffset ? null : zone.getId();
+    final char[] buf = new char[MAX_OFFSET_DATE_TIME_LENGTH + (region == null ? 0 : region.length() + 2)];
+    int end = appendDateTime(buf, 0, value.toLocalDateTime());
+    end = appendOffset(buf, end, value.getOffset());
+
+    if (region != null)
+    {
+      buf[end++] = '[';
+      region.getChars(0, region.length(), buf, end);
+      end += region.length();
+      buf[end++] = ']';
+    }
+
+    return new String(buf, 0, end);
+  }
+
+  /**
+   * Formats an instant in the {@link DateTimeFormatter#ISO_INSTANT} layout.  Seconds are always present,
+   * and any fraction is written in groups of three digits.
+   * @param value The instant to format.
+   * @return The formatted text.
+   */
+  static String formatInstant(Instant value)
+  {
+    return formatInstant(value, TimePrecision.NANOS, false);
+  }
+
+  /**
+   * Formats an instant in the {@link DateTimeFormatter#ISO_INSTANT} layout, truncated to the given precision.
+   * @param value The instant to format.
+   * @param precision The precision of the fraction.
+   * @param fixedWidth Whether to write exactly {@link TimePrecision#fractionDigits()} fractional digits,
+   * rather than as few groups of three as the value needs.
+   * @return The formatted text.
+   */
+  static String formatInstant(Instant value, TimePrecision precision, boolean fixedWidth)
+  {
+    final long epochSecond = value.getEpochSecond();
+    if (!isFourDigitEpochSecond(epochSecond))
+    {
+      final DateTimeFormatter formatter = fixedWidth ? FIXED_WIDTH_INSTANT[precision.ordinal()]
+                                                     : DateTimeFormatter.ISO_INSTANT;
+      return formatter.format(value.truncatedTo(precision.unit()));
+    }
+
+    final char[] buf = new char[MAX_DATE_LENGTH + 1 + MAX_TIME_LENGTH + 1];
+    int end = appendEpochDate(buf, 0, Math.floorDiv(epochSecond, (long) SECONDS_PER_DAY));
+    buf[end++] = 'T';
+
+    final int secondOfDay = (int) Math.floorMod(epochSecond, (long) SECONDS_PER_DAY);
+    end = appendHourMinuteSecond(buf, end, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+
+    end = appendInstantFraction(buf, end, value.getNano(), precision, fixedWidth);
+    buf[end++] = 'Z';
+    return new String(buf, 0, end);
+  }
+
+  /**
+   * Formats a duration in the ISO 8601 {@code PTnHnMn.nS} layout, exactly as {@link Duration#toString()} does.
+   * Negative durations are handed to {@link Duration#toString()}.
+   * @param value The duration to format.
+   * @return The formatted text.
+   */
+  static String formatDuration(Duration value)
+  {
+    final long seconds = value.getSeconds();
+    final int nano = value.getNano();
+    if (seconds < 0)
+    {
+      return value.toString();
+    }
+
+    if (seconds == 0 && nano == 0)
+    {
+      return "PT0S";
+    }
+
+    final long hours = seconds / 3600;
+    final int minutes = (int) (seconds % 3600 / 60);
+    final int secs = (int) (seconds % 60);
+
+    int length = 2;
+    if (hours != 0)
+    {
+      length += digitCount(hours) + 1;
+    }
+
+    if (minutes != 0)
+    {
+      length += minutes < 10 ? 2 : 3;
+    }
+
+    if (secs != 0 || nano != 0)
+    {
+      length += (secs < 10 ? 2 : 3) + (nano == 0 ? 0 : 1 + fractionDigitCount(nano));
+    }
+
+    final char[] buf = new char[length];
+    buf[0] = 'P';
+    buf[1] = 'T';
+    int end = 2;
+
+    if (hours != 0)
+    {
+      end = appendDigits(buf, end, hours);
+      buf[end++] = 'H';
+    }
+
+    if (minutes != 0)
+    {
+      end = appendDigits(buf, end, minutes);
+      buf[end++] = 'M';
+    }
+
+    if (secs != 0 || nano != 0)
+    {
+      end = appendDigits(buf, end, secs);
+      if (nano > 0)
+      {
+        buf[end++] = '.';
+        end = appendFraction(buf, end, nano);
+      }
+
+      buf[end] = 'S';
+    }
+
+    return new String(buf);
+  }
+
+  /**
+   * Checks if a year is printed as exactly four digits, without a sign.
+   * @param year The year.
+   * @return True if the year is between 0 and 9999.
+   */
+  static boolean isFourDigitYear(int year)
+  {
+    return year >= 0 && year <= 9999;
+  }
+
+  /**
+   * Checks if an instant's UTC year is printed as exactly four digits, without a sign.
+   * @param epochSecond The seconds since the epoch.
+   * @return True if the instant falls in a year between 0 and 9999.
+   */
+  static boolean isFourDigitEpochSecond(long epochSecond)
+  {
+    return epochSecond >= MIN_FOUR_DIGIT_EPOCH_SECOND && epochSecond <= MAX_FOUR_DIGIT_EPOCH_SECOND;
+  }
+
+  /**
+   * Appends a {@code yyyy-MM-dd'T'HH:mm:ss[.f]} date-time.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param value The date-time, whose year must have four digits.
+   * @return The position after the last character written.
+   */
+  static int appendDateTime(char[] buf, int pos, LocalDateTime value)
+  {
+    return appendDateTime(buf, pos, value, TimePrecision.NANOS, false);
+  }
+
+  /**
+   * Appends a {@code yyyy-MM-dd'T'HH:mm:ss[.f]} date-time, truncated to the given precision.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param value The date-time, whose year must have four digits.
+   * @param precision The precision of the fraction.
+   * @param fixedWidth Whether to write exactly {@link TimePrecision#fractionDigits()} fractional digits.
+   * @return The position after the last character written.
+   */
+  static int appendDateTime(char[] buf, int pos, LocalDateTime value, TimePrecision precision, boolean fixedWidth)
+  {
+    pos = appendDate(buf, pos, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+    buf[pos++] = 'T';
+    return appendTime(buf, pos, value.toLocalTime(), precision, fixedWidth);
+  }
+
+  /**
+   * Appends the date for an epoch day.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param epochDay The epoch day, whose year must have four digits.
+   * @return The position after the last character written.
+   */
+  static int appendEpochDate(char[] buf, int pos, long epochDay)
+  {
+    long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+    long adjust = 0;
+    if (zeroDay < 0)
+    {
+      final long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+      adjust = adjustCycles * 400;
+      zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+    }
+
+    long yearEstimate = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+    long dayOfYearEstimate = zeroDay - (365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 + yearEstimate / 400);
+    if (dayOfYearEstimate < 0)
+    {
+      yearEstimate--;
+      dayOfYearEstimate = zeroDay - (365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 + yearEstimate / 400);
+    }
+
+    final int marchDayOfYear = (int) dayOfYearEstimate;
+    final int marchMonth = (marchDayOfYear * 5 + 2) / 153;
+    final int month = (marchMonth + 2) % 12 + 1;
+    final int day = marchDayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+    final int year = (int) (yearEstimate + adjust + marchMonth / 10);
+
+    return appendDate(buf, pos, year, month, day);
+  }
+
+  /**
+   * Appends a {@code yyyy-MM-dd} date.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param year The year, from 0 to 9999.
+   * @param month The month.
+   * @param day The day of month.
+   * @return The position after the last character written.
+   */
+  static int appendDate(char[] buf, int pos, int year, int month, int day)
+  {
+    pos = append2(buf, pos, year / 100);
+    pos = append2(buf, pos, year % 100);
+    buf[pos++] = '-';
+    pos = append2(buf, pos, month);
+    buf[pos++] = '-';
+    return append2(buf, pos, day);
+  }
+
+  /**
+   * Appends a time as {@link DateTimeFormatter#ISO_LOCAL_TIME} would: seconds are always present, and any
+   * fraction is written without trailing zeros.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param value The time.
+   * @return The position after the last character written.
+   */
+  static int appendTime(char[] buf, int pos, LocalTime value)
+  {
+    return appendTime(buf, pos, value, TimePrecision.NANOS, false);
+  }
+
+  /**
+   * Appends a time truncated to the given precision.  Unless the width is fixed, the fraction is written
+   * without trailing zeros, as {@link DateTimeFormatter#ISO_LOCAL_TIME} would.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param value The time.
+   * @param precision The precision of the fraction.
+   * @param fixedWidth Whether to write exactly {@link TimePrecision#fractionDigits()} fractional digits.
+   * @return The position after the last character written.
+   */
+  static int appendTime(char[] buf, int pos, LocalTime value, TimePrecision precision, boolean fixedWidth)
+  {
+    pos = appendHourMinuteSecond(buf, pos, value.getHour(), value.getMinute(), value.getSecond());
+
+    return appendTimeFraction(buf, pos, value.getNano(), precision, fixedWidth);
+  }
+
+  /**
+   * Appends a fraction of a second truncated to the given precision as {@link DateTimeFormatter#ISO_INSTANT}
+   * would: in groups of three digits, or not at all if it is zero.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param nano The nano-of-second.
+   * @param precision The precision of the fraction.
+   * @param fixedWidth Whether to write exactly {@link TimePrecision#fractionDigits()} digits instead.
+   * @return The position after the last character written.
+   */
+  static int appendInstantFraction(char[] buf, int pos, int nano, TimePrecision precision, boolean fixedWidth)
+  {
+    nano = precision.truncate(nano);
+    if (fixedWidth)
+    {
+      return appendFixedFraction(buf, pos, nano, precision);
+    }
+
+    if (nano == 0)
+    {
+      return pos;
+    }
+
+    buf[pos++] = '.';
+    if (nano % 1_000_000 == 0)
+    {
+      return appendDigits(buf, pos, nano / 1_000_000, 3);
+    }
+
+    if (nano % 1_000 == 0)
+    {
+      return appendDigits(buf, pos, nano / 1_000, 6);
+    }
+
+    return appendDigits(buf, pos, nano, 9);
+  }
+
+  /**
+   * Appends a fraction of a second truncated to the given precision as {@link DateTimeFormatter#ISO_LOCAL_TIME}
+   * would: without trailing zeros, or not at all if it is zero.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param nano The nano-of-second.
+   * @param precision The precision of the fraction.
+   * @param fixedWidth Whether to write exactly {@link TimePrecision#fractionDigits()} digits instead.
+   * @return The position after the last character written.
+   */
+  static int appendTimeFraction(char[] buf, int pos, int nano, TimePrecision precision, boolean fixedWidth)
+  {
+    nano = precision.truncate(nano);
+    if (fixedWidth)
+    {
+      return appendFixedFraction(buf, pos, nano, precision);
+    }
+
+    if (nano == 0)
+    {
+      return pos;
+    }
+
+    buf[pos++] = '.';
+    return appendFraction(buf, pos, nano);
+  }
+
+  /**
+   * Appends a fraction of a second with exactly {@link TimePrecision#fractionDigits()} digits, or nothing at
+   * all at {@link TimePrecision#SECONDS} precision.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param nano The nano-of-second, already truncated to the precision.
+   * @param precision The precision.
+   * @return The position after the last character written.
+   */
+  static int appendFixedFraction(char[] buf, int pos, int nano, TimePrecision precision)
+  {
+    if (precision.fractionDigits() == 0)
+    {
+      return pos;
+    }
+
+    buf[pos++] = '.';
+    return appendDigits(buf, pos, precision.units(nano), precision.fractionDigits());
+  }
+
+  /**
+   * Appends a fraction of a second without trailing zeros.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param nano The nano-of-second, which must not be zero.
+   * @return The position after the last character written.
+   */
+  static int appendFraction(char[] buf, int pos, int nano)
+  {
+    int digits = 9;
+    while (nano % 10 == 0)
+    {
+      nano /= 10;
+      digits--;
+    }
+
+    return appendDigits(buf, pos, nano, digits);
+  }
+
+  /**
+   * Appends a {@code HH:mm:ss} time.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param hour The hour.
+   * @param minute The minute.
+   * @param second The second.
+   * @return The position after the last character written.
+   */
+  static int appendHourMinuteSecond(char[] buf, int pos, int hour, int minute, int second)
+  {
+    pos = append2(buf, pos, hour);
+    buf[pos++] = ':';
+    pos = append2(buf, pos, minute);
+    buf[pos++] = ':';
+    return append2(buf, pos, second);
+  }
+
+  /**
+   * Appends an offset identifier: {@code Z}, {@code +HH:MM} or {@code +HH:MM:SS}.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param offset The offset.
+   * @return The position after the last character written.
+   */
+  static int appendOffset(char[] buf, int pos, ZoneOffset offset)
+  {
+    final String id = offset.getId();
+    id.getChars(0, id.length(), buf, pos);
+    return pos + id.length();
+  }
+
+  /**
+   * Appends a zero-padded number.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param value The non-negative value, which must fit in {@code digits} digits.
+   * @param digits The number of digits to write.
+   * @return The position after the last character written.
+   */
+  static int appendDigits(char[] buf, int pos, int value, int digits)
+  {
+    int i = pos + digits;
+    while (i - pos >= 2)
+    {
+      final int pair = value % 100;
+      value /= 100;
+      buf[--i] = DIGIT_ONES[pair];
+      buf[--i] = DIGIT_TENS[pair];
+    }
+
+    if (i > pos)
+    {
+      buf[--i] = DIGIT_ONES[value % 10];
+    }
+
+    return pos + digits;
+  }
+
+  /**
+   * Counts the decimal digits in a number.
+   * @param value The non-negative value.
+   * @return The number of digits needed to write the value.
+   */
+  static int digitCount(long value)
+  {
+    int digits = 1;
+    for (long remaining = value / 10; remaining != 0; remaining /= 10)
+    {
+      digits++;
+    }
+
+    return digits;
+  }
+
+  /**
+   * Counts the digits in a fraction of a second, without trailing zeros.
+   * @param nano The nano-of-second, which must not be zero.
+   * @return The number of digits {@link #appendFraction(char[], int, int)} will write.
+   */
+  static int fractionDigitCount(int nano)
+  {
+    int digits = 9;
+    while (nano % 10 == 0)
+    {
+      nano /= 10;
+      digits--;
+    }
+
+    return digits;
+  }
+
+  /**
+   * Appends a number using as many digits as it needs.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param value The non-negative value.
+   * @return The position after the last character written.
+   */
+  static int appendDigits(char[] buf, int pos, long value)
+  {
+    final int end = pos + digitCount(value);
+    int i = end;
+    while (value >= 100)
+    {
+      final int pair = (int) (value % 100);
+      value /= 100;
+      buf[--i] = DIGIT_ONES[pair];
+      buf[--i] = DIGIT_TENS[pair];
+    }
+
+    buf[--i] = DIGIT_ONES[(int) value];
+    if (value >= 10)
+    {
+      buf[--i] = DIGIT_TENS[(int) value];
+    }
+
+    return end;
+  }
+
+  /**
+   * Appends a two digit number.
+   * @param buf The buffer.
+   * @param pos The position to write at.
+   * @param value The value, from 0 to 99.
+   * @return The position after the last character written.
+   */
+  static int append2(char[] buf, int pos, int value)
+  {
+    buf[pos] = DIGIT_TENS[value];
+    buf[pos + 1] = DIGIT_ONES[value];
+    return pos + 2;
+  }
+}
@@ -0,0 +1,987 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+
+/**
+ * Fixed-position parser for the canonical ISO 8601 layouts produced by the {@code DateTimeFormatter.ISO_*}
+ * constants and by {@link Duration#toString()}. <p>
+ *
+ * Each value is decoded directly from its characters into int components, which are then used to build
+ * the result.  Anything that isn't in the canonical layout (expanded years, lower case separators,
+ * out-of-range fields, etc.) is handed to the equivalent {@link DateTimeFormatter} (or {@link Duration#parse(CharSequence)}), so the accepted
+ * input and the exceptions raised for bad input are unchanged.
+ */
+final class Iso8601Parser
+{
+  /** Length of {@code yyyy-MM-dd}. */
+  static final int DATE_LENGTH = 10;
+
+  /** Length of {@code HH:mm}. */
+  static final int HOUR_MINUTE_LENGTH = 5;
+
+  /** Length of {@code HH:mm:ss}. */
+  static final int TIME_LENGTH = 8;
+
+  /** Marker returned when text is not in the canonical layout. */
+  static final int NOT_CANONICAL = Integer.MIN_VALUE;
+
+  /** The number of days from year zero to 1970-01-01. */
+  private static final long DAYS_0000_TO_1970 = 719_528L;
+
+  /** Seconds per day. */
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  /** Nanoseconds per second. */
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /** Powers of ten used to scale fractions of a second to nanoseconds, indexed by digit count. */
+  private static final int[] FRACTION_SCALE =
+      { 1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1 };
+
+  /** Maximum number of digits in each component of a duration on the fast path. */
+  private static final int MAX_DURATION_DIGITS = 12;
+
+  /** Maximum absolute offset, in seconds. */
+  private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+  /**
+   * Not instantiable.
+   */
+  private Iso8601Parser()
+  {
+  }
+
+  /**
+   * Parses text in the {@link DateTimeFormatter#ISO_LOCAL_DATE} layout.
+   * @param text The text to parse.
+   * @return The parsed date.
+   */
+  static LocalDate parseLocalDate(String text)
+  {
+    if (text.length() == DATE_LENGTH)
+    {
+      final int date = date(text, 0);
+      if (date != NOT_CANONICAL)
+      {
+        return LocalDate.of(date / 10000, date / 100 % 100, date % 100);
+      }
+    }
+
+    return DateTimeFormatter.ISO_LOCAL_DATE.parse(text, LocalDate::from);
+  }
+
+  /**
+   * Parses text in the {@link DateTimeFormatter#ISO_LOCAL_TIME} layout.
+   * @param text The text to parse.
+   * @return The parsed time.
+   */
+  static LocalTime parseLocalTime(String text)
+  {
+    if (timeEnd(text, 0) == text.length())
+    {
+      final long nanoOfDay = nanoOfDay(text, 0, text.length());
+      if (nanoOfDay >= 0)
+      {
+        return LocalTime.ofNanoOfDay(nanoOfDay);
+      }
+    }
+
+    return DateTimeFormatter.ISO_LOCAL_TIME.parse(text, LocalTime::from);
+  }
+
+  /**
+   * Parses text in the {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} layout.
+   * @param text The text to parse.
+   * @return The parsed date-time.
+   */
+  static LocalDateTime parseLocalDateTime(String text)
+  {
+    final int timeEnd = dateTimeEnd(text);
+    if (timeEnd == text.length())
+    {
+      final LocalDateTime dateTime = localDateTime(text, timeEnd);
+      if (dateTime != null)
+      {
+        return dateTime;
+      }
+    }
+
+    return DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse(text, LocalDateTime::from);
+  }
+
+  /**
+   * Parses text in the {@link DateTimeFormatter#ISO_OFFSET_TIME} layout.
+   * @param text The text to parse.
+   * @return The parsed time.
+   */
+  static OffsetTime parseOffsetTime(String text)
+  {
+    final int timeEnd = timeEnd(text, 0);
+    if (timeEnd > 0)
+    {
+      final long nanoOfDay = nanoOfDay(text, 0, timeEnd);
+      final int offset = offsetSeconds(text, timeEnd, text.length());
+      if (nanoOfDay >= 0 && offset != NOT_CANONICAL)
+      {
+        return OffsetTime.of(LocalTime.ofNanoOfDay(nanoOfDay), ZoneOffset.ofTotalSeconds(offset));
+      }
+    }
+
+    return DateTimeFormatter.ISO_OFFSET_TIME.parse(text, OffsetTime::from);
+  }
+
+  /**
+   * Parses text in the {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} layout.
+   * @param text The text to parse.
+   * @return The parsed date-time.
+   */
+  static OffsetDateTime parseOffsetDateTime(String text)
+  {
+    final OffsetDateTime dateTime = canonicalOffsetDateTime(text);
+    return dateTime != null ? dateTime : DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text, OffsetDateTime::from);
+  }
+
+  /**
+   * Parses text in the {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} layout without throwing.
+   * @param text The text to parse.
+   * @return The parsed date-time, or null if the text isn't valid.
+   */
+  static OffsetDateTime tryParseOffsetDateTime(String text)
+  {
+    final OffsetDateTime dateTime = canonicalOffsetDateTime(text);
+    if (dateTime != null || isCanonicalLayout(text, dateTimeEnd(text), text.length()))
+    {
+      return dateTime;
+    }
+
+    return parseQuietly(DateTimeFormatter.ISO_OFFSET_DATE_TIME, text, OffsetDateTime::from);
+  }
+
+  /**
+   * Decodes an offset date-time in the canonical layout.
+   * @param text The text.
+   * @return The date-time, or null if the text isn't canonical.
+   */
+  private static OffsetDateTime canonicalOffsetDateTime(String text)
+  {
+    final int timeEnd = dateTimeEnd(text);
+    if (timeEnd > 0)
+    {
+      final int offset = offsetSeconds(text, timeEnd, text.length());
+      final LocalDateTime dateTime = offset != NOT_CANONICAL ? localDateTime(text, timeEnd) : null;
+      if (dateTime != null)
+      {
+        return OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(offset));
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Parses text in the {@link DateTimeFormatter#ISO_DATE_TIME} layout.  The fast path requires an offset;
+   * if a zone region follows the offset, the offset must be valid for that zone at that local date-time.
+   * @param text The text to parse.
+   * @return The parsed date-time.
+   */
+  static ZonedDateTime parseZonedDateTime(String text)
+  {
+    final ZonedDateTime dateTime = canonicalZonedDateTime(text);
+    return dateTime != null ? dateTime : DateTimeFormatter.ISO_DATE_TIME.parse(text, ZonedDateTime::from);
+  }
+
+  /**
+   * Parses text in the {@link DateTimeFormatter#ISO_DATE_TIME} layout without throwing.  An unknown zone
+   * region makes the text invalid.
+   * @param text The text to parse.
+   * @return The parsed date-time, or null if the text isn't valid.
+   */
+  static ZonedDateTime tryParseZonedDateTime(String text)
+  {
+    final ZonedDateTime dateTime = canonicalZonedDateTime(text);
+    if (dateTime != null)
+    {
+      return dateTime;
+    }
+
+    final int timeEnd = dateTimeEnd(text);
+    final int bracket = timeEnd > 0 ? text.indexOf('[', timeEnd) : -1;
+    if (isCanonicalLayout(text, timeEnd, bracket < 0 ? text.length() : bracket) && localDateTime(text, timeEnd) == null)
+    {
+      return null;
+    }
+
+    return parseQuietly(DateTimeFormatter.ISO_DATE_TIME, text, ZonedDateTime::from);
+  }
+
+  /**
+   * Decodes a zoned date-time with an offset in the canonical layout.
+   * @param text The text.
+   * @return The date-time, or null if the text isn't canonical.
+   */
+  private static ZonedDateTime canonicalZonedDateTime(String text)
+  {
+    final int timeEnd = dateTimeEnd(text);
+    if (timeEnd > 0)
+    {
+      final int length = text.length();
+      final int bracket = text.indexOf('[', timeEnd);
+      final int offsetEnd = bracket < 0 ? length : bracket;
+      final int offset = offsetSeconds(text, timeEnd, offsetEnd);
+      final LocalDateTime dateTime = offset != NOT_CANONICAL ? localDateTime(text, timeEnd) : null;
+      if (dateTime != null)
+      {
+        final ZoneOffset zoneOffset = ZoneOffset.ofTotalSeconds(offset);
+        if (bracket < 0)
+        {
+          return ZonedDateTime.of(dateTime, zoneOffset);
+        }
+
+        if (text.charAt(length - 1) == ']' && length - bracket > 2)
+        {
+          final ZoneId zone = ZoneIdCache.lookup(text.substring(bracket + 1, length - 1));
+          if (zone != null && zone.getRules().isValidOffset(dateTime, zoneOffset))
+          {
+            return ZonedDateTime.ofLocal(dateTime, zone, zoneOffset);
+          }
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Parses text in the {@link DateTimeFormatter#ISO_INSTANT} layout.
+   * @param text The text to parse.
+   * @return The parsed instant.
+   */
+  static Instant parseInstant(String text)
+  {
+    final Instant instant = canonicalInstant(text);
+    return instant != null ? instant : DateTimeFormatter.ISO_INSTANT.parse(text, Instant::from);
+  }
+
+  /**
+   * Parses text in the {@link DateTimeFormatter#ISO_INSTANT} layout without throwing.
+   * @param text The text to parse.
+   * @return The parsed instant, or null if the text isn't valid.
+   */
+  static Instant tryParseInstant(String text)
+  {
+    final Instant instant = canonicalInstant(text);
+    if (instant != null)
+    {
+      return instant;
+    }
+
+    // ISO_INSTANT also accepts 24:00:00 and leap seconds, which the canonical layout treats as out of range
+    final int timeEnd = instantTimeEnd(text);
+    if (timeEnd > 0 && !text.startsWith("24", DATE_LENGTH + 1) && !text.startsWith("60", DATE_LENGTH + 7)
+        && isCanonicalLayout(text, timeEnd, timeEnd))
+    {
+      return null;
+    }
+
+    return parseQuietly(DateTimeFormatter.ISO_INSTANT, text, Instant::from);
+  }
+
+  /**
+   * Decodes an instant in the canonical layout.
+   * @param text The text.
+   * @return The instant, or null if the text isn't canonical.
+   */
+  private static Instant canonicalInstant(String text)
+  {
+    final int timeEnd = instantTimeEnd(text);
+    if (timeEnd > 0)
+    {
+      final int date = date(text, 0);
+      final long nanoOfDay = nanoOfDay(text, DATE_LENGTH + 1, timeEnd);
+      if (date != NOT_CANONICAL && nanoOfDay >= 0)
+      {
+        final long epochDay = epochDay(date / 10000, date / 100 % 100, date % 100);
+        final long epochSecond = epochDay * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+        return Instant.ofEpochSecond(epochSecond, nanoOfDay % NANOS_PER_SECOND);
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Parses an instant in the ISO 8601 layout accepted by {@link #parseInstant(String)} straight to nanoseconds
+   * since the epoch, without creating an {@code Instant} on the fast path.
+   * @param text The text to parse.
+   * @return The number of nanoseconds since the epoch.
+   * @throws ArithmeticException If the instant is too far from the epoch for a long.
+   */
+  static long parseInstantEpochNanos(String text)
+  {
+    final int timeEnd = instantTimeEnd(text);
+    if (timeEnd > 0)
+    {
+      final int date = date(text, 0);
+      final long nanoOfDay = nanoOfDay(text, DATE_LENGTH + 1, timeEnd);
+      if (date != NOT_CANONICAL && nanoOfDay >= 0)
+      {
+        final long epochDay = epochDay(date / 10000, date / 100 % 100, date % 100);
+        final long epochSecond = epochDay * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+        return InstantConverter.toEpochNanos(epochSecond, nanoOfDay % NANOS_PER_SECOND);
+      }
+    }
+
+    final Instant instant = DateTimeFormatter.ISO_INSTANT.parse(text, Instant::from);
+    return InstantConverter.toEpochNanos(instant.getEpochSecond(), instant.getNano());
+  }
+
+  /**
+   * Finds the end of the time in text shaped like a canonical UTC instant, {@code yyyy-MM-ddTHH:mm:ss[.n]Z}.
+   * @param text The text.
+   * @return The position of the trailing {@code Z}, or -1 if the text isn't shaped like a canonical instant.
+   */
+  static int instantTimeEnd(String text)
+  {
+    final int timeEnd = dateTimeEnd(text);
+    if (timeEnd > 0 && timeEnd - DATE_LENGTH - 1 >= TIME_LENGTH && timeEnd == text.length() - 1
+        && text.charAt(timeEnd) == 'Z')
+    {
+      return timeEnd;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Decodes an instant written with exactly the given number of fractional digits, as a fixed-width
+   * {@link TimePrecision} writes it.  Every separator is at a known position, so nothing is scanned for.
+   * @param text The text.
+   * @param fractionDigits The number of fractional digits, from 0 to 9.
+   * @return The instant, or null if the text isn't in exactly that layout.
+   */
+  static Instant fixedWidthInstant(String text, int fractionDigits)
+  {
+    final int timeEnd = DATE_LENGTH + 1 + fixedWidthTimeLength(fractionDigits);
+    if (text.length() != timeEnd + 1 || text.charAt(timeEnd) != 'Z' || text.charAt(DATE_LENGTH) != 'T')
+    {
+      return null;
+    }
+
+    final int date = date(text, 0);
+    final long nanoOfDay = fixedWidthNanoOfDay(text, DATE_LENGTH + 1, fractionDigits);
+    if (date == NOT_CANONICAL || nanoOfDay < 0)
+    {
+      return null;
+    }
+
+    final long epochDay = epochDay(date / 10000, date / 100 % 100, date % 100);
+    final long epochSecond = epochDay * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+    return Instant.ofEpochSecond(epochSecond, nanoOfDay % NANOS_PER_SECOND);
+  }
+
+  /**
+   * Decodes a local time written with exactly the given number of fractional digits.
+   * @param text The text.
+   * @param fractionDigits The number of fractional digits, from 0 to 9.
+   * @return The time, or null if the text isn't in exactly that layout.
+   */
+  static LocalTime fixedWidthLocalTime(String text, int fractionDigits)
+  {
+    if (text.length() != fixedWidthTimeLength(fractionDigits))
+    {
+      return null;
+    }
+
+    final long nanoOfDay = fixedWidthNanoOfDay(text, 0, fractionDigits);
+    return nanoOfDay < 0 ? null : LocalTime.ofNanoOfDay(nanoOfDay);
+  }
+
+  /**
+   * Decodes a local date-time written with exactly the given number of fractional digits.
+   * @param text The text.
+   * @param fractionDigits The number of fractional digits, from 0 to 9.
+   * @return The date-time, or null if the text isn't in exactly that layout.
+   */
+  static LocalDateTime fixedWidthLocalDateTime(String text, int fractionDigits)
+  {
+    final int timeEnd = DATE_LENGTH + 1 + fixedWidthTimeLength(fractionDigits);
+    return text.length() == timeEnd ? fixedWidthDateTimePrefix(text, fractionDigits) : null;
+  }
+
+  /**
+   * Decodes an offset date-time written with exactly the given number of fractional digits.  The offset is
+   * in the canonical {@code Z}, {@code +HH:MM} or {@code +HH:MM:SS} layout.
+   * @param text The text.
+   * @param fractionDigits The number of fractional digits, from 0 to 9.
+   * @return The date-time, or null if the text isn't in exactly that layout.
+   */
+  static OffsetDateTime fixedWidthOffsetDateTime(String text, int fractionDigits)
+  {
+    final int timeEnd = DATE_LENGTH + 1 + fixedWidthTimeLength(fractionDigits);
+    if (text.length() <= timeEnd)
+    {
+      return null;
+    }
+
+    final int offset = offsetSeconds(text, timeEnd, text.length());
+    if (offset == NOT_CANONICAL)
+    {
+      return null;
+    }
+
+    final LocalDateTime dateTime = fixedWidthDateTimePrefix(text, fractionDigits);
+    return dateTime == null ? null : OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(offset));
+  }
+
+  /**
+   * Decodes the {@code yyyy-MM-dd'T'HH:mm:ss[.f]} prefix of text with exactly the given number of fractional
+   * digits.
+   * @param text The text, which must be long enough to hold the whole prefix.
+   * @param fractionDigits The number of fractional digits, from 0 to 9.
+   * @return The date-time, or null if the prefix isn't in exactly that layout.
+   */
+  private static LocalDateTime fixedWidthDateTimePrefix(String text, int fractionDigits)
+  {
+    if (text.charAt(DATE_LENGTH) != 'T')
+    {
+      return null;
+    }
+
+    final int date = date(text, 0);
+    final long nanoOfDay = fixedWidthNanoOfDay(text, DATE_LENGTH + 1, fractionDigits);
+    if (date == NOT_CANONICAL || nanoOfDay < 0)
+    {
+      return null;
+    }
+
+    return LocalDateTime.of(LocalDate.of(date / 10000, date / 100 % 100, date % 100),
+                            LocalTime.ofNanoOfDay(nanoOfDay));
+  }
+
+  /**
+   * Gets the length of a {@code HH:mm:ss[.f]} time with the given number of fractional digits.
+   * @param fractionDigits The number of fractional digits, from 0 to 9.
+   * @return The length of the time.
+   */
+  static int fixedWidthTimeLength(int fractionDigits)
+  {
+    return fractionDigits == 0 ? TIME_LENGTH : TIME_LENGTH + 1 + fractionDigits;
+  }
+
+  /**
+   * Parses a duration in the ISO 8601 {@code PTnHnMn.nS} layout produced by {@link Duration#toString()}.  The
+   * fast path accepts unsigned hours, minutes and seconds, at least one of which must be present, with up to
+   * nine fractional digits of seconds.  Anything else (days, signs, commas, lower case) is handed to
+   * {@link Duration#parse(CharSequence)}.
+   * @param text The text to parse.
+   * @return The parsed duration.
+   */
+  static Duration parseDuration(String text)
+  {
+    final int length = text.length();
+    if (length < 4 || text.charAt(0) != 'P' || text.charAt(1) != 'T')
+    {
+      return Duration.parse(text);
+    }
+
+    long seconds = 0;
+    int nano = 0;
+    int pos = 2;
+    int unit = 0;
+    while (pos < length)
+    {
+      final int numberStart = pos;
+      long number = 0;
+      while (pos < length && isDigit(text.charAt(pos)) && pos - numberStart < MAX_DURATION_DIGITS)
+      {
+        number = number * 10 + (text.charAt(pos++) - '0');
+      }
+
+      if (pos == numberStart || pos == length)
+      {
+        return Duration.parse(text);
+      }
+
+      final char designator = text.charAt(pos++);
+      if (designator == 'H' && unit < 1)
+      {
+        seconds += number * 3600;
+        unit = 1;
+      }
+      else if (designator == 'M' && unit < 2)
+      {
+        seconds += number * 60;
+        unit = 2;
+      }
+      else if ((designator == 'S' || designator == '.') && unit < 3)
+      {
+        if (designator == '.')
+        {
+          final int fractionStart = pos;
+          while (pos < length && isDigit(text.charAt(pos)) && pos - fractionStart < 9)
+          {
+            nano = nano * 10 + (text.charAt(pos++) - '0');
+          }
+
+          if (pos == length || text.charAt(pos) != 'S')
+          {
+            return Duration.parse(text);
+          }
+
+          nano *= FRACTION_SCALE[pos - fractionStart];
+          pos++;
+        }
+
+        seconds += number;
+        unit = 3;
+      }
+      else
+      {
+        return Duration.parse(text);
+      }
+    }
+
+    return Duration.ofSeconds(seconds, nano);
+  }
+
+  /**
+   * Decodes a {@code yyyy-MM-dd'T'time} prefix whose time component was found by {@link #dateTimeEnd(String)}.
+   * @param text The text.
+   * @param timeEnd The end of the time component, exclusive.
+   * @return The date-time, or null if a field is out of range.
+   */
+  private static LocalDateTime localDateTime(String text, int timeEnd)
+  {
+    final int date = date(text, 0);
+    final long nanoOfDay = nanoOfDay(text, DATE_LENGTH + 1, timeEnd);
+    if (date == NOT_CANONICAL || nanoOfDay < 0)
+    {
+      return null;
+    }
+
+    return LocalDateTime.of(LocalDate.of(date / 10000, date / 100 % 100, date % 100),
+                            LocalTime.ofNanoOfDay(nanoOfDay));
+  }
+
+  /**
+   * Checks whether text is in the canonical layout, with digits in every numeric position, so that a value
+   * the fast path rejected has out-of-range fields and would be rejected by the formatter too.
+   * @param text The text.
+   * @param timeEnd The end of the time, from {@link #dateTimeEnd(String)}.
+   * @param offsetEnd The end of the offset, exclusive.
+   * @return True if the layout is canonical.
+   */
+  private static boolean isCanonicalLayout(String text, int timeEnd, int offsetEnd)
+  {
+    if (timeEnd <= 0 || (offsetEnd > timeEnd && offsetSeconds(text, timeEnd, offsetEnd) == NOT_CANONICAL))
+    {
+      return false;
+    }
+
+    for (int i = 0; i < timeEnd; i++)
+    {
+      final char c = text.charAt(i);
+      if (!isDigit(c) && i != 4 && i != 7 && i != DATE_LENGTH && i != 13 && i != 16 && i != 19)
+      {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Parses text with a formatter, returning null rather than throwing if the text isn't valid.  Malformed
+   * text is rejected by {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)}, which
+   * reports errors through the parse position; only well-formed text with out-of-range fields, which the
+   * canonical layout checks catch first in the common cases, costs an exception.
+   * @param formatter The formatter.
+   * @param text The text.
+   * @param query The query that builds the result.
+   * @param <T> The type of the result.
+   * @return The result, or null.
+   */
+  private static <T> T parseQuietly(DateTimeFormatter formatter, String text, TemporalQuery<T> query)
+  {
+    // every date-time layout starts with the year, so anything else is rejected without consulting the formatter
+    if (text.isEmpty() || !(isDigit(text.charAt(0)) || text.charAt(0) == '+' || text.charAt(0) == '-'))
+    {
+      return null;
+    }
+
+    try
+    {
+      final ParsePosition position = new ParsePosition(0);
+      if (formatter.parseUnresolved(text, position) == null || position.getErrorIndex() >= 0
+          || position.getIndex() != text.length())
+      {
+        return null;
+      }
+
+      return formatter.parse(text, query);
+    }
+    catch (DateTimeException e)
+    {
+      return null;
+    }
+  }
+
+  /**
+   * Finds the end of the time component of a {@code yyyy-MM-dd'T'time} prefix.
+   * @param text The text.
+   * @return The end of the time component (exclusive), or -1 if the prefix isn't canonical.
+   */
+  static int dateTimeEnd(String text)
+  {
+    if (text.length() < DATE_LENGTH + 1 + HOUR_MINUTE_LENGTH || text.charAt(DATE_LENGTH) != 'T')
+    {
+      return -1;
+    }
+
+    return timeEnd(text, DATE_LENGTH + 1);
+  }
+
+  /**
+   * Decodes a {@code yyyy-MM-dd} date, validating the day against the length of the month.
+   * @param text The text, which must have at least ten characters from {@code pos}.
+   * @param pos The position of the first year digit.
+   * @return The date packed as {@code yyyyMMdd}, or {@link #NOT_CANONICAL}.
+   */
+  static int date(String text, int pos)
+  {
+    final int year = digits4(text, pos);
+    final int month = digits2(text, pos + 5);
+    final int day = digits2(text, pos + 8);
+
+    if (year < 0 || text.charAt(pos + 4) != '-' || text.charAt(pos + 7) != '-')
+    {
+      return NOT_CANONICAL;
+    }
+
+    if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month))
+    {
+      return NOT_CANONICAL;
+    }
+
+    return year * 10000 + month * 100 + day;
+  }
+
+  /**
+   * Finds the end of a {@code HH:mm[:ss[.fffffffff]]} time.  Only the syntax is checked here; the field
+   * ranges are checked by {@link #nanoOfDay(String, int, int)}.
+   * @param text The text.
+   * @param pos The position of the first hour digit.
+   * @return The end of the time (exclusive), or -1 if the time isn't canonical.
+   */
+  static int timeEnd(String text, int pos)
+  {
+    final int length = text.length();
+    if (length - pos < HOUR_MINUTE_LENGTH || text.charAt(pos + 2) != ':')
+    {
+      return -1;
+    }
+
+    int end = pos + HOUR_MINUTE_LENGTH;
+    if (end < length && text.charAt(end) == ':')
+    {
+      if (end + 3 > length)
+      {
+        return -1;
+      }
+
+      end += 3;
+      if (end < length && text.charAt(end) == '.')
+      {
+        final int fractionStart = ++end;
+        while (end < length && end - fractionStart < 9 && isDigit(text.charAt(end)))
+        {
+          end++;
+        }
+
+        if (end == fractionStart)
+        {
+          return -1;
+        }
+      }
+    }
+
+    return end;
+  }
+
+  /**
+   * Decodes a time found by {@link #timeEnd(String, int)}.
+   * @param text The text.
+   * @param pos The position of the first hour digit.
+   * @param end The end of the time, exclusive.
+   * @return The nano-of-day, or -1 if a field is out of range.
+   */
+  static long nanoOfDay(String text, int pos, int end)
+  {
+    final int hour = digits2(text, pos);
+    final int minute = digits2(text, pos + 3);
+    final int second = end - pos >= TIME_LENGTH ? digits2(text, pos + 6) : 0;
+
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59)
+    {
+      return -1;
+    }
+
+    int nano = 0;
+    final int fractionStart = pos + TIME_LENGTH + 1;
+    for (int i = fractionStart; i < end; i++)
+    {
+      nano = nano * 10 + (text.charAt(i) - '0');
+    }
+
+    if (end > fractionStart)
+    {
+      nano *= FRACTION_SCALE[end - fractionStart];
+    }
+
+    return (hour * 3600L + minute * 60 + second) * NANOS_PER_SECOND + nano;
+  }
+
+  /**
+   * Decodes a {@code HH:mm:ss[.f]} time with exactly the given number of fractional digits, checking the
+   * separators at their fixed positions and reading the fraction two digits at a time.
+   * @param text The text, which must hold the whole time from {@code pos}.
+   * @param pos The position of the first hour digit.
+   * @param fractionDigits The number of fractional digits, from 0 to 9.
+   * @return The nano-of-day, or -1 if the time isn't in exactly that layout or a field is out of range.
+   */
+  static long fixedWidthNanoOfDay(String text, int pos, int fractionDigits)
+  {
+    final int hour = digits2(text, pos);
+    final int minute = digits2(text, pos + 3);
+    final int second = digits2(text, pos + 6);
+    if (text.charAt(pos + 2) != ':' || text.charAt(pos + 5) != ':'
+        || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59)
+    {
+      return -1;
+    }
+
+    int nano = 0;
+    if (fractionDigits > 0)
+    {
+      if (text.charAt(pos + TIME_LENGTH) != '.')
+      {
+        return -1;
+      }
+
+      final int end = pos + TIME_LENGTH + 1 + fractionDigits;
+      int i = pos + TIME_LENGTH + 1;
+      for (; i + 1 < end; i += 2)
+      {
+        final int pair = digits2(text, i);
+        if (pair < 0)
+        {
+          return -1;
+        }
+
+        nano = nano * 100 + pair;
+      }
+
+      if (i < end)
+      {
+        final char c = text.charAt(i);
+        if (!isDigit(c))
+        {
+          return -1;
+        }
+
+        nano = nano * 10 + (c - '0');
+      }
+
+      nano *= FRACTION_SCALE[fractionDigits];
+    }
+
+    return (hour * 3600L + minute * 60 + second) * NANOS_PER_SECOND + nano;
+  }
+
+  /**
+   * Decodes an offset in the {@code Z}, {@code +HH:MM} or {@code +HH:MM:SS} layout occupying exactly
+   * {@code [pos, end)}.
+   * @param text The text.
+   * @param pos The position of the offset.
+   * @param end The end of the offset, exclusive.
+   * @return The total offset in seconds, or {@link #NOT_CANONICAL}.
+   */
+  static int offsetSeconds(String text, int pos, int end)
+  {
+    final int length = end - pos;
+    if (length == 1)
+    {
+      return text.charAt(pos) == 'Z' ? 0 : NOT_CANONICAL;
+    }
+
+    if (length != 6 && length != 9)
+    {
+      return NOT_CANONICAL;
+    }
+
+    final char sign = text.charAt(pos);
+    if ((sign != '+' && sign != '-') || text.charAt(pos + 3) != ':')
+    {
+      return NOT_CANONICAL;
+    }
+
+    final int hours = digits2(text, pos + 1);
+    final int minutes = digits2(text, pos + 4);
+    int seconds = 0;
+    if (length == 9)
+    {
+      seconds = text.charAt(pos + 6) == ':' ? digits2(text, pos + 7) : -1;
+    }
+
+    if (hours < 0 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59)
+    {
+      return NOT_CANONICAL;
+    }
+
+    final int total = hours * 3600 + minutes * 60 + seconds;
+    if (total > MAX_OFFSET_SECONDS)
+    {
+      return NOT_CANONICAL;
+    }
+
+    return sign == '-' ? -total : total;
+  }
+
+  /**
+   * Computes the epoch day of a valid ISO date with a non-negative year.
+   * @param year The year.
+   * @param month The month, from 1 to 12.
+   * @param day The day of month.
+   * @return The epoch day.
+   */
+  static long epochDay(int year, int month, int day)
+  {
+    long total = 365L * year;
+    total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+    total += (367 * month - 362) / 12;
+    total += day - 1;
+
+    if (month > 2)
+    {
+      total -= isLeapYear(year) ? 1 : 2;
+    }
+
+    return total - DAYS_0000_TO_1970;
+  }
+
+  /**
+   * Computes the length of a month.
+   * @param year The year.
+   * @param month The month, from 1 to 12.
+   * @return The number of days in the month.
+   */
+  private static int lengthOfMonth(int year, int month)
+  {
+    switch (month)
+    {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /**
+   * Checks if a year is an ISO leap year.
+   * @param year The year.
+   * @return True if the year is a leap year.
+   */
+  private static boolean isLeapYear(int year)
+  {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  /**
+   * Decodes two ASCII digits.
+   * @param text The text.
+   * @param pos The position of the first digit.
+   * @return The value, or a negative number if either character isn't a digit.
+   */
+  static int digits2(String text, int pos)
+  {
+    final int tens = text.charAt(pos) - '0';
+    final int ones = text.charAt(pos + 1) - '0';
+
+    if (tens < 0 || tens > 9 || ones < 0 || ones > 9)
+    {
+      return -1;
+    }
+
+    return tens * 10 + ones;
+  }
+
+  /**
+   * Decodes four ASCII digits.
+   * @param text The text.
+   * @param pos The position of the first digit.
+   * @return The value, or a negative number if any character isn't a digit.
+   */
+  private static int digits4(String text, int pos)
+  {
+    final int high = digits2(text, pos);
+    final int low = digits2(text, pos + 2);
+
+    if (high < 0 || low < 0)
+    {
+      return -1;
+    }
+
+    return high * 100 + low;
+  }
+
+  /**
+   * Checks if a character is an ASCII digit.
+   * @param c The character.
+   * @return True if {@code c} is between {@code '0'} and {@code '9'}.
+   */
+  static boolean isDigit(char c)
+  {
+    return c >= '0' && c <= '9';
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * Streaming GSON type adapter for an array of one of the Java Time types.  Elements are read into a scratch
+ * array that doubles as needed, which is then copied once into an array of exactly the length read.
+ * @param <E> The element type.
+ */
+final class JavaTimeArrayTypeAdapter<E> extends TypeAdapter<E[]>
+{
+  /** The initial length of the scratch array. */
+  static final int INITIAL_CAPACITY = 16;
+
+  /** The element type. */
+  private final Class<E> componentType;
+
+  /** The adapter for each element. */
+  private final TypeAdapter<E> element;
+
+  /**
+   * Constructs a new {@code JavaTimeArrayTypeAdapter}.
+   * @param componentType The element type.
+   * @param element The adapter for each element.
+   */
+  JavaTimeArrayTypeAdapter(Class<E> componentType, TypeAdapter<E> element)
+  {
+    this.componentType = componentType;
+    this.element = element;
+  }
+
+  /**
+   * Writes one JSON value for {@code value}.
+   * @param out The JSON writer.
+   * @param value The Java object to write; may be null.
+   * @throws IOException If writing fails.
+   */
+  @Override
+  public void write(JsonWriter out, E[] value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    out.beginArray();
+    for (E item : value)
+    {
+      this.element.write(out, item);
+    }
+
+    out.endArray();
+  }
+
+  /**
+   * Reads one JSON value and converts it to an array.
+   * @param in The JSON reader.
+   * @return The converted Java object; may be null.
+   * @throws IOException If reading fails.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public E[] read(JsonReader in) throws IOException
+  {
+    if (in.peek() == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    E[] scratch = (E[]) Array.newInstance(this.componentType, INITIAL_CAPACITY);
+    int count = 0;
+
+    in.beginArray();
+    while (in.hasNext())
+    {
+      if (count == scratch.length)
+      {
+        scratch = Arrays.copyOf(scratch, count * 2);
+      }
+
+      scratch[count++] = this.element.read(in);
+    }
+
+    in.endArray();
+    return count == scratch.length ? scratch : Arrays.copyOf(scratch, count);
+  }
+}
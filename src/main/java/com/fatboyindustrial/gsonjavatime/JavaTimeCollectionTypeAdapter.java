@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Streaming GSON type adapter for a collection of one of the Java Time types.  Elements are read into a
+ * scratch array, and the collection is then created at the size read and filled in one pass.
+ * @param <E> The element type.
+ * @param <C> The collection type.
+ */
+final class JavaTimeCollectionTypeAdapter<E, C extends Collection<E>> extends TypeAdapter<C>
+{
+  /**
+   * The collection implementations read, by declared type.
+   */
+  enum Shape
+  {
+    /** An {@link ArrayList}, for {@code Collection}, {@code List} and {@code ArrayList}. */
+    ARRAY_LIST,
+
+    /** A {@link LinkedHashSet}, for {@code Set} and {@code LinkedHashSet}. */
+    LINKED_HASH_SET,
+
+    /** A {@link TreeSet}, for {@code SortedSet}, {@code NavigableSet} and {@code TreeSet}. */
+    TREE_SET;
+
+    /**
+     * Finds the shape to read for a declared collection type.
+     * @param raw The raw declared type.
+     * @return The shape, or null if the type isn't supported.
+     */
+    static Shape of(Class<?> raw)
+    {
+      if (raw == Collection.class || raw == List.class || raw == ArrayList.class)
+      {
+        return ARRAY_LIST;
+      }
+
+      if (raw == Set.class || raw == LinkedHashSet.class)
+      {
+        return LINKED_HASH_SET;
+      }
+
+      if (raw == SortedSet.class || raw == NavigableSet.class || raw == TreeSet.class)
+      {
+        return TREE_SET;
+      }
+
+      return null;
+    }
+  }
+
+  /** The collection implementation to read. */
+  private final Shape shape;
+
+  /** The adapter for each element. */
+  private final TypeAdapter<E> element;
+
+  /**
+   * Constructs a new {@code JavaTimeCollectionTypeAdapter}.
+   * @param shape The collection implementation to read.
+   * @param element The adapter for each element.
+   */
+  JavaTimeCollectionTypeAdapter(Shape shape, TypeAdapter<E> element)
+  {
+    this.shape = shape;
+    this.element = element;
+  }
+
+  /**
+   * Writes one JSON value for {@code value}.  Random access lists are walked by index, without an iterator.
+   * @param out The JSON writer.
+   * @param value The Java object to write; may be null.
+   * @throws IOException If writing fails.
+   */
+  @Override
+  public void write(JsonWriter out, C value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    out.beginArray();
+    if (value instanceof RandomAccess && value instanceof List)
+    {
+      final List<E> list = (List<E>) value;
+      final int size = list.size();
+      for (int i = 0; i < size; i++)
+      {
+        this.element.write(out, list.get(i));
+      }
+    }
+    else
+    {
+      for (E item : value)
+      {
+        this.element.write(out, item);
+      }
+    }
+
+    out.endArray();
+  }
+
+  /**
+   * Reads one JSON value and converts it to a collection.
+   * @param in The JSON reader.
+   * @return The converted Java object; may be null.
+   * @throws IOException If reading fails.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public C read(JsonReader in) throws IOException
+  {
+    if (in.peek() == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    Object[] scratch = new Object[JavaTimeArrayTypeAdapter.INITIAL_CAPACITY];
+    int count = 0;
+
+    in.beginArray();
+    while (in.hasNext())
+    {
+      if (count == scratch.length)
+      {
+        scratch = Arrays.copyOf(scratch, count * 2);
+      }
+
+      scratch[count++] = this.element.read(in);
+    }
+
+    in.endArray();
+
+    final Collection<E> collection = create(count);
+    for (int i = 0; i < count; i++)
+    {
+      collection.add((E) scratch[i]);
+    }
+
+    return (C) collection;
+  }
+
+  /**
+   * Creates an empty collection of the configured shape with room for the given number of elements.
+   * @param size The number of elements that will be added.
+   * @return The collection.
+   */
+  private Collection<E> create(int size)
+  {
+    switch (this.shape)
+    {
+      case ARRAY_LIST:
+        return new ArrayList<>(size);
+      case LINKED_HASH_SET:
+        return new LinkedHashSet<>(Math.max(size * 4 / 3 + 1, 16));
+      default:
+        return new TreeSet<>();
+    }
+  }
+}
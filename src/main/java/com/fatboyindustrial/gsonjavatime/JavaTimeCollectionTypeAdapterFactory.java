@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.TreeSet;
+
+/**
+ * A GSON type adapter factory for arrays and collections of the Java Time types, such as {@code Instant[]},
+ * {@code List<LocalDate>} and {@code Set<ZonedDateTime>}. <p>
+ *
+ * Gson's own array and collection adapters look up an adapter for the runtime type of every element, and
+ * build the result through an intermediate list (for arrays) or a default-sized collection.  The adapters
+ * created here call the element's adapter directly in a single loop, read the elements into one
+ * scratch array, and then build the result at exactly the size read.  The JSON is unchanged: a JSON array
+ * with one value per element. <p>
+ *
+ * The element adapters are resolved through the {@code Gson} instance, once per container type, so an element
+ * is converted exactly as a field of its type would be: with whichever converters or factory the builder has
+ * registered, such as {@link Converters#registerFactory}.  Collections declared as {@code Collection}, {@code List}
+ * or {@code ArrayList} are read as {@link ArrayList}s; {@code Set} and {@code LinkedHashSet} as
+ * {@link LinkedHashSet}s; and {@code SortedSet}, {@code NavigableSet} and {@code TreeSet} as {@link TreeSet}s,
+ * just as Gson would.  Any other container is left to Gson.
+ */
+public final class JavaTimeCollectionTypeAdapterFactory implements TypeAdapterFactory
+{
+  /** The factory deciding which element types are supported. */
+  private static final JavaTimeTypeAdapterFactory ELEMENT_TYPES = new JavaTimeTypeAdapterFactory();
+
+  /**
+   * Returns a type adapter for {@code type}, or null if this factory doesn't support {@code type}.
+   * @param gson The GSON instance requesting the adapter.
+   * @param type The type to adapt.
+   * @return The type adapter, or null.
+   */
+  @Override
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)
+  {
+    final Class<? super T> raw = type.getRawType();
+    if (raw.isArray())
+    {
+      final Class<?> component = raw.getComponentType();
+      return ELEMENT_TYPES.supports(component)
+             ? (TypeAdapter<T>) new JavaTimeArrayTypeAdapter(component, gson.getAdapter(component)) : null;
+    }
+
+    if (!(type.getType() instanceof ParameterizedType))
+    {
+      return null;
+    }
+
+    final Type[] arguments = ((ParameterizedType) type.getType()).getActualTypeArguments();
+    if (arguments.length != 1 || !(arguments[0] instanceof Class))
+    {
+      return null;
+    }
+
+    final Class<?> component = (Class<?>) arguments[0];
+    final JavaTimeCollectionTypeAdapter.Shape shape = JavaTimeCollectionTypeAdapter.Shape.of(raw);
+    return shape != null && ELEMENT_TYPES.supports(component)
+           ? (TypeAdapter<T>) new JavaTimeCollectionTypeAdapter(shape, gson.getAdapter(component)) : null;
+  }
+}
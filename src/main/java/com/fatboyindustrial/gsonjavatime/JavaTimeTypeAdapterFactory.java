@@ -0,0 +1,404 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A single GSON type adapter factory for all the Java Time types. <p>
+ *
+ * The factory resolves every supported type, including the {@code ZoneOffset} and {@code ZoneRegion}
+ * subtypes of {@code ZoneId}, with one switch on the raw type name.  Registering it adds one entry to a
+ * {@code Gson} instance's factory list rather than ten.  The streaming type adapters are created once, when
+ * the factory is constructed, and shared by every {@code Gson} instance the factory is registered with.  A
+ * {@code ZoneOffset} is read by its own adapter, which rejects region identifiers. <p>
+ *
+ * The factory is immutable; the {@code with} methods return a copy that uses the given converter.
+ */
+public final class JavaTimeTypeAdapterFactory implements TypeAdapterFactory
+{
+  /** The adapter for {@code ZoneOffset}, which has nothing to configure. */
+  private static final ZoneOffsetTypeAdapter ZONE_OFFSET = new ZoneOffsetTypeAdapter();
+
+  /** The adapter for {@code LocalDate}. */
+  private final LocalDateTypeAdapter localDate;
+
+  /** The adapter for {@code LocalDateTime}. */
+  private final LocalDateTimeTypeAdapter localDateTime;
+
+  /** The adapter for {@code LocalTime}. */
+  private final LocalTimeTypeAdapter localTime;
+
+  /** The adapter for {@code OffsetDateTime}. */
+  private final OffsetDateTimeTypeAdapter offsetDateTime;
+
+  /** The adapter for {@code OffsetTime}. */
+  private final OffsetTimeTypeAdapter offsetTime;
+
+  /** The adapter for {@code ZonedDateTime}. */
+  private final ZonedDateTimeTypeAdapter zonedDateTime;
+
+  /** The adapter for {@code Instant}. */
+  private final InstantTypeAdapter instant;
+
+  /** The adapter for {@code ZoneId} and {@code ZoneRegion}. */
+  private final ZoneIdTypeAdapter zoneId;
+
+  /** The adapter for {@code Duration}. */
+  private final DurationTypeAdapter duration;
+
+  /** The metrics to record, or null if metrics are off. */
+  private final ConverterMetrics metrics;
+
+  /** The interner for values read, or null if interning is off. */
+  private final TemporalInterner interner;
+
+  /** The instrumented or interning adapter for each adapter, or null if metrics and interning are off. */
+  private final Map<TypeAdapter<?>, TypeAdapter<?>> wrapped;
+
+  /**
+   * Constructs a new {@code JavaTimeTypeAdapterFactory} using the default converters.
+   */
+  public JavaTimeTypeAdapterFactory()
+  {
+    this(new LocalDateTypeAdapter(), new LocalDateTimeTypeAdapter(), new LocalTimeTypeAdapter(),
+         new OffsetDateTimeTypeAdapter(), new OffsetTimeTypeAdapter(), new ZonedDateTimeTypeAdapter(),
+         new InstantTypeAdapter(), new ZoneIdTypeAdapter(), new DurationTypeAdapter(), null, null);
+  }
+
+  /**
+   * Constructs a new {@code JavaTimeTypeAdapterFactory} from the given adapters.
+   * @param localDate The adapter for {@code LocalDate}.
+   * @param localDateTime The adapter for {@code LocalDateTime}.
+   * @param localTime The adapter for {@code LocalTime}.
+   * @param offsetDateTime The adapter for {@code OffsetDateTime}.
+   * @param offsetTime The adapter for {@code OffsetTime}.
+   * @param zonedDateTime The adapter for {@code ZonedDateTime}.
+   * @param instant The adapter for {@code Instant}.
+   * @param zoneId The adapter for {@code ZoneId} and {@code ZoneRegion}.
+   * @param duration The adapter for {@code Duration}.
+   * @param metrics The metrics to record, or null.
+   * @param interner The interner for values read, or null.
+   */
+  private JavaTimeTypeAdapterFactory(LocalDateTypeAdapter localDate,
+                                     LocalDateTimeTypeAdapter localDateTime,
+                                     LocalTimeTypeAdapter localTime,
+                                     OffsetDateTimeTypeAdapter offsetDateTime,
+                                     OffsetTimeTypeAdapter offsetTime,
+                                     ZonedDateTimeTypeAdapter zonedDateTime,
+                                     InstantTypeAdapter instant,
+                                     ZoneIdTypeAdapter zoneId,
+                                     DurationTypeAdapter duration,
+                                     ConverterMetrics metrics,
+                                     TemporalInterner interner)
+  {
+    this.localDate = localDate;
+    this.localDateTime = localDateTime;
+    this.localTime = localTime;
+    this.offsetDateTime = offsetDateTime;
+    this.offsetTime = offsetTime;
+    this.zonedDateTime = zonedDateTime;
+    this.instant = instant;
+    this.zoneId = zoneId;
+    this.duration = duration;
+    this.metrics = metrics;
+    this.interner = interner;
+    this.wrapped = metrics != null || interner != null ? wrap(metrics, interner) : null;
+  }
+
+  /**
+   * Returns a copy of this factory that converts {@code LocalDate} with the given converter.
+   * @param converter The converter.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withLocalDate(LocalDateConverter converter)
+  {
+    return new JavaTimeTypeAdapterFactory(new LocalDateTypeAdapter(converter), this.localDateTime, this.localTime,
+                                          this.offsetDateTime, this.offsetTime, this.zonedDateTime,
+                                          this.instant, this.zoneId, this.duration, this.metrics, this.interner);
+  }
+
+  /**
+   * Returns a copy of this factory that converts {@code LocalDateTime} with the given converter.
+   * @param converter The converter.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withLocalDateTime(LocalDateTimeConverter converter)
+  {
+    return new JavaTimeTypeAdapterFactory(this.localDate, new LocalDateTimeTypeAdapter(converter), this.localTime,
+                                          this.offsetDateTime, this.offsetTime, this.zonedDateTime,
+                                          this.instant, this.zoneId, this.duration, this.metrics, this.interner);
+  }
+
+  /**
+   * Returns a copy of this factory that converts {@code LocalTime} with the given converter.
+   * @param converter The converter.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withLocalTime(LocalTimeConverter converter)
+  {
+    return new JavaTimeTypeAdapterFactory(this.localDate, this.localDateTime, new LocalTimeTypeAdapter(converter),
+                                          this.offsetDateTime, this.offsetTime, this.zonedDateTime,
+                                          this.instant, this.zoneId, this.duration, this.metrics, this.interner);
+  }
+
+  /**
+   * Returns a copy of this factory that converts {@code OffsetDateTime} with the given converter.
+   * @param converter The converter.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withOffsetDateTime(OffsetDateTimeConverter converter)
+  {
+    return new JavaTimeTypeAdapterFactory(this.localDate, this.localDateTime, this.localTime,
+                                          new OffsetDateTimeTypeAdapter(converter), this.offsetTime,
+                                          this.zonedDateTime, this.instant, this.zoneId, this.duration, this.metrics,
+                                          this.interner);
+  }
+
+  /**
+   * Returns a copy of this factory that converts {@code OffsetTime} with the given converter.
+   * @param converter The converter.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withOffsetTime(OffsetTimeConverter converter)
+  {
+    return new JavaTimeTypeAdapterFactory(this.localDate, this.localDateTime, this.localTime,
+                                          this.offsetDateTime, new OffsetTimeTypeAdapter(converter),
+                                          this.zonedDateTime, this.instant, this.zoneId, this.duration, this.metrics,
+                                          this.interner);
+  }
+
+  /**
+   * Returns a copy of this factory that converts {@code ZonedDateTime} with the given converter.
+   * @param converter The converter.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withZonedDateTime(ZonedDateTimeConverter converter)
+  {
+    return new JavaTimeTypeAdapterFactory(this.localDate, this.localDateTime, this.localTime,
+                                          this.offsetDateTime, this.offsetTime,
+                                          new ZonedDateTimeTypeAdapter(converter), this.instant, this.zoneId,
+                                          this.duration, this.metrics, this.interner);
+  }
+
+  /**
+   * Returns a copy of this factory that converts {@code Instant} with the given converter.
+   * @param converter The converter.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withInstant(InstantConverter converter)
+  {
+    return new JavaTimeTypeAdapterFactory(this.localDate, this.localDateTime, this.localTime,
+                                          this.offsetDateTime, this.offsetTime, this.zonedDateTime,
+                                          new InstantTypeAdapter(converter), this.zoneId, this.duration, this.metrics,
+                                          this.interner);
+  }
+
+  /**
+   * Returns a copy of this factory that converts {@code ZoneId} with the given converter.
+   * @param converter The converter.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withZoneId(ZoneIdConverter converter)
+  {
+    return new JavaTimeTypeAdapterFactory(this.localDate, this.localDateTime, this.localTime,
+                                          this.offsetDateTime, this.offsetTime, this.zonedDateTime,
+                                          this.instant, new ZoneIdTypeAdapter(converter), this.duration, this.metrics,
+                                          this.interner);
+  }
+
+  /**
+   * Returns a copy of this factory that converts {@code Duration} with the given converter.
+   * @param converter The converter.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withDuration(DurationConverter converter)
+  {
+    return new JavaTimeTypeAdapterFactory(this.localDate, this.localDateTime, this.localTime,
+                                          this.offsetDateTime, this.offsetTime, this.zonedDateTime,
+                                          this.instant, this.zoneId, new DurationTypeAdapter(converter), this.metrics,
+                                          this.interner);
+  }
+
+  /**
+   * Returns a copy of this factory whose adapters record call, character, failure and latency counts and
+   * input shapes in the given metrics.  Without metrics the adapters run uninstrumented.
+   * @param metrics The metrics to record.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withMetrics(ConverterMetrics metrics)
+  {
+    if (metrics == null) { throw new NullPointerException("metrics cannot be null"); }
+
+    return new JavaTimeTypeAdapterFactory(this.localDate, this.localDateTime, this.localTime,
+                                          this.offsetDateTime, this.offsetTime, this.zonedDateTime,
+                                          this.instant, this.zoneId, this.duration, metrics, this.interner);
+  }
+
+  /**
+   * Returns a copy of this factory whose adapters return the canonical instance of each value read from the
+   * given interner, which may be shared with other factories.  This makes reading slower in exchange for the
+   * heap saved by values that are kept; see {@link TemporalInterner}.  Only this factory's adapters intern, not
+   * the tree converters.  Writing is unaffected.
+   * @param interner The interner.
+   * @return The new factory.
+   */
+  public JavaTimeTypeAdapterFactory withInterner(TemporalInterner interner)
+  {
+    if (interner == null) { throw new NullPointerException("interner cannot be null"); }
+
+    return new JavaTimeTypeAdapterFactory(this.localDate, this.localDateTime, this.localTime,
+                                          this.offsetDateTime, this.offsetTime, this.zonedDateTime,
+                                          this.instant, this.zoneId, this.duration, this.metrics, interner);
+  }
+
+  /**
+   * Returns a type adapter for {@code type}, or null if this factory doesn't support {@code type}.
+   * @param gson The GSON instance requesting the adapter.
+   * @param type The type to adapt.
+   * @return The type adapter, or null.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)
+  {
+    final TypeAdapter<?> adapter = adapter(type.getRawType().getName());
+    if (adapter == null || this.wrapped == null)
+    {
+      return (TypeAdapter<T>) adapter;
+    }
+
+    return (TypeAdapter<T>) this.wrapped.get(adapter);
+  }
+
+  /**
+   * Checks whether this factory converts a type.
+   * @param type The raw type.
+   * @return True if {@link #create(Gson, TypeToken)} returns an adapter for the type.
+   */
+  boolean supports(Class<?> type)
+  {
+    return adapter(type.getName()) != null;
+  }
+
+  /**
+   * Returns the unwrapped adapter for a type.
+   * @param typeName The name of the raw type.
+   * @return The adapter, or null if this factory doesn't support the type.
+   */
+  private TypeAdapter<?> adapter(String typeName)
+  {
+    switch (typeName)
+    {
+      case "java.time.LocalDate":
+        return this.localDate;
+      case "java.time.LocalDateTime":
+        return this.localDateTime;
+      case "java.time.LocalTime":
+        return this.localTime;
+      case "java.time.OffsetDateTime":
+        return this.offsetDateTime;
+      case "java.time.OffsetTime":
+        return this.offsetTime;
+      case "java.time.ZonedDateTime":
+        return this.zonedDateTime;
+      case "java.time.Instant":
+        return this.instant;
+      case "java.time.ZoneId":
+      case "java.time.ZoneRegion":
+        return this.zoneId;
+      case "java.time.ZoneOffset":
+        return ZONE_OFFSET;
+      case "java.time.Duration":
+        return this.duration;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Wraps each adapter in an {@link InstrumentedTypeAdapter} and an {@link InterningTypeAdapter}, as configured.
+   * @param metrics The metrics to record, or null.
+   * @param interner The interner for values read, or null.
+   * @return The wrapped adapters, keyed by the adapter they wrap.
+   */
+  private Map<TypeAdapter<?>, TypeAdapter<?>> wrap(ConverterMetrics metrics, TemporalInterner interner)
+  {
+    final Map<TypeAdapter<?>, TypeAdapter<?>> adapters = new IdentityHashMap<>();
+    wrap(adapters, LocalDate.class, this.localDate, metrics, interner);
+    wrap(adapters, LocalDateTime.class, this.localDateTime, metrics, interner);
+    wrap(adapters, LocalTime.class, this.localTime, metrics, interner);
+    wrap(adapters, OffsetDateTime.class, this.offsetDateTime, metrics, interner);
+    wrap(adapters, OffsetTime.class, this.offsetTime, metrics, interner);
+    wrap(adapters, ZonedDateTime.class, this.zonedDateTime, metrics, interner);
+    wrap(adapters, Instant.class, this.instant, metrics, interner);
+    wrap(adapters, ZoneId.class, this.zoneId, metrics, interner);
+    wrap(adapters, ZoneOffset.class, ZONE_OFFSET, metrics, interner);
+    wrap(adapters, Duration.class, this.duration, metrics, interner);
+
+    return adapters;
+  }
+
+  /**
+   * Wraps one adapter.
+   * @param adapters The wrapped adapters, keyed by the adapter they wrap.
+   * @param type The converted type.
+   * @param adapter The adapter.
+   * @param metrics The metrics to record, or null.
+   * @param interner The interner for values read, or null.
+   * @param <T> The converted type.
+   */
+  private static <T> void wrap(Map<TypeAdapter<?>, TypeAdapter<?>> adapters, Class<T> type, TypeAdapter<T> adapter,
+                               ConverterMetrics metrics, TemporalInterner interner)
+  {
+    TypeAdapter<T> wrapped = adapter;
+    if (metrics != null)
+    {
+      wrapped = new InstrumentedTypeAdapter<>(type, adapter, metrics);
+    }
+
+    if (interner != null)
+    {
+      wrapped = new InterningTypeAdapter<>(wrapped, interner);
+    }
+
+    adapters.put(adapter, wrapped);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+
+/**
+ * Reads numbers from JSON trees as strictly as the streaming reader does.
+ */
+final class JsonNumbers
+{
+  /**
+   * Not instantiable.
+   */
+  private JsonNumbers()
+  {
+  }
+
+  /**
+   * Reads a JSON number as a long, rejecting fractions rather than truncating them as
+   * {@link JsonElement#getAsLong()} does, in line with {@link com.google.gson.stream.JsonReader#nextLong()}.
+   * @param json The JSON number.
+   * @return The value.
+   * @throws JsonParseException If the number isn't a whole number in the range of a long.
+   */
+  static long longValueExact(JsonElement json)
+  {
+    try
+    {
+      return json.getAsBigDecimal().longValueExact();
+    }
+    catch (ArithmeticException e)
+    {
+      throw new JsonParseException("Expected a long but was " + json, e);
+    }
+  }
+}
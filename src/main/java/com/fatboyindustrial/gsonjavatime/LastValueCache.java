@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+/**
+ * Remembers the last text a converter parsed and the value it produced, so that a run of identical inputs
+ * is parsed once and yields one shared instance. <p>
+ *
+ * The text and value are published together as one immutable entry through a volatile field, so the cache
+ * is lock-free and safe to share between threads: a reader sees either a complete earlier entry or a
+ * complete later one.  A hit doesn't write anything, so threads reading the same value don't contend.
+ * @param <T> The type of value, which must be immutable.
+ */
+final class LastValueCache<T>
+{
+  /** The most recent entry, or null if nothing has been parsed yet. */
+  private volatile Entry<T> last;
+
+  /**
+   * Returns the value for the given text, if it was the last text stored.
+   * @param text The text.
+   * @return The value, or null on a miss.
+   */
+  T get(String text)
+  {
+    final Entry<T> entry = this.last;
+    return entry != null && entry.text.equals(text) ? entry.value : null;
+  }
+
+  /**
+   * Stores the value for the given text, replacing the last entry.
+   * @param text The text.
+   * @param value The value parsed from {@code text}.
+   * @return {@code value}.
+   */
+  T put(String text, T value)
+  {
+    this.last = new Entry<>(text, value);
+    return value;
+  }
+
+  /**
+   * An immutable text and value pair.
+   * @param <T> The type of value.
+   */
+  private static final class Entry<T>
+  {
+    /** The text. */
+    private final String text;
+
+    /** The value parsed from the text. */
+    private final T value;
+
+    /**
+     * Constructs a new {@code Entry}.
+     * @param text The text.
+     * @param value The value parsed from the text.
+     */
+    private Entry(String text, T value)
+    {
+      this.text = text;
+      this.value = value;
+    }
+  }
+}
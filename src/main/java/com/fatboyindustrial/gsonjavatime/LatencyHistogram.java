@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies in power-of-two buckets. <p>
+ *
+ * Bucket 0 counts zero, and bucket {@code i} counts latencies from {@code 2^(i-1)} to {@code 2^i - 1}
+ * nanoseconds, so recording costs a leading-zero count and two {@link LongAdder} increments, and
+ * percentiles are reported as the upper bound of their bucket, within a factor of two.  Reads while
+ * latencies are being recorded are approximate.
+ */
+final class LatencyHistogram
+{
+  /** The number of buckets, enough for any non-negative long. */
+  private static final int BUCKETS = 64;
+
+  /** The number of latencies in each bucket. */
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+  /** The sum of all latencies, in nanoseconds. */
+  private final LongAdder total = new LongAdder();
+
+  /**
+   * Constructs a new, empty {@code LatencyHistogram}.
+   */
+  LatencyHistogram()
+  {
+    for (int i = 0; i < BUCKETS; i++)
+    {
+      this.buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a latency.
+   * @param nanos The latency in nanoseconds; negative values count as zero.
+   */
+  void record(long nanos)
+  {
+    final long latency = Math.max(0, nanos);
+    this.buckets[bucket(latency)].increment();
+    this.total.add(latency);
+  }
+
+  /**
+   * Returns the number of latencies recorded.
+   * @return The count.
+   */
+  long count()
+  {
+    long count = 0;
+    for (LongAdder bucket : this.buckets)
+    {
+      count += bucket.sum();
+    }
+
+    return count;
+  }
+
+  /**
+   * Returns the mean latency.
+   * @return The mean in nanoseconds, or zero if nothing has been recorded.
+   */
+  long meanNanos()
+  {
+    final long count = count();
+    return count == 0 ? 0 : this.total.sum() / count;
+  }
+
+  /**
+   * Returns an upper bound for a percentile of the recorded latencies.
+   * @param quantile The quantile, from 0 to 1.
+   * @return The upper bound of the bucket holding the percentile, in nanoseconds, or zero if nothing has
+   * been recorded.
+   */
+  long percentileNanos(double quantile)
+  {
+    final long[] counts = new long[BUCKETS];
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++)
+    {
+      counts[i] = this.buckets[i].sum();
+      count += counts[i];
+    }
+
+    final long rank = Math.max(1, (long) Math.ceil(quantile * count));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++)
+    {
+      seen += counts[i];
+      if (seen >= rank)
+      {
+        return upperBound(i);
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * Discards all recorded latencies.
+   */
+  void reset()
+  {
+    for (LongAdder bucket : this.buckets)
+    {
+      bucket.reset();
+    }
+
+    this.total.reset();
+  }
+
+  /**
+   * Finds the bucket for a latency.
+   * @param nanos The non-negative latency.
+   * @return The bucket index.
+   */
+  static int bucket(long nanos)
+  {
+    return Long.SIZE - Long.numberOfLeadingZeros(nanos);
+  }
+
+  /**
+   * Returns the largest latency counted by a bucket.
+   * @param bucket The bucket index.
+   * @return The upper bound in nanoseconds.
+   */
+  static long upperBound(int bucket)
+  {
+    return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+  }
+}
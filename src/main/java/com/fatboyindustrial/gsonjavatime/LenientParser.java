@@ -0,0 +1,586 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parses timestamps in any of the {@link TimestampShape}s. <p>
+ *
+ * The input is classified once by its length and a few character probes, then decoded by the matching
+ * shape's parser, so no exceptions are thrown for valid input; a single {@link DateTimeParseException} is
+ * thrown for input that no shape can decode.  Each parser counts the shapes it sees, and moves a shape
+ * ahead of its neighbour in the probe order once it has been seen more often, so the most common shape
+ * is soon probed first.  Instances are thread safe; concurrent reordering may lose an update, which only
+ * delays adaptation.
+ */
+final class LenientParser
+{
+  /** The probe order before any input has been seen. */
+  private static final TimestampShape[] INITIAL_ORDER =
+      { TimestampShape.UTC_DATE_TIME, TimestampShape.OFFSET_DATE_TIME, TimestampShape.LOCAL_DATE_TIME,
+        TimestampShape.ZONED_DATE_TIME, TimestampShape.EPOCH_NUMBER, TimestampShape.EPOCH_DECIMAL,
+        TimestampShape.LOCAL_DATE };
+
+  /** The length of {@code yyyy-MM-ddTHH:mm}. */
+  private static final int MIN_DATE_TIME_LENGTH = Iso8601Parser.DATE_LENGTH + 1 + Iso8601Parser.HOUR_MINUTE_LENGTH;
+
+  /** The most digits in an epoch number. */
+  private static final int MAX_EPOCH_DIGITS = 19;
+
+  /** The most whole digits in an epoch decimal. */
+  private static final int MAX_DECIMAL_DIGITS = 18;
+
+  /** The most digits in an epoch number of seconds, milliseconds and microseconds respectively. */
+  private static final int MAX_SECONDS_DIGITS = 11;
+  private static final int MAX_MILLIS_DIGITS = 14;
+  private static final int MAX_MICROS_DIGITS = 17;
+
+  /** Seconds per day. */
+  private static final long SECONDS_PER_DAY = 86_400L;
+
+  /** Nanoseconds per second. */
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /** The earliest epoch second an {@link OffsetDateTime} at UTC can hold. */
+  private static final long MIN_UTC_EPOCH_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+
+  /** The latest epoch second an {@link OffsetDateTime} at UTC can hold. */
+  private static final long MAX_UTC_EPOCH_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
+  /** The number of inputs seen of each shape, indexed by ordinal. */
+  private final LongAdder[] counts;
+
+  /** The order in which shapes are probed. */
+  private volatile TimestampShape[] order = INITIAL_ORDER;
+
+  /**
+   * Constructs a new {@code LenientParser}.
+   */
+  LenientParser()
+  {
+    this.counts = new LongAdder[TimestampShape.values().length];
+    for (int i = 0; i < this.counts.length; i++)
+    {
+      this.counts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Parses a timestamp as an instant.
+   * @param text The text to parse.
+   * @return The instant.
+   * @throws DateTimeParseException If the text isn't a timestamp in any of the recognised shapes.
+   */
+  Instant parseInstant(String text)
+  {
+    final Instant instant = tryParseInstant(text);
+    if (instant == null)
+    {
+      throw unparseable(text);
+    }
+
+    return instant;
+  }
+
+  /**
+   * Parses a timestamp as an instant without throwing.
+   * @param text The text to parse.
+   * @return The instant, or null if the text isn't a timestamp in any of the recognised shapes.
+   */
+  Instant tryParseInstant(String text)
+  {
+    final TimestampShape shape = classify(text);
+    switch (shape)
+    {
+      case EPOCH_NUMBER:
+        return epochNumber(text, Instant.MIN.getEpochSecond(), Instant.MAX.getEpochSecond());
+      case EPOCH_DECIMAL:
+        return epochDecimal(text, Instant.MIN.getEpochSecond(), Instant.MAX.getEpochSecond());
+      case UNRECOGNISED:
+        return null;
+      default:
+        final int date = Iso8601Parser.date(text, 0);
+        final int timeEnd = timeEnd(shape, text);
+        final long nanoOfDay = nanoOfDay(shape, text, timeEnd);
+        final int offset = offsetSeconds(shape, text, timeEnd, date, nanoOfDay);
+        if (offset == Iso8601Parser.NOT_CANONICAL)
+        {
+          return null;
+        }
+
+        final long epochDay = Iso8601Parser.epochDay(date / 10000, date / 100 % 100, date % 100);
+        final long epochSecond = epochDay * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND - offset;
+        return Instant.ofEpochSecond(epochSecond, nanoOfDay % NANOS_PER_SECOND);
+    }
+  }
+
+  /**
+   * Parses a timestamp as an offset date-time.  Shapes without an offset are given the UTC offset, and a
+   * zone without an offset is given the zone's offset at that local date-time.
+   * @param text The text to parse.
+   * @return The date-time.
+   * @throws DateTimeParseException If the text isn't a timestamp in any of the recognised shapes.
+   */
+  OffsetDateTime parseOffsetDateTime(String text)
+  {
+    final OffsetDateTime dateTime = tryParseOffsetDateTime(text);
+    if (dateTime == null)
+    {
+      throw unparseable(text);
+    }
+
+    return dateTime;
+  }
+
+  /**
+   * Parses a timestamp as an offset date-time without throwing.
+   * @param text The text to parse.
+   * @return The date-time, or null if the text isn't a timestamp in any of the recognised shapes.
+   */
+  OffsetDateTime tryParseOffsetDateTime(String text)
+  {
+    final TimestampShape shape = classify(text);
+    switch (shape)
+    {
+      case EPOCH_NUMBER:
+        return atUtc(epochNumber(text, MIN_UTC_EPOCH_SECOND, MAX_UTC_EPOCH_SECOND));
+      case EPOCH_DECIMAL:
+        return atUtc(epochDecimal(text, MIN_UTC_EPOCH_SECOND, MAX_UTC_EPOCH_SECOND));
+      case UNRECOGNISED:
+        return null;
+      default:
+        final int date = Iso8601Parser.date(text, 0);
+        final int timeEnd = timeEnd(shape, text);
+        final long nanoOfDay = nanoOfDay(shape, text, timeEnd);
+        final int offset = offsetSeconds(shape, text, timeEnd, date, nanoOfDay);
+        if (offset == Iso8601Parser.NOT_CANONICAL)
+        {
+          return null;
+        }
+
+        return OffsetDateTime.of(localDateTime(date, nanoOfDay), ZoneOffset.ofTotalSeconds(offset));
+    }
+  }
+
+  /**
+   * Returns the number of inputs seen of each shape.
+   * @return The counts, in shape order.
+   */
+  Map<TimestampShape, Long> statistics()
+  {
+    final Map<TimestampShape, Long> statistics = new EnumMap<>(TimestampShape.class);
+    for (TimestampShape shape : TimestampShape.values())
+    {
+      statistics.put(shape, this.counts[shape.ordinal()].sum());
+    }
+
+    return statistics;
+  }
+
+  /**
+   * Returns the order in which shapes are currently probed.
+   * @return The shapes, most likely first.
+   */
+  List<TimestampShape> probeOrder()
+  {
+    return Arrays.asList(this.order.clone());
+  }
+
+  /**
+   * Classifies text without recording it.
+   * @param text The text.
+   * @return The shape of the text.
+   */
+  static TimestampShape shapeOf(String text)
+  {
+    for (TimestampShape shape : INITIAL_ORDER)
+    {
+      if (matches(shape, text))
+      {
+        return shape;
+      }
+    }
+
+    return TimestampShape.UNRECOGNISED;
+  }
+
+  /**
+   * Classifies text by probing each shape in turn, and records the result.
+   * @param text The text.
+   * @return The shape of the text.
+   */
+  private TimestampShape classify(String text)
+  {
+    final TimestampShape[] candidates = this.order;
+    for (int i = 0; i < candidates.length; i++)
+    {
+      final TimestampShape shape = candidates[i];
+      if (matches(shape, text))
+      {
+        final LongAdder count = this.counts[shape.ordinal()];
+        count.increment();
+        if (i > 0 && count.sum() > this.counts[candidates[i - 1].ordinal()].sum())
+        {
+          final TimestampShape[] reordered = candidates.clone();
+          reordered[i] = candidates[i - 1];
+          reordered[i - 1] = shape;
+          this.order = reordered;
+        }
+
+        return shape;
+      }
+    }
+
+    this.counts[TimestampShape.UNRECOGNISED.ordinal()].increment();
+    return TimestampShape.UNRECOGNISED;
+  }
+
+  /**
+   * Checks whether text has the outline of a shape.  Only the characters that tell the shapes apart are
+   * probed; the shape's parser validates the rest.
+   * @param shape The shape.
+   * @param text The text.
+   * @return True if the text has the outline of the shape.
+   */
+  private static boolean matches(TimestampShape shape, String text)
+  {
+    final int length = text.length();
+    switch (shape)
+    {
+      case UTC_DATE_TIME:
+        return isDateTime(text) && (text.charAt(length - 1) == 'Z' || text.charAt(length - 1) == 'z');
+      case OFFSET_DATE_TIME:
+        return isDateTime(text) && offsetStart(text) > 0 && Iso8601Parser.isDigit(text.charAt(length - 1));
+      case ZONED_DATE_TIME:
+        return isDateTime(text) && text.charAt(length - 1) == ']';
+      case LOCAL_DATE_TIME:
+        return isDateTime(text) && offsetStart(text) < 0 && Iso8601Parser.isDigit(text.charAt(length - 1));
+      case LOCAL_DATE:
+        return length == Iso8601Parser.DATE_LENGTH && text.charAt(4) == '-' && text.charAt(7) == '-';
+      case EPOCH_NUMBER:
+        return isEpochNumber(text);
+      case EPOCH_DECIMAL:
+        return isEpochDecimal(text);
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Checks whether text starts with the outline of {@code yyyy-MM-dd HH:mm}.
+   * @param text The text.
+   * @return True if it does.
+   */
+  private static boolean isDateTime(String text)
+  {
+    if (text.length() < MIN_DATE_TIME_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(13) != ':')
+    {
+      return false;
+    }
+
+    final char separator = text.charAt(Iso8601Parser.DATE_LENGTH);
+    return separator == 'T' || separator == 't' || separator == ' ';
+  }
+
+  /**
+   * Finds the sign of a numeric offset following the time.
+   * @param text The text, which has the outline of a date-time.
+   * @return The position of the sign, or -1 if there isn't one.
+   */
+  private static int offsetStart(String text)
+  {
+    for (int i = MIN_DATE_TIME_LENGTH; i < text.length(); i++)
+    {
+      final char c = text.charAt(i);
+      if (c == '+' || c == '-')
+      {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Checks whether text is a whole number that fits in a long.
+   * @param text The text.
+   * @return True if it is.
+   */
+  private static boolean isEpochNumber(String text)
+  {
+    final int start = text.startsWith("-") ? 1 : 0;
+    final int digits = text.length() - start;
+    if (digits < 1 || digits > MAX_EPOCH_DIGITS)
+    {
+      return false;
+    }
+
+    for (int i = start; i < text.length(); i++)
+    {
+      if (!Iso8601Parser.isDigit(text.charAt(i)))
+      {
+        return false;
+      }
+    }
+
+    // nineteen digits may not fit, and comparing the text avoids a NumberFormatException
+    return digits < MAX_EPOCH_DIGITS
+           || text.substring(start).compareTo(start == 0 ? "9223372036854775807" : "9223372036854775808") <= 0;
+  }
+
+  /**
+   * Checks whether text is a plain decimal number with up to 18 whole digits and up to nine fractional digits.
+   * @param text The text.
+   * @return True if it is.
+   */
+  private static boolean isEpochDecimal(String text)
+  {
+    final int start = text.startsWith("-") ? 1 : 0;
+    final int point = text.indexOf('.');
+    if (point <= start || point - start > MAX_DECIMAL_DIGITS || text.length() - point - 1 < 1
+        || text.length() - point - 1 > 9)
+    {
+      return false;
+    }
+
+    for (int i = start; i < text.length(); i++)
+    {
+      if (i != point && !Iso8601Parser.isDigit(text.charAt(i)))
+      {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Decodes an epoch number, inferring its unit from the number of digits.
+   * @param text The text, which has the {@link TimestampShape#EPOCH_NUMBER} shape.
+   * @param minSecond The earliest epoch second allowed.
+   * @param maxSecond The latest epoch second allowed.
+   * @return The instant, or null if it is out of range.
+   */
+  private static Instant epochNumber(String text, long minSecond, long maxSecond)
+  {
+    final long value = Long.parseLong(text);
+    final int digits = text.startsWith("-") ? text.length() - 1 : text.length();
+    if (digits <= MAX_SECONDS_DIGITS)
+    {
+      return ofEpochSecond(value, 0, minSecond, maxSecond);
+    }
+
+    final long unitsPerSecond = digits <= MAX_MILLIS_DIGITS ? 1_000L
+                                : digits <= MAX_MICROS_DIGITS ? 1_000_000L : NANOS_PER_SECOND;
+    final long nanos = Math.floorMod(value, unitsPerSecond) * (NANOS_PER_SECOND / unitsPerSecond);
+    return ofEpochSecond(Math.floorDiv(value, unitsPerSecond), nanos, minSecond, maxSecond);
+  }
+
+  /**
+   * Decodes a decimal number of epoch seconds.
+   * @param text The text, which has the {@link TimestampShape#EPOCH_DECIMAL} shape.
+   * @param minSecond The earliest epoch second allowed.
+   * @param maxSecond The latest epoch second allowed.
+   * @return The instant, or null if it is out of range.
+   */
+  private static Instant epochDecimal(String text, long minSecond, long maxSecond)
+  {
+    return ofEpochSecond(DecimalSeconds.seconds(text), DecimalSeconds.nanos(text), minSecond, maxSecond);
+  }
+
+  /**
+   * Builds an instant as {@link Instant#ofEpochSecond(long, long)} does, but returns null rather than throwing
+   * when it falls outside the given range.
+   * @param seconds The epoch seconds.
+   * @param nanoAdjustment The nanosecond adjustment, from -999,999,999 to 999,999,999.
+   * @param minSecond The earliest epoch second allowed.
+   * @param maxSecond The latest epoch second allowed.
+   * @return The instant, or null if it is out of range.
+   */
+  private static Instant ofEpochSecond(long seconds, long nanoAdjustment, long minSecond, long maxSecond)
+  {
+    final long second = seconds + Math.floorDiv(nanoAdjustment, NANOS_PER_SECOND);
+    return second >= minSecond && second <= maxSecond ? Instant.ofEpochSecond(seconds, nanoAdjustment) : null;
+  }
+
+  /**
+   * Converts an instant to a date-time at UTC.
+   * @param instant The instant; may be null.
+   * @return The date-time, or null.
+   */
+  private static OffsetDateTime atUtc(Instant instant)
+  {
+    return instant != null ? OffsetDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+  }
+
+  /**
+   * Finds the end of the time in a date-time shape.
+   * @param shape The shape.
+   * @param text The text.
+   * @return The end of the time (exclusive), the length of the date for {@link TimestampShape#LOCAL_DATE},
+   * or -1 if the time isn't valid.
+   */
+  private static int timeEnd(TimestampShape shape, String text)
+  {
+    if (shape == TimestampShape.LOCAL_DATE)
+    {
+      return Iso8601Parser.DATE_LENGTH;
+    }
+
+    return Iso8601Parser.timeEnd(text, Iso8601Parser.DATE_LENGTH + 1);
+  }
+
+  /**
+   * Decodes the time in a date-time shape.
+   * @param shape The shape.
+   * @param text The text.
+   * @param timeEnd The end of the time, from {@link #timeEnd(TimestampShape, String)}.
+   * @return The nano-of-day, or -1 if the time isn't valid.
+   */
+  private static long nanoOfDay(TimestampShape shape, String text, int timeEnd)
+  {
+    if (shape == TimestampShape.LOCAL_DATE)
+    {
+      return 0;
+    }
+
+    return timeEnd < 0 ? -1 : Iso8601Parser.nanoOfDay(text, Iso8601Parser.DATE_LENGTH + 1, timeEnd);
+  }
+
+  /**
+   * Decodes the offset of a date-time shape, resolving a zone if need be.
+   * @param shape The shape.
+   * @param text The text.
+   * @param timeEnd The end of the time.
+   * @param date The date packed as {@code yyyyMMdd}, or {@link Iso8601Parser#NOT_CANONICAL}.
+   * @param nanoOfDay The nano-of-day, or -1.
+   * @return The offset in seconds, or {@link Iso8601Parser#NOT_CANONICAL} if the date, time or offset isn't valid.
+   */
+  private static int offsetSeconds(TimestampShape shape, String text, int timeEnd, int date, long nanoOfDay)
+  {
+    if (date == Iso8601Parser.NOT_CANONICAL || nanoOfDay < 0)
+    {
+      return Iso8601Parser.NOT_CANONICAL;
+    }
+
+    final int length = text.length();
+    switch (shape)
+    {
+      case UTC_DATE_TIME:
+        return timeEnd == length - 1 ? 0 : Iso8601Parser.NOT_CANONICAL;
+      case OFFSET_DATE_TIME:
+        return offset(text, timeEnd, length);
+      case LOCAL_DATE_TIME:
+      case LOCAL_DATE:
+        return timeEnd == length ? 0 : Iso8601Parser.NOT_CANONICAL;
+      default:
+        final int bracket = text.indexOf('[', timeEnd);
+        if (bracket < 0 || length - bracket < 3)
+        {
+          return Iso8601Parser.NOT_CANONICAL;
+        }
+
+        if (bracket > timeEnd)
+        {
+          return offset(text, timeEnd, bracket);
+        }
+
+        final ZoneId zone = ZoneIdCache.lookup(text.substring(bracket + 1, length - 1));
+        if (zone == null)
+        {
+          return Iso8601Parser.NOT_CANONICAL;
+        }
+
+        return zone.getRules().getOffset(localDateTime(date, nanoOfDay)).getTotalSeconds();
+    }
+  }
+
+  /**
+   * Decodes an offset in the {@code Z}, {@code +HH}, {@code +HHMM}, {@code +HH:MM} or {@code +HH:MM:SS}
+   * layout occupying exactly {@code [pos, end)}.
+   * @param text The text.
+   * @param pos The position of the offset.
+   * @param end The end of the offset, exclusive.
+   * @return The total offset in seconds, or {@link Iso8601Parser#NOT_CANONICAL}.
+   */
+  private static int offset(String text, int pos, int end)
+  {
+    final int length = end - pos;
+    if (length == 1 && text.charAt(pos) == 'z')
+    {
+      return 0;
+    }
+
+    if (length != 3 && length != 5)
+    {
+      return Iso8601Parser.offsetSeconds(text, pos, end);
+    }
+
+    final char sign = text.charAt(pos);
+    final int hours = Iso8601Parser.digits2(text, pos + 1);
+    final int minutes = length == 5 ? Iso8601Parser.digits2(text, pos + 3) : 0;
+    if ((sign != '+' && sign != '-') || hours < 0 || hours > 18 || minutes < 0 || minutes > 59
+        || (hours == 18 && minutes > 0))
+    {
+      return Iso8601Parser.NOT_CANONICAL;
+    }
+
+    final int total = hours * 3600 + minutes * 60;
+    return sign == '-' ? -total : total;
+  }
+
+  /**
+   * Builds a local date-time from decoded fields.
+   * @param date The date packed as {@code yyyyMMdd}.
+   * @param nanoOfDay The nano-of-day.
+   * @return The date-time.
+   */
+  private static LocalDateTime localDateTime(int date, long nanoOfDay)
+  {
+    return LocalDateTime.of(LocalDate.of(date / 10000, date / 100 % 100, date % 100), LocalTime.ofNanoOfDay(nanoOfDay));
+  }
+
+  /**
+   * Creates the exception for text that no shape can decode.
+   * @param text The text.
+   * @return The exception.
+   */
+  private static DateTimeParseException unparseable(String text)
+  {
+    return new DateTimeParseException("Text '" + text + "' is not a recognised timestamp", text, 0);
+  }
+}
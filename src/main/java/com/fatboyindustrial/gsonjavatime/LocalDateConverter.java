@@ -30,18 +30,71 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 /**
  * GSON serialiser/deserialiser for converting {@link LocalDate} objects.
  */
 public class LocalDateConverter implements JsonSerializer<LocalDate>, JsonDeserializer<LocalDate>
 {
-  /** Formatter. */
-  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+  /** The encoding to write. */
+  private final LocalDateEncoding encoding;
+
+  /** The table of dates and strings in a range of years, or null if the table is off. */
+  private final LocalDateTable table;
+
+  /**
+   * Constructs a new {@code LocalDateConverter} that writes ISO 8601 strings.
+   */
+  public LocalDateConverter()
+  {
+    this(LocalDateEncoding.ISO_8601);
+  }
+
+  /**
+   * Constructs a new {@code LocalDateConverter}.
+   * @param encoding The encoding to write.  ISO 8601 strings are always accepted when reading, and JSON
+   * numbers are read according to this encoding.
+   */
+  public LocalDateConverter(LocalDateEncoding encoding)
+  {
+    this(encoding, null);
+  }
+
+  /**
+   * Constructs a new {@code LocalDateConverter}.
+   * @param encoding The encoding to write.
+   * @param table The table of dates and strings, or null for none.
+   */
+  private LocalDateConverter(LocalDateEncoding encoding, LocalDateTable table)
+  {
+    if (encoding == null) { throw new NullPointerException("encoding cannot be null"); }
+
+    this.encoding = encoding;
+    this.table = table;
+  }
+
+  /**
+   * Returns a copy of this converter that converts the dates of the given years through a lookup table.  Each
+   * year is built on first use, with one canonical {@code LocalDate} and string per day, so a date in range is
+   * read and written without parsing or formatting, and every read of the same date yields the same instance.
+   * Dates outside the range are converted as before.
+   * @param fromYear The first year, from 0 to 9999.
+   * @param toYear The last year, from {@code fromYear} to 9999.
+   * @return The converter.
+   * @throws IllegalArgumentException If the range isn't valid.
+   */
+  public LocalDateConverter withLookupTable(int fromYear, int toYear)
+  {
+    return new LocalDateConverter(this.encoding, new LocalDateTable(fromYear, toYear));
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -60,7 +113,13 @@ public class LocalDateConverter implements JsonSerializer<LocalDate>, JsonDeseri
   @Override
   public JsonElement serialize(LocalDate src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(FORMATTER.format(src));
+    if (this.encoding == LocalDateEncoding.ISO_8601)
+    {
+      final JsonPrimitive primitive = this.table != null ? this.table.primitive(src) : null;
+      return primitive != null ? primitive : new JsonPrimitive(Iso8601Formatter.formatLocalDate(src));
+    }
+
+    return new JsonPrimitive(toNumber(src));
   }
 
   /**
@@ -82,6 +141,98 @@ public class LocalDateConverter implements JsonSerializer<LocalDate>, JsonDeseri
   public LocalDate deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException
   {
-    return FORMATTER.parse(json.getAsString(), LocalDate::from);
+    if (this.encoding != LocalDateEncoding.ISO_8601 && json.isJsonPrimitive() && json.getAsJsonPrimitive().isNumber())
+    {
+      return fromNumber(JsonNumbers.longValueExact(json));
+    }
+
+    return parse(json.getAsString());
+  }
+
+  /**
+   * Writes {@code src} to the given streaming writer.
+   * @param out The JSON writer.
+   * @param src The non-null object to write.
+   * @throws IOException If writing fails.
+   */
+  void write(JsonWriter out, LocalDate src) throws IOException
+  {
+    if (this.encoding == LocalDateEncoding.ISO_8601)
+    {
+      final String text = this.table != null ? this.table.format(src) : null;
+      out.value(text != null ? text : Iso8601Formatter.formatLocalDate(src));
+      return;
+    }
+
+    out.value(toNumber(src));
+  }
+
+  /**
+   * Reads the next value from the given streaming reader.
+   * @param in The JSON reader, positioned at a non-null value.
+   * @return The converted object.
+   * @throws IOException If reading fails.
+   */
+  LocalDate read(JsonReader in) throws IOException
+  {
+    if (this.encoding != LocalDateEncoding.ISO_8601 && in.peek() == JsonToken.NUMBER)
+    {
+      return fromNumber(in.nextLong());
+    }
+
+    return parse(in.nextString());
+  }
+
+  /**
+   * Parses an ISO 8601 string, looking it up in the table first if there is one.
+   * @param text The string.
+   * @return The date.
+   */
+  private LocalDate parse(String text)
+  {
+    final LocalDate date = this.table != null ? this.table.parse(text) : null;
+    return date != null ? date : Iso8601Parser.parseLocalDate(text);
+  }
+
+  /**
+   * Converts a date to its numeric form.
+   * @param src The date.
+   * @return The epoch day or packed {@code yyyyMMdd} value.
+   * @throws DateTimeException If a packed date has a negative year.
+   */
+  private long toNumber(LocalDate src)
+  {
+    if (this.encoding == LocalDateEncoding.EPOCH_DAY)
+    {
+      return src.toEpochDay();
+    }
+
+    if (src.getYear() < 0)
+    {
+      throw new DateTimeException("Cannot pack a negative year: " + src);
+    }
+
+    return src.getYear() * 10000L + src.getMonthValue() * 100 + src.getDayOfMonth();
+  }
+
+  /**
+   * Converts a numeric form to a date.
+   * @param value The epoch day or packed {@code yyyyMMdd} value.
+   * @return The date.
+   * @throws DateTimeException If the value isn't a valid date.
+   */
+  private LocalDate fromNumber(long value)
+  {
+    if (this.encoding == LocalDateEncoding.EPOCH_DAY)
+    {
+      return LocalDate.ofEpochDay(value);
+    }
+
+    if (value < 0 || value / 10000 > Integer.MAX_VALUE)
+    {
+      throw new DateTimeException("Invalid packed date: " + value);
+    }
+
+    return LocalDate.of((int) (value / 10000), (int) (value / 100 % 100), (int) (value % 100));
   }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.JsonPrimitive;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A two-way table between the dates of a range of years and their {@code yyyy-MM-dd} strings. <p>
+ *
+ * Each year is built the first time one of its dates is looked up, holding one canonical {@code LocalDate},
+ * string and {@code JsonPrimitive} per day.  Lookups decode or read the month and day and index straight into
+ * the year, so converting a date in range costs no parsing or formatting, and every read of the same date
+ * yields the same instance.  Years are published with a compare-and-set, so threads racing to build one agree
+ * on a single copy.  Dates outside the range aren't in the table, and the caller falls back to
+ * {@link Iso8601Parser} and {@link Iso8601Formatter}.
+ */
+final class LocalDateTable
+{
+  /** Slots per year: twelve months of 31 days, so a date's slot is computed without a day-of-year table. */
+  private static final int SLOTS_PER_YEAR = 12 * 31;
+
+  /** The first year in the table. */
+  private final int fromYear;
+
+  /** The last year in the table. */
+  private final int toYear;
+
+  /** The years built so far, indexed from {@link #fromYear}. */
+  private final AtomicReferenceArray<Year> years;
+
+  /**
+   * Constructs a new, empty {@code LocalDateTable}.
+   * @param fromYear The first year to hold, from 0 to 9999.
+   * @param toYear The last year to hold, from {@code fromYear} to 9999.
+   * @throws IllegalArgumentException If the range isn't valid.
+   */
+  LocalDateTable(int fromYear, int toYear)
+  {
+    if (fromYear < 0 || toYear > 9999 || fromYear > toYear)
+    {
+      throw new IllegalArgumentException("years must be in the range 0 to 9999: " + fromYear + " to " + toYear);
+    }
+
+    this.fromYear = fromYear;
+    this.toYear = toYear;
+    this.years = new AtomicReferenceArray<>(toYear - fromYear + 1);
+  }
+
+  /**
+   * Returns the canonical date for a {@code yyyy-MM-dd} string.
+   * @param text The text.
+   * @return The date, or null if the text isn't a valid date in range.
+   */
+  LocalDate parse(String text)
+  {
+    if (text.length() != Iso8601Parser.DATE_LENGTH)
+    {
+      return null;
+    }
+
+    final int date = Iso8601Parser.date(text, 0);
+    if (date == Iso8601Parser.NOT_CANONICAL)
+    {
+      return null;
+    }
+
+    final Year year = year(date / 10000);
+    return year != null ? year.dates[slot(date / 100 % 100, date % 100)] : null;
+  }
+
+  /**
+   * Returns the canonical string for a date.
+   * @param value The date.
+   * @return The string, or null if the date isn't in range.
+   */
+  String format(LocalDate value)
+  {
+    final Year year = year(value.getYear());
+    return year != null ? year.texts[slot(value.getMonthValue(), value.getDayOfMonth())] : null;
+  }
+
+  /**
+   * Returns the canonical JSON string for a date.
+   * @param value The date.
+   * @return The JSON string, or null if the date isn't in range.
+   */
+  JsonPrimitive primitive(LocalDate value)
+  {
+    final Year year = year(value.getYear());
+    return year != null ? year.primitives[slot(value.getMonthValue(), value.getDayOfMonth())] : null;
+  }
+
+  /**
+   * Returns a year of the table, building it if this is its first use.
+   * @param year The year.
+   * @return The year's entries, or null if the year isn't in range.
+   */
+  private Year year(int year)
+  {
+    if (year < this.fromYear || year > this.toYear)
+    {
+      return null;
+    }
+
+    final int index = year - this.fromYear;
+    final Year existing = this.years.get(index);
+    if (existing != null)
+    {
+      return existing;
+    }
+
+    final Year built = new Year(year);
+    return this.years.compareAndSet(index, null, built) ? built : this.years.get(index);
+  }
+
+  /**
+   * Computes the slot of a date within its year.
+   * @param month The month, from 1 to 12.
+   * @param day The day of month, from 1 to 31.
+   * @return The slot.
+   */
+  private static int slot(int month, int day)
+  {
+    return (month - 1) * 31 + day - 1;
+  }
+
+  /**
+   * The immutable entries of one year.  Slots for days a month doesn't have are null.
+   */
+  private static final class Year
+  {
+    /** The dates. */
+    private final LocalDate[] dates = new LocalDate[SLOTS_PER_YEAR];
+
+    /** The {@code yyyy-MM-dd} strings. */
+    private final String[] texts = new String[SLOTS_PER_YEAR];
+
+    /** The JSON strings. */
+    private final JsonPrimitive[] primitives = new JsonPrimitive[SLOTS_PER_YEAR];
+
+    /**
+     * Builds the entries of a year.
+     * @param year The year, from 0 to 9999.
+     */
+    private Year(int year)
+    {
+      for (LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1))
+      {
+        final int slot = slot(date.getMonthValue(), date.getDayOfMonth());
+        this.dates[slot] = date;
+        this.texts[slot] = Iso8601Formatter.formatLocalDate(date);
+        this.primitives[slot] = new JsonPrimitive(this.texts[slot]);
+      }
+    }
+  }
+}
@@ -30,18 +30,136 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Consumer;
 
 /**
  * GSON serialiser/deserialiser for converting {@link LocalDateTime} objects.
  */
 public class LocalDateTimeConverter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime>
 {
-  /** Formatter. */
-  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+  /** The options this converter was built from, which copies start from. */
+  private final Options options;
+
+  /** The encoding to write. */
+  private final LocalDateTimeEncoding encoding;
+
+  /** The precision to write. */
+  private final TimePrecision precision;
+
+  /** Whether ISO 8601 strings are written with a fixed number of fractional digits. */
+  private final boolean fixedWidth;
+
+  /** The parser reusing the date of the last string read, or null if date prefix caching is off. */
+  private final DatePrefixParser datePrefix;
+
+  /** The parser truncating values read to a unit, or null if truncation on read is off. */
+  private final TruncatingParser truncation;
+
+  /**
+   * Constructs a new {@code LocalDateTimeConverter} that writes ISO 8601 strings.
+   */
+  public LocalDateTimeConverter()
+  {
+    this(LocalDateTimeEncoding.ISO_8601);
+  }
+
+  /**
+   * Constructs a new {@code LocalDateTimeConverter}.
+   * @param encoding The encoding to write.  ISO 8601 strings are always accepted when reading, and JSON
+   * numbers are read according to this encoding.
+   */
+  public LocalDateTimeConverter(LocalDateTimeEncoding encoding)
+  {
+    this(new Options(encoding));
+  }
+
+  /**
+   * Constructs a new {@code LocalDateTimeConverter}.
+   * @param options The options, which are owned by the converter from now on.
+   */
+  private LocalDateTimeConverter(Options options)
+  {
+    if (options.encoding == null) { throw new NullPointerException("encoding cannot be null"); }
+    if (options.precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    this.options = options;
+    this.encoding = options.encoding;
+    this.precision = options.precision;
+    this.fixedWidth = options.fixedWidth;
+    this.datePrefix = options.cacheDatePrefix ? new DatePrefixParser() : null;
+    this.truncation = options.truncation != null ? new TruncatingParser(options.truncation) : null;
+  }
+
+  /**
+   * Returns a copy of this converter that truncates date-times to the given precision when writing.  Reading is
+   * unaffected.
+   * @param precision The precision to write.
+   * @return The converter.
+   */
+  public LocalDateTimeConverter withPrecision(TimePrecision precision)
+  {
+    return copy(options -> options.precision = precision);
+  }
+
+  /**
+   * Returns a copy of this converter that writes ISO 8601 strings with exactly as many fractional digits as
+   * its precision has (none at {@link TimePrecision#SECONDS}), rather than dropping trailing zeros.  Every
+   * fraction then has the same length, and strings in that layout are read by a fixed-position parser.
+   * @return The converter.
+   */
+  public LocalDateTimeConverter withFixedWidthFraction()
+  {
+    return copy(options -> options.fixedWidth = true);
+  }
+
+  /**
+   * Returns a copy of this converter that keeps the decoded date of the last ISO 8601 string read, so that a
+   * date-time on the same date as its predecessor only has its time decoded.  This suits sorted streams of
+   * timestamps, such as replayed event history; the values read are unchanged.
+   * @return The converter.
+   */
+  public LocalDateTimeConverter withDatePrefixCache()
+  {
+    return copy(options -> options.cacheDatePrefix = true);
+  }
+
+  /**
+   * Returns a copy of this converter that truncates every value read to the given unit, as if by
+   * {@link LocalDateTime#truncatedTo(java.time.temporal.TemporalUnit)}.  Canonical ISO 8601 strings have only
+   * the fields the unit keeps decoded, and values in the same bucket, such as the same hour, are read as one
+   * shared instance from a small ring of recent buckets.  Writing is unaffected.
+   * @param unit The unit: {@code SECONDS}, {@code MINUTES}, {@code HOURS} or {@code DAYS}.
+   * @return The converter.
+   * @throws IllegalArgumentException If the unit isn't supported.
+   */
+  public LocalDateTimeConverter withReadTruncation(ChronoUnit unit)
+  {
+    if (unit == null) { throw new NullPointerException("unit cannot be null"); }
+
+    return copy(options -> options.truncation = unit);
+  }
+
+  /**
+   * Returns a new converter built from a copy of this converter's options with one change applied.  Each
+   * converter builds its own caches, so copies never share mutable state.
+   * @param change Applies the change to the copied options.
+   * @return The converter.
+   */
+  private LocalDateTimeConverter copy(Consumer<Options> change)
+  {
+    final Options options = this.options.copy();
+    change.accept(options);
+    return new LocalDateTimeConverter(options);
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -60,7 +178,12 @@ public class LocalDateTimeConverter implements JsonSerializer<LocalDateTime>, Js
   @Override
   public JsonElement serialize(LocalDateTime src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(FORMATTER.format(src));
+    if (this.encoding == LocalDateTimeEncoding.ISO_8601)
+    {
+      return new JsonPrimitive(Iso8601Formatter.formatLocalDateTime(src, this.precision, this.fixedWidth));
+    }
+
+    return new JsonPrimitive(toNumber(src));
   }
 
   /**
@@ -82,6 +205,176 @@ public class LocalDateTimeConverter implements JsonSerializer<LocalDateTime>, Js
   public LocalDateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException
   {
-    return FORMATTER.parse(json.getAsString(), LocalDateTime::from);
+    if (this.encoding != LocalDateTimeEncoding.ISO_8601 && json.isJsonPrimitive() && json.getAsJsonPrimitive().isNumber())
+    {
+      return truncateRead(fromNumber(JsonNumbers.longValueExact(json)));
+    }
+
+    return parse(json.getAsString());
+  }
+
+  /**
+   * Writes {@code src} to the given streaming writer.
+   * @param out The JSON writer.
+   * @param src The non-null object to write.
+   * @throws IOException If writing fails.
+   */
+  void write(JsonWriter out, LocalDateTime src) throws IOException
+  {
+    if (this.encoding == LocalDateTimeEncoding.ISO_8601)
+    {
+      out.value(Iso8601Formatter.formatLocalDateTime(src, this.precision, this.fixedWidth));
+      return;
+    }
+
+    out.value(toNumber(src));
+  }
+
+  /**
+   * Reads the next value from the given streaming reader.
+   * @param in The JSON reader, positioned at a non-null value.
+   * @return The converted object.
+   * @throws IOException If reading fails.
+   */
+  LocalDateTime read(JsonReader in) throws IOException
+  {
+    if (this.encoding != LocalDateTimeEncoding.ISO_8601 && in.peek() == JsonToken.NUMBER)
+    {
+      return truncateRead(fromNumber(in.nextLong()));
+    }
+
+    return parse(in.nextString());
+  }
+
+  /**
+   * Parses an ISO 8601 string, decoding it directly if it is in the fixed-width layout being written, or
+   * reusing the last date if the date prefix is cached, or decoding only the fields kept if values are
+   * truncated on read.
+   * @param text The string.
+   * @return The date-time.
+   */
+  private LocalDateTime parse(String text)
+  {
+    if (this.truncation != null)
+    {
+      final LocalDateTime value = this.truncation.parseLocalDateTime(text);
+      if (value != null)
+      {
+        return value;
+      }
+    }
+
+    if (this.fixedWidth)
+    {
+      final LocalDateTime value = Iso8601Parser.fixedWidthLocalDateTime(text, this.precision.fractionDigits());
+      if (value != null)
+      {
+        return truncateRead(value);
+      }
+    }
+
+    if (this.datePrefix != null)
+    {
+      final LocalDateTime value = this.datePrefix.parseLocalDateTime(text);
+      if (value != null)
+      {
+        return truncateRead(value);
+      }
+    }
+
+    return truncateRead(Iso8601Parser.parseLocalDateTime(text));
+  }
+
+  /**
+   * Truncates a value read to the unit configured by {@link #withReadTruncation(ChronoUnit)}.
+   * @param value The date-time.
+   * @return The truncated date-time, or {@code value} itself if truncation on read is off.
+   */
+  private LocalDateTime truncateRead(LocalDateTime value)
+  {
+    return this.truncation != null ? this.truncation.truncate(value) : value;
+  }
+
+  /**
+   * Converts a date-time to its packed {@code yyyyMMddHHmmss} form.
+   * @param src The date-time.
+   * @return The packed value.
+   * @throws DateTimeException If the year is negative.
+   */
+  private static long toNumber(LocalDateTime src)
+  {
+    if (src.getYear() < 0)
+    {
+      throw new DateTimeException("Cannot pack a negative year: " + src);
+    }
+
+    final long date = src.getYear() * 10000L + src.getMonthValue() * 100 + src.getDayOfMonth();
+    return date * 1_000_000L + src.getHour() * 10000 + src.getMinute() * 100 + src.getSecond();
+  }
+
+  /**
+   * Converts a packed {@code yyyyMMddHHmmss} value to a date-time.
+   * @param value The packed value.
+   * @return The date-time.
+   * @throws DateTimeException If the value isn't a valid date-time.
+   */
+  private static LocalDateTime fromNumber(long value)
+  {
+    final long date = value / 1_000_000L;
+    if (value < 0 || date / 10000 > Integer.MAX_VALUE)
+    {
+      throw new DateTimeException("Invalid packed date-time: " + value);
+    }
+
+    final int time = (int) (value % 1_000_000L);
+    return LocalDateTime.of((int) (date / 10000), (int) (date / 100 % 100), (int) (date % 100),
+                            time / 10000, time / 100 % 100, time % 100);
+  }
+
+  /**
+   * The options a converter is built from.  An instance is only changed while a copy is being configured,
+   * before the converter built from it exists.
+   */
+  private static final class Options implements Cloneable
+  {
+    /** The encoding to write. */
+    private LocalDateTimeEncoding encoding;
+
+    /** The precision to write. */
+    private TimePrecision precision = TimePrecision.NANOS;
+
+    /** Whether to write a fixed number of fractional digits. */
+    private boolean fixedWidth;
+
+    /** Whether to reuse the decoded date of the last string read. */
+    private boolean cacheDatePrefix;
+
+    /** The unit to truncate values read to, or null to keep them exact. */
+    private ChronoUnit truncation;
+
+    /**
+     * Constructs the default options.
+     * @param encoding The encoding to write.
+     */
+    private Options(LocalDateTimeEncoding encoding)
+    {
+      this.encoding = encoding;
+    }
+
+    /**
+     * Copies these options.
+     * @return The copy.
+     */
+    private Options copy()
+    {
+      try
+      {
+        return (Options) super.clone();
+      }
+      catch (CloneNotSupportedException e)
+      {
+        throw new AssertionError(e);
+      }
+    }
   }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+/**
+ * The JSON encodings supported by {@link LocalDateTimeConverter}.  Whatever the encoding, an ISO 8601 string
+ * is always accepted when reading; JSON numbers are read according to the configured encoding.
+ */
+public enum LocalDateTimeEncoding
+{
+  /** An ISO 8601 string, as produced by {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}. */
+  ISO_8601,
+
+  /**
+   * A JSON number whose decimal digits read {@code yyyyMMddHHmmss}, such as {@code 19690721125600}.  Years
+   * must not be negative, and sub-second precision is truncated.
+   */
+  PACKED_YYYYMMDDHHMMSS
+}
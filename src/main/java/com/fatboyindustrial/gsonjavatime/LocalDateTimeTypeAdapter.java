@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Streaming GSON type adapter for converting {@link LocalDateTime} objects. <p>
+ *
+ * Produces the same JSON as {@link LocalDateTimeConverter}, but reads and writes the token stream directly
+ * rather than going through an intermediate {@code JsonElement} tree.
+ */
+public class LocalDateTimeTypeAdapter extends AbstractJavaTimeAdapter<LocalDateTime>
+{
+  /** The converter that performs the actual conversion. */
+  private final LocalDateTimeConverter converter;
+
+  /**
+   * Constructs a new {@code LocalDateTimeTypeAdapter} using a default {@link LocalDateTimeConverter}.
+   */
+  public LocalDateTimeTypeAdapter()
+  {
+    this(new LocalDateTimeConverter());
+  }
+
+  /**
+   * Constructs a new {@code LocalDateTimeTypeAdapter} delegating to the given converter.
+   * @param converter The converter that performs the actual conversion.
+   */
+  public LocalDateTimeTypeAdapter(LocalDateTimeConverter converter)
+  {
+    super("LocalDateTime");
+
+    if (converter == null) { throw new NullPointerException("converter cannot be null"); }
+
+    this.converter = converter;
+  }
+
+  /**
+   * Writes a non-null value.
+   * @param out The JSON writer.
+   * @param value The value.
+   * @throws IOException If writing fails.
+   */
+  @Override
+  void writeValue(JsonWriter out, LocalDateTime value) throws IOException
+  {
+    this.converter.write(out, value);
+  }
+
+  /**
+   * Reads a non-null value as a {@code LocalDateTime}.
+   * @param in The JSON reader.
+   * @return The converted value; may be null.
+   * @throws IOException If reading fails.
+   */
+  @Override
+  LocalDateTime readValue(JsonReader in) throws IOException
+  {
+    return this.converter.read(in);
+  }
+}
@@ -30,18 +30,100 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * GSON serialiser/deserialiser for converting {@link LocalTime} objects.
  */
 public class LocalTimeConverter implements JsonSerializer<LocalTime>, JsonDeserializer<LocalTime>
 {
-  /** Formatter. */
-  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_TIME;
+  /** The encoding to write. */
+  private final LocalTimeEncoding encoding;
+
+  /** The precision to write. */
+  private final TimePrecision precision;
+
+  /** Whether ISO 8601 strings are written with a fixed number of fractional digits. */
+  private final boolean fixedWidth;
+
+  /** The times on whole seconds converted so far, or null if the memo is off. */
+  private final TimeOfDayMemo memo;
+
+  /**
+   * Constructs a new {@code LocalTimeConverter} that writes ISO 8601 strings.
+   */
+  public LocalTimeConverter()
+  {
+    this(LocalTimeEncoding.ISO_8601);
+  }
+
+  /**
+   * Constructs a new {@code LocalTimeConverter}.
+   * @param encoding The encoding to write.  ISO 8601 strings are always accepted when reading, and JSON
+   * numbers are read according to this encoding.
+   */
+  public LocalTimeConverter(LocalTimeEncoding encoding)
+  {
+    this(encoding, TimePrecision.NANOS, false, false);
+  }
+
+  /**
+   * Constructs a new {@code LocalTimeConverter}.
+   * @param encoding The encoding to write.
+   * @param precision The precision to write.
+   * @param fixedWidth Whether to write a fixed number of fractional digits.
+   * @param memoise Whether to remember the times on whole seconds converted.
+   */
+  private LocalTimeConverter(LocalTimeEncoding encoding, TimePrecision precision, boolean fixedWidth, boolean memoise)
+  {
+    if (encoding == null) { throw new NullPointerException("encoding cannot be null"); }
+    if (precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    this.encoding = encoding;
+    this.precision = precision;
+    this.fixedWidth = fixedWidth;
+    this.memo = memoise ? new TimeOfDayMemo(precision, fixedWidth) : null;
+  }
+
+  /**
+   * Returns a copy of this converter that truncates times to the given precision when writing.  Reading is
+   * unaffected.
+   * @param precision The precision to write.
+   * @return The converter.
+   */
+  public LocalTimeConverter withPrecision(TimePrecision precision)
+  {
+    return new LocalTimeConverter(this.encoding, precision, this.fixedWidth, this.memo != null);
+  }
+
+  /**
+   * Returns a copy of this converter that writes ISO 8601 strings with exactly as many fractional digits as
+   * its precision has (none at {@link TimePrecision#SECONDS}), rather than dropping trailing zeros.  Every
+   * fraction then has the same length, and strings in that layout are read by a fixed-position parser.
+   * @return The converter.
+   */
+  public LocalTimeConverter withFixedWidthFraction()
+  {
+    return new LocalTimeConverter(this.encoding, this.precision, true, this.memo != null);
+  }
+
+  /**
+   * Returns a copy of this converter that remembers the times on whole seconds it converts, and their ISO 8601
+   * strings, by second of day.  Schedules and opening hours repeat a small set of such times, which are then
+   * read and written by a table lookup.  Times with a fraction of a second are converted as before.
+   * @return The converter.
+   */
+  public LocalTimeConverter withTimeOfDayMemo()
+  {
+    return new LocalTimeConverter(this.encoding, this.precision, this.fixedWidth, true);
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -60,7 +142,12 @@ public class LocalTimeConverter implements JsonSerializer<LocalTime>, JsonDeseri
   @Override
   public JsonElement serialize(LocalTime src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(FORMATTER.format(src));
+    if (this.encoding == LocalTimeEncoding.ISO_8601)
+    {
+      return new JsonPrimitive(format(src));
+    }
+
+    return new JsonPrimitive(toNumber(src));
   }
 
   /**
@@ -82,6 +169,120 @@ public class LocalTimeConverter implements JsonSerializer<LocalTime>, JsonDeseri
   public LocalTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException
   {
-    return FORMATTER.parse(json.getAsString(), LocalTime::from);
+    if (this.encoding != LocalTimeEncoding.ISO_8601 && json.isJsonPrimitive() && json.getAsJsonPrimitive().isNumber())
+    {
+      return fromNumber(JsonNumbers.longValueExact(json));
+    }
+
+    return parse(json.getAsString());
+  }
+
+  /**
+   * Writes {@code src} to the given streaming writer.
+   * @param out The JSON writer.
+   * @param src The non-null object to write.
+   * @throws IOException If writing fails.
+   */
+  void write(JsonWriter out, LocalTime src) throws IOException
+  {
+    if (this.encoding == LocalTimeEncoding.ISO_8601)
+    {
+      out.value(format(src));
+      return;
+    }
+
+    out.value(toNumber(src));
+  }
+
+  /**
+   * Reads the next value from the given streaming reader.
+   * @param in The JSON reader, positioned at a non-null value.
+   * @return The converted object.
+   * @throws IOException If reading fails.
+   */
+  LocalTime read(JsonReader in) throws IOException
+  {
+    if (this.encoding != LocalTimeEncoding.ISO_8601 && in.peek() == JsonToken.NUMBER)
+    {
+      return fromNumber(in.nextLong());
+    }
+
+    return parse(in.nextString());
+  }
+
+  /**
+   * Formats a time as an ISO 8601 string, looking it up in the memo first if there is one.
+   * @param src The time.
+   * @return The string.
+   */
+  private String format(LocalTime src)
+  {
+    final String text = this.memo != null ? this.memo.formatLocalTime(src) : null;
+    return text != null ? text : Iso8601Formatter.formatLocalTime(src, this.precision, this.fixedWidth);
+  }
+
+  /**
+   * Parses an ISO 8601 string, decoding it directly if it is in the fixed-width layout being written, or
+   * looking it up in the memo if there is one.
+   * @param text The string.
+   * @return The time.
+   */
+  private LocalTime parse(String text)
+  {
+    if (this.fixedWidth)
+    {
+      final LocalTime value = Iso8601Parser.fixedWidthLocalTime(text, this.precision.fractionDigits());
+      if (value != null)
+      {
+        return value;
+      }
+    }
+
+    if (this.memo != null)
+    {
+      final LocalTime value = this.memo.parseLocalTime(text);
+      if (value != null)
+      {
+        return value;
+      }
+    }
+
+    return Iso8601Parser.parseLocalTime(text);
+  }
+
+  /**
+   * Converts a time to its numeric form.
+   * @param src The time.
+   * @return The nano-of-day or second-of-day.
+   */
+  private long toNumber(LocalTime src)
+  {
+    if (this.encoding == LocalTimeEncoding.NANO_OF_DAY)
+    {
+      return src.toSecondOfDay() * 1_000_000_000L + this.precision.truncate(src.getNano());
+    }
+
+    return src.toSecondOfDay();
+  }
+
+  /**
+   * Converts a numeric form to a time.
+   * @param value The nano-of-day or second-of-day.
+   * @return The time.
+   * @throws DateTimeException If the value is out of range.
+   */
+  private LocalTime fromNumber(long value)
+  {
+    if (this.encoding == LocalTimeEncoding.NANO_OF_DAY)
+    {
+      return LocalTime.ofNanoOfDay(value);
+    }
+
+    if (value < 0 || value > Integer.MAX_VALUE)
+    {
+      throw new DateTimeException("Invalid second-of-day: " + value);
+    }
+
+    return LocalTime.ofSecondOfDay(value);
   }
 }
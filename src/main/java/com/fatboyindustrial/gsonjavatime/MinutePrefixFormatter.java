@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.fatboyindustrial.gsonjavatime;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Formats {@link Instant}s and {@link OffsetDateTime}s like {@link Iso8601Formatter}, reusing the rendered
+ * {@code yyyy-MM-dd'T'HH:mm:} prefix and offset suffix of the minute last formatted. <p>
+ *
+ * Timestamps written in sequence, such as the events of a log, mostly fall in the same minute as their
+ * predecessor.  For those only the seconds and the fraction are rendered; the prefix is copied.  The prefix
+ * is kept with its minute and offset as one immutable entry published through a volatile field, as
+ * {@link LastValueCache} does.  An instant's minute is counted from the epoch; an offset date-time's is its
+ * local date and time fields packed into a long, which is cheaper to compute than an epoch minute.  A value
+ * in another minute or at another offset renders a new entry and replaces the old one, so a thread always
+ * copies a prefix that matches its own value, whatever other threads are doing.  Years outside
+ * {@code 0000} to {@code 9999} are handed to {@link Iso8601Formatter}.
+ */
+final class MinutePrefixFormatter
+{
+  /** Length of {@code yyyy-MM-dd'T'HH:mm:}. */
+  private static final int PREFIX_LENGTH = 17;
+
+  /** Length of {@code ss.fffffffff}. */
+  private static final int MAX_SECONDS_LENGTH = 12;
+
+  /** Minutes per day. */
+  private static final int MINUTES_PER_DAY = 1440;
+
+  /** The prefix of the minute last formatted, or null if nothing has been formatted yet. */
+  private volatile Prefix last;
+
+  /**
+   * Formats an instant in the {@link java.time.format.DateTimeFormatter#ISO_INSTANT} layout.
+   * @param value The instant to format.
+   * @param precision The precision of the fraction.
+   * @param fixedWidth Whether to write exactly {@link TimePrecision#fractionDigits()} fractional digits.
+   * @return The formatted text.
+   */
+  String formatInstant(Instant value, TimePrecision precision, boolean fixedWidth)
+  {
+    final long epochSecond = value.getEpochSecond();
+    if (!Iso8601Formatter.isFourDigitEpochSecond(epochSecond))
+    {
+      return Iso8601Formatter.formatInstant(value, precision, fixedWidth);
+    }
+
+    final long minute = Math.floorDiv(epochSecond, 60L);
+    Prefix prefix = this.last;
+    if (prefix == null || prefix.minute != minute || prefix.offset != null)
+    {
+      prefix = Prefix.ofEpochMinute(minute);
+      this.last = prefix;
+    }
+
+    final char[] buf = new char[PREFIX_LENGTH + MAX_SECONDS_LENGTH + 1];
+    System.arraycopy(prefix.chars, 0, buf, 0, PREFIX_LENGTH);
+    int end = Iso8601Formatter.append2(buf, PREFIX_LENGTH, (int) Math.floorMod(epochSecond, 60L));
+    end = Iso8601Formatter.appendInstantFraction(buf, end, value.getNano(), precision, fixedWidth);
+    buf[end++] = 'Z';
+    return new String(buf, 0, end);
+  }
+
+  /**
+   * Formats a date-time in the {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} layout.
+   * @param value The date-time to format.
+   * @param precision The precision of the fraction.
+   * @param fixedWidth Whether to write exactly {@link TimePrecision#fractionDigits()} fractional digits.
+   * @return The formatted text.
+   */
+  String formatOffsetDateTime(OffsetDateTime value, TimePrecision precision, boolean fixedWidth)
+  {
+    final LocalDateTime dateTime = value.toLocalDateTime();
+    if (!Iso8601Formatter.isFourDigitYear(dateTime.getYear()))
+    {
+      return Iso8601Formatter.formatOffsetDateTime(value, precision, fixedWidth);
+    }
+
+    final long date = ((long) dateTime.getYear() << 4 | dateTime.getMonthValue()) << 5 | dateTime.getDayOfMonth();
+    final long minute = (date << 5 | dateTime.getHour()) << 6 | dateTime.getMinute();
+    final ZoneOffset offset = value.getOffset();
+    Prefix prefix = this.last;
+    if (prefix == null || prefix.minute != minute || !offset.equals(prefix.offset))
+    {
+      prefix = Prefix.ofLocalMinute(minute, dateTime, offset);
+      this.last = prefix;
+    }
+
+    final char[] buf = new char[PREFIX_LENGTH + MAX_SECONDS_LENGTH + prefix.suffix.length()];
+    System.arraycopy(prefix.chars, 0, buf, 0, PREFIX_LENGTH);
+    int end = Iso8601Formatter.append2(buf, PREFIX_LENGTH, dateTime.getSecond());
+    end = Iso8601Formatter.appendTimeFraction(buf, end, dateTime.getNano(), precision, fixedWidth);
+    prefix.suffix.getChars(0, prefix.suffix.length(), buf, end);
+    return new String(buf, 0, end + prefix.suffix.length());
+  }
+
+  /**
+   * An immutable rendered prefix for one minute at one offset.
+   */
+  private static final class Prefix
+  {
+    /** The minute: counted from the epoch for an instant, or packed local fields for an offset date-time. */
+    private final long minute;
+
+    /** The offset of an offset date-time, or null for an instant. */
+    private final ZoneOffset offset;
+
+    /** The rendered {@code yyyy-MM-dd'T'HH:mm:} prefix. */
+    private final char[] chars;
+
+    /** The rendered offset, such as {@code Z} or {@code +10:00}. */
+    private final String suffix;
+
+    /**
+     * Constructs a new {@code Prefix}.
+     * @param minute The minute.
+     * @param offset The offset, or null for an instant.
+     * @param chars The rendered prefix.
+     * @param suffix The rendered offset.
+     */
+    private Prefix(long minute, ZoneOffset offset, char[] chars, String suffix)
+    {
+      this.minute = minute;
+      this.offset = offset;
+      this.chars = chars;
+      this.suffix = suffix;
+    }
+
+    /**
+     * Renders the prefix of an instant's minute.
+     * @param minute The minute, counted from the epoch, whose year must have four digits.
+     * @return The prefix.
+     */
+    private static Prefix ofEpochMinute(long minute)
+    {
+      final char[] chars = new char[PREFIX_LENGTH];
+      final int minuteOfDay = (int) Math.floorMod(minute, (long) MINUTES_PER_DAY);
+      final int end = Iso8601Formatter.appendEpochDate(chars, 0, Math.floorDiv(minute, (long) MINUTES_PER_DAY));
+      appendHourMinute(chars, end, minuteOfDay / 60, minuteOfDay % 60);
+      return new Prefix(minute, null, chars, "Z");
+    }
+
+    /**
+     * Renders the prefix of an offset date-time's minute.
+     * @param minute The packed local fields.
+     * @param dateTime The local date-time, whose year must have four digits.
+     * @param offset The offset.
+     * @return The prefix.
+     */
+    private static Prefix ofLocalMinute(long minute, LocalDateTime dateTime, ZoneOffset offset)
+    {
+      final char[] chars = new char[PREFIX_LENGTH];
+      final int end = Iso8601Formatter.appendDate(chars, 0, dateTime.getYear(), dateTime.getMonthValue(),
+                                                  dateTime.getDayOfMonth());
+      appendHourMinute(chars, end, dateTime.getHour(), dateTime.getMinute());
+      return new Prefix(minute, offset, chars, offset.getId());
+    }
+
+    /**
+     * Appends {@code 'T'HH:mm:}.
+     * @param buf The buffer.
+     * @param pos The position to write at.
+     * @param hour The hour.
+     * @param minute The minute.
+     */
+    private static void appendHourMinute(char[] buf, int pos, int hour, int minute)
+    {
+      buf[pos++] = 'T';
+      pos = Iso8601Formatter.append2(buf, pos, hour);
+      buf[pos++] = ':';
+      pos = Iso8601Formatter.append2(buf, pos, minute);
+      buf[pos] = ':';
+    }
+  }
+}
@@ -30,18 +30,191 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * GSON serialiser/deserialiser for converting {@link OffsetDateTime} objects.
  */
 public class OffsetDateTimeConverter implements JsonSerializer<OffsetDateTime>, JsonDeserializer<OffsetDateTime>
 {
-  /** Formatter. */
-  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+  /** The options this converter was built from, which copies start from. */
+  private final Options options;
+
+  /** The last value parsed, or null if deduplication is off. */
+  private final LastValueCache<OffsetDateTime> lastValue;
+
+  /** The parser for other timestamp shapes, or null if lenient parsing is off. */
+  private final LenientParser lenient;
+
+  /** What to do with text that can't be parsed. */
+  private final ParseErrorPolicy<OffsetDateTime> errorPolicy;
+
+  /** The precision to write. */
+  private final TimePrecision precision;
+
+  /** Whether strings are written with a fixed number of fractional digits. */
+  private final boolean fixedWidth;
+
+  /** The formatter reusing the prefix of the last minute written, or null if prefix caching is off. */
+  private final MinutePrefixFormatter minutePrefix;
+
+  /** The parser reusing the date and offset of the last string read, or null if date prefix caching is off. */
+  private final DatePrefixParser datePrefix;
+
+  /**
+   * Constructs a new {@code OffsetDateTimeConverter}.
+   */
+  public OffsetDateTimeConverter()
+  {
+    this(false);
+  }
+
+  /**
+   * Constructs a new {@code OffsetDateTimeConverter}.
+   * @param deduplicate Whether to remember the last string read, so that a run of identical strings is parsed
+   * once and yields the same {@code OffsetDateTime} instance.
+   */
+  public OffsetDateTimeConverter(boolean deduplicate)
+  {
+    this(new Options(deduplicate));
+  }
+
+  /**
+   * Constructs a new {@code OffsetDateTimeConverter}.
+   * @param options The options, which are owned by the converter from now on.
+   */
+  private OffsetDateTimeConverter(Options options)
+  {
+    if (options.errorPolicy == null) { throw new NullPointerException("errorPolicy cannot be null"); }
+    if (options.precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    this.options = options;
+    this.lastValue = options.deduplicate ? new LastValueCache<>() : null;
+    this.lenient = options.lenient ? new LenientParser() : null;
+    this.errorPolicy = options.errorPolicy;
+    this.precision = options.precision;
+    this.fixedWidth = options.fixedWidth;
+    this.minutePrefix = options.cacheMinutePrefix ? new MinutePrefixFormatter() : null;
+    this.datePrefix = options.cacheDatePrefix ? new DatePrefixParser() : null;
+  }
+
+  /**
+   * Returns a copy of this converter that reads any of the {@link TimestampShape}s, such as
+   * {@code 2023-11-14 22:13:20+10} or {@code 1700000000}, as well as ISO 8601 offset date-times.  Shapes
+   * without an offset are read as UTC.  Writing is unaffected.
+   * @return The lenient converter.
+   */
+  public OffsetDateTimeConverter withLenientParsing()
+  {
+    return copy(options -> options.lenient = true);
+  }
+
+  /**
+   * Returns a copy of this converter that handles unparseable strings according to the given policy.  Under
+   * a non-throwing policy strings are validated without exceptions being raised internally.
+   * @param errorPolicy What to do with a string that can't be parsed.
+   * @return The converter.
+   */
+  public OffsetDateTimeConverter withErrorPolicy(ParseErrorPolicy<OffsetDateTime> errorPolicy)
+  {
+    return copy(options -> options.errorPolicy = errorPolicy);
+  }
+
+  /**
+   * Returns a copy of this converter that truncates date-times to the given precision when writing.  Reading
+   * is unaffected.
+   * @param precision The precision to write.
+   * @return The converter.
+   */
+  public OffsetDateTimeConverter withPrecision(TimePrecision precision)
+  {
+    return copy(options -> options.precision = precision);
+  }
+
+  /**
+   * Returns a copy of this converter that writes exactly as many fractional digits as its precision has
+   * (none at {@link TimePrecision#SECONDS}), rather than dropping trailing zeros.  Every fraction then has the
+   * same length, and strings in that layout are read by a fixed-position parser.
+   * @return The converter.
+   */
+  public OffsetDateTimeConverter withFixedWidthFraction()
+  {
+    return copy(options -> options.fixedWidth = true);
+  }
+
+  /**
+   * Returns a copy of this converter that keeps the rendered {@code yyyy-MM-dd'T'HH:mm:} prefix and offset of
+   * the last minute written, so that a date-time in the same minute and offset as its predecessor only has its
+   * seconds and fraction rendered.  This suits streams of nearby timestamps, such as event logs; the output is
+   * unchanged.
+   * @return The converter.
+   */
+  public OffsetDateTimeConverter withMinutePrefixCache()
+  {
+    return copy(options -> options.cacheMinutePrefix = true);
+  }
+
+  /**
+   * Returns a copy of this converter that keeps the decoded date and offset of the last ISO 8601 string read,
+   * so that a date-time on the same date and at the same offset as its predecessor only has its time decoded.
+   * This suits sorted streams of timestamps, such as replayed event history; the values read are unchanged.
+   * @return The converter.
+   */
+  public OffsetDateTimeConverter withDatePrefixCache()
+  {
+    return copy(options -> options.cacheDatePrefix = true);
+  }
+
+  /**
+   * Returns a new converter built from a copy of this converter's options with one change applied.  Each
+   * converter builds its own caches, so copies never share mutable state.
+   * @param change Applies the change to the copied options.
+   * @return The converter.
+   */
+  private OffsetDateTimeConverter copy(Consumer<Options> change)
+  {
+    final Options options = this.options.copy();
+    change.accept(options);
+    return new OffsetDateTimeConverter(options);
+  }
+
+  /**
+   * Checks which of the given strings this converter can read, without throwing and without consulting the
+   * error policy.
+   * @param texts The strings; null elements are invalid.
+   * @return A bit set with bit {@code i} set if {@code texts[i]} is valid.
+   */
+  public BitSet validate(String... texts)
+  {
+    final BitSet valid = new BitSet(texts.length);
+    for (int i = 0; i < texts.length; i++)
+    {
+      if (texts[i] != null && tryDecode(texts[i]) != null)
+      {
+        valid.set(i);
+      }
+    }
+
+    return valid;
+  }
+
+  /**
+   * Returns the number of strings read in each {@link TimestampShape} since this converter was created.
+   * @return The counts, or an empty map if lenient parsing is off.
+   */
+  public Map<TimestampShape, Long> shapeCounts()
+  {
+    return this.lenient == null ? Collections.emptyMap() : this.lenient.statistics();
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -60,7 +233,7 @@ public class OffsetDateTimeConverter implements JsonSerializer<OffsetDateTime>,
   @Override
   public JsonElement serialize(OffsetDateTime src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(FORMATTER.format(src));
+    return new JsonPrimitive(format(src));
   }
 
   /**
@@ -82,6 +255,154 @@ public class OffsetDateTimeConverter implements JsonSerializer<OffsetDateTime>,
   public OffsetDateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException
   {
-    return FORMATTER.parse(json.getAsString(), OffsetDateTime::from);
+    return parse(json.getAsString());
+  }
+
+  /**
+   * Writes {@code src} to the given streaming writer.
+   * @param out The JSON writer.
+   * @param src The non-null object to write.
+   * @throws IOException If writing fails.
+   */
+  void write(JsonWriter out, OffsetDateTime src) throws IOException
+  {
+    out.value(format(src));
+  }
+
+  /**
+   * Reads the next value from the given streaming reader.
+   * @param in The JSON reader, positioned at a non-null value.
+   * @return The converted object.
+   * @throws IOException If reading fails.
+   */
+  OffsetDateTime read(JsonReader in) throws IOException
+  {
+    return parse(in.nextString());
+  }
+
+  /**
+   * Formats a date-time as an ISO 8601 string.
+   * @param src The date-time.
+   * @return The string.
+   */
+  private String format(OffsetDateTime src)
+  {
+    return this.minutePrefix != null ? this.minutePrefix.formatOffsetDateTime(src, this.precision, this.fixedWidth)
+                                     : Iso8601Formatter.formatOffsetDateTime(src, this.precision, this.fixedWidth);
+  }
+
+  /**
+   * Parses a string, reusing the last result if the string is unchanged.
+   * @param text The string.
+   * @return The date-time.
+   */
+  private OffsetDateTime parse(String text)
+  {
+    if (this.lastValue == null)
+    {
+      return decode(text);
+    }
+
+    final OffsetDateTime cached = this.lastValue.get(text);
+    return cached != null ? cached : this.lastValue.put(text, decode(text));
+  }
+
+  /**
+   * Decodes a string with the lenient parser if it is on, or as an ISO 8601 offset date-time otherwise.
+   * Strings in the fixed-width layout being written are decoded directly, as are canonical strings when the
+   * date prefix is cached.
+   * @param text The string.
+   * @return The date-time.
+   */
+  private OffsetDateTime decode(String text)
+  {
+    if (this.fixedWidth)
+    {
+      final OffsetDateTime dateTime = Iso8601Parser.fixedWidthOffsetDateTime(text, this.precision.fractionDigits());
+      if (dateTime != null)
+      {
+        return dateTime;
+      }
+    }
+
+    if (this.datePrefix != null)
+    {
+      final OffsetDateTime dateTime = this.datePrefix.parseOffsetDateTime(text);
+      if (dateTime != null)
+      {
+        return dateTime;
+      }
+    }
+
+    if (this.errorPolicy.isThrowing())
+    {
+      return this.lenient != null ? this.lenient.parseOffsetDateTime(text) : Iso8601Parser.parseOffsetDateTime(text);
+    }
+
+    final OffsetDateTime dateTime = tryDecode(text);
+    return dateTime != null ? dateTime : this.errorPolicy.onError(text);
+  }
+
+  /**
+   * Decodes a string without throwing.
+   * @param text The string.
+   * @return The date-time, or null if the string isn't valid.
+   */
+  private OffsetDateTime tryDecode(String text)
+  {
+    return this.lenient != null ? this.lenient.tryParseOffsetDateTime(text) : Iso8601Parser.tryParseOffsetDateTime(text);
+  }
+
+  /**
+   * The options a converter is built from.  An instance is only changed while a copy is being configured,
+   * before the converter built from it exists.
+   */
+  private static final class Options implements Cloneable
+  {
+    /** Whether to remember the last string read. */
+    private boolean deduplicate;
+
+    /** Whether to accept every {@link TimestampShape}. */
+    private boolean lenient;
+
+    /** What to do with text that can't be parsed. */
+    private ParseErrorPolicy<OffsetDateTime> errorPolicy = ParseErrorPolicy.throwing();
+
+    /** The precision to write. */
+    private TimePrecision precision = TimePrecision.NANOS;
+
+    /** Whether to write a fixed number of fractional digits. */
+    private boolean fixedWidth;
+
+    /** Whether to reuse the rendered prefix of the last minute written. */
+    private boolean cacheMinutePrefix;
+
+    /** Whether to reuse the decoded date and offset of the last string read. */
+    private boolean cacheDatePrefix;
+
+    /**
+     * Constructs the default options.
+     * @param deduplicate Whether to remember the last string read.
+     */
+    private Options(boolean deduplicate)
+    {
+      this.deduplicate = deduplicate;
+    }
+
+    /**
+     * Copies these options.
+     * @return The copy.
+     */
+    private Options copy()
+    {
+      try
+      {
+        return (Options) super.clone();
+      }
+      catch (CloneNotSupportedException e)
+      {
+        throw new AssertionError(e);
+      }
+    }
   }
 }
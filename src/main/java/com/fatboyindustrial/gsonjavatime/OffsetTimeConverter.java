@@ -30,18 +30,49 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.OffsetTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * GSON serialiser/deserialiser for converting {@link OffsetTime} objects.
  */
 public class OffsetTimeConverter implements JsonSerializer<OffsetTime>, JsonDeserializer<OffsetTime>
 {
-  /** Formatter. */
-  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_OFFSET_TIME;
+  /** The times on whole seconds converted so far, or null if the memo is off. */
+  private final TimeOfDayMemo memo;
+
+  /**
+   * Constructs a new {@code OffsetTimeConverter}.
+   */
+  public OffsetTimeConverter()
+  {
+    this(false);
+  }
+
+  /**
+   * Constructs a new {@code OffsetTimeConverter}.
+   * @param memoise Whether to remember the times on whole seconds converted.
+   */
+  private OffsetTimeConverter(boolean memoise)
+  {
+    this.memo = memoise ? new TimeOfDayMemo(TimePrecision.NANOS, false) : null;
+  }
+
+  /**
+   * Returns a copy of this converter that remembers the times on whole seconds it converts, and their ISO 8601
+   * strings, by offset and second of day.  Schedules and opening hours repeat a small set of such times, which
+   * are then read and written by a table lookup.  Times with a fraction of a second, and offsets beyond the
+   * first sixteen, are converted as before.
+   * @return The converter.
+   */
+  public OffsetTimeConverter withTimeOfDayMemo()
+  {
+    return new OffsetTimeConverter(true);
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -60,7 +91,7 @@ public class OffsetTimeConverter implements JsonSerializer<OffsetTime>, JsonDese
   @Override
   public JsonElement serialize(OffsetTime src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(FORMATTER.format(src));
+    return new JsonPrimitive(format(src));
   }
 
   /**
@@ -82,6 +113,50 @@ public class OffsetTimeConverter implements JsonSerializer<OffsetTime>, JsonDese
   public OffsetTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException
   {
-    return FORMATTER.parse(json.getAsString(), OffsetTime::from);
+    return parse(json.getAsString());
+  }
+
+  /**
+   * Writes {@code src} to the given streaming writer.
+   * @param out The JSON writer.
+   * @param src The non-null object to write.
+   * @throws IOException If writing fails.
+   */
+  void write(JsonWriter out, OffsetTime src) throws IOException
+  {
+    out.value(format(src));
+  }
+
+  /**
+   * Reads the next value from the given streaming reader.
+   * @param in The JSON reader, positioned at a non-null value.
+   * @return The converted object.
+   * @throws IOException If reading fails.
+   */
+  OffsetTime read(JsonReader in) throws IOException
+  {
+    return parse(in.nextString());
+  }
+
+  /**
+   * Formats a time as an ISO 8601 string, looking it up in the memo first if there is one.
+   * @param src The time.
+   * @return The string.
+   */
+  private String format(OffsetTime src)
+  {
+    final String text = this.memo != null ? this.memo.formatOffsetTime(src) : null;
+    return text != null ? text : Iso8601Formatter.formatOffsetTime(src);
+  }
+
+  /**
+   * Parses an ISO 8601 string, looking it up in the memo first if there is one.
+   * @param text The string.
+   * @return The time.
+   */
+  private OffsetTime parse(String text)
+  {
+    final OffsetTime value = this.memo != null ? this.memo.parseOffsetTime(text) : null;
+    return value != null ? value : Iso8601Parser.parseOffsetTime(text);
   }
 }
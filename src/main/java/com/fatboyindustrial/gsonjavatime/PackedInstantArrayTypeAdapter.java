@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming GSON type adapter that packs {@code Instant[]} series with delta-of-delta coding of their
+ * epoch values.  See {@link PackedFormat} for the JSON forms. <p>
+ *
+ * For compatibility, a plain JSON array of ISO 8601 strings is also accepted when reading.  Null elements
+ * can't be written.
+ */
+public class PackedInstantArrayTypeAdapter extends TypeAdapter<Instant[]>
+{
+  /** Converts between instants and epoch values. */
+  private final InstantConverter converter;
+
+  /** The format to write. */
+  private final PackedFormat format;
+
+  /**
+   * Constructs a new {@code PackedInstantArrayTypeAdapter} that writes epoch nanoseconds as base64 strings.
+   */
+  public PackedInstantArrayTypeAdapter()
+  {
+    this(InstantEncoding.EPOCH_NANOS, PackedFormat.BASE64);
+  }
+
+  /**
+   * Constructs a new {@code PackedInstantArrayTypeAdapter}.
+   * @param unit The epoch unit: {@link InstantEncoding#EPOCH_MILLIS}, {@link InstantEncoding#EPOCH_MICROS} or
+   * {@link InstantEncoding#EPOCH_NANOS}.  Precision finer than the unit is truncated.
+   * @param format The format to write.  Both formats are accepted when reading.
+   * @throws IllegalArgumentException If {@code unit} isn't a whole-number epoch encoding.
+   */
+  public PackedInstantArrayTypeAdapter(InstantEncoding unit, PackedFormat format)
+  {
+    if (unit == null) { throw new NullPointerException("unit cannot be null"); }
+    if (format == null) { throw new NullPointerException("format cannot be null"); }
+    if (unit == InstantEncoding.ISO_8601 || unit == InstantEncoding.EPOCH_SECONDS)
+    {
+      throw new IllegalArgumentException("unit must be a whole-number epoch encoding: " + unit);
+    }
+
+    this.converter = new InstantConverter(unit);
+    this.format = format;
+  }
+
+  /**
+   * Writes one JSON value for {@code value}.
+   * @param out The JSON writer.
+   * @param value The Java object to write; may be null.
+   * @throws IOException If writing fails.
+   * @throws NullPointerException If {@code value} contains a null element.
+   * @throws ArithmeticException If an instant is out of range for the epoch unit.
+   */
+  @Override
+  public void write(JsonWriter out, Instant[] value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    final long[] epochs = new long[value.length];
+    for (int i = 0; i < value.length; i++)
+    {
+      if (value[i] == null) { throw new NullPointerException("instants cannot contain null"); }
+
+      epochs[i] = this.converter.toEpochNumber(value[i]);
+    }
+
+    DeltaOfDelta.write(out, epochs, epochs.length, this.format);
+  }
+
+  /**
+   * Reads one JSON value and converts it to an {@code Instant[]}.
+   * @param in The JSON reader.
+   * @return The converted Java object; may be null.
+   * @throws IOException If reading fails.
+   */
+  @Override
+  public Instant[] read(JsonReader in) throws IOException
+  {
+    final JsonToken token = in.peek();
+    if (token == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    final long[] epochs;
+    if (token == JsonToken.STRING)
+    {
+      epochs = DeltaOfDelta.decode(in.nextString());
+    }
+    else
+    {
+      in.beginArray();
+      if (in.peek() == JsonToken.STRING)
+      {
+        return readIso8601(in);
+      }
+
+      epochs = DeltaOfDelta.readNumbers(in);
+    }
+
+    final Instant[] instants = new Instant[epochs.length];
+    for (int i = 0; i < epochs.length; i++)
+    {
+      instants[i] = this.converter.fromEpochNumber(epochs[i]);
+    }
+
+    return instants;
+  }
+
+  /**
+   * Reads the ISO 8601 strings of an array whose opening bracket has already been consumed, up to and
+   * including the closing bracket.
+   * @param in The JSON reader.
+   * @return The instants.
+   * @throws IOException If reading fails.
+   */
+  private static Instant[] readIso8601(JsonReader in) throws IOException
+  {
+    final List<Instant> instants = new ArrayList<>();
+    while (in.hasNext())
+    {
+      instants.add(Iso8601Parser.parseInstant(in.nextString()));
+    }
+
+    in.endArray();
+    return instants.toArray(new Instant[0]);
+  }
+}
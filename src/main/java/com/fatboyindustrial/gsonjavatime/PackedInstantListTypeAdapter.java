@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming GSON type adapter that packs {@code List<Instant>} series in the same way as
+ * {@link PackedInstantArrayTypeAdapter}.  Lists are read as mutable {@link ArrayList}s.
+ */
+public class PackedInstantListTypeAdapter extends TypeAdapter<List<Instant>>
+{
+  /** The adapter that performs the actual conversion. */
+  private final PackedInstantArrayTypeAdapter delegate;
+
+  /**
+   * Constructs a new {@code PackedInstantListTypeAdapter} that writes epoch nanoseconds as base64 strings.
+   */
+  public PackedInstantListTypeAdapter()
+  {
+    this(new PackedInstantArrayTypeAdapter());
+  }
+
+  /**
+   * Constructs a new {@code PackedInstantListTypeAdapter}.
+   * @param unit The epoch unit: {@link InstantEncoding#EPOCH_MILLIS}, {@link InstantEncoding#EPOCH_MICROS} or
+   * {@link InstantEncoding#EPOCH_NANOS}.  Precision finer than the unit is truncated.
+   * @param format The format to write.  Both formats are accepted when reading.
+   * @throws IllegalArgumentException If {@code unit} isn't a whole-number epoch encoding.
+   */
+  public PackedInstantListTypeAdapter(InstantEncoding unit, PackedFormat format)
+  {
+    this(new PackedInstantArrayTypeAdapter(unit, format));
+  }
+
+  /**
+   * Constructs a new {@code PackedInstantListTypeAdapter} delegating to the given array adapter.
+   * @param delegate The adapter that performs the actual conversion.
+   */
+  private PackedInstantListTypeAdapter(PackedInstantArrayTypeAdapter delegate)
+  {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Writes one JSON value for {@code value}.
+   * @param out The JSON writer.
+   * @param value The Java object to write; may be null.
+   * @throws IOException If writing fails.
+   * @throws NullPointerException If {@code value} contains a null element.
+   */
+  @Override
+  public void write(JsonWriter out, List<Instant> value) throws IOException
+  {
+    this.delegate.write(out, value == null ? null : value.toArray(new Instant[0]));
+  }
+
+  /**
+   * Reads one JSON value and converts it to a {@code List<Instant>}.
+   * @param in The JSON reader.
+   * @return The converted Java object; may be null.
+   * @throws IOException If reading fails.
+   */
+  @Override
+  public List<Instant> read(JsonReader in) throws IOException
+  {
+    final Instant[] instants = this.delegate.read(in);
+    return instants == null ? null : new ArrayList<>(Arrays.asList(instants));
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Streaming GSON type adapter that packs {@code long[]} series, such as raw epoch timestamps, with
+ * delta-of-delta coding.  See {@link PackedFormat} for the JSON forms. <p>
+ *
+ * This adapter is opt-in: registering it changes the JSON form of every {@code long[]} the {@code Gson}
+ * instance handles.
+ */
+public class PackedLongArrayTypeAdapter extends TypeAdapter<long[]>
+{
+  /** The format to write. */
+  private final PackedFormat format;
+
+  /**
+   * Constructs a new {@code PackedLongArrayTypeAdapter} that writes base64 strings.
+   */
+  public PackedLongArrayTypeAdapter()
+  {
+    this(PackedFormat.BASE64);
+  }
+
+  /**
+   * Constructs a new {@code PackedLongArrayTypeAdapter}.
+   * @param format The format to write.  Both formats are accepted when reading.
+   */
+  public PackedLongArrayTypeAdapter(PackedFormat format)
+  {
+    if (format == null) { throw new NullPointerException("format cannot be null"); }
+
+    this.format = format;
+  }
+
+  /**
+   * Writes one JSON value for {@code value}.
+   * @param out The JSON writer.
+   * @param value The Java object to write; may be null.
+   * @throws IOException If writing fails.
+   */
+  @Override
+  public void write(JsonWriter out, long[] value) throws IOException
+  {
+    if (value == null)
+    {
+      out.nullValue();
+      return;
+    }
+
+    DeltaOfDelta.write(out, value, value.length, this.format);
+  }
+
+  /**
+   * Reads one JSON value and converts it to a {@code long[]}.
+   * @param in The JSON reader.
+   * @return The converted Java object; may be null.
+   * @throws IOException If reading fails.
+   */
+  @Override
+  public long[] read(JsonReader in) throws IOException
+  {
+    if (in.peek() == JsonToken.NULL)
+    {
+      in.nextNull();
+      return null;
+    }
+
+    return DeltaOfDelta.read(in);
+  }
+}
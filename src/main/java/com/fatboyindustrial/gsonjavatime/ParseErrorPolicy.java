@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+/**
+ * What a converter does with a value it can't parse.  The default, {@link #throwing()}, raises the same
+ * {@code DateTimeParseException} as ever.  The other policies validate the text without throwing, so a flood
+ * of malformed values costs no more than a flood of valid ones: the value is replaced by {@code null} or a
+ * sentinel, and may be recorded in a {@link ParseErrorReport}.
+ * @param <T> The type of value.
+ */
+public final class ParseErrorPolicy<T>
+{
+  /** The shared throwing policy. */
+  private static final ParseErrorPolicy<?> THROWING = new ParseErrorPolicy<>(true, null, null);
+
+  /** The shared null-returning policy. */
+  private static final ParseErrorPolicy<?> RETURNING_NULL = new ParseErrorPolicy<>(false, null, null);
+
+  /** Whether errors throw. */
+  private final boolean throwing;
+
+  /** The value returned in place of an unparseable one, or null. */
+  private final T sentinel;
+
+  /** The report that errors are recorded in, or null. */
+  private final ParseErrorReport report;
+
+  /**
+   * Constructs a new {@code ParseErrorPolicy}.
+   * @param throwing Whether errors throw.
+   * @param sentinel The value returned in place of an unparseable one.
+   * @param report The report that errors are recorded in.
+   */
+  private ParseErrorPolicy(boolean throwing, T sentinel, ParseErrorReport report)
+  {
+    this.throwing = throwing;
+    this.sentinel = sentinel;
+    this.report = report;
+  }
+
+  /**
+   * Returns the policy that throws an exception for an unparseable value.
+   * @param <T> The type of value.
+   * @return The policy.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> ParseErrorPolicy<T> throwing()
+  {
+    return (ParseErrorPolicy<T>) THROWING;
+  }
+
+  /**
+   * Returns the policy that reads an unparseable value as {@code null}.
+   * @param <T> The type of value.
+   * @return The policy.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> ParseErrorPolicy<T> returningNull()
+  {
+    return (ParseErrorPolicy<T>) RETURNING_NULL;
+  }
+
+  /**
+   * Returns a policy that reads an unparseable value as the given sentinel, such as {@code Instant.EPOCH}.
+   * @param sentinel The value to return.
+   * @param <T> The type of value.
+   * @return The policy.
+   */
+  public static <T> ParseErrorPolicy<T> returning(T sentinel)
+  {
+    if (sentinel == null) { throw new NullPointerException("sentinel cannot be null"); }
+
+    return new ParseErrorPolicy<>(false, sentinel, null);
+  }
+
+  /**
+   * Returns a policy that records an unparseable value in a report and reads it as {@code null}.
+   * @param report The report.
+   * @param <T> The type of value.
+   * @return The policy.
+   */
+  public static <T> ParseErrorPolicy<T> collecting(ParseErrorReport report)
+  {
+    if (report == null) { throw new NullPointerException("report cannot be null"); }
+
+    return new ParseErrorPolicy<>(false, null, report);
+  }
+
+  /**
+   * Checks whether this policy throws.
+   * @return True for the {@link #throwing()} policy.
+   */
+  boolean isThrowing()
+  {
+    return this.throwing;
+  }
+
+  /**
+   * Handles an unparseable value under a non-throwing policy.
+   * @param text The text that couldn't be parsed.
+   * @return The value to use in its place.
+   */
+  T onError(String text)
+  {
+    if (this.report != null)
+    {
+      this.report.record(text);
+    }
+
+    return this.sentinel;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Collects the values rejected under a {@link ParseErrorPolicy#collecting(ParseErrorReport)} policy. <p>
+ *
+ * Recording an error costs one atomic increment and one array store: the rejected text is kept as is in a
+ * preallocated ring of the most recent values, and no exception or message is built.  Instances are thread
+ * safe and may be shared by several converters.
+ */
+public final class ParseErrorReport
+{
+  /** The number of recent values kept by default. */
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /** The number of errors recorded. */
+  private final AtomicLong count = new AtomicLong();
+
+  /** The most recent rejected values, indexed by error number modulo the capacity. */
+  private final AtomicReferenceArray<String> recent;
+
+  /**
+   * Constructs a new {@code ParseErrorReport} that keeps the 16 most recent rejected values.
+   */
+  public ParseErrorReport()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs a new {@code ParseErrorReport}.
+   * @param capacity The number of recent rejected values to keep.
+   */
+  public ParseErrorReport(int capacity)
+  {
+    if (capacity < 1) { throw new IllegalArgumentException("capacity must be positive"); }
+
+    this.recent = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Returns the number of errors recorded.
+   * @return The count.
+   */
+  public long errorCount()
+  {
+    return this.count.get();
+  }
+
+  /**
+   * Returns the most recent rejected values.  Values recorded while this method runs may or may not appear.
+   * @return The values, oldest first.
+   */
+  public List<String> recentErrors()
+  {
+    final long total = this.count.get();
+    final int capacity = this.recent.length();
+    final List<String> values = new ArrayList<>(capacity);
+    for (long i = Math.max(0, total - capacity); i < total; i++)
+    {
+      final String value = this.recent.get((int) (i % capacity));
+      if (value != null)
+      {
+        values.add(value);
+      }
+    }
+
+    return Collections.unmodifiableList(values);
+  }
+
+  /**
+   * Records a rejected value.
+   * @param text The rejected text.
+   */
+  void record(String text)
+  {
+    final long index = this.count.getAndIncrement();
+    this.recent.lazySet((int) (index % this.recent.length()), text);
+  }
+
+  /**
+   * Returns a summary of the report.
+   * @return The summary.
+   */
+  @Override
+  public String toString()
+  {
+    return "ParseErrorReport{errorCount=" + errorCount() + ", recentErrors=" + recentErrors() + "}";
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Maps equal Java Time values read from JSON to one canonical instance, so that large in-memory datasets
+ * don't hold millions of equal but distinct objects. <p>
+ *
+ * The interner is bounded: it is split into {@value #STRIPES} stripes by hash code, each holding its share of
+ * the capacity as a least-recently-used map behind its own lock, so threads interning different values
+ * rarely contend and the least recently seen values are evicted first.  Hits, misses and evictions are
+ * counted with {@link LongAdder}s.  Instances are thread safe and may be shared by every converter, through
+ * {@link JavaTimeTypeAdapterFactory#withInterner(TemporalInterner)}.  Interned values must be immutable and
+ * have value equality, as the {@code java.time} types do. <p>
+ *
+ * Interning trades read speed for retained heap: every value read costs a hash, a lock and a map lookup, and
+ * in the bundled benchmark reading took about 60% longer.  It pays off only when the values read are kept,
+ * and equal values repeat.  Values are only interned by the factory's streaming adapters; the tree converters
+ * registered by {@code Converters.register*} don't intern.
+ */
+public final class TemporalInterner
+{
+  /** The number of stripes, a power of two. */
+  private static final int STRIPES = 16;
+
+  /** The number of values held by default. */
+  private static final int DEFAULT_CAPACITY = 1 << 16;
+
+  /** The stripes, indexed by spread hash code. */
+  private final Stripe[] stripes = new Stripe[STRIPES];
+
+  /** The number of values found already interned. */
+  private final LongAdder hits = new LongAdder();
+
+  /** The number of values interned for the first time. */
+  private final LongAdder misses = new LongAdder();
+
+  /** The number of values evicted. */
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructs a new {@code TemporalInterner} that holds up to 65,536 values.
+   */
+  public TemporalInterner()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs a new {@code TemporalInterner}.
+   * @param capacity The number of values to hold, at least 16.
+   */
+  public TemporalInterner(int capacity)
+  {
+    if (capacity < STRIPES) { throw new IllegalArgumentException("capacity must be at least " + STRIPES); }
+
+    for (int i = 0; i < STRIPES; i++)
+    {
+      this.stripes[i] = new Stripe(capacity / STRIPES + (i < capacity % STRIPES ? 1 : 0), this.evictions);
+    }
+  }
+
+  /**
+   * Returns the canonical instance equal to a value, which is the value itself if no equal value is held.
+   * @param value The value; may be null.
+   * @param <T> The type of value.
+   * @return The canonical instance, or null if {@code value} is null.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T intern(T value)
+  {
+    if (value == null)
+    {
+      return null;
+    }
+
+    final int hash = value.hashCode();
+    final Stripe stripe = this.stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    final Object existing;
+    synchronized (stripe)
+    {
+      existing = stripe.putIfAbsent(value, value);
+    }
+
+    if (existing != null)
+    {
+      this.hits.increment();
+      return (T) existing;
+    }
+
+    this.misses.increment();
+    return value;
+  }
+
+  /**
+   * Returns the number of values found already interned.
+   * @return The count.
+   */
+  public long hitCount()
+  {
+    return this.hits.sum();
+  }
+
+  /**
+   * Returns the number of values interned for the first time.
+   * @return The count.
+   */
+  public long missCount()
+  {
+    return this.misses.sum();
+  }
+
+  /**
+   * Returns the number of values evicted to stay within the capacity.
+   * @return The count.
+   */
+  public long evictionCount()
+  {
+    return this.evictions.sum();
+  }
+
+  /**
+   * Returns the fraction of values found already interned.
+   * @return The hit rate, from 0 to 1, or 0 if nothing has been interned.
+   */
+  public double hitRate()
+  {
+    final long hits = hitCount();
+    final long total = hits + missCount();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  /**
+   * Returns the number of values held.
+   * @return The size.
+   */
+  public int size()
+  {
+    int size = 0;
+    for (Stripe stripe : this.stripes)
+    {
+      synchronized (stripe)
+      {
+        size += stripe.size();
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * Returns a summary of the interner.
+   * @return The summary.
+   */
+  @Override
+  public String toString()
+  {
+    return "TemporalInterner{size=" + size() + ", hitCount=" + hitCount() + ", missCount=" + missCount()
+           + ", evictionCount=" + evictionCount() + "}";
+  }
+
+  /**
+   * One stripe: a least-recently-used map from each held value to itself.
+   */
+  private static final class Stripe extends LinkedHashMap<Object, Object>
+  {
+    /** Serialisation version. */
+    private static final long serialVersionUID = 1L;
+
+    /** The number of values to hold. */
+    private final int capacity;
+
+    /** The count of values evicted, shared by every stripe. */
+    private final LongAdder evictions;
+
+    /**
+     * Constructs a new, empty {@code Stripe}.
+     * @param capacity The number of values to hold.
+     * @param evictions The count of values evicted.
+     */
+    private Stripe(int capacity, LongAdder evictions)
+    {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+      this.evictions = evictions;
+    }
+
+    /**
+     * Evicts the least recently used value once the stripe is over capacity.
+     * @param eldest The least recently used entry.
+     * @return True to evict it.
+     */
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest)
+    {
+      if (size() <= this.capacity)
+      {
+        return false;
+      }
+
+      this.evictions.increment();
+      return true;
+    }
+  }
+}
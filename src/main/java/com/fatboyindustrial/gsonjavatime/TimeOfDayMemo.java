@@ -0,0 +1,332 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Remembers the {@link LocalTime}s and {@link OffsetTime}s on whole seconds, and their ISO 8601 strings, by
+ * second of day. <p>
+ *
+ * Schedules and opening hours are almost always on whole minutes or seconds, so there are at most 86,400
+ * distinct local values, and a handful of offsets.  Each second of day, and each offset, has a slot that is
+ * filled the first time it is formatted or parsed; later conversions of the same value are a lookup.  Slots
+ * are allocated an hour at a time, so a table only grows with the hours actually seen, and at most
+ * {@link #MAX_OFFSETS} offsets are remembered.  Values with a fraction of a second, offsets beyond the limit
+ * and text outside the canonical layout aren't remembered, and the caller converts them as usual. <p>
+ *
+ * The offsets are kept in a short array, replaced whole when one is added, and scanned by total seconds, so
+ * parsing a remembered offset doesn't create a {@link ZoneOffset}.  The slots are written without
+ * synchronisation.  Every value stored is immutable and safely published
+ * through its final fields, so a racing thread sees either an empty slot, and converts the value itself, or
+ * a complete value.
+ */
+final class TimeOfDayMemo
+{
+  /** The most offsets to remember. */
+  static final int MAX_OFFSETS = 16;
+
+  /** Seconds per hour, which is the size of a block of slots. */
+  private static final int SECONDS_PER_HOUR = 3600;
+
+  /** Nanoseconds per second. */
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /** The precision local times are written with. */
+  private final TimePrecision precision;
+
+  /** Whether local times are written with a fixed number of fractional digits. */
+  private final boolean fixedWidth;
+
+  /** The local times. */
+  private final Table local = new Table(null);
+
+  /** The offset times, one table per offset. */
+  private volatile Table[] offsets = new Table[0];
+
+  /**
+   * Constructs a new, empty {@code TimeOfDayMemo}.
+   * @param precision The precision local times are written with.
+   * @param fixedWidth Whether local times are written with a fixed number of fractional digits.
+   */
+  TimeOfDayMemo(TimePrecision precision, boolean fixedWidth)
+  {
+    if (precision == null) { throw new NullPointerException("precision cannot be null"); }
+
+    this.precision = precision;
+    this.fixedWidth = fixedWidth;
+  }
+
+  /**
+   * Formats a local time on a whole second.
+   * @param value The time.
+   * @return The string, or null if the time has a fraction of a second.
+   */
+  String formatLocalTime(LocalTime value)
+  {
+    if (value.getNano() != 0)
+    {
+      return null;
+    }
+
+    final int second = value.toSecondOfDay();
+    String text = this.local.text(second);
+    if (text == null)
+    {
+      text = Iso8601Formatter.formatLocalTime(value, this.precision, this.fixedWidth);
+      this.local.putText(second, text);
+    }
+
+    return text;
+  }
+
+  /**
+   * Parses a local time written without a fraction of a second, as {@code HH:mm} or {@code HH:mm:ss}.
+   * @param text The text.
+   * @return The time, or null if the text isn't in that layout.
+   */
+  LocalTime parseLocalTime(String text)
+  {
+    final int end = Iso8601Parser.timeEnd(text, 0);
+    if (end != text.length() || end > Iso8601Parser.TIME_LENGTH)
+    {
+      return null;
+    }
+
+    final long nanoOfDay = Iso8601Parser.nanoOfDay(text, 0, end);
+    return nanoOfDay >= 0 ? localTime((int) (nanoOfDay / NANOS_PER_SECOND)) : null;
+  }
+
+  /**
+   * Formats an offset time on a whole second.
+   * @param value The time.
+   * @return The string, or null if the time has a fraction of a second or its offset isn't remembered.
+   */
+  String formatOffsetTime(OffsetTime value)
+  {
+    final Table table = value.getNano() == 0 ? table(value.getOffset().getTotalSeconds()) : null;
+    if (table == null)
+    {
+      return null;
+    }
+
+    final int second = value.toLocalTime().toSecondOfDay();
+    String text = table.text(second);
+    if (text == null)
+    {
+      text = Iso8601Formatter.formatOffsetTime(value);
+      table.putText(second, text);
+    }
+
+    return text;
+  }
+
+  /**
+   * Parses an offset time written without a fraction of a second, as {@code HH:mm[:ss]} and an offset.
+   * @param text The text.
+   * @return The time, or null if the text isn't in that layout or its offset isn't remembered.
+   */
+  OffsetTime parseOffsetTime(String text)
+  {
+    final int end = Iso8601Parser.timeEnd(text, 0);
+    if (end <= 0 || end > Iso8601Parser.TIME_LENGTH)
+    {
+      return null;
+    }
+
+    final long nanoOfDay = Iso8601Parser.nanoOfDay(text, 0, end);
+    final int seconds = Iso8601Parser.offsetSeconds(text, end, text.length());
+    if (nanoOfDay < 0 || seconds == Iso8601Parser.NOT_CANONICAL)
+    {
+      return null;
+    }
+
+    final Table table = table(seconds);
+    if (table == null)
+    {
+      return null;
+    }
+
+    final int second = (int) (nanoOfDay / NANOS_PER_SECOND);
+    OffsetTime value = (OffsetTime) table.value(second);
+    if (value == null)
+    {
+      value = OffsetTime.of(localTime(second), table.offset);
+      table.putValue(second, value);
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns the remembered local time for a second of day, creating it if this is its first use.
+   * @param second The second of day.
+   * @return The time.
+   */
+  private LocalTime localTime(int second)
+  {
+    LocalTime value = (LocalTime) this.local.value(second);
+    if (value == null)
+    {
+      value = LocalTime.ofSecondOfDay(second);
+      this.local.putValue(second, value);
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns the table for an offset, creating it if there is room.
+   * @param seconds The total offset in seconds.
+   * @return The table, or null if too many offsets are remembered already.
+   */
+  private Table table(int seconds)
+  {
+    final Table table = find(this.offsets, seconds);
+    return table != null ? table : add(seconds);
+  }
+
+  /**
+   * Adds a table for an offset, unless another thread has or there is no room.
+   * @param seconds The total offset in seconds.
+   * @return The table, or null if too many offsets are remembered already.
+   */
+  private synchronized Table add(int seconds)
+  {
+    final Table[] tables = this.offsets;
+    final Table existing = find(tables, seconds);
+    if (existing != null || tables.length >= MAX_OFFSETS)
+    {
+      return existing;
+    }
+
+    final Table table = new Table(ZoneOffset.ofTotalSeconds(seconds));
+    final Table[] grown = Arrays.copyOf(tables, tables.length + 1);
+    grown[tables.length] = table;
+    this.offsets = grown;
+    return table;
+  }
+
+  /**
+   * Finds the table for an offset.
+   * @param tables The tables.
+   * @param seconds The total offset in seconds.
+   * @return The table, or null if there isn't one.
+   */
+  private static Table find(Table[] tables, int seconds)
+  {
+    for (Table table : tables)
+    {
+      if (table.offset.getTotalSeconds() == seconds)
+      {
+        return table;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Values and strings by second of day, in blocks of an hour allocated on first use.
+   */
+  private static final class Table
+  {
+    /** The offset of the offset times, or null for local times. */
+    private final ZoneOffset offset;
+
+    /** The values, by hour and second of hour. */
+    private final Object[][] values = new Object[24][];
+
+    /** The strings, by hour and second of hour. */
+    private final String[][] texts = new String[24][];
+
+    /**
+     * Constructs a new, empty {@code Table}.
+     * @param offset The offset of the offset times, or null for local times.
+     */
+    private Table(ZoneOffset offset)
+    {
+      this.offset = offset;
+    }
+
+    /**
+     * Returns the value for a second of day.
+     * @param second The second of day.
+     * @return The value, or null if it hasn't been stored.
+     */
+    private Object value(int second)
+    {
+      final Object[] hour = this.values[second / SECONDS_PER_HOUR];
+      return hour != null ? hour[second % SECONDS_PER_HOUR] : null;
+    }
+
+    /**
+     * Stores the value for a second of day.
+     * @param second The second of day.
+     * @param value The immutable value.
+     */
+    private void putValue(int second, Object value)
+    {
+      Object[] hour = this.values[second / SECONDS_PER_HOUR];
+      if (hour == null)
+      {
+        hour = new Object[SECONDS_PER_HOUR];
+        this.values[second / SECONDS_PER_HOUR] = hour;
+      }
+
+      hour[second % SECONDS_PER_HOUR] = value;
+    }
+
+    /**
+     * Returns the string for a second of day.
+     * @param second The second of day.
+     * @return The string, or null if it hasn't been stored.
+     */
+    private String text(int second)
+    {
+      final String[] hour = this.texts[second / SECONDS_PER_HOUR];
+      return hour != null ? hour[second % SECONDS_PER_HOUR] : null;
+    }
+
+    /**
+     * Stores the string for a second of day.
+     * @param second The second of day.
+     * @param text The string.
+     */
+    private void putText(int second, String text)
+    {
+      String[] hour = this.texts[second / SECONDS_PER_HOUR];
+      if (hour == null)
+      {
+        hour = new String[SECONDS_PER_HOUR];
+        this.texts[second / SECONDS_PER_HOUR] = hour;
+      }
+
+      hour[second % SECONDS_PER_HOUR] = text;
+    }
+  }
+}
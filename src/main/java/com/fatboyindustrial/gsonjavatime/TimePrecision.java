@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The precision to which {@link InstantConverter}, {@link LocalTimeConverter}, {@link LocalDateTimeConverter}
+ * and {@link OffsetDateTimeConverter} write fractions of a second.  Finer digits are truncated, not rounded,
+ * just as {@code truncatedTo} would.
+ */
+public enum TimePrecision
+{
+  /** Whole seconds, with no fraction. */
+  SECONDS(0, ChronoUnit.SECONDS),
+
+  /** Milliseconds: up to three fractional digits. */
+  MILLIS(3, ChronoUnit.MILLIS),
+
+  /** Microseconds: up to six fractional digits. */
+  MICROS(6, ChronoUnit.MICROS),
+
+  /** Nanoseconds: up to nine fractional digits, the full precision of {@code java.time}. */
+  NANOS(9, ChronoUnit.NANOS);
+
+  /** The number of fractional digits at this precision. */
+  private final int fractionDigits;
+
+  /** The equivalent unit. */
+  private final ChronoUnit unit;
+
+  /** The number of nanoseconds in one unit. */
+  private final int nanosPerUnit;
+
+  /**
+   * Constructs a new {@code TimePrecision}.
+   * @param fractionDigits The number of fractional digits.
+   * @param unit The equivalent unit.
+   */
+  TimePrecision(int fractionDigits, ChronoUnit unit)
+  {
+    this.fractionDigits = fractionDigits;
+    this.unit = unit;
+    this.nanosPerUnit = (int) unit.getDuration().toNanos();
+  }
+
+  /**
+   * Gets the number of fractional digits written at this precision.
+   * @return The number of digits, from 0 to 9.
+   */
+  int fractionDigits()
+  {
+    return this.fractionDigits;
+  }
+
+  /**
+   * Gets the unit equivalent to this precision.
+   * @return The unit, suitable for {@code truncatedTo}.
+   */
+  ChronoUnit unit()
+  {
+    return this.unit;
+  }
+
+  /**
+   * Truncates a nano-of-second to this precision.
+   * @param nano The nano-of-second.
+   * @return The truncated nano-of-second.
+   */
+  int truncate(int nano)
+  {
+    return nano - nano % this.nanosPerUnit;
+  }
+
+  /**
+   * Scales a truncated nano-of-second down to a whole number of units, ready to be written as
+   * {@link #fractionDigits()} digits.
+   * @param nano The nano-of-second.
+   * @return The number of whole units.
+   */
+  int units(int nano)
+  {
+    return nano / this.nanosPerUnit;
+  }
+}
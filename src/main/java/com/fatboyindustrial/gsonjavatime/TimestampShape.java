@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+/**
+ * The shapes of timestamp recognised by lenient parsing (see {@link InstantConverter#withLenientParsing()}).
+ * The date and time may be separated by {@code T}, {@code t} or a space, and the time may omit seconds or
+ * carry up to nine fractional digits.
+ */
+public enum TimestampShape
+{
+  /** A UTC date-time ending in {@code Z}, such as {@code 2023-11-14T22:13:20Z}. */
+  UTC_DATE_TIME,
+
+  /**
+   * A date-time with a numeric offset, such as {@code 2023-11-14T22:13:20+10:00}.  The offset may also be
+   * written {@code +10}, {@code +1000} or {@code +10:00:00}.
+   */
+  OFFSET_DATE_TIME,
+
+  /**
+   * A date-time with a bracketed zone and an optional offset, such as
+   * {@code 2023-11-14T22:13:20+10:00[Australia/Brisbane]} or {@code 2023-11-14 22:13:20[Europe/Paris]}.
+   */
+  ZONED_DATE_TIME,
+
+  /** A date-time without an offset, such as {@code 2023-11-14 22:13:20}, taken to be UTC. */
+  LOCAL_DATE_TIME,
+
+  /** A date without a time, such as {@code 2023-11-14}, taken to be the start of the day in UTC. */
+  LOCAL_DATE,
+
+  /**
+   * A whole number since the epoch.  The unit is inferred from the number of digits: up to 11 digits is
+   * seconds, up to 14 is milliseconds, up to 17 is microseconds and anything longer is nanoseconds.
+   */
+  EPOCH_NUMBER,
+
+  /** A decimal number of seconds since the epoch, such as {@code 1700000000.123}. */
+  EPOCH_DECIMAL,
+
+  /** Input that matches none of the other shapes. */
+  UNRECOGNISED
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Decodes canonical ISO 8601 instants and local date-times truncated to a {@link ChronoUnit}, returning one
+ * shared instance per bucket. <p>
+ *
+ * Only the fields the unit keeps are decoded.  The fields it discards are range checked where they are
+ * whole fields, and the fraction only has its syntax checked, so the result is the same as parsing the text
+ * in full and truncating it, without the work.  The kept prefix of the text, such as
+ * {@code 2023-11-14T22:13} for minutes, identifies the bucket: the most recent buckets are kept in a small
+ * ring, and a value whose prefix matches one of them returns its instance without decoding anything.  The
+ * ring holds immutable entries in an {@link AtomicReferenceArray}, so the parser is safe to share between
+ * threads.  Anything outside the canonical layout is left to the caller.
+ */
+final class TruncatingParser
+{
+  /** The number of buckets remembered, a power of two. */
+  private static final int RING_SIZE = 8;
+
+  /** Position of the first hour digit. */
+  private static final int HOUR = Iso8601Parser.DATE_LENGTH + 1;
+
+  /** Position of the first minute digit. */
+  private static final int MINUTE = HOUR + 3;
+
+  /** Position of the first second digit. */
+  private static final int SECOND = MINUTE + 3;
+
+  /** Seconds per day. */
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  /** The unit to truncate to. */
+  private final ChronoUnit unit;
+
+  /** The length of the prefix the unit keeps. */
+  private final int prefixLength;
+
+  /** The most recent buckets, indexed by insertion number modulo the ring size. */
+  private final AtomicReferenceArray<Bucket> ring = new AtomicReferenceArray<>(RING_SIZE);
+
+  /** The number of buckets inserted. */
+  private final AtomicInteger inserted = new AtomicInteger();
+
+  /**
+   * Constructs a new {@code TruncatingParser}.
+   * @param unit The unit to truncate to: {@code SECONDS}, {@code MINUTES}, {@code HOURS} or {@code DAYS}.
+   * @throws IllegalArgumentException If the unit isn't supported.
+   */
+  TruncatingParser(ChronoUnit unit)
+  {
+    if (unit == null) { throw new NullPointerException("unit cannot be null"); }
+
+    switch (unit)
+    {
+      case SECONDS:
+        this.prefixLength = SECOND + 2;
+        break;
+      case MINUTES:
+        this.prefixLength = MINUTE + 2;
+        break;
+      case HOURS:
+        this.prefixLength = HOUR + 2;
+        break;
+      case DAYS:
+        this.prefixLength = Iso8601Parser.DATE_LENGTH;
+        break;
+      default:
+        throw new IllegalArgumentException("unit must be SECONDS, MINUTES, HOURS or DAYS: " + unit);
+    }
+
+    this.unit = unit;
+  }
+
+  /**
+   * Decodes a truncated instant in the canonical {@code yyyy-MM-ddTHH:mm:ss[.n]Z} layout.
+   * @param text The text.
+   * @return The shared instance for the bucket, or null if the text isn't canonical.
+   */
+  Instant parseInstant(String text)
+  {
+    final int timeEnd = Iso8601Parser.instantTimeEnd(text);
+    final Bucket bucket = timeEnd > 0 ? bucket(text, timeEnd, true) : null;
+    return bucket != null ? (Instant) bucket.value : null;
+  }
+
+  /**
+   * Decodes a truncated local date-time in the canonical {@code yyyy-MM-ddTHH:mm[:ss[.n]]} layout.
+   * @param text The text.
+   * @return The shared instance for the bucket, or null if the text isn't canonical.
+   */
+  LocalDateTime parseLocalDateTime(String text)
+  {
+    final int timeEnd = Iso8601Parser.dateTimeEnd(text);
+    final Bucket bucket = timeEnd == text.length() ? bucket(text, timeEnd, false) : null;
+    return bucket != null ? (LocalDateTime) bucket.value : null;
+  }
+
+  /**
+   * Truncates a value decoded in full, for text the fast path doesn't handle.
+   * @param value The instant; may be null.
+   * @return The truncated instant, or null.
+   */
+  Instant truncate(Instant value)
+  {
+    return value != null ? value.truncatedTo(this.unit) : null;
+  }
+
+  /**
+   * Truncates a value decoded in full, for text the fast path doesn't handle.
+   * @param value The date-time; may be null.
+   * @return The truncated date-time, or null.
+   */
+  LocalDateTime truncate(LocalDateTime value)
+  {
+    return value != null ? value.truncatedTo(this.unit) : null;
+  }
+
+  /**
+   * Returns the bucket for text whose layout has been checked, finding it in the ring or decoding it.
+   * @param text The text.
+   * @param timeEnd The end of the time.
+   * @param instant Whether to build an instant, rather than a local date-time.
+   * @return The bucket, or null if a field is out of range or the text is too short for the unit.
+   */
+  private Bucket bucket(String text, int timeEnd, boolean instant)
+  {
+    if (timeEnd < this.prefixLength || !isDiscardedValid(text, timeEnd))
+    {
+      return null;
+    }
+
+    final int newest = this.inserted.get();
+    for (int i = 1; i <= RING_SIZE; i++)
+    {
+      final Bucket bucket = this.ring.get((newest - i) & (RING_SIZE - 1));
+      if (bucket != null && bucket.instant == instant && text.regionMatches(0, bucket.prefix, 0, this.prefixLength))
+      {
+        return bucket;
+      }
+    }
+
+    final Bucket bucket = decode(text, instant);
+    if (bucket != null)
+    {
+      this.ring.lazySet(this.inserted.getAndIncrement() & (RING_SIZE - 1), bucket);
+    }
+
+    return bucket;
+  }
+
+  /**
+   * Checks the ranges of the whole fields the unit discards.
+   * @param text The text.
+   * @param timeEnd The end of the time.
+   * @return True if they are in range.
+   */
+  private boolean isDiscardedValid(String text, int timeEnd)
+  {
+    return (this.prefixLength > HOUR || isInRange(text, HOUR, 23))
+           && (this.prefixLength > MINUTE || isInRange(text, MINUTE, 59))
+           && (this.prefixLength > SECOND || timeEnd < SECOND + 2 || isInRange(text, SECOND, 59));
+  }
+
+  /**
+   * Decodes the fields the unit keeps into a new bucket.
+   * @param text The text.
+   * @param instant Whether to build an instant, rather than a local date-time.
+   * @return The bucket, or null if a field is out of range.
+   */
+  private Bucket decode(String text, boolean instant)
+  {
+    final int date = Iso8601Parser.date(text, 0);
+    final int hour = this.prefixLength > HOUR ? Iso8601Parser.digits2(text, HOUR) : 0;
+    final int minute = this.prefixLength > MINUTE ? Iso8601Parser.digits2(text, MINUTE) : 0;
+    final int second = this.prefixLength > SECOND ? Iso8601Parser.digits2(text, SECOND) : 0;
+    if (date == Iso8601Parser.NOT_CANONICAL || hour < 0 || hour > 23 || minute < 0 || minute > 59
+        || second < 0 || second > 59)
+    {
+      return null;
+    }
+
+    final int year = date / 10000;
+    final int month = date / 100 % 100;
+    final int day = date % 100;
+    final Object value;
+    if (instant)
+    {
+      final long epochDay = Iso8601Parser.epochDay(year, month, day);
+      value = Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second);
+    }
+    else
+    {
+      value = LocalDateTime.of(year, month, day, hour, minute, second);
+    }
+
+    return new Bucket(text.substring(0, this.prefixLength), instant, value);
+  }
+
+  /**
+   * Checks that a two digit field is within range.
+   * @param text The text.
+   * @param pos The position of the field.
+   * @param max The largest valid value.
+   * @return True if the field is two digits no larger than {@code max}.
+   */
+  private static boolean isInRange(String text, int pos, int max)
+  {
+    final int value = Iso8601Parser.digits2(text, pos);
+    return value >= 0 && value <= max;
+  }
+
+  /**
+   * An immutable bucket: the kept prefix of the text and the shared value.
+   */
+  private static final class Bucket
+  {
+    /** The kept prefix. */
+    private final String prefix;
+
+    /** Whether the value is an instant, rather than a local date-time. */
+    private final boolean instant;
+
+    /** The value. */
+    private final Object value;
+
+    /**
+     * Constructs a new {@code Bucket}.
+     * @param prefix The kept prefix.
+     * @param instant Whether the value is an instant.
+     * @param value The value.
+     */
+    private Bucket(String prefix, boolean instant, Object value)
+    {
+      this.prefix = prefix;
+      this.instant = instant;
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.JsonPrimitive;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.zone.ZoneRulesException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, concurrent cache of resolved zone identifiers. <p>
+ *
+ * {@link ZoneId#of(String)} re-validates the identifier and looks up the zone rules provider on every call,
+ * and throws for unknown identifiers.  Real payloads only carry a few hundred distinct zones, so each
+ * identifier is resolved once and the result kept, along with the serialised form of the zone.  Unknown
+ * identifiers are kept in a separate negative cache so they aren't looked up again. <p>
+ *
+ * Each cache is a fixed table of slots indexed by the identifier's hash code, and a new identifier replaces
+ * whatever its slot held, so the caches never fill up: a flood of distinct identifiers only evicts entries,
+ * which are resolved again when next seen.  Offset identifiers such as {@code +10:00} are cheap to parse and
+ * unbounded in number, so they aren't cached at all.  The slots hold immutable entries, so threads share the
+ * caches without locking.
+ */
+final class ZoneIdCache
+{
+  /** The number of slots for known zones, a power of two. */
+  static final int MAX_ZONES = 1024;
+
+  /** The number of slots for unknown identifiers, a power of two. */
+  static final int MAX_UNKNOWN = 256;
+
+  /** Known zones, indexed by spread hash code of the identifier. */
+  private static final AtomicReferenceArray<Entry> ZONES = new AtomicReferenceArray<>(MAX_ZONES);
+
+  /** Unknown identifiers, indexed by spread hash code. */
+  private static final AtomicReferenceArray<Unknown> UNKNOWN = new AtomicReferenceArray<>(MAX_UNKNOWN);
+
+  /**
+   * Not instantiable.
+   */
+  private ZoneIdCache()
+  {
+  }
+
+  /**
+   * Resolves a zone identifier, as {@link ZoneId#of(String)} does.
+   * @param identifier The zone identifier.
+   * @return The zone.
+   * @throws DateTimeException If the identifier is invalid or unknown (a {@link ZoneRulesException} in the
+   * latter case), exactly as {@link ZoneId#of(String)} would throw.
+   */
+  static ZoneId of(String identifier)
+  {
+    if (isOffset(identifier))
+    {
+      return ZoneId.of(identifier);
+    }
+
+    final Entry entry = entry(identifier);
+    if (entry != null)
+    {
+      return entry.zone;
+    }
+
+    final Unknown unknown = UNKNOWN.get(slot(identifier, MAX_UNKNOWN));
+    if (unknown == null || !unknown.identifier.equals(identifier))
+    {
+      return ZoneId.of(identifier);
+    }
+
+    if (unknown.region)
+    {
+      throw new ZoneRulesException(unknown.message);
+    }
+
+    throw new DateTimeException(unknown.message);
+  }
+
+  /**
+   * Resolves a zone identifier without throwing.
+   * @param identifier The zone identifier.
+   * @return The zone, or null if the identifier is invalid or unknown.
+   */
+  static ZoneId lookup(String identifier)
+  {
+    if (isOffset(identifier))
+    {
+      try
+      {
+        return ZoneId.of(identifier);
+      }
+      catch (DateTimeException e)
+      {
+        return null;
+      }
+    }
+
+    final Entry entry = entry(identifier);
+    return entry == null ? null : entry.zone;
+  }
+
+  /**
+   * Gets the serialised form of a zone.
+   * @param zone The zone.
+   * @return The zone's identifier as a JSON string.
+   */
+  static JsonPrimitive json(ZoneId zone)
+  {
+    final String identifier = zone.getId();
+    if (isOffset(identifier))
+    {
+      return new JsonPrimitive(identifier);
+    }
+
+    final int slot = slot(identifier, MAX_ZONES);
+    final Entry entry = ZONES.get(slot);
+    if (entry != null && entry.identifier.equals(identifier))
+    {
+      return entry.json;
+    }
+
+    final Entry created = new Entry(identifier, zone);
+    ZONES.lazySet(slot, created);
+    return created.json;
+  }
+
+  /**
+   * Finds or creates the cache entry for a region identifier.
+   * @param identifier The zone identifier.
+   * @return The entry, or null if the identifier is invalid or unknown.
+   */
+  private static Entry entry(String identifier)
+  {
+    final int slot = slot(identifier, MAX_ZONES);
+    final Entry entry = ZONES.get(slot);
+    if (entry != null && entry.identifier.equals(identifier))
+    {
+      return entry;
+    }
+
+    final int unknownSlot = slot(identifier, MAX_UNKNOWN);
+    final Unknown unknown = UNKNOWN.get(unknownSlot);
+    if (unknown != null && unknown.identifier.equals(identifier))
+    {
+      return null;
+    }
+
+    final ZoneId zone;
+    try
+    {
+      zone = ZoneId.of(identifier);
+    }
+    catch (DateTimeException e)
+    {
+      UNKNOWN.lazySet(unknownSlot, new Unknown(identifier, e));
+      return null;
+    }
+
+    final Entry created = new Entry(identifier, zone);
+    ZONES.lazySet(slot, created);
+    return created;
+  }
+
+  /**
+   * Checks whether an identifier is parsed as a {@code ZoneOffset} by {@link ZoneId#of(String)}.
+   * @param identifier The zone identifier.
+   * @return True if the identifier is {@code Z} or starts with a sign (or is too short to be a region).
+   */
+  private static boolean isOffset(String identifier)
+  {
+    return identifier.length() <= 1 || identifier.charAt(0) == '+' || identifier.charAt(0) == '-';
+  }
+
+  /**
+   * Returns the slot of an identifier.
+   * @param identifier The zone identifier.
+   * @param slots The number of slots, a power of two.
+   * @return The slot.
+   */
+  private static int slot(String identifier, int slots)
+  {
+    final int hash = identifier.hashCode();
+    return (hash ^ (hash >>> 16)) & (slots - 1);
+  }
+
+  /**
+   * A resolved zone and its serialised form.
+   */
+  private static final class Entry
+  {
+    /** The zone identifier. */
+    private final String identifier;
+
+    /** The zone. */
+    private final ZoneId zone;
+
+    /** The zone's identifier as a JSON string. */
+    private final JsonPrimitive json;
+
+    /**
+     * Constructs a new entry.
+     * @param identifier The zone identifier.
+     * @param zone The zone.
+     */
+    private Entry(String identifier, ZoneId zone)
+    {
+      this.identifier = identifier;
+      this.zone = zone;
+      this.json = new JsonPrimitive(zone.getId());
+    }
+  }
+
+  /**
+   * An identifier that couldn't be resolved, and enough of the failure to raise it afresh.
+   */
+  private static final class Unknown
+  {
+    /** The zone identifier. */
+    private final String identifier;
+
+    /** The exception's message. */
+    private final String message;
+
+    /** Whether the exception was a {@link ZoneRulesException}, for an unknown region. */
+    private final boolean region;
+
+    /**
+     * Constructs a new entry.
+     * @param identifier The zone identifier.
+     * @param cause The exception raised for the identifier.
+     */
+    private Unknown(String identifier, DateTimeException cause)
+    {
+      this.identifier = identifier;
+      this.message = cause.getMessage();
+      this.region = cause instanceof ZoneRulesException;
+    }
+  }
+}
@@ -27,10 +27,12 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.ZoneId;
 
@@ -60,7 +62,7 @@ public class ZoneIdConverter implements JsonSerializer<ZoneId>, JsonDeserializer
       return null;
     }
 
-    return new JsonPrimitive(src.getId());
+    return ZoneIdCache.json(src);
   }
 
   /**
@@ -96,6 +98,34 @@ public class ZoneIdConverter implements JsonSerializer<ZoneId>, JsonDeserializer
       return null;
     }
 
-    return ZoneId.of(zoneIdentifier);
+    return ZoneIdCache.of(zoneIdentifier);
+  }
+
+  /**
+   * Writes {@code src} to the given streaming writer.
+   * @param out The JSON writer.
+   * @param src The non-null object to write.
+   * @throws IOException If writing fails.
+   */
+  void write(JsonWriter out, ZoneId src) throws IOException
+  {
+    out.value(src.getId());
+  }
+
+  /**
+   * Reads the next value from the given streaming reader.
+   * @param in The JSON reader, positioned at a non-null value.
+   * @return The converted object, or {@code null} if the value is an empty string.
+   * @throws IOException If reading fails.
+   */
+  ZoneId read(JsonReader in) throws IOException
+  {
+    final String identifier = in.nextString();
+    if (identifier.isEmpty())
+    {
+      return null;
+    }
+
+    return ZoneIdCache.of(identifier);
   }
 }
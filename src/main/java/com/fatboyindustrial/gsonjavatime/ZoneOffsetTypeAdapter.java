@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.ZoneOffset;
+
+/**
+ * Streaming GSON type adapter for converting {@link ZoneOffset} objects. <p>
+ *
+ * Writes the same JSON as {@link ZoneIdTypeAdapter}, but only reads offset identifiers such as {@code Z} or
+ * {@code +10:00}, so that a region identifier is rejected when it's read rather than assigned to a
+ * {@code ZoneOffset} field.
+ */
+public class ZoneOffsetTypeAdapter extends AbstractJavaTimeAdapter<ZoneOffset>
+{
+  /**
+   * Constructs a new {@code ZoneOffsetTypeAdapter}.
+   */
+  public ZoneOffsetTypeAdapter()
+  {
+    super("ZoneOffset");
+  }
+
+  /**
+   * Writes a non-null value.
+   * @param out The JSON writer.
+   * @param value The value.
+   * @throws IOException If writing fails.
+   */
+  @Override
+  void writeValue(JsonWriter out, ZoneOffset value) throws IOException
+  {
+    out.value(value.getId());
+  }
+
+  /**
+   * Reads a non-null value as a {@code ZoneOffset}.
+   * @param in The JSON reader.
+   * @return The converted value, or null if the value is an empty string.
+   * @throws IOException If reading fails.
+   * @throws JsonSyntaxException If the value isn't a zone offset identifier.
+   */
+  @Override
+  ZoneOffset readValue(JsonReader in) throws IOException
+  {
+    return parse(in.nextString());
+  }
+
+  /**
+   * Parses a zone offset identifier.
+   * @param identifier The identifier.
+   * @return The offset, or null if the identifier is empty.
+   * @throws JsonSyntaxException If the identifier isn't a zone offset.
+   */
+  private static ZoneOffset parse(String identifier)
+  {
+    if (identifier.isEmpty())
+    {
+      return null;
+    }
+
+    try
+    {
+      return ZoneOffset.of(identifier);
+    }
+    catch (DateTimeException e)
+    {
+      throw new JsonSyntaxException("Expected a zone offset but was " + identifier, e);
+    }
+  }
+}
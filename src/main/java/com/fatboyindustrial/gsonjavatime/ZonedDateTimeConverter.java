@@ -30,18 +30,72 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.BitSet;
 
 /**
  * GSON serialiser/deserialiser for converting {@link ZonedDateTime} objects.
  */
 public class ZonedDateTimeConverter implements JsonSerializer<ZonedDateTime>, JsonDeserializer<ZonedDateTime>
 {
-  /** Formatter. */
-  private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+  /** What to do with text that can't be parsed. */
+  private final ParseErrorPolicy<ZonedDateTime> errorPolicy;
+
+  /**
+   * Constructs a new {@code ZonedDateTimeConverter}.
+   */
+  public ZonedDateTimeConverter()
+  {
+    this(ParseErrorPolicy.throwing());
+  }
+
+  /**
+   * Constructs a new {@code ZonedDateTimeConverter}.
+   * @param errorPolicy What to do with text that can't be parsed.
+   */
+  private ZonedDateTimeConverter(ParseErrorPolicy<ZonedDateTime> errorPolicy)
+  {
+    if (errorPolicy == null) { throw new NullPointerException("errorPolicy cannot be null"); }
+
+    this.errorPolicy = errorPolicy;
+  }
+
+  /**
+   * Returns a copy of this converter that handles unparseable strings, including unknown zones, according to
+   * the given policy.  Under a non-throwing policy strings are validated without exceptions being raised
+   * internally.
+   * @param errorPolicy What to do with a string that can't be parsed.
+   * @return The converter.
+   */
+  public ZonedDateTimeConverter withErrorPolicy(ParseErrorPolicy<ZonedDateTime> errorPolicy)
+  {
+    return new ZonedDateTimeConverter(errorPolicy);
+  }
+
+  /**
+   * Checks which of the given strings this converter can read, without throwing and without consulting the
+   * error policy.
+   * @param texts The strings; null elements are invalid.
+   * @return A bit set with bit {@code i} set if {@code texts[i]} is valid.
+   */
+  public BitSet validate(String... texts)
+  {
+    final BitSet valid = new BitSet(texts.length);
+    for (int i = 0; i < texts.length; i++)
+    {
+      if (texts[i] != null && Iso8601Parser.tryParseZonedDateTime(texts[i]) != null)
+      {
+        valid.set(i);
+      }
+    }
+
+    return valid;
+  }
 
   /**
    * Gson invokes this call-back method during serialization when it encounters a field of the
@@ -60,7 +114,7 @@ public class ZonedDateTimeConverter implements JsonSerializer<ZonedDateTime>, Js
   @Override
   public JsonElement serialize(ZonedDateTime src, Type typeOfSrc, JsonSerializationContext context)
   {
-    return new JsonPrimitive(FORMATTER.format(src));
+    return new JsonPrimitive(Iso8601Formatter.formatZonedDateTime(src));
   }
 
   /**
@@ -82,6 +136,44 @@ public class ZonedDateTimeConverter implements JsonSerializer<ZonedDateTime>, Js
   public ZonedDateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException
   {
-    return FORMATTER.parse(json.getAsString(), ZonedDateTime::from);
+    return parse(json.getAsString());
+  }
+
+  /**
+   * Writes {@code src} to the given streaming writer.
+   * @param out The JSON writer.
+   * @param src The non-null object to write.
+   * @throws IOException If writing fails.
+   */
+  void write(JsonWriter out, ZonedDateTime src) throws IOException
+  {
+    out.value(Iso8601Formatter.formatZonedDateTime(src));
+  }
+
+  /**
+   * Reads the next value from the given streaming reader.
+   * @param in The JSON reader, positioned at a non-null value.
+   * @return The converted object.
+   * @throws IOException If reading fails.
+   */
+  ZonedDateTime read(JsonReader in) throws IOException
+  {
+    return parse(in.nextString());
+  }
+
+  /**
+   * Parses a string according to the error policy.
+   * @param text The string.
+   * @return The date-time.
+   */
+  private ZonedDateTime parse(String text)
+  {
+    if (this.errorPolicy.isThrowing())
+    {
+      return Iso8601Parser.parseZonedDateTime(text);
+    }
+
+    final ZonedDateTime dateTime = Iso8601Parser.tryParseZonedDateTime(text);
+    return dateTime != null ? dateTime : this.errorPolicy.onError(text);
   }
 }
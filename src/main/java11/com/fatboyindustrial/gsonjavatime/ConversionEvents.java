@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Hooks for Java Flight Recorder events around each conversion made by the streaming type adapters, called
+ * from {@link AbstractJavaTimeAdapter}. <p>
+ *
+ * This is the Java 11 implementation, loaded from {@code META-INF/versions/11} of the multi-release jar.
+ * Each hook first asks JFR whether its event is enabled, which is a field read when no recording is
+ * running.  Slow conversions are timed by the event itself, filtered by the recording's threshold
+ * (1 ms unless configured otherwise) and then sampled, committing one in every
+ * {@code com.fatboyindustrial.gsonjavatime.jfr.slowConversionSampling} (default 10) that pass the threshold.
+ * While failures are being recorded, each read goes through a per-thread reader that notes the text of the
+ * string or number read, so that a failure records its input whatever the exception.
+ */
+final class ConversionEvents
+{
+  /** The longest input recorded by a failure event. */
+  private static final int MAX_INPUT_LENGTH = 64;
+
+  /** Commit one in this many slow conversions. */
+  private static final int SAMPLING = Math.max(1, Integer.getInteger("com.fatboyindustrial.gsonjavatime.jfr.slowConversionSampling", 10));
+
+  /** An event used only to ask whether slow conversions are being recorded. */
+  private static final SlowConversionEvent SLOW_PROBE = new SlowConversionEvent();
+
+  /** An event used only to ask whether failures are being recorded. */
+  private static final FailedConversionEvent FAILED_PROBE = new FailedConversionEvent();
+
+  /** The input-noting reader for each thread. */
+  private static final ThreadLocal<InputRecordingReader> READERS =
+      ThreadLocal.withInitial(InputRecordingReader::new);
+
+  /** The number of slow conversions seen; racy, since only the sampling rate matters. */
+  private static int slowCount;
+
+  /**
+   * Not instantiable.
+   */
+  private ConversionEvents()
+  {
+  }
+
+  /**
+   * Marks the start of a conversion.
+   * @return A token to pass to {@link #end(Object, String, String)}, or null if slow conversions aren't
+   * being recorded.
+   */
+  static Object begin()
+  {
+    if (!SLOW_PROBE.isEnabled())
+    {
+      return null;
+    }
+
+    final SlowConversionEvent event = new SlowConversionEvent();
+    event.begin();
+
+    return event;
+  }
+
+  /**
+   * Marks the end of a successful conversion.
+   * @param token The token from {@link #begin()}.
+   * @param type The simple name of the converted type.
+   * @param direction The direction, {@code read} or {@code write}.
+   */
+  static void end(Object token, String type, String direction)
+  {
+    if (token == null)
+    {
+      return;
+    }
+
+    final SlowConversionEvent event = (SlowConversionEvent) token;
+    event.end();
+    if (event.shouldCommit() && slowCount++ % SAMPLING == 0)
+    {
+      event.type = type;
+      event.direction = direction;
+      event.sampling = SAMPLING;
+      event.commit();
+    }
+  }
+
+  /**
+   * Records a conversion that threw.
+   * @param type The simple name of the converted type.
+   * @param direction The direction, {@code read} or {@code write}.
+   * @param value The value being written, or null when reading.
+   * @param cause The exception.
+   */
+  static void failed(String type, String direction, Object value, RuntimeException cause)
+  {
+    if (!FAILED_PROBE.isEnabled())
+    {
+      return;
+    }
+
+    commitFailure(type, direction, value != null ? value.toString() : null, cause);
+  }
+
+  /**
+   * Returns the reader a conversion should read from, which notes the text read when failures are being
+   * recorded.  Pass it to {@link #release(JsonReader)} once the value has been read.
+   * @param in The reader.
+   * @return The reader to read from: {@code in} itself, or a reader forwarding to it.
+   */
+  static JsonReader reader(JsonReader in)
+  {
+    if (!FAILED_PROBE.isEnabled())
+    {
+      return in;
+    }
+
+    final InputRecordingReader recorder = READERS.get();
+    final InputRecordingReader reader = recorder.in == null ? recorder : new InputRecordingReader();
+    reader.in = in;
+    reader.input = null;
+
+    return reader;
+  }
+
+  /**
+   * Records a read that threw.
+   * @param type The simple name of the converted type.
+   * @param reader The reader from {@link #reader(JsonReader)}.
+   * @param cause The exception.
+   */
+  static void readFailed(String type, JsonReader reader, RuntimeException cause)
+  {
+    if (!FAILED_PROBE.isEnabled())
+    {
+      return;
+    }
+
+    commitFailure(type, "read", reader instanceof InputRecordingReader ? ((InputRecordingReader) reader).input : null,
+                  cause);
+  }
+
+  /**
+   * Finishes with a reader from {@link #reader(JsonReader)}, freeing it for the thread's next read.
+   * @param reader The reader.
+   */
+  static void release(JsonReader reader)
+  {
+    if (reader instanceof InputRecordingReader)
+    {
+      ((InputRecordingReader) reader).in = null;
+      ((InputRecordingReader) reader).input = null;
+    }
+  }
+
+  /**
+   * Commits a failure event.
+   * @param type The simple name of the converted type.
+   * @param direction The direction, {@code read} or {@code write}.
+   * @param input The offending input, or null if it isn't known.
+   * @param cause The exception.
+   */
+  private static void commitFailure(String type, String direction, String input, RuntimeException cause)
+  {
+    final FailedConversionEvent event = new FailedConversionEvent();
+    event.type = type;
+    event.direction = direction;
+    event.input = truncate(input != null ? input
+                                         : cause instanceof DateTimeParseException
+                                           ? ((DateTimeParseException) cause).getParsedString() : null);
+    event.error = cause.getClass().getName();
+    event.message = truncate(cause.getMessage());
+    event.commit();
+  }
+
+  /**
+   * Truncates text for an event.
+   * @param text The text, or null.
+   * @return The text, cut to at most 64 characters, or null.
+   */
+  private static String truncate(String text)
+  {
+    return text == null || text.length() <= MAX_INPUT_LENGTH ? text : text.substring(0, MAX_INPUT_LENGTH) + "...";
+  }
+
+  /**
+   * A reader that forwards to another and notes the text of the string or number read.  If the value can't be
+   * read as requested, for instance a fraction read as a long, the name of the token found is noted instead.
+   */
+  private static final class InputRecordingReader extends ForwardingJsonReader
+  {
+    /** The text of the value read, the token found if it couldn't be read, or null before either. */
+    private String input;
+
+    @Override
+    public String nextString() throws IOException
+    {
+      this.input = this.in.peek().name();
+      final String text = this.in.nextString();
+      this.input = text;
+      return text;
+    }
+
+    @Override
+    public long nextLong() throws IOException
+    {
+      this.input = this.in.peek().name();
+      final long value = this.in.nextLong();
+      this.input = Long.toString(value);
+      return value;
+    }
+
+    @Override
+    public int nextInt() throws IOException
+    {
+      this.input = this.in.peek().name();
+      final int value = this.in.nextInt();
+      this.input = Integer.toString(value);
+      return value;
+    }
+
+    @Override
+    public double nextDouble() throws IOException
+    {
+      this.input = this.in.peek().name();
+      final double value = this.in.nextDouble();
+      this.input = Double.toString(value);
+      return value;
+    }
+  }
+}
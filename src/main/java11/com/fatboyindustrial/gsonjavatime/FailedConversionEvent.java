@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A conversion that threw an exception.
+ */
+@Name("com.fatboyindustrial.gsonjavatime.FailedConversion")
+@Label("Failed Conversion")
+@Category({ "Gson", "Java Time" })
+@Description("A Java Time conversion that threw an exception")
+final class FailedConversionEvent extends Event
+{
+  /** The simple name of the converted type. */
+  @Label("Type")
+  String type;
+
+  /** The direction, read or write. */
+  @Label("Direction")
+  String direction;
+
+  /**
+   * The offending input, truncated to 64 characters, if known, or the JSON token found, such as {@code NUMBER}
+   * or {@code BEGIN_OBJECT}, if the value couldn't be read at all.
+   */
+  @Label("Input")
+  String input;
+
+  /** The class of the exception. */
+  @Label("Error")
+  String error;
+
+  /** The exception's message, truncated to 64 characters. */
+  @Label("Message")
+  String message;
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link ConverterMetrics}.
+ */
+public class ConverterMetricsTest
+{
+  /**
+   * Tests that instrumented adapters produce the same JSON and record calls, characters and shapes.
+   */
+  @Test
+  public void testRecording()
+  {
+    final ConverterMetrics metrics = new ConverterMetrics();
+    final Gson plain = new GsonBuilder().registerTypeAdapterFactory(new JavaTimeTypeAdapterFactory()).create();
+    final Gson gson = new GsonBuilder()
+        .registerTypeAdapterFactory(new JavaTimeTypeAdapterFactory()
+                                        .withDuration(new DurationConverter(DurationEncoding.MILLIS))
+                                        .withMetrics(metrics))
+        .create();
+
+    final Instant instant = Instant.parse("1969-07-21T02:56:00Z");
+    assertThat(gson.toJson(instant), is(plain.toJson(instant)));
+    assertThat(gson.fromJson("\"1969-07-21T02:56:00Z\"", Instant.class), is(instant));
+    assertThat(gson.fromJson("\"1969-07-21T12:56:00\"", LocalDateTime.class), is(LocalDateTime.parse("1969-07-21T12:56:00")));
+    assertThat(gson.fromJson("\"Europe/Paris\"", ZoneId.class), is(ZoneId.of("Europe/Paris")));
+    assertThat(gson.toJson(Duration.ofSeconds(90)), is("90000"));
+    assertThat(gson.fromJson("90000", Duration.class), is(Duration.ofSeconds(90)));
+    assertThat(gson.fromJson("null", Instant.class), is((Instant) null));
+
+    assertThat(metrics.getCalls().get("Instant.write"), is(1L));
+    assertThat(metrics.getCalls().get("Instant.read"), is(1L));
+    assertThat(metrics.getCalls().get("LocalDate.read"), is(0L));
+    assertThat(metrics.getCalls().get("Duration.read"), is(1L));
+    assertThat(metrics.getCharacters().get("Instant.read"), is(20L));
+    assertThat(metrics.getCharacters().get("Duration.write"), is(5L));
+    assertThat(metrics.getFailures().get("Instant.read"), is(0L));
+    assertThat(metrics.getShapeCounts().get("Instant.UTC_DATE_TIME"), is(1L));
+    assertThat(metrics.getShapeCounts().get("LocalDateTime.LOCAL_DATE_TIME"), is(1L));
+    assertThat(metrics.getShapeCounts().get("ZoneId.UNRECOGNISED"), is(1L));
+    assertThat(metrics.getShapeCounts().get("Duration.EPOCH_NUMBER"), is(1L));
+    assertThat(metrics.getP99LatencyNanos().get("Instant.read") >= metrics.getP50LatencyNanos().get("Instant.read"), is(true));
+
+    metrics.reset();
+    assertThat(metrics.getCalls().get("Instant.read"), is(0L));
+  }
+
+  /**
+   * Tests that instrumented adapters read and write numeric encodings exactly as the streaming adapters do,
+   * including the values inside arrays and objects.
+   */
+  @Test
+  public void testMatchesStreamingAdapters()
+  {
+    for (InstantEncoding encoding : InstantEncoding.values())
+    {
+      final JavaTimeTypeAdapterFactory factory = new JavaTimeTypeAdapterFactory().withInstant(new InstantConverter(encoding));
+      final ConverterMetrics metrics = new ConverterMetrics();
+      final Gson plain = new GsonBuilder().registerTypeAdapterFactory(factory).create();
+      final Gson gson = new GsonBuilder().registerTypeAdapterFactory(factory.withMetrics(metrics)).create();
+      final Instant[] instants = { Instant.ofEpochSecond(1000), Instant.ofEpochSecond(-1, 500_000_000), null };
+
+      final String json = plain.toJson(instants);
+      assertThat(encoding.toString(), gson.toJson(instants), is(json));
+      assertThat(encoding.toString(), gson.fromJson(json, Instant[].class), is(instants));
+      assertThat(metrics.getCalls().get("Instant.write"), is(2L));
+      assertThat(metrics.getCalls().get("Instant.read"), is(2L));
+      assertThat(metrics.getCharacters().get("Instant.read"), is(metrics.getCharacters().get("Instant.write")));
+    }
+  }
+
+  /**
+   * Tests that a conversion that throws is counted as a failure.
+   */
+  @Test
+  public void testFailure()
+  {
+    final ConverterMetrics metrics = new ConverterMetrics();
+    final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new JavaTimeTypeAdapterFactory().withMetrics(metrics))
+                                       .create();
+
+    try
+    {
+      gson.fromJson("\"yesterday\"", Instant.class);
+      throw new AssertionError("parsed");
+    }
+    catch (DateTimeParseException e)
+    {
+      assertThat(metrics.getCalls().get("Instant.read"), is(1L));
+      assertThat(metrics.getFailures().get("Instant.read"), is(1L));
+    }
+  }
+
+  /**
+   * Tests that the metrics can be read over JMX.
+   */
+  @Test
+  public void testMBean() throws Exception
+  {
+    final ConverterMetrics metrics = new ConverterMetrics();
+    final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new JavaTimeTypeAdapterFactory().withMetrics(metrics))
+                                       .create();
+    gson.toJson(Instant.EPOCH);
+
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    final ObjectName name = metrics.registerMBean("test");
+    try
+    {
+      final TabularData calls = (TabularData) server.getAttribute(name, "Calls");
+      assertThat(calls.get(new Object[] { "Instant.write" }), is(notNullValue()));
+      assertThat(calls.get(new Object[] { "Instant.write" }).get("value"), is(1L));
+    }
+    finally
+    {
+      server.unregisterMBean(name);
+    }
+  }
+}
@@ -29,6 +29,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -40,6 +41,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -119,6 +121,80 @@ public class ConvertersTest
     assertThat(deserialised.zi, is(container.zi));
   }
 
+  /**
+   * Tests that the streaming adapters produce the same JSON as the tree-based converters.
+   */
+  @Test
+  public void testStreamingSerialisation() throws Exception
+  {
+    final Gson tree = Converters.registerAll(new GsonBuilder()).create();
+    final Gson streaming = Converters.registerAllStreaming(new GsonBuilder()).create();
+
+    final Container container = new Container();
+    container.ld = LocalDate.of(1969, 7, 21);
+    container.lt = LocalTime.of(12, 56, 0, 500_000_000);
+    container.ldt = LocalDateTime.of(container.ld, container.lt);
+    container.odt = OffsetDateTime.of(container.ld, container.lt, ZoneOffset.ofHours(10));
+    container.ot = OffsetTime.of(container.lt, ZoneOffset.ofHours(10));
+    container.zdt = ZonedDateTime.of(container.ld, container.lt, ZoneId.of("Australia/Brisbane"));
+    container.i = container.odt.toInstant();
+    container.zi = ZoneId.of("Australia/Brisbane");
+    container.d = Duration.ofSeconds(100);
+
+    assertThat(streaming.toJson(container), is(tree.toJson(container)));
+  }
+
+  /**
+   * Tests that the streaming adapters read the JSON produced by the tree-based converters.
+   */
+  @Test
+  public void testStreamingDeserialisation() throws Exception
+  {
+    final Gson tree = Converters.registerAll(new GsonBuilder()).create();
+    final Gson streaming = Converters.registerAllStreaming(new GsonBuilder()).create();
+
+    final Container container = new Container();
+    container.ld = LocalDate.of(1969, 7, 21);
+    container.lt = LocalTime.of(12, 56, 0);
+    container.ldt = LocalDateTime.of(container.ld, container.lt);
+    container.odt = OffsetDateTime.of(container.ld, container.lt, ZoneOffset.ofHours(10));
+    container.ot = OffsetTime.of(container.lt, ZoneOffset.ofHours(10));
+    container.zdt = ZonedDateTime.of(container.ld, container.lt, ZoneId.of("Australia/Brisbane"));
+    container.i = container.odt.toInstant();
+    container.zi = ZoneOffset.ofHours(10);
+    container.d = Duration.ofSeconds(100);
+
+    final Container deserialised = streaming.fromJson(tree.toJson(container), Container.class);
+
+    assertThat(deserialised.ld, is(container.ld));
+    assertThat(deserialised.ldt, is(container.ldt));
+    assertThat(deserialised.lt, is(container.lt));
+    assertThat(deserialised.odt, is(container.odt));
+    assertThat(deserialised.ot, is(container.ot));
+    assertThat(deserialised.zdt, is(container.zdt));
+    assertThat(deserialised.i, is(container.i));
+    assertThat(deserialised.zi, is(container.zi));
+    assertThat(deserialised.d, is(container.d));
+  }
+
+  /**
+   * Tests that the streaming adapters handle JSON nulls.
+   */
+  @Test
+  public void testStreamingNulls() throws Exception
+  {
+    final Gson streaming = Converters.registerAllStreaming(new GsonBuilder()).serializeNulls().create();
+
+    final Container container = new Container();
+    final String json = streaming.toJson(container);
+    final Container deserialised = streaming.fromJson(json, Container.class);
+
+    assertThat(json, is("{\"ld\":null,\"ldt\":null,\"lt\":null,\"odt\":null,\"ot\":null,\"zdt\":null,"
+                        + "\"i\":null,\"zi\":null,\"d\":null}"));
+    assertThat(deserialised.i, is(nullValue()));
+    assertThat(deserialised.zi, is(nullValue()));
+  }
+
   /**
    * Container for serialising many fields.
    */
@@ -132,5 +208,6 @@ public class ConvertersTest
     private ZonedDateTime zdt;
     private Instant i;
     private ZoneId zi;
+    private Duration d;
   }
 }
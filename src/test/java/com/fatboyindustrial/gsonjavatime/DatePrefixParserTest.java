@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.fatboyindustrial.gsonjavatime;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link DatePrefixParser}.
+ */
+public class DatePrefixParserTest
+{
+  /** Offsets to pick from. */
+  private static final ZoneOffset[] OFFSETS =
+      { ZoneOffset.UTC, ZoneOffset.ofHours(10), ZoneOffset.ofHoursMinutes(-3, -30), ZoneOffset.ofHoursMinutesSeconds(5, 30, 15) };
+
+  /**
+   * Tests that a sequence of nearby timestamps, crossing day, month and year boundaries and changing offset,
+   * parses identically to {@link Iso8601Parser}.
+   */
+  @Test
+  public void testSequentialValues()
+  {
+    final DatePrefixParser parser = new DatePrefixParser();
+    final Random random = new Random(1969);
+    Instant instant = Instant.parse("1969-12-30T23:58:00Z");
+
+    for (int i = 0; i < 10_000; i++)
+    {
+      instant = instant.plusNanos(random.nextInt(2_000_000_000) * 50L);
+      final OffsetDateTime value = instant.atOffset(OFFSETS[random.nextInt(4) == 0 ? random.nextInt(OFFSETS.length) : 0]);
+
+      assertThat(parser.parseInstant(instant.toString()), is(instant));
+      assertThat(parser.parseOffsetDateTime(value.toString()), is(value));
+      assertThat(parser.parseLocalDateTime(value.toLocalDateTime().toString()), is(value.toLocalDateTime()));
+    }
+  }
+
+  /**
+   * Tests that text outside the canonical layout, or with out-of-range fields, is left to the caller even
+   * when its date matches the one cached.
+   */
+  @Test
+  public void testNotCanonical()
+  {
+    final DatePrefixParser parser = new DatePrefixParser();
+    assertThat(parser.parseOffsetDateTime("2023-11-14T22:13:20+10:00"),
+               is(OffsetDateTime.of(2023, 11, 14, 22, 13, 20, 0, ZoneOffset.ofHours(10))));
+
+    assertThat(parser.parseInstant("2023-11-14T24:00:00Z"), is(nullValue()));
+    assertThat(parser.parseInstant("2023-11-14T22:13:20+10:00"), is(nullValue()));
+    assertThat(parser.parseInstant("2023-11-14 22:13:20Z"), is(nullValue()));
+    assertThat(parser.parseOffsetDateTime("2023-11-14T22:13:20+1000"), is(nullValue()));
+    assertThat(parser.parseOffsetDateTime("2023-11-14T22:13:20+10:00x"), is(nullValue()));
+    assertThat(parser.parseOffsetDateTime("2023-11-14T22:13:20"), is(nullValue()));
+    assertThat(parser.parseLocalDateTime("2023-11-14T22:13:20Z"), is(nullValue()));
+    assertThat(parser.parseLocalDateTime("2023-02-29T22:13:20"), is(nullValue()));
+    assertThat(parser.parseLocalDateTime("+12023-11-14T22:13:20"), is(nullValue()));
+
+    assertThat(parser.parseLocalDateTime("2023-11-14T22:13"), is(LocalDateTime.of(2023, 11, 14, 22, 13)));
+    assertThat(parser.parseOffsetDateTime("2023-11-14T22:13:20.5-03:30"),
+               is(OffsetDateTime.of(2023, 11, 14, 22, 13, 20, 500_000_000, ZoneOffset.ofHoursMinutes(-3, -30))));
+  }
+
+  /**
+   * Tests that a parser shared between threads reading different dates always returns each thread's own value.
+   */
+  @Test
+  public void testAcrossThreads() throws Exception
+  {
+    final DatePrefixParser parser = new DatePrefixParser();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try
+    {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++)
+      {
+        final OffsetDateTime start = Instant.parse("2023-11-14T22:13:20Z").plusSeconds(thread * 86_400L)
+                                            .atOffset(OFFSETS[thread]);
+        results.add(executor.submit(() ->
+        {
+          for (int i = 0; i < 10_000; i++)
+          {
+            final OffsetDateTime value = start.plusSeconds(i * 7L);
+            if (!value.equals(parser.parseOffsetDateTime(value.toString()))
+                || !value.toInstant().equals(parser.parseInstant(value.toInstant().toString())))
+            {
+              return false;
+            }
+          }
+
+          return true;
+        }));
+      }
+
+      for (Future<Boolean> result : results)
+      {
+        assertThat(result.get(), is(true));
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.JsonSyntaxException;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link DeltaOfDelta}.
+ */
+public class DeltaOfDeltaTest
+{
+  /**
+   * Tests that a regularly spaced series takes one byte per value after the first two.
+   */
+  @Test
+  public void testRegularSeries() throws Exception
+  {
+    final long[] values = new long[1000];
+    for (int i = 0; i < values.length; i++)
+    {
+      values[i] = 1_700_000_000_000L + i * 1000L;
+    }
+
+    final String text = DeltaOfDelta.encode(values, values.length);
+
+    assertThat(text.length(), is((6 + 2 + 998 + 2) / 3 * 4));
+    assertThat(DeltaOfDelta.decode(text), is(values));
+  }
+
+  /**
+   * Tests that random series, including extreme values, round trip in both formats.
+   */
+  @Test
+  public void testRoundTrip() throws Exception
+  {
+    final Random random = new Random(1969);
+    final PackedLongArrayTypeAdapter base64 = new PackedLongArrayTypeAdapter(PackedFormat.BASE64);
+    final PackedLongArrayTypeAdapter numbers = new PackedLongArrayTypeAdapter(PackedFormat.NUMBER_ARRAY);
+
+    for (int n = 0; n < 200; n++)
+    {
+      final long[] values = new long[random.nextInt(40)];
+      for (int i = 0; i < values.length; i++)
+      {
+        switch (random.nextInt(4))
+        {
+          case 0:
+            values[i] = random.nextLong();
+            break;
+          case 1:
+            values[i] = random.nextBoolean() ? Long.MAX_VALUE : Long.MIN_VALUE;
+            break;
+          default:
+            values[i] = (i == 0 ? 0 : values[i - 1]) + random.nextInt(1000);
+            break;
+        }
+      }
+
+      assertThat(DeltaOfDelta.decode(DeltaOfDelta.encode(values, values.length)), is(values));
+      assertThat(base64.fromJson(base64.toJson(values)), is(values));
+      assertThat(numbers.fromJson(numbers.toJson(values)), is(values));
+      assertThat(base64.fromJson(numbers.toJson(values)), is(values));
+    }
+  }
+
+  /**
+   * Tests the number array form of a short series.
+   */
+  @Test
+  public void testNumberArray() throws Exception
+  {
+    final PackedLongArrayTypeAdapter adapter = new PackedLongArrayTypeAdapter(PackedFormat.NUMBER_ARRAY);
+
+    assertThat(adapter.toJson(new long[] { 100, 110, 120, 131, 140 }), is("[100,10,0,1,-2]"));
+    assertThat(adapter.toJson(new long[0]), is("[]"));
+    assertThat(adapter.fromJson("[]"), is(new long[0]));
+    assertThat(adapter.fromJson("null"), is((long[]) null));
+  }
+
+  /**
+   * Tests that invalid base64 raises the expected exception.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testInvalidBase64() throws Exception
+  {
+    DeltaOfDelta.decode("not base64!");
+  }
+
+  /**
+   * Tests that a truncated variable-length integer raises the expected exception.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testTruncatedVarint() throws Exception
+  {
+    DeltaOfDelta.decode("gA==");
+  }
+}
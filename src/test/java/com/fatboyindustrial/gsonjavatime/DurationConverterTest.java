@@ -87,6 +87,20 @@ public class DurationConverterTest
     assertNull(duration);
   }
 
+  /**
+   * Tests that the streaming adapter deserialises an empty value to null.
+   */
+  @Test
+  public void testStreamingDeserialisationWithEmptyValue()
+  {
+    final Gson gson = new GsonBuilder().registerTypeAdapter(Duration.class, new DurationTypeAdapter()).create();
+
+    final String json = "\"\"";
+    final Duration duration = gson.fromJson(json, Duration.class);
+
+    assertNull(duration);
+  }
+
   /**
    * Tests that deserialising from JSON containing whitespace raises the expected exception.
    */
@@ -99,6 +113,113 @@ public class DurationConverterTest
     gson.fromJson(json, Duration.class);
   }
 
+  /**
+   * Tests that each numeric encoding is written as expected.
+   */
+  @Test
+  public void testNumericSerialisation() throws Exception
+  {
+    final Duration duration = Duration.ofSeconds(100, 123_456_789);
+    final Duration negative = duration.negated();
+
+    assertThat(toJson(DurationEncoding.MILLIS, duration), is("100123"));
+    assertThat(toJson(DurationEncoding.NANOS, duration), is("100123456789"));
+    assertThat(toJson(DurationEncoding.SECONDS, duration), is("100.123456789"));
+    assertThat(toJson(DurationEncoding.MILLIS, negative), is("-100123"));
+    assertThat(toJson(DurationEncoding.NANOS, negative), is("-100123456789"));
+    assertThat(toJson(DurationEncoding.SECONDS, negative), is("-100.123456789"));
+    assertThat(toJson(DurationEncoding.MILLIS, Duration.ofNanos(-500_000)), is("0"));
+    assertThat(toJson(DurationEncoding.SECONDS, Duration.ofMillis(250)), is("0.25"));
+    assertThat(toJson(DurationEncoding.SECONDS, Duration.ofSeconds(-7)), is("-7"));
+  }
+
+  /**
+   * Tests that each numeric encoding reads back what it writes, and still accepts ISO 8601 strings.
+   */
+  @Test
+  public void testNumericRoundTrip() throws Exception
+  {
+    final Duration[] durations = { Duration.ofSeconds(100, 123_456_789), Duration.ZERO, Duration.ofMillis(-250),
+                                   Duration.ofSeconds(-100, 123_456_789), Duration.ofDays(3650) };
+
+    for (DurationEncoding encoding : DurationEncoding.values())
+    {
+      for (Duration duration : durations)
+      {
+        final Duration expected = encoding == DurationEncoding.MILLIS ? Duration.ofMillis(duration.toMillis()) : duration;
+
+        assertThat(encoding.name(), fromJson(encoding, toJson(encoding, duration)), is(expected));
+        assertThat(encoding.name(), fromJson(encoding, toJson(DurationEncoding.ISO_8601, duration)), is(duration));
+        assertThat(encoding.name(), streamingFromJson(encoding, toJson(encoding, duration)), is(expected));
+        assertThat(encoding.name(), streamingToJson(encoding, duration), is(toJson(encoding, duration)));
+      }
+    }
+  }
+
+  /**
+   * Tests that decimal seconds in exponent form are read.
+   */
+  @Test
+  public void testDecimalSecondsWithExponent() throws Exception
+  {
+    assertThat(fromJson(DurationEncoding.SECONDS, "1.5E2"), is(Duration.ofSeconds(150)));
+    assertThat(streamingFromJson(DurationEncoding.SECONDS, "-5E-1"), is(Duration.ofMillis(-500)));
+  }
+
+  /**
+   * Tests that writing a duration too long for nanoseconds raises the expected exception.
+   */
+  @Test(expected = ArithmeticException.class)
+  public void testNanosOverflow()
+  {
+    toJson(DurationEncoding.NANOS, Duration.ofDays(365 * 300));
+  }
+
+  /**
+   * Serialises a duration with the tree-based converter.
+   * @param encoding The encoding to write.
+   * @param duration The duration.
+   * @return The JSON.
+   */
+  private static String toJson(DurationEncoding encoding, Duration duration)
+  {
+    return new GsonBuilder().registerTypeAdapter(DURATION_TYPE, new DurationConverter(encoding)).create().toJson(duration);
+  }
+
+  /**
+   * Deserialises a duration with the tree-based converter.
+   * @param encoding The encoding to read.
+   * @param json The JSON.
+   * @return The duration.
+   */
+  private static Duration fromJson(DurationEncoding encoding, String json)
+  {
+    return new GsonBuilder().registerTypeAdapter(DURATION_TYPE, new DurationConverter(encoding)).create()
+                            .fromJson(json, Duration.class);
+  }
+
+  /**
+   * Serialises a duration with the streaming type adapter.
+   * @param encoding The encoding to write.
+   * @param duration The duration.
+   * @return The JSON.
+   */
+  private static String streamingToJson(DurationEncoding encoding, Duration duration)
+  {
+    return new DurationTypeAdapter(new DurationConverter(encoding)).toJson(duration);
+  }
+
+  /**
+   * Deserialises a duration with the streaming type adapter.
+   * @param encoding The encoding to read.
+   * @param json The JSON.
+   * @return The duration.
+   */
+  private static Duration streamingFromJson(DurationEncoding encoding, String json) throws Exception
+  {
+    return new DurationTypeAdapter(new DurationConverter(encoding)).fromJson(json);
+  }
+
   /**
    * Registers the {@link DurationConverter} converter.
    * @param builder The GSON builder to register the converter with.
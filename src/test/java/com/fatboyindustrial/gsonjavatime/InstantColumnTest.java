@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link InstantColumn}.
+ */
+public class InstantColumnTest
+{
+  /**
+   * Tests that instants added to a column are returned, including across growth.
+   */
+  @Test
+  public void testAddAndGet() throws Exception
+  {
+    final InstantColumn column = new InstantColumn(0);
+    for (int i = 0; i < 100; i++)
+    {
+      column.add(Instant.ofEpochSecond(i * 1000L - 50_000L, i * 7));
+    }
+
+    assertThat(column.size(), is(100));
+    for (int i = 0; i < 100; i++)
+    {
+      assertThat(column.get(i), is(Instant.ofEpochSecond(i * 1000L - 50_000L, i * 7)));
+    }
+
+    assertThat(column.getEpochNanos(0), is(-50_000_000_000_000L));
+  }
+
+  /**
+   * Tests the list view.
+   */
+  @Test
+  public void testAsList() throws Exception
+  {
+    final InstantColumn column = new InstantColumn();
+    column.addEpochNanos(-1);
+    column.addEpochNanos(1_500_000_000L);
+
+    assertThat(column.asList(), is(Arrays.asList(Instant.parse("1969-12-31T23:59:59.999999999Z"),
+                                                 Instant.parse("1970-01-01T00:00:01.5Z"))));
+    assertThat(column.toString(), is("[1969-12-31T23:59:59.999999999Z, 1970-01-01T00:00:01.500Z]"));
+  }
+
+  /**
+   * Tests equality, clearing and trimming.
+   */
+  @Test
+  public void testEqualsClearAndTrim() throws Exception
+  {
+    final InstantColumn a = new InstantColumn();
+    final InstantColumn b = new InstantColumn(1);
+    a.addEpochNanos(42);
+    b.addEpochNanos(42);
+    b.trimToSize();
+
+    assertThat(a, is(b));
+    assertThat(a.hashCode(), is(b.hashCode()));
+    assertThat(b.toEpochNanosArray(), is(new long[] { 42 }));
+
+    a.clear();
+
+    assertThat(a.isEmpty(), is(true));
+    assertThat(a, is(not(b)));
+  }
+
+  /**
+   * Tests that an index past the end raises the expected exception.
+   */
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testIndexOutOfBounds() throws Exception
+  {
+    final InstantColumn column = new InstantColumn();
+    column.addEpochNanos(1);
+    column.clear();
+    column.get(0);
+  }
+
+  /**
+   * Tests that an instant outside the range of a column raises the expected exception.
+   */
+  @Test(expected = ArithmeticException.class)
+  public void testOutOfRange() throws Exception
+  {
+    new InstantColumn().add(Instant.parse("2300-01-01T00:00:00Z"));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link InstantColumnTypeAdapter}.
+ */
+public class InstantColumnTypeAdapterTest
+{
+  /**
+   * Tests that a column is written in the same form as a list of instants, and reads back.
+   */
+  @Test
+  public void testSameFormAsList() throws Exception
+  {
+    final InstantColumn column = column("1969-07-21T02:56:15.123456789Z", "2023-11-14T22:13:20Z", "1970-01-01T00:00:00Z");
+
+    for (InstantEncoding encoding : InstantEncoding.values())
+    {
+      final Gson gson = Converters.registerInstantColumn(Converters.registerInstant(new GsonBuilder(), encoding), encoding)
+                                  .create();
+
+      final String json = gson.toJson(column);
+      final List<Instant> list = gson.fromJson(json, Converters.INSTANT_LIST_TYPE);
+
+      assertThat(encoding.name(), json, is(gson.toJson(column.asList(), Converters.INSTANT_LIST_TYPE)));
+      assertThat(encoding.name(), gson.fromJson(json, InstantColumn.class).asList(), is(list));
+    }
+  }
+
+  /**
+   * Tests that ISO 8601 strings and numbers can be mixed when reading with a numeric encoding.
+   */
+  @Test
+  public void testMixedElements() throws Exception
+  {
+    final InstantColumnTypeAdapter adapter = new InstantColumnTypeAdapter(InstantEncoding.EPOCH_MILLIS);
+
+    assertThat(adapter.fromJson("[1000, \"1970-01-01T00:00:02.5Z\", -1]"),
+               is(column("1970-01-01T00:00:01Z", "1970-01-01T00:00:02.5Z", "1969-12-31T23:59:59.999Z")));
+    assertThat(new InstantColumnTypeAdapter(InstantEncoding.EPOCH_SECONDS).fromJson("[-0.5, 1.25E0]"),
+               is(column("1969-12-31T23:59:59.5Z", "1970-01-01T00:00:01.25Z")));
+  }
+
+  /**
+   * Tests that ISO 8601 strings outside the canonical layout are accepted.
+   */
+  @Test
+  public void testNonCanonical() throws Exception
+  {
+    final InstantColumn column = new InstantColumnTypeAdapter().fromJson("[\"2023-11-14T22:13:20.1234Z\", \"2023-11-14T22:13:20z\"]");
+
+    assertThat(column.get(0), is(Instant.parse("2023-11-14T22:13:20.1234Z")));
+    assertThat(column.get(1), is(Instant.parse("2023-11-14T22:13:20Z")));
+  }
+
+  /**
+   * Tests that JSON null is handled for the column, and rejected for an element.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testNulls() throws Exception
+  {
+    final InstantColumnTypeAdapter adapter = new InstantColumnTypeAdapter();
+
+    assertThat(adapter.fromJson("null"), is((InstantColumn) null));
+    assertThat(adapter.toJson(null), is("null"));
+
+    adapter.fromJson("[\"1970-01-01T00:00:00Z\", null]");
+  }
+
+  /**
+   * Builds a column from ISO 8601 strings.
+   * @param texts The instants.
+   * @return The column.
+   */
+  private static InstantColumn column(String... texts)
+  {
+    final InstantColumn column = new InstantColumn();
+    for (String text : texts)
+    {
+      column.add(Instant.parse(text));
+    }
+
+    return column;
+  }
+}
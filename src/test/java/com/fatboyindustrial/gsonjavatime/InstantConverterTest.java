@@ -30,8 +30,18 @@ import org.junit.Test;
 
 import java.lang.reflect.Type;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -70,6 +80,425 @@ public class InstantConverterTest
     assertThat(instant, is(Instant.parse("1969-07-21T02:56:00Z")));
   }
 
+  /**
+   * Tests that each numeric encoding is written as expected.
+   */
+  @Test
+  public void testNumericSerialisation() throws Exception
+  {
+    final Instant instant = Instant.parse("1969-07-21T02:56:15.123456789Z");
+
+    assertThat(toJson(InstantEncoding.EPOCH_MILLIS, instant), is("-14159024877"));
+    assertThat(toJson(InstantEncoding.EPOCH_MICROS, instant), is("-14159024876544"));
+    assertThat(toJson(InstantEncoding.EPOCH_NANOS, instant), is("-14159024876543211"));
+    assertThat(toJson(InstantEncoding.EPOCH_SECONDS, instant), is("-14159024.876543211"));
+    assertThat(toJson(InstantEncoding.EPOCH_SECONDS, Instant.ofEpochSecond(-1, 500_000_000)), is("-0.5"));
+    assertThat(toJson(InstantEncoding.EPOCH_SECONDS, Instant.ofEpochSecond(1_700_000_000L, 1_000)), is("1700000000.000001"));
+    assertThat(toJson(InstantEncoding.EPOCH_SECONDS, Instant.ofEpochSecond(1_700_000_000L)), is("1700000000"));
+    assertThat(toJson(InstantEncoding.EPOCH_NANOS, Instant.ofEpochSecond(0, Long.MIN_VALUE)), is(Long.toString(Long.MIN_VALUE)));
+    assertThat(toJson(InstantEncoding.EPOCH_MICROS, Instant.ofEpochSecond(-1, 1)), is("-1000000"));
+  }
+
+  /**
+   * Tests that each numeric encoding reads back what it writes, and still accepts ISO 8601 strings.
+   */
+  @Test
+  public void testNumericRoundTrip() throws Exception
+  {
+    final Instant[] instants = { Instant.parse("1969-07-21T02:56:15.123456789Z"), Instant.EPOCH,
+                                 Instant.ofEpochSecond(-1, 500_000_000), Instant.parse("2023-11-14T22:13:20.000001Z") };
+
+    for (InstantEncoding encoding : InstantEncoding.values())
+    {
+      for (Instant instant : instants)
+      {
+        final Instant expected = truncate(encoding, instant);
+
+        assertThat(encoding.name(), fromJson(encoding, toJson(encoding, instant)), is(expected));
+        assertThat(encoding.name(), fromJson(encoding, toJson(InstantEncoding.ISO_8601, instant)), is(instant));
+        assertThat(encoding.name(), streamingFromJson(encoding, toJson(encoding, instant)), is(expected));
+        assertThat(encoding.name(), streamingToJson(encoding, instant), is(toJson(encoding, instant)));
+      }
+    }
+  }
+
+  /**
+   * Tests that decimal seconds in exponent form are read.
+   */
+  @Test
+  public void testDecimalSecondsWithExponent() throws Exception
+  {
+    assertThat(fromJson(InstantEncoding.EPOCH_SECONDS, "1.7000000005E9"), is(Instant.ofEpochSecond(1_700_000_000L, 500_000_000)));
+    assertThat(streamingFromJson(InstantEncoding.EPOCH_SECONDS, "-5E-1"), is(Instant.ofEpochSecond(-1, 500_000_000)));
+  }
+
+  /**
+   * Tests that with deduplication on, a run of identical strings yields one shared instance on both paths.
+   */
+  @Test
+  public void testDeduplication() throws Exception
+  {
+    final InstantConverter converter = new InstantConverter(InstantEncoding.ISO_8601, true);
+    final Gson gson = new GsonBuilder().registerTypeAdapter(INSTANT_TYPE, converter).create();
+    final InstantTypeAdapter adapter = new InstantTypeAdapter(converter);
+
+    final Instant first = gson.fromJson("\"1969-07-21T02:56:00Z\"", Instant.class);
+    final Instant second = adapter.fromJson("\"1969-07-21T02:56:00Z\"");
+    final Instant third = gson.fromJson("\"1969-07-21T02:57:00Z\"", Instant.class);
+
+    assertThat(first, is(Instant.parse("1969-07-21T02:56:00Z")));
+    assertThat(second, is(sameInstance(first)));
+    assertThat(third, is(Instant.parse("1969-07-21T02:57:00Z")));
+  }
+
+  /**
+   * Tests that a deduplicating converter shared between threads always returns the value for its own input.
+   */
+  @Test
+  public void testDeduplicationAcrossThreads() throws Exception
+  {
+    final InstantTypeAdapter adapter = new InstantTypeAdapter(new InstantConverter(InstantEncoding.ISO_8601, true));
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try
+    {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++)
+      {
+        final Instant expected = Instant.ofEpochSecond(thread * 60L);
+        final String json = "\"" + expected + "\"";
+        results.add(executor.submit(() ->
+        {
+          for (int i = 0; i < 10_000; i++)
+          {
+            if (!adapter.fromJson(json).equals(expected))
+            {
+              return false;
+            }
+          }
+
+          return true;
+        }));
+      }
+
+      for (Future<Boolean> result : results)
+      {
+        assertThat(result.get(), is(true));
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Truncates an instant to the precision of an encoding.
+   * @param encoding The encoding.
+   * @param instant The instant.
+   * @return The truncated instant.
+   */
+  private static Instant truncate(InstantEncoding encoding, Instant instant)
+  {
+    switch (encoding)
+    {
+      case EPOCH_MILLIS:
+        return instant.truncatedTo(ChronoUnit.MILLIS);
+      case EPOCH_MICROS:
+        return instant.truncatedTo(ChronoUnit.MICROS);
+      default:
+        return instant;
+    }
+  }
+
+  /**
+   * Serialises an instant with the tree-based converter.
+   * @param encoding The encoding to write.
+   * @param instant The instant.
+   * @return The JSON.
+   */
+  private static String toJson(InstantEncoding encoding, Instant instant)
+  {
+    return new GsonBuilder().registerTypeAdapter(INSTANT_TYPE, new InstantConverter(encoding)).create().toJson(instant);
+  }
+
+  /**
+   * Deserialises an instant with the tree-based converter.
+   * @param encoding The encoding to read.
+   * @param json The JSON.
+   * @return The instant.
+   */
+  private static Instant fromJson(InstantEncoding encoding, String json)
+  {
+    return new GsonBuilder().registerTypeAdapter(INSTANT_TYPE, new InstantConverter(encoding)).create()
+                            .fromJson(json, Instant.class);
+  }
+
+  /**
+   * Serialises an instant with the streaming type adapter.
+   * @param encoding The encoding to write.
+   * @param instant The instant.
+   * @return The JSON.
+   */
+  private static String streamingToJson(InstantEncoding encoding, Instant instant)
+  {
+    return new InstantTypeAdapter(new InstantConverter(encoding)).toJson(instant);
+  }
+
+  /**
+   * Deserialises an instant with the streaming type adapter.
+   * @param encoding The encoding to read.
+   * @param json The JSON.
+   * @return The instant.
+   */
+  private static Instant streamingFromJson(InstantEncoding encoding, String json) throws Exception
+  {
+    return new InstantTypeAdapter(new InstantConverter(encoding)).fromJson(json);
+  }
+
+  /**
+   * Tests that instants are truncated to the configured precision, in every encoding.
+   */
+  @Test
+  public void testPrecision() throws Exception
+  {
+    final Instant instant = Instant.parse("2023-11-14T22:13:20.123456789Z");
+    final InstantConverter micros = new InstantConverter().withPrecision(TimePrecision.MICROS);
+
+    assertThat(new InstantTypeAdapter(micros).toJson(instant), is("\"2023-11-14T22:13:20.123456Z\""));
+    assertThat(new GsonBuilder().registerTypeAdapter(INSTANT_TYPE, micros).create().toJson(instant),
+               is("\"2023-11-14T22:13:20.123456Z\""));
+    assertThat(new InstantTypeAdapter(new InstantConverter(InstantEncoding.EPOCH_NANOS).withPrecision(TimePrecision.SECONDS))
+                   .toJson(instant), is("1700000000000000000"));
+    assertThat(new InstantTypeAdapter(new InstantConverter(InstantEncoding.EPOCH_SECONDS).withPrecision(TimePrecision.MILLIS))
+                   .toJson(instant), is("1700000000.123"));
+    assertThat(new InstantTypeAdapter(micros).fromJson("\"2023-11-14T22:13:20.123456789Z\""), is(instant));
+  }
+
+  /**
+   * Tests that fixed-width fractions are written with the precision's number of digits, and read back.
+   */
+  @Test
+  public void testFixedWidthFraction() throws Exception
+  {
+    final InstantTypeAdapter millis =
+        new InstantTypeAdapter(new InstantConverter().withPrecision(TimePrecision.MILLIS).withFixedWidthFraction());
+    final InstantTypeAdapter seconds =
+        new InstantTypeAdapter(new InstantConverter().withFixedWidthFraction().withPrecision(TimePrecision.SECONDS));
+
+    assertThat(millis.toJson(Instant.parse("2023-11-14T22:13:20Z")), is("\"2023-11-14T22:13:20.000Z\""));
+    assertThat(millis.toJson(Instant.parse("2023-11-14T22:13:20.0019Z")), is("\"2023-11-14T22:13:20.001Z\""));
+    assertThat(seconds.toJson(Instant.parse("2023-11-14T22:13:20.9Z")), is("\"2023-11-14T22:13:20Z\""));
+
+    assertThat(millis.fromJson("\"2023-11-14T22:13:20.010Z\""), is(Instant.parse("2023-11-14T22:13:20.01Z")));
+    assertThat(millis.fromJson("\"2023-11-14T22:13:20.000001Z\""), is(Instant.parse("2023-11-14T22:13:20.000001Z")));
+    assertThat(seconds.fromJson("\"2023-11-14T22:13:20Z\""), is(Instant.parse("2023-11-14T22:13:20Z")));
+  }
+
+  /**
+   * Tests that the minute prefix cache doesn't change the output, and that it survives copying.
+   */
+  @Test
+  public void testMinutePrefixCache() throws Exception
+  {
+    final InstantTypeAdapter adapter =
+        new InstantTypeAdapter(new InstantConverter().withMinutePrefixCache().withPrecision(TimePrecision.MILLIS));
+
+    assertThat(adapter.toJson(Instant.parse("2023-11-14T22:13:59.9999Z")), is("\"2023-11-14T22:13:59.999Z\""));
+    assertThat(adapter.toJson(Instant.parse("2023-11-14T22:14:00Z")), is("\"2023-11-14T22:14:00Z\""));
+    assertThat(adapter.toJson(Instant.parse("2023-11-14T22:14:01.5Z")), is("\"2023-11-14T22:14:01.500Z\""));
+    assertThat(adapter.toJson(Instant.parse("2023-11-14T22:13:01Z")), is("\"2023-11-14T22:13:01Z\""));
+  }
+
+  /**
+   * Tests that the date prefix cache reads values correctly across a change of date, and still rejects bad ones.
+   */
+  @Test(expected = DateTimeParseException.class)
+  public void testDatePrefixCache() throws Exception
+  {
+    final InstantTypeAdapter adapter = new InstantTypeAdapter(new InstantConverter().withDatePrefixCache());
+
+    for (String text : new String[] { "2023-11-14T22:13:20Z", "2023-11-14T23:59:59.999999999Z", "2023-11-15T00:00:00Z",
+                                      "2023-11-15T00:00:00.5Z", "+10000-01-01T00:00:00Z" })
+    {
+      assertThat(adapter.fromJson('"' + text + '"'), is(Instant.parse(text)));
+    }
+
+    adapter.fromJson("\"2023-11-15T25:00:00Z\"");
+  }
+
+  /**
+   * Tests that truncation on read buckets ISO 8601 strings into shared instances, truncates values the fast
+   * path leaves to the full parser and epoch numbers alike, and still rejects bad strings.
+   */
+  @Test(expected = DateTimeParseException.class)
+  public void testReadTruncation() throws Exception
+  {
+    final InstantTypeAdapter adapter = new InstantTypeAdapter(new InstantConverter(InstantEncoding.EPOCH_MILLIS)
+                                                                   .withReadTruncation(ChronoUnit.MINUTES));
+    final Instant first = adapter.fromJson("\"2023-11-14T22:13:20Z\"");
+
+    assertThat(first, is(Instant.parse("2023-11-14T22:13:00Z")));
+    assertThat(adapter.fromJson("\"2023-11-14T22:13:59.999Z\""), is(sameInstance(first)));
+    assertThat(adapter.fromJson("\"+10000-01-01T00:00:59Z\""), is(Instant.parse("+10000-01-01T00:00:00Z")));
+    assertThat(adapter.fromJson("1700000059999"), is(Instant.parse("2023-11-14T22:14:00Z")));
+    assertThat(new InstantTypeAdapter(new InstantConverter().withReadTruncation(ChronoUnit.DAYS).withLenientParsing())
+                   .fromJson("\"2023-11-15 08:13:20+10\""), is(Instant.parse("2023-11-14T00:00:00Z")));
+
+    adapter.fromJson("\"2023-11-14T22:13:61Z\"");
+  }
+
+  /**
+   * Tests that a lenient converter reads mixed shapes through both the tree and streaming paths, and counts them.
+   */
+  @Test
+  public void testLenientParsing() throws Exception
+  {
+    final InstantConverter converter = new InstantConverter().withLenientParsing();
+    final Gson gson = new GsonBuilder().registerTypeAdapter(INSTANT_TYPE, converter).create();
+    final String json = "[\"2023-11-14T22:13:20Z\", \"2023-11-15 08:13:20+10\", 1700000000, \"1700000000000\"]";
+    final Instant expected = Instant.parse("2023-11-14T22:13:20Z");
+
+    for (Instant instant : gson.fromJson(json, Instant[].class))
+    {
+      assertThat(instant, is(expected));
+    }
+
+    final InstantTypeAdapter adapter = new InstantTypeAdapter(converter);
+    assertThat(adapter.fromJson("1700000000"), is(expected));
+    assertThat(adapter.fromJson("\"2023-11-14 22:13:20\""), is(expected));
+
+    assertThat(converter.shapeCounts().get(TimestampShape.EPOCH_NUMBER), is(3L));
+    assertThat(converter.shapeCounts().get(TimestampShape.UTC_DATE_TIME), is(1L));
+    assertThat(new InstantConverter().shapeCounts().isEmpty(), is(true));
+  }
+
+  /**
+   * Tests that lenient parsing keeps the converter's encoding and deduplication.
+   */
+  @Test
+  public void testLenientParsingKeepsOptions() throws Exception
+  {
+    final InstantConverter converter = new InstantConverter(InstantEncoding.EPOCH_MILLIS, true).withLenientParsing();
+    final InstantTypeAdapter adapter = new InstantTypeAdapter(converter);
+
+    assertThat(adapter.fromJson("1700000000"), is(Instant.ofEpochMilli(1700000000L)));
+    assertThat(adapter.toJson(Instant.ofEpochMilli(1700000000L)), is("1700000000"));
+
+    final Instant[] values = new GsonBuilder().registerTypeAdapter(INSTANT_TYPE, converter).create()
+        .fromJson("[\"2023-11-14 22:13:20\", \"2023-11-14 22:13:20\"]", Instant[].class);
+    assertThat(values[1], is(sameInstance(values[0])));
+  }
+
+  /**
+   * Tests that the non-throwing error policies replace unparseable values.
+   */
+  @Test
+  public void testErrorPolicy() throws Exception
+  {
+    final String json = "[\"1969-07-21T02:56:00Z\", \"N/A\", \"1969-02-30T02:56:00Z\"]";
+    final ParseErrorReport report = new ParseErrorReport();
+
+    final Instant[] nulls = fromJsonWithPolicy(ParseErrorPolicy.returningNull(), json);
+    final Instant[] sentinels = fromJsonWithPolicy(ParseErrorPolicy.returning(Instant.EPOCH), json);
+    final Instant[] collected = fromJsonWithPolicy(ParseErrorPolicy.collecting(report), json);
+
+    assertThat(nulls, is(new Instant[] { Instant.parse("1969-07-21T02:56:00Z"), null, null }));
+    assertThat(sentinels, is(new Instant[] { Instant.parse("1969-07-21T02:56:00Z"), Instant.EPOCH, Instant.EPOCH }));
+    assertThat(collected, is(nulls));
+    assertThat(report.errorCount(), is(2L));
+    assertThat(report.recentErrors(), is(Arrays.asList("N/A", "1969-02-30T02:56:00Z")));
+
+    final InstantTypeAdapter adapter =
+        new InstantTypeAdapter(new InstantConverter().withLenientParsing().withErrorPolicy(ParseErrorPolicy.returningNull()));
+    assertThat(adapter.fromJson("\"1969-07-21 02:56\""), is(Instant.parse("1969-07-21T02:56:00Z")));
+    assertThat(adapter.fromJson("\"yesterday\""), is((Instant) null));
+  }
+
+  /**
+   * Tests that epoch numbers and decimals outside the range of {@code Instant}, whether lenient strings or
+   * JSON numbers, are reported through {@code validate} and every non-throwing policy rather than thrown.
+   */
+  @Test
+  public void testOutOfRangeNeverThrows() throws Exception
+  {
+    final String[] texts = { "999999999999999999.5", "-999999999999999999.5", "1700000000.5" };
+    assertThat(new InstantConverter().withLenientParsing().validate(texts), is(bits(2)));
+
+    final String strings = "[\"999999999999999999.5\", \"-999999999999999999.5\", \"1700000000.5\"]";
+    final String numbers = "[999999999999999999.5, -1e20, 1e999999999, 1700000000.5]";
+    final Instant valid = Instant.parse("2023-11-14T22:13:20.5Z");
+    final List<ParseErrorPolicy<Instant>> policies =
+        Arrays.asList(ParseErrorPolicy.returningNull(), ParseErrorPolicy.returning(Instant.EPOCH),
+                      ParseErrorPolicy.collecting(new ParseErrorReport()));
+
+    for (ParseErrorPolicy<Instant> policy : policies)
+    {
+      final Instant error = policy.onError("N/A");
+      final InstantConverter lenient = new InstantConverter().withLenientParsing().withErrorPolicy(policy);
+      final InstantConverter seconds = new InstantConverter(InstantEncoding.EPOCH_SECONDS).withErrorPolicy(policy);
+      final Gson lenientGson = new GsonBuilder().registerTypeAdapter(INSTANT_TYPE, lenient).create();
+      final Gson secondsGson = new GsonBuilder().registerTypeAdapter(INSTANT_TYPE, seconds).create();
+
+      assertThat(lenientGson.fromJson(strings, Instant[].class), is(new Instant[] { error, error, valid }));
+      assertThat(new InstantTypeAdapter(lenient).fromJson("\"999999999999999999.5\""), is(error));
+      assertThat(secondsGson.fromJson(numbers, Instant[].class), is(new Instant[] { error, error, error, valid }));
+      assertThat(new InstantTypeAdapter(seconds).fromJson("-1e20"), is(error));
+      assertThat(new InstantTypeAdapter(new InstantConverter(InstantEncoding.EPOCH_MILLIS).withErrorPolicy(policy))
+                     .fromJson("1e20"), is(error));
+    }
+  }
+
+  /**
+   * Tests that the throwing error policy is the default.
+   */
+  @Test(expected = DateTimeParseException.class)
+  public void testThrowingErrorPolicy() throws Exception
+  {
+    fromJsonWithPolicy(ParseErrorPolicy.throwing(), "[\"N/A\"]");
+  }
+
+  /**
+   * Tests that bulk validation marks the valid strings.
+   */
+  @Test
+  public void testValidate()
+  {
+    final String[] texts = { "1969-07-21T02:56:00Z", "N/A", null, "1969-07-21 02:56", "1969-07-21T24:00:00Z" };
+
+    assertThat(new InstantConverter().validate(texts), is(bits(0, 4)));
+    assertThat(new InstantConverter().withLenientParsing().validate(texts), is(bits(0, 3)));
+  }
+
+  /**
+   * Deserialises an array of instants with the given error policy.
+   * @param policy The policy.
+   * @param json The JSON.
+   * @return The instants.
+   */
+  private static Instant[] fromJsonWithPolicy(ParseErrorPolicy<Instant> policy, String json)
+  {
+    return new GsonBuilder().registerTypeAdapter(INSTANT_TYPE, new InstantConverter().withErrorPolicy(policy))
+                            .create()
+                            .fromJson(json, Instant[].class);
+  }
+
+  /**
+   * Builds a bit set.
+   * @param indices The set bits.
+   * @return The bit set.
+   */
+  private static BitSet bits(int... indices)
+  {
+    final BitSet bits = new BitSet();
+    for (int index : indices)
+    {
+      bits.set(index);
+    }
+
+    return bits;
+  }
+
   /**
    * Registers the {@link InstantConverter} converter.
    * @param builder The GSON builder to register the converter with.
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link Iso8601Formatter}.
+ */
+public class Iso8601FormatterTest
+{
+  /** Number of random values to check per type. */
+  private static final int SAMPLES = 10_000;
+
+  /** Zones to pick from. */
+  private static final ZoneId[] ZONES =
+      { ZoneOffset.UTC, ZoneOffset.ofHoursMinutesSeconds(5, 30, 15), ZoneId.of("UTC"), ZoneId.of("Australia/Brisbane"),
+        ZoneId.of("America/St_Johns"), ZoneId.of("Europe/Paris") };
+
+  /**
+   * Tests that random values format identically to the JDK formatters.
+   */
+  @Test
+  public void testRandomValues()
+  {
+    final Random random = new Random(1969);
+
+    for (int i = 0; i < SAMPLES; i++)
+    {
+      final Instant instant = Instant.ofEpochSecond(random.nextLong() % 300_000_000_000L, nano(random));
+      final ZonedDateTime zdt = instant.atZone(ZONES[random.nextInt(ZONES.length)]);
+
+      assertThat(Iso8601Formatter.formatInstant(instant), is(DateTimeFormatter.ISO_INSTANT.format(instant)));
+      assertThat(Iso8601Formatter.formatZonedDateTime(zdt), is(DateTimeFormatter.ISO_DATE_TIME.format(zdt)));
+
+      final OffsetDateTime odt = zdt.toOffsetDateTime();
+      assertThat(Iso8601Formatter.formatOffsetDateTime(odt), is(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(odt)));
+
+      final OffsetTime ot = odt.toOffsetTime();
+      assertThat(Iso8601Formatter.formatOffsetTime(ot), is(DateTimeFormatter.ISO_OFFSET_TIME.format(ot)));
+
+      final LocalDateTime ldt = zdt.toLocalDateTime();
+      assertThat(Iso8601Formatter.formatLocalDateTime(ldt), is(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(ldt)));
+
+      final LocalDate ld = ldt.toLocalDate();
+      assertThat(Iso8601Formatter.formatLocalDate(ld), is(DateTimeFormatter.ISO_LOCAL_DATE.format(ld)));
+
+      final LocalTime lt = ldt.toLocalTime();
+      assertThat(Iso8601Formatter.formatLocalTime(lt), is(DateTimeFormatter.ISO_LOCAL_TIME.format(lt)));
+    }
+  }
+
+  /**
+   * Tests that durations format identically to {@link Duration#toString()}.
+   */
+  @Test
+  public void testDurations()
+  {
+    final Random random = new Random(1969);
+
+    for (int i = 0; i < SAMPLES; i++)
+    {
+      final Duration duration = Duration.ofSeconds(random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(200_000) - 20_000,
+                                                   nano(random));
+      assertThat(Iso8601Formatter.formatDuration(duration), is(duration.toString()));
+    }
+
+    for (Duration duration : new Duration[] { Duration.ZERO, Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofNanos(1),
+                                              Duration.ofSeconds(Long.MAX_VALUE, 999_999_999), Duration.ofSeconds(Long.MIN_VALUE) })
+    {
+      assertThat(Iso8601Formatter.formatDuration(duration), is(duration.toString()));
+    }
+  }
+
+  /**
+   * Tests the boundaries of the four digit year range.
+   */
+  @Test
+  public void testYearBoundaries()
+  {
+    for (Instant instant : new Instant[] { Instant.parse("0000-01-01T00:00:00Z"), Instant.parse("9999-12-31T23:59:59.999Z"),
+                                           Instant.parse("-0001-12-31T23:59:59Z"), Instant.parse("+10000-01-01T00:00:00Z"),
+                                           Instant.EPOCH })
+    {
+      assertThat(Iso8601Formatter.formatInstant(instant), is(DateTimeFormatter.ISO_INSTANT.format(instant)));
+
+      final LocalDate date = instant.atOffset(ZoneOffset.UTC).toLocalDate();
+      assertThat(Iso8601Formatter.formatLocalDate(date), is(DateTimeFormatter.ISO_LOCAL_DATE.format(date)));
+    }
+  }
+
+  /**
+   * Tests that truncated and fixed-width fractions format identically to the equivalent JDK formatters.
+   */
+  @Test
+  public void testPrecision()
+  {
+    final Random random = new Random(1969);
+
+    for (int i = 0; i < SAMPLES; i++)
+    {
+      final Instant instant = i == 0 ? Instant.parse("+10000-01-01T00:00:00.1Z")
+                                     : Instant.ofEpochSecond(random.nextLong() % 300_000_000_000L, nano(random));
+      final OffsetDateTime odt = instant.atOffset(ZoneOffset.ofHours(10));
+
+      for (TimePrecision precision : TimePrecision.values())
+      {
+        final int digits = precision.fractionDigits();
+        final Instant truncated = instant.truncatedTo(precision.unit());
+        final OffsetDateTime odtTruncated = odt.truncatedTo(precision.unit());
+        final DateTimeFormatter fixedInstant = new DateTimeFormatterBuilder().appendInstant(digits).toFormatter();
+        final DateTimeFormatter fixedTime = fixedWidthTime(digits);
+
+        assertThat(Iso8601Formatter.formatInstant(instant, precision, false), is(DateTimeFormatter.ISO_INSTANT.format(truncated)));
+        assertThat(Iso8601Formatter.formatInstant(instant, precision, true), is(fixedInstant.format(truncated)));
+
+        assertThat(Iso8601Formatter.formatOffsetDateTime(odt, precision, false),
+                   is(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(odtTruncated)));
+        assertThat(Iso8601Formatter.formatOffsetDateTime(odt, precision, true),
+                   is(DateTimeFormatter.ISO_LOCAL_DATE.format(odt) + 'T' + fixedTime.format(odt) + "+10:00"));
+
+        final LocalDateTime ldt = odt.toLocalDateTime();
+        assertThat(Iso8601Formatter.formatLocalDateTime(ldt, precision, false),
+                   is(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(odtTruncated)));
+        assertThat(Iso8601Formatter.formatLocalDateTime(ldt, precision, true),
+                   is(DateTimeFormatter.ISO_LOCAL_DATE.format(ldt) + 'T' + fixedTime.format(ldt)));
+
+        final LocalTime lt = ldt.toLocalTime();
+        assertThat(Iso8601Formatter.formatLocalTime(lt, precision, false),
+                   is(DateTimeFormatter.ISO_LOCAL_TIME.format(odtTruncated)));
+        assertThat(Iso8601Formatter.formatLocalTime(lt, precision, true), is(fixedTime.format(lt)));
+      }
+    }
+  }
+
+  /**
+   * Builds a formatter for {@code HH:mm:ss} followed by exactly the given number of fractional digits.
+   * @param digits The number of fractional digits.
+   * @return The formatter.
+   */
+  private static DateTimeFormatter fixedWidthTime(int digits)
+  {
+    final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder().appendPattern("HH:mm:ss");
+    if (digits > 0)
+    {
+      builder.appendFraction(ChronoField.NANO_OF_SECOND, digits, digits, true);
+    }
+
+    return builder.toFormatter();
+  }
+
+  /**
+   * Picks a nano-of-second, biased towards whole seconds, millis and micros.
+   * @param random The source of randomness.
+   * @return The nano-of-second.
+   */
+  private static int nano(Random random)
+  {
+    switch (random.nextInt(4))
+    {
+      case 0:
+        return 0;
+      case 1:
+        return random.nextInt(1000) * 1_000_000;
+      case 2:
+        return random.nextInt(1_000_000) * 1_000;
+      default:
+        return random.nextInt(1_000_000_000);
+    }
+  }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link Iso8601Parser}.
+ */
+public class Iso8601ParserTest
+{
+  /**
+   * Tests that local dates parse identically to {@link DateTimeFormatter#ISO_LOCAL_DATE}.
+   */
+  @Test
+  public void testLocalDate()
+  {
+    for (String text : new String[] { "1969-07-21", "2000-02-29", "0000-01-01", "9999-12-31", "+10000-01-01" })
+    {
+      assertThat(text, Iso8601Parser.parseLocalDate(text), is(DateTimeFormatter.ISO_LOCAL_DATE.parse(text, LocalDate::from)));
+    }
+  }
+
+  /**
+   * Tests that local times parse identically to {@link DateTimeFormatter#ISO_LOCAL_TIME}.
+   */
+  @Test
+  public void testLocalTime()
+  {
+    for (String text : new String[] { "12:56", "12:56:00", "00:00:00.5", "23:59:59.123456789", "12:56:01.0001" })
+    {
+      assertThat(text, Iso8601Parser.parseLocalTime(text), is(DateTimeFormatter.ISO_LOCAL_TIME.parse(text, LocalTime::from)));
+    }
+  }
+
+  /**
+   * Tests that local date-times parse identically to {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+   */
+  @Test
+  public void testLocalDateTime()
+  {
+    for (String text : new String[] { "1969-07-21T12:56", "1969-07-21T12:56:00.25", "1969-07-21t12:56:00" })
+    {
+      assertThat(text, Iso8601Parser.parseLocalDateTime(text),
+                 is(DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse(text, LocalDateTime::from)));
+    }
+  }
+
+  /**
+   * Tests that offset times parse identically to {@link DateTimeFormatter#ISO_OFFSET_TIME}.
+   */
+  @Test
+  public void testOffsetTime()
+  {
+    for (String text : new String[] { "12:56Z", "12:56:00+10:00", "12:56:00.1-05:30", "12:56:00+05:30:15" })
+    {
+      assertThat(text, Iso8601Parser.parseOffsetTime(text),
+                 is(DateTimeFormatter.ISO_OFFSET_TIME.parse(text, OffsetTime::from)));
+    }
+  }
+
+  /**
+   * Tests that offset date-times parse identically to {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+   */
+  @Test
+  public void testOffsetDateTime()
+  {
+    for (String text : new String[] { "1969-07-21T12:56:00+10:00", "1969-07-21T12:56:00.123Z", "1969-07-21T12:56-00:00" })
+    {
+      assertThat(text, Iso8601Parser.parseOffsetDateTime(text),
+                 is(DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text, OffsetDateTime::from)));
+    }
+  }
+
+  /**
+   * Tests that zoned date-times parse identically to {@link DateTimeFormatter#ISO_DATE_TIME}.
+   */
+  @Test
+  public void testZonedDateTime()
+  {
+    for (String text : new String[] { "1969-07-21T12:56:00+10:00[Australia/Brisbane]", "1969-07-21T12:56:00+10:00",
+                                      "2021-10-31T02:30:00+01:00[Europe/Paris]", "2021-10-31T02:30:00+02:00[Europe/Paris]",
+                                      "1969-07-21T12:56:00Z[UTC]", "2021-10-31T02:30:00+05:00[Europe/Paris]" })
+    {
+      assertThat(text, Iso8601Parser.parseZonedDateTime(text),
+                 is(DateTimeFormatter.ISO_DATE_TIME.parse(text, ZonedDateTime::from)));
+    }
+  }
+
+  /**
+   * Tests that instants parse identically to {@link DateTimeFormatter#ISO_INSTANT}.
+   */
+  @Test
+  public void testInstant()
+  {
+    for (String text : new String[] { "1969-07-21T02:56:00Z", "1970-01-01T00:00:00Z", "2024-02-29T23:59:59.999999999Z",
+                                      "0001-01-01T00:00:00.1Z", "1969-07-21T02:56:00z" })
+    {
+      assertThat(text, Iso8601Parser.parseInstant(text), is(DateTimeFormatter.ISO_INSTANT.parse(text, Instant::from)));
+    }
+  }
+
+  /**
+   * Tests that instants parse to the same epoch nanoseconds as {@link DateTimeFormatter#ISO_INSTANT}.
+   */
+  @Test
+  public void testInstantEpochNanos()
+  {
+    for (String text : new String[] { "1969-07-21T02:56:00Z", "1970-01-01T00:00:00Z", "2024-02-29T23:59:59.999999999Z",
+                                      "1677-09-21T00:12:43.145224192Z", "1969-07-21T02:56:00z" })
+    {
+      final Instant instant = DateTimeFormatter.ISO_INSTANT.parse(text, Instant::from);
+
+      assertThat(text, Iso8601Parser.parseInstantEpochNanos(text), is(instant.getEpochSecond() * 1_000_000_000L + instant.getNano()));
+    }
+  }
+
+  /**
+   * Tests that an instant too far from the epoch for nanoseconds raises the expected exception.
+   */
+  @Test(expected = ArithmeticException.class)
+  public void testInstantEpochNanosOverflow()
+  {
+    Iso8601Parser.parseInstantEpochNanos("2262-04-11T23:47:16.854775808Z");
+  }
+
+  /**
+   * Tests that the exception-free parsers accept exactly what the throwing parsers accept.
+   */
+  @Test
+  public void testTryParse()
+  {
+    for (String text : new String[] { "1969-07-21T02:56:00Z", "1969-07-21T02:56:00z", "1969-07-21T24:00:00Z",
+                                      "1969-07-21T23:59:60Z", "1969-02-29T02:56:00Z", "1969-07-21T25:56:00Z",
+                                      "1969-07-21T02:56Z", "+10000-01-01T00:00:00Z", "x969-07-21T02:56:00Z", "",
+                                      "1969-07-21T12:56:00+10:00", "1969-07-21T12:56:00+19:00", "1969-07-21T12:56+10:00",
+                                      "1969-02-30T12:56:00+10:00", "1969-07-21t12:56:00+10:00", "1969-07-21T12:56:00",
+                                      "1969-07-21T12:56:00+10:00[Australia/Brisbane]", "1969-07-21T12:56:00[Europe/Paris]",
+                                      "2021-10-31T02:30:00+05:00[Europe/Paris]", "1969-07-21T12:56:00+10:00[Nowhere/Else]",
+                                      "1969-02-30T12:56:00+10:00[Australia/Brisbane]", "null", "1969-07-21" })
+    {
+      assertThat(text, Iso8601Parser.tryParseInstant(text), is(parseOrNull(() -> Iso8601Parser.parseInstant(text))));
+      assertThat(text, Iso8601Parser.tryParseOffsetDateTime(text),
+                 is(parseOrNull(() -> Iso8601Parser.parseOffsetDateTime(text))));
+      assertThat(text, Iso8601Parser.tryParseZonedDateTime(text),
+                 is(parseOrNull(() -> Iso8601Parser.parseZonedDateTime(text))));
+    }
+  }
+
+  /**
+   * Tests that the fixed-width parsers decode exactly the layout with the given number of fractional digits,
+   * to the same value as the general parsers.
+   */
+  @Test
+  public void testFixedWidth()
+  {
+    assertThat(Iso8601Parser.fixedWidthInstant("2023-11-14T22:13:20Z", 0), is(Instant.parse("2023-11-14T22:13:20Z")));
+    assertThat(Iso8601Parser.fixedWidthInstant("2023-11-14T22:13:20.100Z", 3), is(Instant.parse("2023-11-14T22:13:20.1Z")));
+    assertThat(Iso8601Parser.fixedWidthInstant("2023-11-14T22:13:20.12345Z", 5),
+               is(Instant.parse("2023-11-14T22:13:20.12345Z")));
+    assertThat(Iso8601Parser.fixedWidthLocalTime("22:13:20.000001", 6), is(LocalTime.of(22, 13, 20, 1000)));
+    assertThat(Iso8601Parser.fixedWidthLocalDateTime("2023-11-14T22:13:20.123456789", 9),
+               is(LocalDateTime.of(2023, 11, 14, 22, 13, 20, 123456789)));
+    assertThat(Iso8601Parser.fixedWidthOffsetDateTime("2023-11-14T22:13:20.123+10:00", 3),
+               is(OffsetDateTime.parse("2023-11-14T22:13:20.123+10:00")));
+
+    for (String text : new String[] { "2023-11-14T22:13:20.1Z", "2023-11-14T22:13:20Z", "2023-11-14T22:13Z",
+                                      "2023-11-14t22:13:20.100Z", "2023-11-14T22:13:20.1x0Z", "2023-11-14T22:13:20,100Z",
+                                      "2023-11-14T24:13:20.100Z", "2023-02-29T22:13:20.100Z", "2023-11-14T22:13:20.100+10:00" })
+    {
+      assertThat(text, Iso8601Parser.fixedWidthInstant(text, 3), is(nullValue()));
+    }
+
+    for (String text : new String[] { "2023-11-14T22:13:20.100", "2023-11-14T22:13:20.100Z", "2023-11-14T22:13:20.100+1000",
+                                      "2023-11-14T22:13:20.100+19:00", "2023-11-14T22:13:20" })
+    {
+      assertThat(text, Iso8601Parser.fixedWidthOffsetDateTime(text, 3),
+                 is(parseOrNull(() -> Iso8601Parser.parseOffsetDateTime(text))));
+    }
+  }
+
+  /**
+   * Tests that durations parse identically to {@link Duration#parse(CharSequence)}.
+   */
+  @Test
+  public void testDuration()
+  {
+    for (String text : new String[] { "PT0S", "PT1M40S", "PT1H", "PT1H0.5S", "PT26H3M4.000000001S", "PT1.S", "PT-1.5S",
+                                      "P2DT3H", "-PT6H3M", "pt1m", "PT1,5S", "PT999999999999H" })
+    {
+      assertThat(text, Iso8601Parser.parseDuration(text), is(Duration.parse(text)));
+    }
+  }
+
+  /**
+   * Tests that a malformed duration raises the same exception as {@link Duration#parse(CharSequence)}.
+   */
+  @Test(expected = DateTimeParseException.class)
+  public void testInvalidDuration()
+  {
+    Iso8601Parser.parseDuration("PT1S1M");
+  }
+
+  /**
+   * Tests that an invalid day of month raises the same exception as the formatter.
+   */
+  @Test(expected = DateTimeParseException.class)
+  public void testInvalidDate()
+  {
+    Iso8601Parser.parseLocalDate("2023-02-29");
+  }
+
+  /**
+   * Tests that an out of range hour raises the same exception as the formatter.
+   */
+  @Test(expected = DateTimeParseException.class)
+  public void testInvalidTime()
+  {
+    Iso8601Parser.parseInstant("1969-07-21T25:56:00Z");
+  }
+
+  /**
+   * Tests that trailing characters raise the same exception as the formatter.
+   */
+  @Test(expected = DateTimeParseException.class)
+  public void testTrailingCharacters()
+  {
+    Iso8601Parser.parseOffsetDateTime("1969-07-21T12:56:00+10:00x");
+  }
+
+  /**
+   * Runs a throwing parse.
+   * @param parse The parse.
+   * @param <T> The type of result.
+   * @return The result, or null if the parse throws.
+   */
+  private static <T> T parseOrNull(Supplier<T> parse)
+  {
+    try
+    {
+      return parse.get();
+    }
+    catch (DateTimeException e)
+    {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link JavaTimeCollectionTypeAdapterFactory}.
+ */
+public class JavaTimeCollectionTypeAdapterFactoryTest
+{
+  /** The type of a list of local dates. */
+  private static final Type LOCAL_DATE_LIST_TYPE = new TypeToken<List<LocalDate>>(){}.getType();
+
+  /** The type of a set of zoned date-times. */
+  private static final Type ZONED_DATE_TIME_SET_TYPE = new TypeToken<Set<ZonedDateTime>>(){}.getType();
+
+  /**
+   * Tests that arrays and collections produce the same JSON as Gson's own adapters, and read it back.
+   */
+  @Test
+  public void testRoundTrip() throws Exception
+  {
+    final Gson plain = Converters.registerFactory(new GsonBuilder()).create();
+    final Gson gson = Converters.registerCollections(Converters.registerFactory(new GsonBuilder())).create();
+
+    final Instant[] instants = new Instant[100];
+    final List<LocalDate> dates = new ArrayList<>();
+    final Set<ZonedDateTime> zoned = new LinkedHashSet<>();
+    for (int i = 0; i < instants.length; i++)
+    {
+      instants[i] = Instant.parse("1969-07-21T02:56:00Z").plusMillis(i * 1001L);
+      dates.add(LocalDate.of(1969, 7, 21).plusDays(i));
+      zoned.add(instants[i].atZone(ZoneId.of("Australia/Brisbane")));
+    }
+
+    final String instantsJson = gson.toJson(instants);
+    assertThat(instantsJson, is(plain.toJson(instants)));
+    assertThat(gson.fromJson(instantsJson, Instant[].class), is(instants));
+
+    final String datesJson = gson.toJson(dates, LOCAL_DATE_LIST_TYPE);
+    assertThat(datesJson, is(plain.toJson(dates, LOCAL_DATE_LIST_TYPE)));
+    assertThat(gson.fromJson(datesJson, LOCAL_DATE_LIST_TYPE), is(dates));
+
+    final String zonedJson = gson.toJson(zoned, ZONED_DATE_TIME_SET_TYPE);
+    assertThat(zonedJson, is(plain.toJson(zoned, ZONED_DATE_TIME_SET_TYPE)));
+    assertThat(gson.fromJson(zonedJson, ZONED_DATE_TIME_SET_TYPE), is(zoned));
+  }
+
+  /**
+   * Tests that null containers, null elements and empty containers are handled.
+   */
+  @Test
+  public void testNullsAndEmpty() throws Exception
+  {
+    final Gson gson = Converters.registerCollections(Converters.registerFactory(new GsonBuilder())).serializeNulls().create();
+
+    assertThat(gson.toJson(new Instant[] { null, Instant.EPOCH }), is("[null,\"1970-01-01T00:00:00Z\"]"));
+    assertThat(gson.fromJson("[null,\"1970-01-01T00:00:00Z\"]", Instant[].class), is(new Instant[] { null, Instant.EPOCH }));
+    assertThat(gson.fromJson("[]", Instant[].class).length, is(0));
+    assertThat(gson.fromJson("null", Instant[].class), is(nullValue()));
+    assertThat(gson.toJson(null, LOCAL_DATE_LIST_TYPE), is("null"));
+    assertThat(gson.fromJson("[]", LOCAL_DATE_LIST_TYPE), is(new ArrayList<>()));
+  }
+
+  /**
+   * Tests that each declared collection type is read as the implementation Gson would use.
+   */
+  @Test
+  public void testCollectionShapes() throws Exception
+  {
+    final Gson gson = Converters.registerCollections(Converters.registerFactory(new GsonBuilder())).create();
+    final String json = "[\"1969-07-22\",\"1969-07-21\",\"1969-07-22\"]";
+
+    assertThat(gson.fromJson(json, new TypeToken<Collection<LocalDate>>(){}.getType()), is(instanceOf(ArrayList.class)));
+    assertThat(gson.fromJson(json, new TypeToken<ArrayList<LocalDate>>(){}.getType()), is(instanceOf(ArrayList.class)));
+    assertThat(gson.fromJson(json, new TypeToken<LinkedHashSet<LocalDate>>(){}.getType()),
+               is(new LinkedHashSet<>(Arrays.asList(LocalDate.of(1969, 7, 22), LocalDate.of(1969, 7, 21)))));
+
+    final SortedSet<LocalDate> sorted = gson.fromJson(json, new TypeToken<SortedSet<LocalDate>>(){}.getType());
+    assertThat(sorted, is(instanceOf(TreeSet.class)));
+    assertThat(sorted.first(), is(LocalDate.of(1969, 7, 21)));
+  }
+
+  /**
+   * Tests that the elements are converted by the adapters registered for their type, just as fields are.
+   */
+  @Test
+  public void testElementConverters() throws Exception
+  {
+    final GsonBuilder builder = Converters.registerInstant(new GsonBuilder(), InstantEncoding.EPOCH_MILLIS);
+    final Gson gson = Converters.registerCollections(builder).create();
+
+    assertThat(gson.toJson(Instant.ofEpochMilli(1)), is("1"));
+    assertThat(gson.toJson(new Instant[] { Instant.ofEpochMilli(1), Instant.ofEpochMilli(2) }), is("[1,2]"));
+    assertThat(gson.toJson(Arrays.asList(Instant.ofEpochMilli(1), Instant.ofEpochMilli(2)), Converters.INSTANT_LIST_TYPE),
+               is("[1,2]"));
+    assertThat(gson.fromJson("[1,2]", Instant[].class), is(new Instant[] { Instant.ofEpochMilli(1), Instant.ofEpochMilli(2) }));
+  }
+
+  /**
+   * Tests that a region identifier isn't read into a list of zone offsets.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testRegionIntoZoneOffsetList() throws Exception
+  {
+    final Gson gson = Converters.registerCollections(Converters.registerFactory(new GsonBuilder())).create();
+
+    gson.fromJson("[\"+10:00\",\"Europe/Paris\"]", new TypeToken<List<ZoneOffset>>(){}.getType());
+  }
+
+  /**
+   * Tests that containers of other types, and containers this factory doesn't know, are left to Gson.
+   */
+  @Test
+  public void testUnsupportedTypes() throws Exception
+  {
+    final JavaTimeCollectionTypeAdapterFactory factory = new JavaTimeCollectionTypeAdapterFactory();
+    final Gson gson = Converters.registerFactory(new GsonBuilder()).create();
+
+    assertThat(factory.create(gson, TypeToken.get(String[].class)), is(nullValue()));
+    assertThat(factory.create(gson, new TypeToken<List<String>>(){}), is(nullValue()));
+    assertThat(factory.create(gson, new TypeToken<List<? extends Instant>>(){}), is(nullValue()));
+    assertThat(factory.create(gson, new TypeToken<Map<String, Instant>>(){}), is(nullValue()));
+    assertThat(factory.create(gson, TypeToken.get(List.class)), is(nullValue()));
+    assertThat(factory.create(gson, TypeToken.get(Instant.class)), is(nullValue()));
+    assertThat(factory.create(gson, new TypeToken<List<Instant>>(){}), is(notNullValue()));
+  }
+}
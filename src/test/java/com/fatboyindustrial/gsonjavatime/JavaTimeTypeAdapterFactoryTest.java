@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link JavaTimeTypeAdapterFactory}.
+ */
+public class JavaTimeTypeAdapterFactoryTest
+{
+  /**
+   * Tests that the factory produces the same JSON as the tree-based converters, and reads it back.
+   */
+  @Test
+  public void testRoundTrip() throws Exception
+  {
+    final Gson tree = Converters.registerAll(new GsonBuilder()).create();
+    final Gson factory = Converters.registerFactory(new GsonBuilder()).create();
+
+    final Container container = new Container();
+    container.ld = LocalDate.of(1969, 7, 21);
+    container.lt = LocalTime.of(12, 56, 0, 500_000_000);
+    container.ldt = LocalDateTime.of(container.ld, container.lt);
+    container.odt = OffsetDateTime.of(container.ld, container.lt, ZoneOffset.ofHours(10));
+    container.ot = OffsetTime.of(container.lt, ZoneOffset.ofHours(10));
+    container.zdt = ZonedDateTime.of(container.ld, container.lt, ZoneId.of("Australia/Brisbane"));
+    container.i = container.odt.toInstant();
+    container.zi = ZoneId.of("Australia/Brisbane");
+    container.zo = ZoneOffset.ofHours(-5);
+    container.d = Duration.ofSeconds(100);
+
+    final String json = factory.toJson(container);
+    final Container deserialised = factory.fromJson(json, Container.class);
+
+    assertThat(json, is(tree.toJson(container)));
+    assertThat(deserialised.ld, is(container.ld));
+    assertThat(deserialised.ldt, is(container.ldt));
+    assertThat(deserialised.lt, is(container.lt));
+    assertThat(deserialised.odt, is(container.odt));
+    assertThat(deserialised.ot, is(container.ot));
+    assertThat(deserialised.zdt, is(container.zdt));
+    assertThat(deserialised.i, is(container.i));
+    assertThat(deserialised.zi, is(container.zi));
+    assertThat(deserialised.zo, is(container.zo));
+    assertThat(deserialised.d, is(container.d));
+  }
+
+  /**
+   * Tests that the factory handles JSON nulls.
+   */
+  @Test
+  public void testNulls() throws Exception
+  {
+    final Gson gson = Converters.registerFactory(new GsonBuilder()).serializeNulls().create();
+
+    final String json = gson.toJson(new Container());
+    final Container deserialised = gson.fromJson(json, Container.class);
+
+    assertThat(json, is("{\"ld\":null,\"ldt\":null,\"lt\":null,\"odt\":null,\"ot\":null,\"zdt\":null,"
+                        + "\"i\":null,\"zi\":null,\"zo\":null,\"d\":null}"));
+    assertThat(deserialised.i, is(nullValue()));
+    assertThat(deserialised.zo, is(nullValue()));
+  }
+
+  /**
+   * Tests that runtime subtypes of {@code ZoneId} are resolved, whatever the declared type.
+   */
+  @Test
+  public void testZoneIdSubtypes() throws Exception
+  {
+    final JavaTimeTypeAdapterFactory factory = new JavaTimeTypeAdapterFactory();
+    final Gson gson = new GsonBuilder().registerTypeAdapterFactory(factory).create();
+
+    assertThat(gson.toJson(ZoneId.of("Europe/Paris")), is("\"Europe/Paris\""));
+    assertThat(gson.toJson(ZoneOffset.UTC), is("\"Z\""));
+    assertThat(gson.fromJson("\"+10:00\"", ZoneOffset.class), is(ZoneOffset.ofHours(10)));
+    assertThat(factory.create(gson, TypeToken.get(ZoneId.of("Europe/Paris").getClass())), is(notNullValue()));
+  }
+
+  /**
+   * Tests that a region identifier isn't read into a {@code ZoneOffset} field.
+   */
+  @Test(expected = JsonSyntaxException.class)
+  public void testRegionIntoZoneOffset() throws Exception
+  {
+    final Gson gson = Converters.registerFactory(new GsonBuilder()).create();
+
+    gson.fromJson("{\"zo\":\"Europe/Paris\"}", Container.class);
+  }
+
+  /**
+   * Tests that types outside Java Time are left to other factories.
+   */
+  @Test
+  public void testUnsupportedType() throws Exception
+  {
+    final JavaTimeTypeAdapterFactory factory = new JavaTimeTypeAdapterFactory();
+    final Gson gson = new Gson();
+
+    assertThat(factory.create(gson, TypeToken.get(String.class)), is(nullValue()));
+    assertThat(factory.create(gson, TypeToken.get(java.time.Period.class)), is(nullValue()));
+  }
+
+  /**
+   * Tests that a converter given to a {@code with} method is used, and the original factory is unchanged.
+   */
+  @Test
+  public void testWithConverter() throws Exception
+  {
+    final JavaTimeTypeAdapterFactory factory = new JavaTimeTypeAdapterFactory();
+    final JavaTimeTypeAdapterFactory millis = factory.withInstant(new InstantConverter(InstantEncoding.EPOCH_MILLIS))
+                                                     .withDuration(new DurationConverter(DurationEncoding.NANOS));
+
+    final Gson original = new GsonBuilder().registerTypeAdapterFactory(factory).create();
+    final Gson modified = new GsonBuilder().registerTypeAdapterFactory(millis).create();
+
+    assertThat(modified.toJson(Instant.ofEpochMilli(1234)), is("1234"));
+    assertThat(modified.toJson(Duration.ofNanos(1234)), is("1234"));
+    assertThat(modified.toJson(LocalDate.of(1969, 7, 21)), is("\"1969-07-21\""));
+    assertThat(original.toJson(Instant.ofEpochMilli(1234)), is("\"1970-01-01T00:00:01.234Z\""));
+  }
+
+  /**
+   * Container for serialising many fields.
+   */
+  private static class Container
+  {
+    private LocalDate ld;
+    private LocalDateTime ldt;
+    private LocalTime lt;
+    private OffsetDateTime odt;
+    private OffsetTime ot;
+    private ZonedDateTime zdt;
+    private Instant i;
+    private ZoneId zi;
+    private ZoneOffset zo;
+    private Duration d;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest
+{
+  /**
+   * Tests that latencies fall into power-of-two buckets.
+   */
+  @Test
+  public void testBuckets()
+  {
+    assertThat(LatencyHistogram.bucket(0), is(0));
+    assertThat(LatencyHistogram.bucket(1), is(1));
+    assertThat(LatencyHistogram.bucket(2), is(2));
+    assertThat(LatencyHistogram.bucket(3), is(2));
+    assertThat(LatencyHistogram.bucket(1024), is(11));
+    assertThat(LatencyHistogram.bucket(Long.MAX_VALUE), is(63));
+    assertThat(LatencyHistogram.upperBound(11), is(2047L));
+    assertThat(LatencyHistogram.upperBound(63), is(Long.MAX_VALUE));
+  }
+
+  /**
+   * Tests the count, mean and percentiles.
+   */
+  @Test
+  public void testStatistics()
+  {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    assertThat(histogram.percentileNanos(0.5), is(0L));
+    assertThat(histogram.meanNanos(), is(0L));
+
+    for (int i = 0; i < 98; i++)
+    {
+      histogram.record(100);
+    }
+
+    histogram.record(5000);
+    histogram.record(-1);
+
+    assertThat(histogram.count(), is(100L));
+    assertThat(histogram.meanNanos(), is(148L));
+    assertThat(histogram.percentileNanos(0.01), is(0L));
+    assertThat(histogram.percentileNanos(0.5), is(127L));
+    assertThat(histogram.percentileNanos(0.99), is(127L));
+    assertThat(histogram.percentileNanos(1.0), is(8191L));
+
+    histogram.reset();
+    assertThat(histogram.count(), is(0L));
+  }
+}
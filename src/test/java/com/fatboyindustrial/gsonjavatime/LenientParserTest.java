@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link LenientParser}.
+ */
+public class LenientParserTest
+{
+  /**
+   * Tests that each shape parses to the expected instant.
+   */
+  @Test
+  public void testShapes()
+  {
+    final LenientParser parser = new LenientParser();
+    final Instant expected = Instant.parse("2023-11-14T22:13:20Z");
+
+    for (String text : new String[] { "2023-11-14T22:13:20Z", "2023-11-14 22:13:20z", "2023-11-15T08:13:20+10:00",
+                                      "2023-11-15t08:13:20+10", "2023-11-15 08:13:20+1000", "2023-11-14T16:43:20-05:30",
+                                      "2023-11-15T08:13:20+10:00:00", "2023-11-15T08:13:20+10:00[Australia/Brisbane]",
+                                      "2023-11-15 08:13:20[Australia/Brisbane]", "2023-11-14T22:13:20Z[UTC]",
+                                      "2023-11-14 22:13:20", "1700000000", "1700000000000", "1700000000000000",
+                                      "1700000000000000000", "1700000000.0", "2023-11-14T22:13:20.000" })
+    {
+      assertThat(text, parser.parseInstant(text), is(expected));
+    }
+
+    assertThat(parser.parseInstant("2023-11-14"), is(Instant.parse("2023-11-14T00:00:00Z")));
+    assertThat(parser.parseInstant("2023-11-14 22:13"), is(Instant.parse("2023-11-14T22:13:00Z")));
+    assertThat(parser.parseInstant("1700000000.123456789"), is(Instant.parse("2023-11-14T22:13:20.123456789Z")));
+    assertThat(parser.parseInstant("-1"), is(Instant.parse("1969-12-31T23:59:59Z")));
+    assertThat(parser.parseInstant("-1.5"), is(Instant.parse("1969-12-31T23:59:58.500Z")));
+    assertThat(parser.parseInstant("-9223372036854775808"), is(Instant.parse("1677-09-21T00:12:43.145224192Z")));
+  }
+
+  /**
+   * Tests that offset date-times keep their offset, and that other shapes are given UTC or the zone's offset.
+   */
+  @Test
+  public void testOffsetDateTime()
+  {
+    final LenientParser parser = new LenientParser();
+
+    assertThat(parser.parseOffsetDateTime("2023-11-15 08:13:20+10"),
+               is(OffsetDateTime.parse("2023-11-15T08:13:20+10:00")));
+    assertThat(parser.parseOffsetDateTime("2023-11-14 22:13:20"), is(OffsetDateTime.parse("2023-11-14T22:13:20Z")));
+    assertThat(parser.parseOffsetDateTime("1700000000"), is(OffsetDateTime.parse("2023-11-14T22:13:20Z")));
+    assertThat(parser.parseOffsetDateTime("2023-07-01T12:00:00[Europe/Paris]"),
+               is(OffsetDateTime.parse("2023-07-01T12:00:00+02:00")));
+    assertThat(parser.parseOffsetDateTime("2023-01-01T12:00:00[Europe/Paris]"),
+               is(OffsetDateTime.parse("2023-01-01T12:00:00+01:00")));
+  }
+
+  /**
+   * Tests that a local time in a daylight saving gap resolves to the same instant as {@link java.time.ZonedDateTime}.
+   */
+  @Test
+  public void testZoneGap()
+  {
+    final LenientParser parser = new LenientParser();
+
+    assertThat(parser.parseInstant("2023-03-26T02:30:00[Europe/Paris]"), is(Instant.parse("2023-03-26T01:30:00Z")));
+  }
+
+  /**
+   * Tests that text with the outline of a shape but invalid fields is rejected.
+   */
+  @Test
+  public void testInvalid()
+  {
+    final LenientParser parser = new LenientParser();
+
+    for (String text : new String[] { "", "yesterday", "2023-02-29T00:00:00Z", "2023-11-14T24:00:00Z", "2023-11-14T22:13:20+19",
+                                      "2023-11-14T22:13:20+10:0", "2023-11-14T22:13:20Zx", "2023-11-14T22:13:20[Nowhere/Else]",
+                                      "2023-11-14T22:13:20.1234567891Z", "9223372036854775808", "1.", ".5", "1.1234567891",
+                                      "2023-11-14X22:13:20" })
+    {
+      try
+      {
+        parser.parseInstant(text);
+        throw new AssertionError(text + " was parsed");
+      }
+      catch (DateTimeParseException e)
+      {
+        assertThat(e.getParsedString(), is(text));
+      }
+    }
+
+    assertThat(parser.statistics().get(TimestampShape.UNRECOGNISED), is(8L));
+  }
+
+  /**
+   * Tests that epoch numbers and decimals outside the range of the type being read are rejected rather than
+   * thrown out of the date-time factories, and that the range limits themselves are accepted.
+   */
+  @Test
+  public void testOutOfRange()
+  {
+    final LenientParser parser = new LenientParser();
+    final long maxUtcSecond = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
+    assertThat(parser.tryParseInstant("999999999999999999.5"), is(nullValue()));
+    assertThat(parser.tryParseInstant("-999999999999999999.5"), is(nullValue()));
+    assertThat(parser.tryParseInstant("-31557014167219200.5"), is(nullValue()));
+    assertThat(parser.tryParseInstant("31556889864403199.999999999"), is(Instant.MAX));
+    assertThat(parser.tryParseInstant("-31557014167219200.0"), is(Instant.MIN));
+
+    assertThat(parser.tryParseOffsetDateTime("31556889864403199.5"), is(nullValue()));
+    assertThat(parser.tryParseOffsetDateTime((maxUtcSecond + 1) + ".0"), is(nullValue()));
+    assertThat(parser.tryParseOffsetDateTime(maxUtcSecond + ".999999999"), is(LocalDateTime.MAX.atOffset(ZoneOffset.UTC)));
+    assertThat(parser.tryParseOffsetDateTime("-9223372036854775808"),
+               is(OffsetDateTime.parse("1677-09-21T00:12:43.145224192Z")));
+    assertThat(parser.tryParseOffsetDateTime("99999999999"), is(OffsetDateTime.parse("5138-11-16T09:46:39Z")));
+
+    try
+    {
+      parser.parseInstant("999999999999999999.5");
+      throw new AssertionError("out of range decimal was parsed");
+    }
+    catch (DateTimeParseException e)
+    {
+      assertThat(e.getParsedString(), is("999999999999999999.5"));
+    }
+  }
+
+  /**
+   * Tests that each shape is counted, and that the most common shape moves to the front of the probe order.
+   */
+  @Test
+  public void testAdaptation()
+  {
+    final LenientParser parser = new LenientParser();
+    assertThat(parser.probeOrder().get(0), is(TimestampShape.UTC_DATE_TIME));
+
+    parser.parseInstant("2023-11-14T22:13:20Z");
+    for (int i = 0; i < 10; i++)
+    {
+      parser.parseInstant("1700000000");
+    }
+
+    final Map<TimestampShape, Long> statistics = parser.statistics();
+    assertThat(statistics.get(TimestampShape.UTC_DATE_TIME), is(1L));
+    assertThat(statistics.get(TimestampShape.EPOCH_NUMBER), is(10L));
+    assertThat(statistics.get(TimestampShape.LOCAL_DATE), is(0L));
+    assertThat(parser.probeOrder().get(0), is(TimestampShape.EPOCH_NUMBER));
+    assertThat(parser.probeOrder().size(), is(7));
+  }
+}
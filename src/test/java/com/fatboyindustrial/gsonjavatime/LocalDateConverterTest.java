@@ -25,13 +25,16 @@ package com.fatboyindustrial.gsonjavatime;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import org.junit.Test;
 
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -70,6 +73,94 @@ public class LocalDateConverterTest
     assertThat(localDate, is(LocalDate.parse("1969-07-21")));
   }
 
+  /**
+   * Tests that the numeric encodings are written as expected.
+   */
+  @Test
+  public void testNumericSerialisation() throws Exception
+  {
+    final LocalDate date = LocalDate.of(1969, 7, 21);
+
+    assertThat(gson(LocalDateEncoding.EPOCH_DAY).toJson(date), is("-164"));
+    assertThat(gson(LocalDateEncoding.PACKED_YYYYMMDD).toJson(date), is("19690721"));
+    assertThat(new LocalDateTypeAdapter(new LocalDateConverter(LocalDateEncoding.PACKED_YYYYMMDD)).toJson(date),
+               is("19690721"));
+  }
+
+  /**
+   * Tests that the numeric encodings read numbers in their own form, and ISO 8601 strings.
+   */
+  @Test
+  public void testNumericDeserialisation() throws Exception
+  {
+    final LocalDate date = LocalDate.of(1969, 7, 21);
+
+    assertThat(gson(LocalDateEncoding.EPOCH_DAY).fromJson("-164", LocalDate.class), is(date));
+    assertThat(gson(LocalDateEncoding.PACKED_YYYYMMDD).fromJson("19690721", LocalDate.class), is(date));
+    assertThat(gson(LocalDateEncoding.PACKED_YYYYMMDD).fromJson("\"1969-07-21\"", LocalDate.class), is(date));
+    assertThat(new LocalDateTypeAdapter(new LocalDateConverter(LocalDateEncoding.EPOCH_DAY)).fromJson("-164"), is(date));
+    assertThat(new LocalDateTypeAdapter(new LocalDateConverter(LocalDateEncoding.EPOCH_DAY)).fromJson("\"1969-07-21\""),
+               is(date));
+  }
+
+  /**
+   * Tests that an invalid packed date is rejected.
+   */
+  @Test(expected = DateTimeException.class)
+  public void testInvalidPackedDate() throws Exception
+  {
+    gson(LocalDateEncoding.PACKED_YYYYMMDD).fromJson("19690230", LocalDate.class);
+  }
+
+  /**
+   * Tests that a converter with a lookup table reads canonical instances in range and falls back outside it.
+   */
+  @Test(expected = DateTimeException.class)
+  public void testLookupTable() throws Exception
+  {
+    final LocalDateConverter converter = new LocalDateConverter().withLookupTable(1970, 2100);
+    final LocalDateTypeAdapter adapter = new LocalDateTypeAdapter(converter);
+    final Gson gson = new GsonBuilder().registerTypeAdapter(LOCAL_DATE_TYPE, converter).create();
+
+    final LocalDate[] dates = gson.fromJson("[\"2023-11-14\", \"2023-11-14\", \"1969-07-21\", \"+10000-01-01\"]", LocalDate[].class);
+    assertThat(dates, is(new LocalDate[] { LocalDate.of(2023, 11, 14), LocalDate.of(2023, 11, 14), LocalDate.of(1969, 7, 21),
+                                           LocalDate.of(10000, 1, 1) }));
+    assertThat(dates[1], sameInstance(dates[0]));
+    assertThat(adapter.fromJson("\"2023-11-14\""), sameInstance(dates[0]));
+    assertThat(gson.toJson(dates), is("[\"2023-11-14\",\"2023-11-14\",\"1969-07-21\",\"+10000-01-01\"]"));
+    assertThat(adapter.toJson(LocalDate.of(2100, 12, 31)), is("\"2100-12-31\""));
+
+    adapter.fromJson("\"2023-02-29\"");
+  }
+
+  /**
+   * Tests that a fractional number is rejected by the tree converter rather than truncated.
+   */
+  @Test(expected = JsonParseException.class)
+  public void testFractionalNumber() throws Exception
+  {
+    gson(LocalDateEncoding.EPOCH_DAY).fromJson("-164.5", LocalDate.class);
+  }
+
+  /**
+   * Tests that a fractional number is rejected by the streaming adapter.
+   */
+  @Test(expected = NumberFormatException.class)
+  public void testFractionalNumberStreaming() throws Exception
+  {
+    new LocalDateTypeAdapter(new LocalDateConverter(LocalDateEncoding.EPOCH_DAY)).fromJson("-164.5");
+  }
+
+  /**
+   * Creates a GSON instance using the given encoding.
+   * @param encoding The encoding.
+   * @return The GSON instance.
+   */
+  private static Gson gson(LocalDateEncoding encoding)
+  {
+    return new GsonBuilder().registerTypeAdapter(LOCAL_DATE_TYPE, new LocalDateConverter(encoding)).create();
+  }
+
   /**
    * Registers the {@link LocalDateConverter} converter.
    * @param builder The GSON builder to register the converter with.
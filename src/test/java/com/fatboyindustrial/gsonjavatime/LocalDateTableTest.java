@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.fatboyindustrial.gsonjavatime;
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link LocalDateTable}.
+ */
+public class LocalDateTableTest
+{
+  /**
+   * Tests that every date of a range of years, including leap years, converts both ways to canonical instances.
+   */
+  @Test
+  public void testEveryDate()
+  {
+    final LocalDateTable table = new LocalDateTable(1999, 2001);
+
+    for (LocalDate date = LocalDate.of(1999, 1, 1); date.getYear() <= 2001; date = date.plusDays(1))
+    {
+      final String text = date.toString();
+      assertThat(table.format(date), is(text));
+      assertThat(table.primitive(date).getAsString(), is(text));
+      assertThat(table.parse(text), is(date));
+      assertThat(table.parse(new String(text.toCharArray())), sameInstance(table.parse(text)));
+      assertThat(table.format(LocalDate.parse(text)), sameInstance(table.format(date)));
+    }
+  }
+
+  /**
+   * Tests that dates out of range, invalid dates and text in other layouts aren't in the table.
+   */
+  @Test
+  public void testNotInTable()
+  {
+    final LocalDateTable table = new LocalDateTable(1970, 2100);
+
+    assertThat(table.format(LocalDate.of(1969, 12, 31)), is(nullValue()));
+    assertThat(table.primitive(LocalDate.of(2101, 1, 1)), is(nullValue()));
+    assertThat(table.parse("1969-12-31"), is(nullValue()));
+    assertThat(table.parse("2101-01-01"), is(nullValue()));
+    assertThat(table.parse("2023-02-29"), is(nullValue()));
+    assertThat(table.parse("2023-13-01"), is(nullValue()));
+    assertThat(table.parse("2023-1-01"), is(nullValue()));
+    assertThat(table.parse("2023-01-01T"), is(nullValue()));
+    assertThat(table.parse("+2023-01-01"), is(nullValue()));
+    assertThat(table.parse("2024-02-29"), is(LocalDate.of(2024, 2, 29)));
+  }
+
+  /**
+   * Tests that an invalid range is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRange()
+  {
+    new LocalDateTable(2100, 1970);
+  }
+}
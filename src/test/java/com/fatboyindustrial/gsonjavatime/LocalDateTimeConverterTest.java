@@ -25,13 +25,17 @@ package com.fatboyindustrial.gsonjavatime;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import org.junit.Test;
 
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -70,6 +74,122 @@ public class LocalDateTimeConverterTest
     assertThat(localDateTime, is(LocalDateTime.parse("1969-07-21T12:56:00")));
   }
 
+  /**
+   * Tests that the packed encoding is written as expected.
+   */
+  @Test
+  public void testPackedSerialisation() throws Exception
+  {
+    final LocalDateTime dateTime = LocalDateTime.of(1969, 7, 21, 12, 56, 3, 500);
+
+    assertThat(gson(LocalDateTimeEncoding.PACKED_YYYYMMDDHHMMSS).toJson(dateTime), is("19690721125603"));
+    assertThat(new LocalDateTimeTypeAdapter(new LocalDateTimeConverter(LocalDateTimeEncoding.PACKED_YYYYMMDDHHMMSS))
+                   .toJson(dateTime), is("19690721125603"));
+  }
+
+  /**
+   * Tests that the packed encoding reads packed numbers and ISO 8601 strings.
+   */
+  @Test
+  public void testPackedDeserialisation() throws Exception
+  {
+    final Gson gson = gson(LocalDateTimeEncoding.PACKED_YYYYMMDDHHMMSS);
+
+    assertThat(gson.fromJson("19690721125603", LocalDateTime.class), is(LocalDateTime.of(1969, 7, 21, 12, 56, 3)));
+    assertThat(gson.fromJson("\"1969-07-21T12:56:03.5\"", LocalDateTime.class),
+               is(LocalDateTime.of(1969, 7, 21, 12, 56, 3, 500_000_000)));
+    assertThat(new LocalDateTimeTypeAdapter(new LocalDateTimeConverter(LocalDateTimeEncoding.PACKED_YYYYMMDDHHMMSS))
+                   .fromJson("101231235959"), is(LocalDateTime.of(10, 12, 31, 23, 59, 59)));
+  }
+
+  /**
+   * Tests that an invalid packed date-time is rejected.
+   */
+  @Test(expected = DateTimeException.class)
+  public void testInvalidPackedDateTime() throws Exception
+  {
+    gson(LocalDateTimeEncoding.PACKED_YYYYMMDDHHMMSS).fromJson("19690721246000", LocalDateTime.class);
+  }
+
+  /**
+   * Tests that date-times are truncated to the configured precision and written with a fixed width.
+   */
+  @Test
+  public void testFixedWidthPrecision() throws Exception
+  {
+    final LocalDateTimeConverter converter =
+        new LocalDateTimeConverter().withFixedWidthFraction().withPrecision(TimePrecision.SECONDS);
+    final Gson gson = new GsonBuilder().registerTypeAdapter(LOCAL_DATE_TIME_TYPE, converter).create();
+
+    assertThat(gson.toJson(LocalDateTime.of(1969, 7, 21, 12, 56, 0, 999_999_999)), is("\"1969-07-21T12:56:00\""));
+    assertThat(gson.fromJson("\"1969-07-21T12:56:00\"", LocalDateTime.class), is(LocalDateTime.of(1969, 7, 21, 12, 56)));
+    assertThat(new LocalDateTimeTypeAdapter(new LocalDateTimeConverter().withFixedWidthFraction())
+                   .toJson(LocalDateTime.of(1969, 7, 21, 12, 56)), is("\"1969-07-21T12:56:00.000000000\""));
+  }
+
+  /**
+   * Tests that the date prefix cache reads a sorted stream of date-times, and malformed ones, as before.
+   */
+  @Test(expected = DateTimeException.class)
+  public void testDatePrefixCache() throws Exception
+  {
+    final Gson gson = new GsonBuilder().registerTypeAdapter(LOCAL_DATE_TIME_TYPE,
+                                                            new LocalDateTimeConverter().withDatePrefixCache()).create();
+    final String json = "[\"1969-07-21T12:56\", \"1969-07-21T12:56:00.5\", \"1969-07-22T00:00:00\", \"+10000-01-01T00:00\"]";
+
+    assertThat(gson.fromJson(json, LocalDateTime[].class),
+               is(new LocalDateTime[] { LocalDateTime.of(1969, 7, 21, 12, 56), LocalDateTime.of(1969, 7, 21, 12, 56, 0, 500_000_000),
+                                        LocalDateTime.of(1969, 7, 22, 0, 0), LocalDateTime.of(10000, 1, 1, 0, 0) }));
+    gson.fromJson("\"1969-07-22T24:00:00\"", LocalDateTime.class);
+  }
+
+  /**
+   * Tests that truncation on read buckets ISO 8601 strings and packed numbers, and still rejects bad strings.
+   */
+  @Test(expected = DateTimeException.class)
+  public void testReadTruncation() throws Exception
+  {
+    final LocalDateTimeConverter converter = new LocalDateTimeConverter(LocalDateTimeEncoding.PACKED_YYYYMMDDHHMMSS)
+                                                 .withReadTruncation(ChronoUnit.HOURS);
+    final Gson gson = new GsonBuilder().registerTypeAdapter(LOCAL_DATE_TIME_TYPE, converter).create();
+    final String json = "[\"1969-07-21T12:56\", \"1969-07-21T12:56:00.5\", \"+10000-01-01T00:59\", 19690721125600]";
+
+    final LocalDateTime[] values = gson.fromJson(json, LocalDateTime[].class);
+    assertThat(values, is(new LocalDateTime[] { LocalDateTime.of(1969, 7, 21, 12, 0), LocalDateTime.of(1969, 7, 21, 12, 0),
+                                                LocalDateTime.of(10000, 1, 1, 0, 0), LocalDateTime.of(1969, 7, 21, 12, 0) }));
+    assertThat(values[1], is(sameInstance(values[0])));
+    gson.fromJson("\"1969-07-21T12:60\"", LocalDateTime.class);
+  }
+
+  /**
+   * Tests that a fractional number is rejected by the tree converter rather than truncated.
+   */
+  @Test(expected = JsonParseException.class)
+  public void testFractionalNumber() throws Exception
+  {
+    gson(LocalDateTimeEncoding.PACKED_YYYYMMDDHHMMSS).fromJson("19690721125600.5", LocalDateTime.class);
+  }
+
+  /**
+   * Tests that a fractional number is rejected by the streaming adapter.
+   */
+  @Test(expected = NumberFormatException.class)
+  public void testFractionalNumberStreaming() throws Exception
+  {
+    final LocalDateTimeConverter converter = new LocalDateTimeConverter(LocalDateTimeEncoding.PACKED_YYYYMMDDHHMMSS);
+    new LocalDateTimeTypeAdapter(converter).fromJson("19690721125600.5");
+  }
+
+  /**
+   * Creates a GSON instance using the given encoding.
+   * @param encoding The encoding.
+   * @return The GSON instance.
+   */
+  private static Gson gson(LocalDateTimeEncoding encoding)
+  {
+    return new GsonBuilder().registerTypeAdapter(LOCAL_DATE_TIME_TYPE, new LocalDateTimeConverter(encoding)).create();
+  }
+
   /**
    * Registers the {@link LocalDateTimeConverter} converter.
    * @param builder The GSON builder to register the converter with.
@@ -25,13 +25,16 @@ package com.fatboyindustrial.gsonjavatime;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import org.junit.Test;
 
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
 import java.time.LocalTime;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -70,6 +73,104 @@ public class LocalTimeConverterTest
     assertThat(localTime, is(LocalTime.parse("12:56:00")));
   }
 
+  /**
+   * Tests that the numeric encodings are written as expected.
+   */
+  @Test
+  public void testNumericSerialisation() throws Exception
+  {
+    final LocalTime time = LocalTime.of(12, 56, 0, 500);
+
+    assertThat(gson(LocalTimeEncoding.NANO_OF_DAY).toJson(time), is("46560000000500"));
+    assertThat(gson(LocalTimeEncoding.SECOND_OF_DAY).toJson(time), is("46560"));
+    assertThat(new LocalTimeTypeAdapter(new LocalTimeConverter(LocalTimeEncoding.SECOND_OF_DAY)).toJson(time), is("46560"));
+  }
+
+  /**
+   * Tests that the numeric encodings read numbers in their own form, and ISO 8601 strings.
+   */
+  @Test
+  public void testNumericDeserialisation() throws Exception
+  {
+    assertThat(gson(LocalTimeEncoding.NANO_OF_DAY).fromJson("46560000000500", LocalTime.class), is(LocalTime.of(12, 56, 0, 500)));
+    assertThat(gson(LocalTimeEncoding.SECOND_OF_DAY).fromJson("46560", LocalTime.class), is(LocalTime.of(12, 56)));
+    assertThat(gson(LocalTimeEncoding.SECOND_OF_DAY).fromJson("\"12:56:00.5\"", LocalTime.class),
+               is(LocalTime.of(12, 56, 0, 500_000_000)));
+    assertThat(new LocalTimeTypeAdapter(new LocalTimeConverter(LocalTimeEncoding.NANO_OF_DAY)).fromJson("1"),
+               is(LocalTime.of(0, 0, 0, 1)));
+  }
+
+  /**
+   * Tests that an out of range second-of-day is rejected.
+   */
+  @Test(expected = DateTimeException.class)
+  public void testInvalidSecondOfDay() throws Exception
+  {
+    gson(LocalTimeEncoding.SECOND_OF_DAY).fromJson("86400", LocalTime.class);
+  }
+
+  /**
+   * Tests that times are truncated to the configured precision and written with a fixed width.
+   */
+  @Test
+  public void testFixedWidthPrecision() throws Exception
+  {
+    final LocalTime time = LocalTime.of(12, 56, 0, 120_500_000);
+    final LocalTimeConverter millis = new LocalTimeConverter().withPrecision(TimePrecision.MILLIS);
+
+    assertThat(new LocalTimeTypeAdapter(millis).toJson(time), is("\"12:56:00.12\""));
+    assertThat(new LocalTimeTypeAdapter(millis.withFixedWidthFraction()).toJson(time), is("\"12:56:00.120\""));
+    assertThat(new LocalTimeTypeAdapter(millis.withFixedWidthFraction()).fromJson("\"12:56:00.120\""),
+               is(LocalTime.of(12, 56, 0, 120_000_000)));
+    assertThat(new LocalTimeTypeAdapter(new LocalTimeConverter(LocalTimeEncoding.NANO_OF_DAY).withPrecision(TimePrecision.MICROS))
+                   .toJson(time), is("46560120500000"));
+  }
+
+  /**
+   * Tests that the time-of-day memo converts whole seconds to remembered instances and leaves fractions alone.
+   */
+  @Test
+  public void testTimeOfDayMemo() throws Exception
+  {
+    final LocalTimeTypeAdapter adapter = new LocalTimeTypeAdapter(new LocalTimeConverter().withTimeOfDayMemo());
+
+    assertThat(adapter.toJson(LocalTime.of(9, 0)), is("\"09:00:00\""));
+    assertThat(adapter.toJson(LocalTime.of(9, 0)), is("\"09:00:00\""));
+    assertThat(adapter.toJson(LocalTime.of(9, 0, 0, 500_000_000)), is("\"09:00:00.5\""));
+    assertThat(adapter.fromJson("\"09:00\""), sameInstance(adapter.fromJson("\"09:00:00\"")));
+    assertThat(adapter.fromJson("\"09:00:00.5\""), is(LocalTime.of(9, 0, 0, 500_000_000)));
+    assertThat(new LocalTimeTypeAdapter(new LocalTimeConverter().withTimeOfDayMemo().withFixedWidthFraction()
+                                            .withPrecision(TimePrecision.MILLIS)).toJson(LocalTime.of(9, 0)), is("\"09:00:00.000\""));
+  }
+
+  /**
+   * Tests that a fractional number is rejected by the tree converter rather than truncated.
+   */
+  @Test(expected = JsonParseException.class)
+  public void testFractionalNumber() throws Exception
+  {
+    gson(LocalTimeEncoding.SECOND_OF_DAY).fromJson("46560.5", LocalTime.class);
+  }
+
+  /**
+   * Tests that a fractional number is rejected by the streaming adapter.
+   */
+  @Test(expected = NumberFormatException.class)
+  public void testFractionalNumberStreaming() throws Exception
+  {
+    new LocalTimeTypeAdapter(new LocalTimeConverter(LocalTimeEncoding.SECOND_OF_DAY)).fromJson("46560.5");
+  }
+
+  /**
+   * Creates a GSON instance using the given encoding.
+   * @param encoding The encoding.
+   * @return The GSON instance.
+   */
+  private static Gson gson(LocalTimeEncoding encoding)
+  {
+    return new GsonBuilder().registerTypeAdapter(LOCAL_TIME_TYPE, new LocalTimeConverter(encoding)).create();
+  }
+
   /**
    * Registers the {@link LocalTimeConverter} converter.
    * @param builder The GSON builder to register the converter with.
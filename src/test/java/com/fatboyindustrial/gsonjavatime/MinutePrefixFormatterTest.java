@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.fatboyindustrial.gsonjavatime;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link MinutePrefixFormatter}.
+ */
+public class MinutePrefixFormatterTest
+{
+  /** Offsets to pick from. */
+  private static final ZoneOffset[] OFFSETS =
+      { ZoneOffset.UTC, ZoneOffset.ofHours(10), ZoneOffset.ofHoursMinutes(-3, -30), ZoneOffset.ofHoursMinutesSeconds(5, 30, 15) };
+
+  /**
+   * Tests that a sequence of nearby instants, crossing minute, day and year boundaries, formats identically to
+   * {@link DateTimeFormatter#ISO_INSTANT}.
+   */
+  @Test
+  public void testSequentialInstants()
+  {
+    final MinutePrefixFormatter formatter = new MinutePrefixFormatter();
+    final Random random = new Random(1969);
+    Instant instant = Instant.parse("1969-12-31T23:58:00Z");
+
+    for (int i = 0; i < 10_000; i++)
+    {
+      instant = instant.plusNanos(random.nextInt(2_000_000_000));
+      assertThat(formatter.formatInstant(instant, TimePrecision.NANOS, false), is(DateTimeFormatter.ISO_INSTANT.format(instant)));
+    }
+
+    for (Instant other : new Instant[] { Instant.parse("-0001-12-31T23:59:59Z"), Instant.parse("0000-01-01T00:00:00Z"),
+                                         Instant.parse("9999-12-31T23:59:59.5Z"), Instant.parse("+10000-01-01T00:00:00Z") })
+    {
+      assertThat(formatter.formatInstant(other, TimePrecision.NANOS, false), is(DateTimeFormatter.ISO_INSTANT.format(other)));
+    }
+  }
+
+  /**
+   * Tests that offset date-times at changing offsets, with and without fixed-width fractions, format
+   * identically to {@link Iso8601Formatter}.
+   */
+  @Test
+  public void testOffsetDateTimes()
+  {
+    final MinutePrefixFormatter formatter = new MinutePrefixFormatter();
+    final Random random = new Random(1969);
+    Instant instant = Instant.parse("2023-12-31T23:58:00Z");
+
+    for (int i = 0; i < 10_000; i++)
+    {
+      instant = instant.plusNanos(random.nextInt(2_000_000_000));
+      final OffsetDateTime value = instant.atOffset(OFFSETS[random.nextInt(4) == 0 ? random.nextInt(OFFSETS.length) : 0]);
+      final TimePrecision precision = TimePrecision.values()[i % TimePrecision.values().length];
+      final boolean fixedWidth = i % 3 == 0;
+
+      assertThat(formatter.formatOffsetDateTime(value, precision, fixedWidth),
+                 is(Iso8601Formatter.formatOffsetDateTime(value, precision, fixedWidth)));
+      assertThat(formatter.formatInstant(instant, precision, fixedWidth),
+                 is(Iso8601Formatter.formatInstant(instant, precision, fixedWidth)));
+    }
+  }
+
+  /**
+   * Tests that a formatter shared between threads writing different minutes always formats each thread's
+   * own value.
+   */
+  @Test
+  public void testAcrossThreads() throws Exception
+  {
+    final MinutePrefixFormatter formatter = new MinutePrefixFormatter();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try
+    {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++)
+      {
+        final Instant start = Instant.parse("2023-11-14T22:13:20Z").plusSeconds(thread * 3600L);
+        results.add(executor.submit(() ->
+        {
+          for (int i = 0; i < 10_000; i++)
+          {
+            final Instant instant = start.plusMillis(i * 7L);
+            if (!formatter.formatInstant(instant, TimePrecision.NANOS, false).equals(instant.toString()))
+            {
+              return false;
+            }
+          }
+
+          return true;
+        }));
+      }
+
+      for (Future<Boolean> result : results)
+      {
+        assertThat(result.get(), is(true));
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+}
@@ -30,8 +30,12 @@ import org.junit.Test;
 
 import java.lang.reflect.Type;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -70,6 +74,154 @@ public class OffsetDateTimeConverterTest
     assertThat(offsetDateTime, is(OffsetDateTime.parse("1969-07-21T12:56:00+10:00")));
   }
 
+  /**
+   * Tests that with deduplication on, a run of identical strings yields one shared instance.
+   */
+  @Test
+  public void testDeduplication() throws Exception
+  {
+    final Gson gson = new GsonBuilder().registerTypeAdapter(OFFSET_DATE_TIME_TYPE, new OffsetDateTimeConverter(true))
+                                       .create();
+
+    final OffsetDateTime[] values = gson.fromJson("[\"1969-07-21T12:56:00+10:00\", \"1969-07-21T12:56:00+10:00\", "
+                                                  + "\"1969-07-21T12:57:00+10:00\"]", OffsetDateTime[].class);
+
+    assertThat(values[0], is(OffsetDateTime.parse("1969-07-21T12:56:00+10:00")));
+    assertThat(values[1], is(sameInstance(values[0])));
+    assertThat(values[2], is(OffsetDateTime.parse("1969-07-21T12:57:00+10:00")));
+  }
+
+  /**
+   * Tests that with deduplication off, each string yields its own instance.
+   */
+  @Test
+  public void testNoDeduplication() throws Exception
+  {
+    final Gson gson = registerOffsetDateTime(new GsonBuilder()).create();
+
+    final OffsetDateTime[] values = gson.fromJson("[\"1969-07-21T12:56:00+10:00\", \"1969-07-21T12:56:00+10:00\"]",
+                                                  OffsetDateTime[].class);
+
+    assertThat(values[1], is(values[0]));
+    assertThat(values[1], is(not(sameInstance(values[0]))));
+  }
+
+  /**
+   * Tests that a lenient converter reads other timestamp shapes.
+   */
+  @Test
+  public void testLenientParsing() throws Exception
+  {
+    final OffsetDateTimeConverter converter = new OffsetDateTimeConverter().withLenientParsing();
+    final Gson gson = new GsonBuilder().registerTypeAdapter(OFFSET_DATE_TIME_TYPE, converter).create();
+
+    final OffsetDateTime[] values = gson.fromJson("[\"1969-07-21T12:56:00+10:00\", \"1969-07-21 12:56:00+1000\", "
+                                                  + "\"1969-07-21 02:56\", -14159040]", OffsetDateTime[].class);
+
+    assertThat(values[0], is(OffsetDateTime.parse("1969-07-21T12:56:00+10:00")));
+    assertThat(values[1], is(OffsetDateTime.parse("1969-07-21T12:56:00+10:00")));
+    assertThat(values[2], is(OffsetDateTime.parse("1969-07-21T02:56:00Z")));
+    assertThat(values[3], is(OffsetDateTime.parse("1969-07-21T02:56:00Z")));
+    assertThat(converter.shapeCounts().get(TimestampShape.OFFSET_DATE_TIME), is(2L));
+  }
+
+  /**
+   * Tests that an unparseable value is replaced by the sentinel of a non-throwing error policy.
+   */
+  @Test
+  public void testErrorPolicy() throws Exception
+  {
+    final OffsetDateTime sentinel = OffsetDateTime.parse("1970-01-01T00:00:00Z");
+    final Gson gson = new GsonBuilder()
+        .registerTypeAdapter(OFFSET_DATE_TIME_TYPE, new OffsetDateTimeConverter().withErrorPolicy(ParseErrorPolicy.returning(sentinel)))
+        .create();
+
+    final OffsetDateTime[] values = gson.fromJson("[\"1969-07-21T12:56:00+10:00\", \"1969-07-21T12:56:00+25:00\"]",
+                                                  OffsetDateTime[].class);
+
+    assertThat(values[0], is(OffsetDateTime.parse("1969-07-21T12:56:00+10:00")));
+    assertThat(values[1], is(sentinel));
+    assertThat(new OffsetDateTimeConverter().validate("1969-07-21T12:56:00+10:00", "").cardinality(), is(1));
+  }
+
+  /**
+   * Tests that lenient epoch decimals outside the range of {@code OffsetDateTime}, including those an
+   * {@code Instant} could hold, are reported through {@code validate} and every non-throwing policy rather
+   * than thrown.
+   */
+  @Test
+  public void testOutOfRangeNeverThrows() throws Exception
+  {
+    final String[] texts = { "999999999999999999.5", "31556889864403199.5", "1700000000.5" };
+    assertThat(new OffsetDateTimeConverter().withLenientParsing().validate(texts).cardinality(), is(1));
+
+    final OffsetDateTime sentinel = OffsetDateTime.parse("1970-01-01T00:00:00Z");
+    final List<ParseErrorPolicy<OffsetDateTime>> policies =
+        Arrays.asList(ParseErrorPolicy.returningNull(), ParseErrorPolicy.returning(sentinel),
+                      ParseErrorPolicy.collecting(new ParseErrorReport()));
+
+    for (ParseErrorPolicy<OffsetDateTime> policy : policies)
+    {
+      final OffsetDateTime error = policy.onError("N/A");
+      final OffsetDateTimeConverter converter = new OffsetDateTimeConverter().withLenientParsing().withErrorPolicy(policy);
+      final Gson gson = new GsonBuilder().registerTypeAdapter(OFFSET_DATE_TIME_TYPE, converter).create();
+
+      assertThat(gson.fromJson("[\"999999999999999999.5\", \"31556889864403199.5\", \"1700000000.5\"]",
+                               OffsetDateTime[].class),
+                 is(new OffsetDateTime[] { error, error, OffsetDateTime.parse("2023-11-14T22:13:20.5Z") }));
+      assertThat(new OffsetDateTimeTypeAdapter(converter).fromJson("\"-999999999999999999.5\""), is(error));
+    }
+  }
+
+  /**
+   * Tests that date-times are truncated to the configured precision and written with a fixed width.
+   */
+  @Test
+  public void testFixedWidthPrecision() throws Exception
+  {
+    final OffsetDateTimeConverter converter =
+        new OffsetDateTimeConverter().withPrecision(TimePrecision.MICROS).withFixedWidthFraction();
+    final OffsetDateTimeTypeAdapter adapter = new OffsetDateTimeTypeAdapter(converter);
+
+    assertThat(adapter.toJson(OffsetDateTime.parse("2023-11-14T22:13:20.123456789+10:00")),
+               is("\"2023-11-14T22:13:20.123456+10:00\""));
+    assertThat(adapter.toJson(OffsetDateTime.parse("2023-11-14T22:13:20.5Z")), is("\"2023-11-14T22:13:20.500000Z\""));
+    assertThat(adapter.fromJson("\"2023-11-14T22:13:20.500000Z\""), is(OffsetDateTime.parse("2023-11-14T22:13:20.5Z")));
+    assertThat(adapter.fromJson("\"2023-11-14T22:13:20.5Z\""), is(OffsetDateTime.parse("2023-11-14T22:13:20.5Z")));
+    assertThat(new GsonBuilder().registerTypeAdapter(OFFSET_DATE_TIME_TYPE, converter).create()
+                   .toJson(OffsetDateTime.parse("2023-11-14T22:13:20+10:00")), is("\"2023-11-14T22:13:20.000000+10:00\""));
+  }
+
+  /**
+   * Tests that the minute prefix cache doesn't change the output when the minute or the offset changes.
+   */
+  @Test
+  public void testMinutePrefixCache() throws Exception
+  {
+    final OffsetDateTimeTypeAdapter adapter = new OffsetDateTimeTypeAdapter(new OffsetDateTimeConverter().withMinutePrefixCache());
+
+    for (String text : new String[] { "2023-11-14T22:13:20+10:00", "2023-11-14T22:13:21.5+10:00", "2023-11-14T22:13:21.5Z",
+                                      "2023-11-14T22:14:00-03:30", "2023-11-14T22:14:00.000001+10:00" })
+    {
+      assertThat(adapter.toJson(OffsetDateTime.parse(text)), is('"' + text + '"'));
+    }
+  }
+
+  /**
+   * Tests that the date prefix cache reads values correctly when the date or the offset changes.
+   */
+  @Test
+  public void testDatePrefixCache() throws Exception
+  {
+    final OffsetDateTimeTypeAdapter adapter = new OffsetDateTimeTypeAdapter(new OffsetDateTimeConverter().withDatePrefixCache());
+
+    for (String text : new String[] { "2023-11-14T22:13:20+10:00", "2023-11-14T22:13:21.5+10:00", "2023-11-14T22:13:21.5Z",
+                                      "2023-11-15T00:00-03:30", "2023-11-15T00:00:00.000001-03:30", "2023-11-15T10:00+05:30:15" })
+    {
+      assertThat(adapter.fromJson('"' + text + '"'), is(OffsetDateTime.parse(text)));
+    }
+  }
+
   /**
    * Registers the {@link OffsetDateTimeConverter} converter.
    * @param builder The GSON builder to register the converter with.
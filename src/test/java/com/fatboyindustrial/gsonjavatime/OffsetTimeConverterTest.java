@@ -32,6 +32,7 @@ import java.lang.reflect.Type;
 import java.time.OffsetTime;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -70,6 +71,24 @@ public class OffsetTimeConverterTest
     assertThat(offsetTime, is(OffsetTime.parse("12:56:00+10:00")));
   }
 
+  /**
+   * Tests that the time-of-day memo converts whole seconds at each offset to remembered instances and leaves
+   * fractions alone.
+   */
+  @Test
+  public void testTimeOfDayMemo() throws Exception
+  {
+    final OffsetTimeTypeAdapter adapter = new OffsetTimeTypeAdapter(new OffsetTimeConverter().withTimeOfDayMemo());
+
+    for (String text : new String[] { "12:56:00+10:00", "12:56:00Z", "12:56:00.5+10:00", "12:56:00+10:00", "23:59:59-03:30" })
+    {
+      assertThat(adapter.toJson(OffsetTime.parse(text)), is('"' + text + '"'));
+      assertThat(adapter.fromJson('"' + text + '"'), is(OffsetTime.parse(text)));
+    }
+
+    assertThat(adapter.fromJson("\"12:56+10:00\""), sameInstance(adapter.fromJson("\"12:56:00+10:00\"")));
+  }
+
   /**
    * Registers the {@link OffsetTimeConverter} converter.
    * @param builder The GSON builder to register the converter with.
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link PackedInstantArrayTypeAdapter} and {@link PackedInstantListTypeAdapter}.
+ */
+public class PackedInstantArrayTypeAdapterTest
+{
+  /**
+   * Tests that instants round trip in each unit and format.
+   */
+  @Test
+  public void testRoundTrip() throws Exception
+  {
+    final Instant[] instants = { Instant.parse("2023-11-14T22:13:20.123456789Z"), Instant.parse("2023-11-14T22:13:21Z"),
+                                 Instant.parse("1969-07-21T02:56:15.5Z"), Instant.EPOCH };
+    final InstantEncoding[] units = { InstantEncoding.EPOCH_MILLIS, InstantEncoding.EPOCH_MICROS, InstantEncoding.EPOCH_NANOS };
+    final ChronoUnit[] precisions = { ChronoUnit.MILLIS, ChronoUnit.MICROS, ChronoUnit.NANOS };
+
+    for (int u = 0; u < units.length; u++)
+    {
+      final Instant[] expected = new Instant[instants.length];
+      for (int i = 0; i < instants.length; i++)
+      {
+        expected[i] = instants[i].truncatedTo(precisions[u]);
+      }
+
+      for (PackedFormat format : PackedFormat.values())
+      {
+        final PackedInstantArrayTypeAdapter adapter = new PackedInstantArrayTypeAdapter(units[u], format);
+
+        assertThat(units[u] + " " + format, adapter.fromJson(adapter.toJson(instants)), is(expected));
+      }
+    }
+  }
+
+  /**
+   * Tests that a regularly spaced series is much smaller than its ISO 8601 form.
+   */
+  @Test
+  public void testCompactness() throws Exception
+  {
+    final List<Instant> instants = new ArrayList<>();
+    for (int i = 0; i < 1000; i++)
+    {
+      instants.add(Instant.parse("2023-11-14T22:13:20Z").plusMillis(i * 250L));
+    }
+
+    final Gson plain = Converters.registerAll(new GsonBuilder()).create();
+    final Gson packed = Converters.registerPackedInstants(new GsonBuilder(), InstantEncoding.EPOCH_MILLIS,
+                                                          PackedFormat.BASE64).create();
+
+    final String json = packed.toJson(instants, Converters.INSTANT_LIST_TYPE);
+
+    assertThat(json.length() * 10, is(lessThan(plain.toJson(instants, Converters.INSTANT_LIST_TYPE).length())));
+    assertThat(packed.fromJson(json, Converters.INSTANT_LIST_TYPE), is(instants));
+  }
+
+  /**
+   * Tests that packed lists and arrays are used for fields.
+   */
+  @Test
+  public void testFields() throws Exception
+  {
+    final Gson gson = Converters.registerPackedInstants(new GsonBuilder(), InstantEncoding.EPOCH_MILLIS,
+                                                        PackedFormat.NUMBER_ARRAY).create();
+
+    final Container container = new Container();
+    container.array = new Instant[] { Instant.ofEpochMilli(1000), Instant.ofEpochMilli(2000), Instant.ofEpochMilli(3000) };
+    container.list = Arrays.asList(container.array);
+
+    final String json = gson.toJson(container);
+    final Container deserialised = gson.fromJson(json, Container.class);
+
+    assertThat(json, is("{\"array\":[1000,1000,0],\"list\":[1000,1000,0]}"));
+    assertThat(deserialised.array, is(container.array));
+    assertThat(deserialised.list, is(container.list));
+  }
+
+  /**
+   * Tests that a plain array of ISO 8601 strings is accepted.
+   */
+  @Test
+  public void testIso8601Array() throws Exception
+  {
+    final PackedInstantListTypeAdapter adapter = new PackedInstantListTypeAdapter();
+
+    assertThat(adapter.fromJson("[\"1969-07-21T02:56:00Z\",\"1969-07-21T02:57:00Z\"]"),
+               is(Arrays.asList(Instant.parse("1969-07-21T02:56:00Z"), Instant.parse("1969-07-21T02:57:00Z"))));
+    assertThat(adapter.fromJson("[]"), is(new ArrayList<Instant>()));
+    assertThat(adapter.fromJson("null"), is((List<Instant>) null));
+  }
+
+  /**
+   * Tests that writing a null element raises the expected exception.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullElement() throws Exception
+  {
+    new PackedInstantArrayTypeAdapter().toJson(new Instant[] { Instant.EPOCH, null });
+  }
+
+  /**
+   * Tests that a unit which isn't a whole-number epoch encoding is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidUnit() throws Exception
+  {
+    new PackedInstantArrayTypeAdapter(InstantEncoding.ISO_8601, PackedFormat.BASE64);
+  }
+
+  /**
+   * Container for serialising packed fields.
+   */
+  private static class Container
+  {
+    private Instant[] array;
+    private List<Instant> list;
+  }
+}
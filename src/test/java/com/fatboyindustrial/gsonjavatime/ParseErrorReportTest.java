@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link ParseErrorReport}.
+ */
+public class ParseErrorReportTest
+{
+  /**
+   * Tests that an empty report has no errors.
+   */
+  @Test
+  public void testEmpty()
+  {
+    final ParseErrorReport report = new ParseErrorReport();
+
+    assertThat(report.errorCount(), is(0L));
+    assertThat(report.recentErrors(), is(Collections.<String>emptyList()));
+  }
+
+  /**
+   * Tests that every error is counted, and that only the most recent values are kept, oldest first.
+   */
+  @Test
+  public void testRecentErrors()
+  {
+    final ParseErrorReport report = new ParseErrorReport(3);
+    for (String text : new String[] { "a", "b", "c", "d", "e" })
+    {
+      report.record(text);
+    }
+
+    assertThat(report.errorCount(), is(5L));
+    assertThat(report.recentErrors(), is(Arrays.asList("c", "d", "e")));
+  }
+
+  /**
+   * Tests that a report must keep at least one value.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidCapacity()
+  {
+    new ParseErrorReport(0);
+  }
+}
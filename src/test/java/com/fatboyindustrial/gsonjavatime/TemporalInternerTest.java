@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.fatboyindustrial.gsonjavatime;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link TemporalInterner}.
+ */
+public class TemporalInternerTest
+{
+  /**
+   * Tests that equal values are interned to the first instance seen, and that the statistics count them.
+   */
+  @Test
+  public void testIntern()
+  {
+    final TemporalInterner interner = new TemporalInterner();
+    final LocalDateTime first = LocalDateTime.of(2023, 11, 14, 22, 13, 20);
+    final LocalDateTime second = LocalDateTime.parse("2023-11-14T22:13:20");
+    final OffsetDateTime offset = first.atOffset(ZoneOffset.UTC);
+
+    assertThat(interner.intern(first), sameInstance(first));
+    assertThat(interner.intern(second), sameInstance(first));
+    assertThat(interner.intern(offset), sameInstance(offset));
+    assertThat(interner.intern(first.atOffset(ZoneOffset.ofHours(10))), not(sameInstance(offset)));
+    assertThat(interner.intern(null), is(nullValue()));
+
+    assertThat(interner.hitCount(), is(1L));
+    assertThat(interner.missCount(), is(3L));
+    assertThat(interner.hitRate(), is(0.25));
+    assertThat(interner.size(), is(3));
+    assertThat(interner.toString(), is("TemporalInterner{size=3, hitCount=1, missCount=3, evictionCount=0}"));
+  }
+
+  /**
+   * Tests that the interner stays within its capacity by evicting the least recently used values.
+   */
+  @Test
+  public void testBounded()
+  {
+    final TemporalInterner interner = new TemporalInterner(64);
+    final LocalDateTime start = LocalDateTime.of(2023, 11, 14, 0, 0);
+    final LocalDateTime kept = interner.intern(start);
+
+    for (int i = 1; i < 10_000; i++)
+    {
+      interner.intern(start.plusSeconds(i));
+      assertThat(interner.intern(LocalDateTime.of(2023, 11, 14, 0, 0)), sameInstance(kept));
+    }
+
+    assertThat(interner.size() <= 64, is(true));
+    assertThat(interner.evictionCount(), is(10_000L - interner.size()));
+  }
+
+  /**
+   * Tests that threads interning the same values concurrently all get the same instances.
+   */
+  @Test
+  public void testAcrossThreads() throws Exception
+  {
+    final TemporalInterner interner = new TemporalInterner();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try
+    {
+      final List<Future<ZonedDateTime[]>> results = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++)
+      {
+        results.add(executor.submit(() ->
+        {
+          final ZonedDateTime[] values = new ZonedDateTime[1000];
+          for (int i = 0; i < values.length; i++)
+          {
+            values[i] = interner.intern(ZonedDateTime.parse("2023-11-14T22:13:20+10:00[Australia/Brisbane]").plusMinutes(i));
+          }
+
+          return values;
+        }));
+      }
+
+      final ZonedDateTime[] expected = results.get(0).get();
+      for (Future<ZonedDateTime[]> result : results)
+      {
+        final ZonedDateTime[] values = result.get();
+        for (int i = 0; i < values.length; i++)
+        {
+          assertThat(values[i], sameInstance(expected[i]));
+        }
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+
+    assertThat(interner.missCount(), is(1000L));
+    assertThat(interner.hitCount(), is(3000L));
+  }
+
+  /**
+   * Tests that a factory with an interner returns canonical instances, including for collection elements.
+   */
+  @Test
+  public void testFactory()
+  {
+    final TemporalInterner interner = new TemporalInterner();
+    final JavaTimeTypeAdapterFactory factory = new JavaTimeTypeAdapterFactory().withInterner(interner)
+                                                                               .withMetrics(new ConverterMetrics());
+    final Gson gson = new GsonBuilder().registerTypeAdapterFactory(factory)
+                                       .registerTypeAdapterFactory(new JavaTimeCollectionTypeAdapterFactory())
+                                       .create();
+
+    final OffsetDateTime[] values = gson.fromJson("[\"2023-11-14T22:13:20Z\", null, \"2023-11-14T22:13:20Z\"]",
+                                                  OffsetDateTime[].class);
+    assertThat(values[0], is(OffsetDateTime.of(2023, 11, 14, 22, 13, 20, 0, ZoneOffset.UTC)));
+    assertThat(values[1], is(nullValue()));
+    assertThat(values[2], sameInstance(values[0]));
+    assertThat(gson.fromJson("\"2023-11-14T22:13:20Z\"", OffsetDateTime.class), sameInstance(values[0]));
+    assertThat(gson.toJson(values), is("[\"2023-11-14T22:13:20Z\",null,\"2023-11-14T22:13:20Z\"]"));
+    assertThat(interner.hitCount(), is(2L));
+  }
+
+  /**
+   * Tests that a capacity below the number of stripes is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidCapacity()
+  {
+    new TemporalInterner(8);
+  }
+}
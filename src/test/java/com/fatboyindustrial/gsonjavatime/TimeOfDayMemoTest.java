@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.fatboyindustrial.gsonjavatime;
+import org.junit.Test;
+
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link TimeOfDayMemo}.
+ */
+public class TimeOfDayMemoTest
+{
+  /**
+   * Tests that every second of the day formats and parses like {@link Iso8601Formatter} and
+   * {@link Iso8601Parser}, and that repeated lookups return the remembered instances.
+   */
+  @Test
+  public void testEverySecond()
+  {
+    final TimeOfDayMemo memo = new TimeOfDayMemo(TimePrecision.MILLIS, true);
+    final ZoneOffset offset = ZoneOffset.ofHoursMinutes(-3, -30);
+
+    for (int second = 0; second < 86_400; second++)
+    {
+      final LocalTime time = LocalTime.ofSecondOfDay(second);
+      final String text = Iso8601Formatter.formatLocalTime(time, TimePrecision.MILLIS, true);
+      final OffsetTime offsetTime = OffsetTime.of(time, offset);
+      final String offsetText = Iso8601Formatter.formatOffsetTime(offsetTime);
+
+      assertThat(memo.formatLocalTime(time), is(text));
+      assertThat(memo.formatLocalTime(time), sameInstance(memo.formatLocalTime(time)));
+      assertThat(memo.parseLocalTime(time.toString()), is(time));
+      assertThat(memo.parseLocalTime(time.toString()), sameInstance(memo.parseLocalTime(time.toString())));
+      assertThat(memo.formatOffsetTime(offsetTime), is(offsetText));
+      assertThat(memo.parseOffsetTime(offsetText), is(offsetTime));
+      assertThat(memo.parseOffsetTime(offsetText), sameInstance(memo.parseOffsetTime(offsetText)));
+    }
+  }
+
+  /**
+   * Tests that fractions of a second, text outside the canonical layout and offsets beyond the limit bypass
+   * the memo.
+   */
+  @Test
+  public void testBypass()
+  {
+    final TimeOfDayMemo memo = new TimeOfDayMemo(TimePrecision.NANOS, false);
+
+    assertThat(memo.formatLocalTime(LocalTime.of(12, 56, 0, 1)), is(nullValue()));
+    assertThat(memo.formatOffsetTime(OffsetTime.of(12, 56, 0, 1, ZoneOffset.UTC)), is(nullValue()));
+    assertThat(memo.parseLocalTime("12:56:00.5"), is(nullValue()));
+    assertThat(memo.parseLocalTime("24:00"), is(nullValue()));
+    assertThat(memo.parseLocalTime("12:56:00Z"), is(nullValue()));
+    assertThat(memo.parseOffsetTime("12:56:00.5Z"), is(nullValue()));
+    assertThat(memo.parseOffsetTime("12:56:00+1000"), is(nullValue()));
+    assertThat(memo.parseOffsetTime("12:56:00"), is(nullValue()));
+    assertThat(memo.parseLocalTime("12:56"), is(LocalTime.of(12, 56)));
+
+    for (int hours = 0; hours < TimeOfDayMemo.MAX_OFFSETS; hours++)
+    {
+      assertThat(memo.parseOffsetTime("12:56+" + (hours < 10 ? "0" : "") + hours + ":00"),
+                 is(OffsetTime.of(12, 56, 0, 0, ZoneOffset.ofHours(hours))));
+    }
+
+    assertThat(memo.parseOffsetTime("12:56-01:00"), is(nullValue()));
+    assertThat(memo.formatOffsetTime(OffsetTime.of(12, 56, 0, 0, ZoneOffset.ofHours(-1))), is(nullValue()));
+    assertThat(memo.formatOffsetTime(OffsetTime.of(12, 56, 0, 0, ZoneOffset.UTC)), is("12:56:00Z"));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link TruncatingParser}.
+ */
+public class TruncatingParserTest
+{
+  /** The supported units. */
+  private static final ChronoUnit[] UNITS = { ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS };
+
+  /**
+   * Tests that a sequence of nearby timestamps, crossing day, month and year boundaries, reads the same as
+   * parsing in full and truncating, in every unit.
+   */
+  @Test
+  public void testSequentialValues()
+  {
+    for (ChronoUnit unit : UNITS)
+    {
+      final TruncatingParser parser = new TruncatingParser(unit);
+      final Random random = new Random(1969);
+      Instant instant = Instant.parse("1969-12-30T22:58:00Z");
+
+      for (int i = 0; i < 10_000; i++)
+      {
+        instant = instant.plusNanos(random.nextInt(2_000_000_000) * 50L);
+        final LocalDateTime value = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+
+        assertThat(parser.parseInstant(instant.toString()), is(instant.truncatedTo(unit)));
+        assertThat(parser.parseLocalDateTime(value.toString()), is(value.truncatedTo(unit)));
+      }
+    }
+  }
+
+  /**
+   * Tests that values in the same bucket share one instance, and that a bucket stays in the ring while
+   * fewer than eight others have been added since.
+   */
+  @Test
+  public void testCanonicalInstances()
+  {
+    final TruncatingParser parser = new TruncatingParser(ChronoUnit.MINUTES);
+    final Instant first = parser.parseInstant("2023-11-14T22:13:20Z");
+
+    assertThat(first, is(Instant.parse("2023-11-14T22:13:00Z")));
+    assertThat(parser.parseInstant("2023-11-14T22:13:59.999999999Z"), is(sameInstance(first)));
+
+    for (int minute = 14; minute < 21; minute++)
+    {
+      parser.parseInstant("2023-11-14T22:" + minute + ":00Z");
+    }
+
+    assertThat(parser.parseInstant("2023-11-14T22:13:01.5Z"), is(sameInstance(first)));
+
+    final LocalDateTime hour = parser.parseLocalDateTime("2023-11-14T22:13");
+    assertThat(hour, is(LocalDateTime.of(2023, 11, 14, 22, 13)));
+    assertThat(parser.parseLocalDateTime("2023-11-14T22:13:20.5"), is(sameInstance(hour)));
+  }
+
+  /**
+   * Tests that text outside the canonical layout, or with discarded fields out of range, is left to the
+   * caller even when its kept prefix matches a cached bucket.
+   */
+  @Test
+  public void testNotCanonical()
+  {
+    final TruncatingParser parser = new TruncatingParser(ChronoUnit.HOURS);
+    assertThat(parser.parseInstant("2023-11-14T22:13:20Z"), is(Instant.parse("2023-11-14T22:00:00Z")));
+
+    assertThat(parser.parseInstant("2023-11-14T22:60:20Z"), is(nullValue()));
+    assertThat(parser.parseInstant("2023-11-14T22:13:60Z"), is(nullValue()));
+    assertThat(parser.parseInstant("2023-11-14T22:1x:20Z"), is(nullValue()));
+    assertThat(parser.parseInstant("2023-11-14T22:13:20.Z"), is(nullValue()));
+    assertThat(parser.parseInstant("2023-11-14T22:13:20.1234567890Z"), is(nullValue()));
+    assertThat(parser.parseInstant("2023-11-14T22:13Z"), is(nullValue()));
+    assertThat(parser.parseInstant("2023-11-14T22:13:20+10:00"), is(nullValue()));
+    assertThat(parser.parseInstant("2023-11-14T24:13:20Z"), is(nullValue()));
+    assertThat(parser.parseInstant("2023-02-29T22:13:20Z"), is(nullValue()));
+    assertThat(parser.parseInstant("+12023-11-14T22:13:20Z"), is(nullValue()));
+    assertThat(parser.parseLocalDateTime("2023-11-14T22:13:20Z"), is(nullValue()));
+
+    assertThat(new TruncatingParser(ChronoUnit.DAYS).parseInstant("2023-11-14T24:00:00Z"), is(nullValue()));
+    assertThat(new TruncatingParser(ChronoUnit.SECONDS).parseLocalDateTime("2023-11-14T22:13"), is(nullValue()));
+  }
+
+  /**
+   * Tests that units other than seconds, minutes, hours and days are rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsupportedUnit()
+  {
+    new TruncatingParser(ChronoUnit.MILLIS);
+  }
+}
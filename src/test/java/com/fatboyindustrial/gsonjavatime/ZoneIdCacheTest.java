@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Greg Kopff
+ * All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.fatboyindustrial.gsonjavatime;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRulesException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link ZoneIdCache}.
+ */
+public class ZoneIdCacheTest
+{
+  /**
+   * Tests that known zones resolve to the same zone as {@link ZoneId#of(String)}, and are cached.
+   */
+  @Test
+  public void testKnownZone()
+  {
+    final ZoneId zone = ZoneIdCache.of("Australia/Brisbane");
+
+    assertThat(zone, is(ZoneId.of("Australia/Brisbane")));
+    assertThat(ZoneIdCache.of("Australia/Brisbane"), is(sameInstance(zone)));
+    assertThat(ZoneIdCache.lookup("Australia/Brisbane"), is(sameInstance(zone)));
+    assertThat(ZoneIdCache.of("+10:00"), is((ZoneId) ZoneOffset.ofHours(10)));
+  }
+
+  /**
+   * Tests that the serialised form of a zone is reused.
+   */
+  @Test
+  public void testJson()
+  {
+    final ZoneId zone = ZoneId.of("Europe/Paris");
+
+    assertThat(ZoneIdCache.json(zone).getAsString(), is("Europe/Paris"));
+    assertThat(ZoneIdCache.json(zone), is(sameInstance(ZoneIdCache.json(ZoneId.of("Europe/Paris")))));
+  }
+
+  /**
+   * Tests that an unknown zone is reported without an exception by {@link ZoneIdCache#lookup(String)}.
+   */
+  @Test
+  public void testLookupUnknownZone()
+  {
+    assertThat(ZoneIdCache.lookup("Mars/Olympus_Mons"), is(nullValue()));
+    assertThat(ZoneIdCache.lookup("Mars/Olympus_Mons"), is(nullValue()));
+    assertThat(ZoneIdCache.lookup(" "), is(nullValue()));
+  }
+
+  /**
+   * Tests that an unknown zone raises the same exception as {@link ZoneId#of(String)}, even once cached.
+   */
+  @Test(expected = ZoneRulesException.class)
+  public void testUnknownZone()
+  {
+    ZoneIdCache.lookup("Mars/Valles_Marineris");
+    ZoneIdCache.of("Mars/Valles_Marineris");
+  }
+
+  /**
+   * Tests that an invalid zone raises the same exception as {@link ZoneId#of(String)}, even once cached.
+   */
+  @Test(expected = DateTimeException.class)
+  public void testInvalidZone()
+  {
+    ZoneIdCache.lookup("!");
+    ZoneIdCache.of("!");
+  }
+
+  /**
+   * Tests that a flood of distinct identifiers doesn't stop new zones from being cached.
+   */
+  @Test
+  public void testFloodEvicts()
+  {
+    for (int i = 0; i < 4 * ZoneIdCache.MAX_ZONES; i++)
+    {
+      ZoneIdCache.of(String.format("UTC+01:%02d:%02d", i / 60 % 60, i % 60));
+      ZoneIdCache.of(String.format("+02:%02d:%02d", i / 60 % 60, i % 60));
+      ZoneIdCache.lookup("Mars/Crater_" + i);
+    }
+
+    final ZoneId zone = ZoneIdCache.of("Pacific/Chatham");
+    assertThat(ZoneIdCache.of("Pacific/Chatham"), is(sameInstance(zone)));
+  }
+
+  /**
+   * Tests that each failure raises its own exception.
+   */
+  @Test
+  public void testFreshExceptions()
+  {
+    ZoneIdCache.lookup("Mars/Tharsis");
+
+    assertThat(failure("Mars/Tharsis"), is(not(sameInstance(failure("Mars/Tharsis")))));
+    assertThat(failure("Mars/Tharsis").getMessage(), is(failure("Mars/Tharsis").getMessage()));
+  }
+
+  /**
+   * Resolves an identifier that must fail.
+   * @param identifier The zone identifier.
+   * @return The exception raised.
+   */
+  private static DateTimeException failure(String identifier)
+  {
+    try
+    {
+      ZoneIdCache.of(identifier);
+    }
+    catch (DateTimeException e)
+    {
+      return e;
+    }
+
+    throw new AssertionError("expected an exception for " + identifier);
+  }
+}
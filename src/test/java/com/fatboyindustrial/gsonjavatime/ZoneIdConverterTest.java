@@ -86,6 +86,20 @@ public class ZoneIdConverterTest
     assertNull(zoneId);
   }
 
+  /**
+   * Tests that the streaming adapter deserialises an empty value to null.
+   */
+  @Test
+  public void testStreamingDeserialisationWithEmptyValue()
+  {
+    final Gson gson = new GsonBuilder().registerTypeAdapter(ZoneId.class, new ZoneIdTypeAdapter()).create();
+
+    final String json = "\"\"";
+    final ZoneId zoneId = gson.fromJson(json, ZoneId.class);
+
+    assertNull(zoneId);
+  }
+
   /**
    * Tests that deserialising from JSON containing whitespace raises the expected exception.
    */
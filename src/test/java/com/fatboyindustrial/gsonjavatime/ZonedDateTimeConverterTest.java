@@ -30,6 +30,8 @@ import org.junit.Test;
 
 import java.lang.reflect.Type;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
@@ -70,6 +72,54 @@ public class ZonedDateTimeConverterTest
     assertThat(zonedDateTime, is(ZonedDateTime.parse("1969-07-21T12:56:00+10:00[Australia/Brisbane]")));
   }
 
+  /**
+   * Tests that an unknown zone is replaced under a non-throwing error policy.
+   */
+  @Test
+  public void testErrorPolicy() throws Exception
+  {
+    final ParseErrorReport report = new ParseErrorReport();
+    final Gson gson = new GsonBuilder()
+        .registerTypeAdapter(ZONED_DATE_TIME_TYPE, new ZonedDateTimeConverter().withErrorPolicy(ParseErrorPolicy.collecting(report)))
+        .create();
+
+    final ZonedDateTime[] values = gson.fromJson("[\"1969-07-21T12:56:00+10:00[Australia/Brisbane]\", "
+                                                 + "\"1969-07-21T12:56:00+10:00[Nowhere/Else]\"]", ZonedDateTime[].class);
+
+    assertThat(values[0], is(ZonedDateTime.parse("1969-07-21T12:56:00+10:00[Australia/Brisbane]")));
+    assertThat(values[1], is((ZonedDateTime) null));
+    assertThat(report.errorCount(), is(1L));
+    assertThat(new ZonedDateTimeConverter().validate("1969-07-21T12:56:00+10:00[Nowhere/Else]", "1969-07-21T12:56:00Z")
+                                            .cardinality(), is(1));
+  }
+
+  /**
+   * Tests that epoch decimals and years outside the supported range are reported through {@code validate}
+   * and every non-throwing policy rather than thrown.
+   */
+  @Test
+  public void testOutOfRangeNeverThrows() throws Exception
+  {
+    final String[] texts = { "999999999999999999.5", "+1000000000-01-01T00:00:00Z", "1969-07-21T12:56:00Z" };
+    assertThat(new ZonedDateTimeConverter().validate(texts).cardinality(), is(1));
+
+    final ZonedDateTime sentinel = ZonedDateTime.parse("1970-01-01T00:00:00Z");
+    final List<ParseErrorPolicy<ZonedDateTime>> policies =
+        Arrays.asList(ParseErrorPolicy.returningNull(), ParseErrorPolicy.returning(sentinel),
+                      ParseErrorPolicy.collecting(new ParseErrorReport()));
+
+    for (ParseErrorPolicy<ZonedDateTime> policy : policies)
+    {
+      final ZonedDateTime error = policy.onError("N/A");
+      final ZonedDateTimeConverter converter = new ZonedDateTimeConverter().withErrorPolicy(policy);
+      final Gson gson = new GsonBuilder().registerTypeAdapter(ZONED_DATE_TIME_TYPE, converter).create();
+
+      assertThat(gson.fromJson("[\"999999999999999999.5\", \"+1000000000-01-01T00:00:00Z\"]", ZonedDateTime[].class),
+                 is(new ZonedDateTime[] { error, error }));
+      assertThat(new ZonedDateTimeTypeAdapter(converter).fromJson("\"-1000000000-01-01T00:00:00Z\""), is(error));
+    }
+  }
+
   /**
    * Registers the {@link ZonedDateTimeConverter} converter.
    * @param builder The GSON builder to register the converter with.